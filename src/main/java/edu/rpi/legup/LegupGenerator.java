@@ -0,0 +1,104 @@
+package edu.rpi.legup;
+
+import edu.rpi.legup.app.Config;
+import edu.rpi.legup.app.InvalidConfigException;
+import edu.rpi.legup.model.Puzzle;
+import edu.rpi.legup.model.PuzzleGenerator;
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.tree.Tree;
+import edu.rpi.legup.save.ExportFileException;
+import edu.rpi.legup.utility.Logger;
+import java.io.File;
+import java.util.List;
+
+/**
+ * Command line entry point that generates a batch of random puzzles and writes each of them to a
+ * puzzle file, without starting the UI
+ */
+public class LegupGenerator {
+
+    /**
+     * Generates the puzzles described by the arguments. The same arguments always generate the
+     * same puzzles.
+     *
+     * @param args the puzzle name, the difficulty, the number of puzzles, the output directory,
+     *     and optionally the seed of the batch
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+        if (args.length < 4 || args.length > 5) {
+            System.err.println(
+                    "Usage: LegupGenerator <puzzle> <difficulty> <count> <directory> [seed]");
+            System.exit(2);
+        }
+
+        File folder = new File(args[3]);
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            System.err.println("Cannot create directory: " + folder.getAbsolutePath());
+            System.exit(2);
+        }
+
+        Logger.initLogger();
+        try {
+            Puzzle puzzle = createPuzzle(new Config(), args[0]);
+            PuzzleGenerator generator = puzzle.getGenerator();
+            if (generator == null) {
+                System.err.println(puzzle.getName() + " puzzles cannot be generated");
+                System.exit(1);
+            }
+
+            int difficulty = Integer.parseInt(args[1]);
+            int count = Integer.parseInt(args[2]);
+            long seed = args.length == 5 ? Long.parseLong(args[4]) : System.currentTimeMillis();
+
+            long start = System.currentTimeMillis();
+            List<Board> boards =
+                    generator.generate(
+                            difficulty, seed, count, Runtime.getRuntime().availableProcessors());
+            int written = 0;
+            for (int i = 0; i < boards.size(); i++) {
+                Board board = boards.get(i);
+                if (board == null) {
+                    continue;
+                }
+                puzzle.setOriginalBoard(board);
+                puzzle.setTree(new Tree(board));
+                String fileName =
+                        String.format("%s_%d_%d_%d.xml", puzzle.getName(), difficulty, seed, i);
+                puzzle.getExporter().exportPuzzle(new File(folder, fileName).getPath());
+                written++;
+            }
+            System.out.printf(
+                    "Generated %d of %d puzzles with seed %d in %.1fs, written to %s%n",
+                    written,
+                    count,
+                    seed,
+                    (System.currentTimeMillis() - start) / 1000.0,
+                    folder.getAbsolutePath());
+        } catch (InvalidConfigException
+                | ReflectiveOperationException
+                | ExportFileException
+                | IllegalArgumentException e) {
+            System.err.println("Puzzle generation failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Creates a puzzle of the type with the given name
+     *
+     * @param config config used to look up the puzzle class by name
+     * @param name name of the puzzle type
+     * @return a new puzzle of that type
+     * @throws ReflectiveOperationException if the puzzle cannot be created
+     * @throws IllegalArgumentException if there is no puzzle type with that name
+     */
+    private static Puzzle createPuzzle(Config config, String name)
+            throws ReflectiveOperationException {
+        String className = config.getPuzzleClassForName(name);
+        if (className == null) {
+            throw new IllegalArgumentException("Unknown puzzle: " + name);
+        }
+        return (Puzzle) Class.forName(className).getConstructor().newInstance();
+    }
+}
@@ -0,0 +1,51 @@
+package edu.rpi.legup;
+
+import edu.rpi.legup.app.BatchGrader;
+import edu.rpi.legup.app.Config;
+import edu.rpi.legup.app.InvalidConfigException;
+import edu.rpi.legup.utility.Logger;
+import java.io.File;
+import java.io.IOException;
+
+/** Command line entry point that batch grades a directory of proofs without starting the UI */
+public class LegupGrader {
+
+    /**
+     * Grades the directory given in the arguments and writes the results to its result.csv file
+     *
+     * @param args the directory to grade, optionally followed by the number of worker threads
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: LegupGrader <directory> [threads]");
+            System.exit(2);
+        }
+
+        File folder = new File(args[0]);
+        if (!folder.isDirectory()) {
+            System.err.println("Not a directory: " + folder.getAbsolutePath());
+            System.exit(2);
+        }
+
+        Logger.initLogger();
+        try {
+            Config config = new Config();
+            BatchGrader grader =
+                    args.length == 2
+                            ? new BatchGrader(config, Integer.parseInt(args[1]))
+                            : new BatchGrader(config);
+
+            long start = System.currentTimeMillis();
+            File resultFile = grader.grade(folder);
+            System.out.printf(
+                    "Graded %s in %.1fs, results written to %s%n",
+                    folder.getAbsolutePath(),
+                    (System.currentTimeMillis() - start) / 1000.0,
+                    resultFile.getAbsolutePath());
+        } catch (InvalidConfigException | IOException | IllegalArgumentException e) {
+            System.err.println("Batch grading failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
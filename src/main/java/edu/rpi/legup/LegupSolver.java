@@ -0,0 +1,81 @@
+package edu.rpi.legup;
+
+import edu.rpi.legup.ai.Solution;
+import edu.rpi.legup.ai.Solver;
+import edu.rpi.legup.app.BatchGrader;
+import edu.rpi.legup.app.Config;
+import edu.rpi.legup.app.InvalidConfigException;
+import edu.rpi.legup.model.Puzzle;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import edu.rpi.legup.utility.Logger;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line entry point that runs the {@link Solver} on puzzle files without starting the UI,
+ * to check that the puzzles can be solved and to report how many nested case splits they need
+ */
+public class LegupSolver {
+
+    /**
+     * Solves every puzzle file given in the arguments, or every file in a given directory, and
+     * prints the result of each. Exits with status 1 if any puzzle could not be solved.
+     *
+     * @param args the puzzle files or directories to solve
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+        if (args.length < 1) {
+            System.err.println("Usage: LegupSolver <file or directory>...");
+            System.exit(2);
+        }
+
+        List<File> files = new ArrayList<>();
+        for (String arg : args) {
+            File file = new File(arg);
+            File[] children = file.listFiles(File::isFile);
+            if (children != null) {
+                files.addAll(List.of(children));
+            } else {
+                files.add(file);
+            }
+        }
+
+        Logger.initLogger();
+        BatchGrader loader;
+        try {
+            loader = new BatchGrader(new Config(), 1);
+        } catch (InvalidConfigException e) {
+            System.err.println("Solving failed: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        boolean allSolved = true;
+        for (File file : files) {
+            Puzzle puzzle;
+            try {
+                puzzle = loader.loadPuzzle(file);
+            } catch (InvalidFileFormatException e) {
+                System.out.printf("%s: not a puzzle (%s)%n", file.getName(), e.getMessage());
+                continue;
+            }
+
+            Solution solution = new Solver(puzzle).solve();
+            if (solution.isSolved()) {
+                System.out.printf(
+                        "%s: solved with case split depth %d in %dms%n",
+                        file.getName(), solution.getDepth(), solution.getElapsedMillis());
+            } else {
+                allSolved = false;
+                System.out.printf(
+                        "%s: %s after %dms%n",
+                        file.getName(),
+                        solution.isTimedOut() ? "timed out" : "not solved",
+                        solution.getElapsedMillis());
+            }
+        }
+        System.exit(allSolved ? 0 : 1);
+    }
+}
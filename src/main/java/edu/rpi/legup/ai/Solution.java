@@ -0,0 +1,77 @@
+package edu.rpi.legup.ai;
+
+import edu.rpi.legup.model.tree.Tree;
+
+/**
+ * Solution is the result of running the {@link Solver} on a puzzle. If the puzzle was solved it
+ * holds the generated proof tree together with the case split depth that the proof needed.
+ */
+public class Solution {
+    private final Tree tree;
+    private final int depth;
+    private final boolean isTimedOut;
+    private final long elapsedMillis;
+
+    /**
+     * Solution Constructor creates the result of a search
+     *
+     * @param tree the generated proof tree, or null if no proof was found
+     * @param depth the case split depth of the proof, or -1 if no proof was found
+     * @param isTimedOut true if the search ran out of time before a proof was found
+     * @param elapsedMillis time the search took in milliseconds
+     */
+    Solution(Tree tree, int depth, boolean isTimedOut, long elapsedMillis) {
+        this.tree = tree;
+        this.depth = depth;
+        this.isTimedOut = isTimedOut;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Gets whether a proof was found
+     *
+     * @return true if the puzzle was solved, false otherwise
+     */
+    public boolean isSolved() {
+        return tree != null;
+    }
+
+    /**
+     * Gets the generated proof tree
+     *
+     * @return the proof tree, or null if the puzzle was not solved
+     */
+    public Tree getTree() {
+        return tree;
+    }
+
+    /**
+     * Gets the case split depth of the proof, which is the largest number of case splits on any
+     * path of the proof tree. Forced case splits, where all but one of the cases lead to a
+     * contradiction straight away, are not counted. Since the solver tries every depth in order,
+     * this is the smallest depth at which the solver can prove the puzzle.
+     *
+     * @return the case split depth, or -1 if the puzzle was not solved
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets whether the search ran out of time
+     *
+     * @return true if the search was stopped because of its time limit, false otherwise
+     */
+    public boolean isTimedOut() {
+        return isTimedOut;
+    }
+
+    /**
+     * Gets the time the search took
+     *
+     * @return the time the search took in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
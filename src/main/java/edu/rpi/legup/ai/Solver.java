@@ -1,3 +1,797 @@
 package edu.rpi.legup.ai;
 
-public class Solver {}
+import edu.rpi.legup.model.Puzzle;
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.CaseBoard;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.tree.Tree;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Solver searches for a proof of a puzzle using nothing but the rules of the puzzle, and builds
+ * the proof as a {@link Tree} that is checked the same way as a proof made by hand.
+ *
+ * <p>The search repeatedly propagates what is known about the board. A board is closed as soon as
+ * one of the contradiction rules finds a contradiction, and finished once the puzzle considers it
+ * complete. Otherwise the default board of every direct rule is tried, and after that every case
+ * rule is tried on every element that it can be applied to. Case rules that ask the user for input
+ * are never tried. A case split in which all but one of the cases lead straight to a contradiction
+ * is forced, so it is applied as if it were a direct rule. Only when nothing can be propagated does
+ * the solver branch on the case split with the fewest open cases and solve each case in turn. A
+ * proof in which every branch is closed shows that the board has no solution, so it is not returned
+ * as one.
+ *
+ * <p>The solver first looks for a proof without branching and then allows one more level of
+ * branching at a time, so the proof that is found uses the smallest number of nested case splits
+ * that the solver can manage. Trying the case splits is the expensive part of the search, so the
+ * splits are tried in parallel on a bounded work-stealing pool. The workers share the rules of the
+ * puzzle, since the cases of a rule only depend on the board and element they are generated for.
+ */
+public class Solver {
+    private static final Logger LOGGER = LogManager.getLogger(Solver.class.getName());
+
+    public static final int DEFAULT_MAX_DEPTH = 3;
+    public static final int DEFAULT_BRANCH_ATTEMPTS = 4;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 10_000;
+
+    private final Puzzle puzzle;
+    private int maxDepth;
+    private int branchAttempts;
+    private int parallelism;
+    private long timeoutMillis;
+
+    /**
+     * Solver Constructor creates a solver for the puzzle with the default settings
+     *
+     * @param puzzle puzzle whose rules are used to solve it
+     */
+    public Solver(Puzzle puzzle) {
+        this.puzzle = puzzle;
+        this.maxDepth = DEFAULT_MAX_DEPTH;
+        this.branchAttempts = DEFAULT_BRANCH_ATTEMPTS;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Sets the largest number of nested case splits that a proof may use
+     *
+     * @param maxDepth the maximum case split depth
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Maximum depth must not be negative");
+        }
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Sets how many different case splits are tried when the solver has to branch, starting with
+     * the split that has the fewest open cases
+     *
+     * @param branchAttempts the number of case splits to try
+     */
+    public void setBranchAttempts(int branchAttempts) {
+        if (branchAttempts < 1) {
+            throw new IllegalArgumentException("At least one case split must be tried");
+        }
+        this.branchAttempts = branchAttempts;
+    }
+
+    /**
+     * Sets the number of threads that try case splits in parallel
+     *
+     * @param parallelism the number of threads
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the time after which the search gives up
+     *
+     * @param timeoutMillis the time limit in milliseconds
+     */
+    public void setTimeout(long timeoutMillis) {
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Solves the puzzle starting from the board of the root node of its tree
+     *
+     * @return the result of the search
+     */
+    public Solution solve() {
+        return solve(puzzle.getTree().getRootNode().getBoard());
+    }
+
+    /**
+     * Solves the puzzle starting from the board. The board is not changed; the proof tree of the
+     * solution starts from a copy of it.
+     *
+     * @param board the board to solve
+     * @return the result of the search
+     */
+    public Solution solve(Board board) {
+        long start = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Search search = new Search(pool, start + timeoutMillis);
+            Board root = board.copy();
+            for (int depth = 0; depth <= maxDepth; depth++) {
+                Branch branch = search.solve(root, depth);
+                if (branch != null) {
+                    if (!branch.reachesSolution()) {
+                        // every branch is closed, so the board has no solution at any depth
+                        break;
+                    }
+                    Tree tree = buildTree(branch);
+                    if (!tree.isValid()) {
+                        LOGGER.warn("Generated proof for {} did not verify", puzzle.getName());
+                        break;
+                    }
+                    return new Solution(
+                            tree, branch.getDepth(), false, System.currentTimeMillis() - start);
+                }
+            }
+            return new Solution(null, -1, false, System.currentTimeMillis() - start);
+        } catch (SearchTimeoutException e) {
+            return new Solution(null, -1, true, System.currentTimeMillis() - start);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds the proof tree of a solved branch, using the rules of the puzzle itself, and checks
+     * every transition of it
+     *
+     * @param root the solved branch that starts from the root
+     * @return the proof tree
+     */
+    private Tree buildTree(Branch root) {
+        Tree tree = new Tree(root.board);
+        List<TreeTransition> transitions = new ArrayList<>();
+        buildBranch(tree, tree.getRootNode(), root, transitions);
+        for (TreeTransition transition : transitions) {
+            transition.reverify();
+        }
+        return tree;
+    }
+
+    /**
+     * Adds the transitions and nodes of a solved branch to the tree
+     *
+     * @param tree the tree being built
+     * @param node the node that the branch starts from
+     * @param branch the solved branch
+     * @param transitions receives every transition that is added
+     */
+    private void buildBranch(
+            Tree tree, TreeNode node, Branch branch, List<TreeTransition> transitions) {
+        for (Step step : branch.steps) {
+            TreeTransition transition = new TreeTransition(node, step.transitionBoard);
+            transition.setRule(puzzle.getDirectRules().get(step.rule));
+            node.addChild(transition);
+            transitions.add(transition);
+
+            node = new TreeNode(step.nodeBoard);
+            tree.addTreeElement(transition, node);
+        }
+
+        if (branch.contradiction >= 0) {
+            Board board = node.getBoard().copy();
+            board.setModifiable(false);
+            TreeTransition transition = new TreeTransition(node, board);
+            transition.setRule(puzzle.getContradictionRules().get(branch.contradiction));
+            node.addChild(transition);
+            transitions.add(transition);
+
+            Board childBoard = board.copy();
+            childBoard.setModifiable(true);
+            tree.addTreeElement(transition, new TreeNode(childBoard));
+        } else if (branch.split != null) {
+            Split split = branch.split;
+            CaseRule rule = puzzle.getCaseRules().get(split.rule);
+            for (int i = 0; i < split.cases.size(); i++) {
+                TreeTransition transition = new TreeTransition(node, split.cases.get(i));
+                transition.setRule(rule);
+                transition.setSelection(split.selection.copy());
+                node.addChild(transition);
+                transitions.add(transition);
+
+                Branch child = split.children[i];
+                TreeNode childNode = new TreeNode(child.board);
+                tree.addTreeElement(transition, childNode);
+                buildBranch(tree, childNode, child, transitions);
+            }
+        }
+    }
+
+    /**
+     * Determines if the board of a transition changes the board it was made from
+     *
+     * @param board the board the transition was made from
+     * @param next the board of the transition
+     * @return true if any modified element of the transition differs from the original board
+     */
+    private static boolean changes(Board board, Board next) {
+        for (PuzzleElement element : next.getModifiedData()) {
+            if (element.getIndex() < 0) {
+                return true;
+            }
+            PuzzleElement original = board.getPuzzleElement(element);
+            if (original == null || !Objects.equals(original.getData(), element.getData())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Search holds the state of a single run of the solver */
+    private final class Search {
+        private final ForkJoinPool pool;
+        private final long deadline;
+        private final Map<Board, Propagation> propagations;
+        private int nextCandidate;
+
+        /**
+         * Search Constructor creates the state of a run of the solver
+         *
+         * @param pool pool that tries case splits in parallel
+         * @param deadline time at which the search gives up
+         */
+        Search(ForkJoinPool pool, long deadline) {
+            this.pool = pool;
+            this.deadline = deadline;
+            this.propagations = new IdentityHashMap<>();
+            this.nextCandidate = 0;
+        }
+
+        /**
+         * Solves the board with at most the given number of nested case splits
+         *
+         * @param board the board of the node to solve from
+         * @param depth the number of nested case splits that may still be used
+         * @return the solved branch, or null if the board could not be solved
+         */
+        Branch solve(Board board, int depth) {
+            Propagation propagation = propagations.get(board);
+            if (propagation == null) {
+                propagation = propagate(board);
+                propagations.put(board, propagation);
+            }
+            if (propagation.splits == null) {
+                return propagation.root;
+            }
+            if (depth == 0) {
+                return null;
+            }
+
+            List<Split> splits = propagation.splits;
+            for (int i = 0; i < Math.min(branchAttempts, splits.size()); i++) {
+                Split split = splits.get(i);
+                if (solveOpenCases(split, depth - 1)) {
+                    propagation.stalled.split = split;
+                    return propagation.root;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Propagates what is known about the board until the branch is closed or complete, or
+         * until only a case split that is not forced could make progress
+         *
+         * @param board the board of the node to propagate from
+         * @return the result of the propagation
+         */
+        private Propagation propagate(Board board) {
+            Branch root = new Branch(board);
+            Branch branch = root;
+            int stepLimit = 4 * board.getPuzzleElements().size() + 16;
+            for (int step = 0; step < stepLimit; step++) {
+                checkTime();
+                Board current = branch.steps.isEmpty() ? branch.board : branch.getLastBoard();
+                branch.contradiction = findContradiction(current);
+                if (branch.contradiction >= 0 || isComplete(current)) {
+                    return new Propagation(root, branch, null);
+                }
+
+                Step direct = applyDirectRule(current);
+                if (direct != null) {
+                    branch.steps.add(direct);
+                    continue;
+                }
+
+                List<Split> splits = new ArrayList<>();
+                Split forced = findSplits(current, splits);
+                if (forced == null) {
+                    splits.removeIf(split -> split.openCount < 2);
+                    splits.sort(Comparator.comparingInt(split -> split.openCount));
+                    return new Propagation(root, branch, splits);
+                }
+                branch.split = forced;
+                if (forced.openCount == 0) {
+                    return new Propagation(root, branch, null);
+                }
+                branch = forced.getOpenChild();
+            }
+            return new Propagation(root, branch, List.of());
+        }
+
+        /**
+         * Solves every case of a split that did not lead to a contradiction straight away
+         *
+         * @param split the case split
+         * @param depth the number of nested case splits that the cases may still use
+         * @return true if every case was solved, false otherwise
+         */
+        private boolean solveOpenCases(Split split, int depth) {
+            for (int i = 0; i < split.children.length; i++) {
+                Branch child = split.children[i];
+                if (child.contradiction >= 0) {
+                    continue;
+                }
+                Branch solved = solve(child.board, depth);
+                if (solved == null) {
+                    return false;
+                }
+                split.children[i] = solved;
+            }
+            return true;
+        }
+
+        /**
+         * Finds the first contradiction rule that applies to the board
+         *
+         * @param board the board to check
+         * @return the index of the contradiction rule, or -1 if there is no contradiction
+         */
+        private int findContradiction(Board board) {
+            List<ContradictionRule> contradictionRules = puzzle.getContradictionRules();
+            board.beginAnalysis();
+            try {
+                for (int i = 0; i < contradictionRules.size(); i++) {
+                    ContradictionRule rule = contradictionRules.get(i);
+                    try {
+                        if (rule.checkContradiction(board) == null) {
+                            return i;
+                        }
+                    } catch (RuntimeException e) {
+                        LOGGER.debug("Contradiction check of {} failed", rule.getRuleName(), e);
+                    }
+                }
+            } finally {
+                board.endAnalysis();
+            }
+            return -1;
+        }
+
+        /**
+         * Determines if the board is a solution of the puzzle
+         *
+         * @param board the board to check
+         * @return true if the board is complete, false otherwise
+         */
+        private boolean isComplete(Board board) {
+            board.beginAnalysis();
+            try {
+                return puzzle.isBoardComplete(board);
+            } finally {
+                board.endAnalysis();
+            }
+        }
+
+        /**
+         * Applies the default board of the first direct rule that changes the board and is
+         * accepted by the rule itself
+         *
+         * @param board the board of the node to apply the rules to
+         * @return the step that applies the rule, or null if no direct rule applies
+         */
+        private Step applyDirectRule(Board board) {
+            List<DirectRule> directRules = puzzle.getDirectRules();
+            for (int i = 0; i < directRules.size(); i++) {
+                DirectRule rule = directRules.get(i);
+                TreeNode node = new TreeNode(board);
+                Board next;
+                try {
+                    next = rule.getDefaultBoard(node);
+                    if (next == null || !changes(board, next)) {
+                        continue;
+                    }
+                    TreeTransition transition = new TreeTransition(node, next);
+                    node.addChild(transition);
+                    if (rule.checkRule(transition) != null) {
+                        continue;
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Default application of {} failed", rule.getRuleName(), e);
+                    continue;
+                }
+
+                Board nodeBoard = next.copy();
+                nodeBoard.setModifiable(false);
+                return new Step(i, next, nodeBoard);
+            }
+            return null;
+        }
+
+        /**
+         * Tries the case rules on every element that they can be applied to, in parallel, until a
+         * forced split is found
+         *
+         * @param board the board of the node to split
+         * @param splits receives the valid splits that were tried
+         * @return the forced split, or null if no split is forced
+         */
+        private Split findSplits(Board board, List<Split> splits) {
+            List<CaseRule> caseRules = puzzle.getCaseRules();
+            List<Integer> candidateRules = new ArrayList<>();
+            List<PuzzleElement> candidateElements = new ArrayList<>();
+            for (int i = 0; i < caseRules.size(); i++) {
+                if (caseRules.get(i).needsUserInput()) {
+                    continue;
+                }
+                CaseBoard caseBoard;
+                try {
+                    caseBoard = caseRules.get(i).getCaseBoard(board);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Case board of {} failed", caseRules.get(i).getRuleName(), e);
+                    continue;
+                }
+                if (caseBoard == null) {
+                    continue;
+                }
+                for (PuzzleElement element : board.getPuzzleElements()) {
+                    if (caseBoard.isPickable(element, null)) {
+                        candidateRules.add(i);
+                        candidateElements.add(element);
+                    }
+                }
+            }
+
+            int count = candidateRules.size();
+            int chunkSize = 2 * parallelism;
+            for (int from = 0; from < count; from += chunkSize) {
+                checkTime();
+                List<Callable<Split>> tasks = new ArrayList<>();
+                for (int i = from; i < Math.min(from + chunkSize, count); i++) {
+                    int candidate = (nextCandidate + i) % count;
+                    int rule = candidateRules.get(candidate);
+                    PuzzleElement element = candidateElements.get(candidate);
+                    // every task gets its own copy, since reading a board may change it
+                    Board copy = board.copy();
+                    tasks.add(() -> trySplit(rule, copy, element));
+                }
+
+                List<Future<Split>> results = invokeAll(tasks);
+                Split forced = null;
+                for (int i = 0; i < results.size(); i++) {
+                    Split split = getResult(results.get(i));
+                    if (split != null) {
+                        splits.add(split);
+                        if (forced == null && split.isForced()) {
+                            forced = split;
+                            // the candidates before this one were just tried, so try them last
+                            nextCandidate = (nextCandidate + from + i) % count;
+                        }
+                    }
+                }
+                if (forced != null) {
+                    return forced;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Runs the tasks on the pool and waits for them, but no longer than until the deadline.
+         * Tasks that have not finished by then are cancelled, since a single case rule can take
+         * much longer to generate its cases than the whole search is allowed to take.
+         *
+         * @param tasks the tasks to run
+         * @return the futures of the tasks, in the same order
+         */
+        private List<Future<Split>> invokeAll(List<Callable<Split>> tasks) {
+            try {
+                return pool.invokeAll(
+                        tasks, deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SearchTimeoutException();
+            }
+        }
+
+        /**
+         * Gets the result of a task that tried a case split
+         *
+         * @param result the finished task
+         * @return the split, or null if the split cannot be used
+         */
+        private Split getResult(Future<Split> result) {
+            try {
+                return result.get();
+            } catch (CancellationException e) {
+                throw new SearchTimeoutException();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SearchTimeoutException) {
+                    throw (SearchTimeoutException) e.getCause();
+                }
+                LOGGER.debug("Case split failed", e.getCause());
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SearchTimeoutException();
+            }
+        }
+
+        /**
+         * Generates the cases of a case rule at an element and checks which of them lead to a
+         * contradiction straight away
+         *
+         * @param ruleIndex index of the case rule
+         * @param board the board of the node to split, owned by the calling task
+         * @param element the element to split on
+         * @return the split, or null if the rule cannot be applied there
+         */
+        private Split trySplit(int ruleIndex, Board board, PuzzleElement element) {
+            checkTime();
+            CaseRule rule = puzzle.getCaseRules().get(ruleIndex);
+            List<Board> cases;
+            try {
+                cases = rule.getCases(board, element);
+                if (cases == null || cases.isEmpty() || cases.size() > rule.MAX_CASES) {
+                    return null;
+                }
+
+                TreeNode node = new TreeNode(board);
+                List<TreeTransition> transitions = new ArrayList<>();
+                for (Board caseBoard : cases) {
+                    TreeTransition transition = new TreeTransition(node, caseBoard);
+                    transition.setRule(rule);
+                    transition.setSelection(element.copy());
+                    node.addChild(transition);
+                    transitions.add(transition);
+                }
+                if (rule.checkRule(transitions.get(0)) != null) {
+                    return null;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.debug("Cases of {} failed", rule.getRuleName(), e);
+                return null;
+            }
+
+            Split split = new Split(ruleIndex, element, cases);
+            for (int i = 0; i < cases.size(); i++) {
+                Board caseBoard = cases.get(i);
+                Board childBoard = caseBoard.copy();
+                childBoard.setModifiable(true);
+                Branch child = new Branch(childBoard);
+                child.contradiction = findContradiction(childBoard);
+                if (child.contradiction < 0) {
+                    if (split.openCount == 0) {
+                        split.openChild = i;
+                    }
+                    split.openCount++;
+                    split.makesProgress |= changes(board, caseBoard);
+                }
+                split.children[i] = child;
+            }
+            return split;
+        }
+
+        /**
+         * Stops the search if it has run out of time
+         *
+         * @throws SearchTimeoutException if the deadline has passed
+         */
+        private void checkTime() {
+            if (System.currentTimeMillis() > deadline) {
+                throw new SearchTimeoutException();
+            }
+        }
+    }
+
+    /**
+     * Branch is a path of the proof from a node: the direct rules applied to it, followed by a
+     * contradiction, a case split, or nothing if the last board is complete
+     */
+    private static final class Branch {
+        private final Board board;
+        private final List<Step> steps;
+        private int contradiction;
+        private Split split;
+
+        /**
+         * Branch Constructor creates a branch from the board of a node
+         *
+         * @param board board of the node that the branch starts from
+         */
+        Branch(Board board) {
+            this.board = board;
+            this.steps = new ArrayList<>();
+            this.contradiction = -1;
+            this.split = null;
+        }
+
+        /**
+         * Gets the board of the last node of the branch
+         *
+         * @return the board after the last direct rule
+         */
+        Board getLastBoard() {
+            return steps.get(steps.size() - 1).nodeBoard;
+        }
+
+        /**
+         * Determines if any path of the branch ends in a complete board rather than a contradiction
+         *
+         * @return true if the branch reaches a solution, false if every path of it is closed
+         */
+        boolean reachesSolution() {
+            if (contradiction >= 0) {
+                return false;
+            }
+            if (split == null) {
+                return true;
+            }
+            for (Branch child : split.children) {
+                if (child.reachesSolution()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Gets the largest number of case splits that are not forced on any path of the branch
+         *
+         * @return the case split depth of the branch
+         */
+        int getDepth() {
+            // forced splits have a single open case and do not count, so they are walked directly
+            Branch branch = this;
+            while (branch.split != null && branch.split.isForced()) {
+                if (branch.split.openCount == 0) {
+                    return 0;
+                }
+                branch = branch.split.getOpenChild();
+            }
+            if (branch.split == null) {
+                return 0;
+            }
+            int depth = 0;
+            for (Branch child : branch.split.children) {
+                depth = Math.max(depth, child.getDepth());
+            }
+            return depth + 1;
+        }
+    }
+
+    /**
+     * Propagation is the result of propagating from the board of a node. It is kept for every
+     * board the search reaches, so that searching again with more case splits allowed does not
+     * repeat the propagation.
+     */
+    private static final class Propagation {
+        private final Branch root;
+        private final Branch stalled;
+        private final List<Split> splits;
+
+        /**
+         * Propagation Constructor creates the result of a propagation
+         *
+         * @param root the branch that starts from the board
+         * @param stalled the last branch of the forced splits, where propagation stopped
+         * @param splits the case splits to branch on, best first, or null if the branch is
+         *     closed or complete without branching
+         */
+        Propagation(Branch root, Branch stalled, List<Split> splits) {
+            this.root = root;
+            this.stalled = stalled;
+            this.splits = splits;
+        }
+    }
+
+    /** Step is the application of the default board of a direct rule */
+    private static final class Step {
+        private final int rule;
+        private final Board transitionBoard;
+        private final Board nodeBoard;
+
+        /**
+         * Step Constructor creates the application of a direct rule
+         *
+         * @param rule index of the direct rule
+         * @param transitionBoard default board of the rule, used as the board of the transition
+         * @param nodeBoard board of the node after the transition
+         */
+        Step(int rule, Board transitionBoard, Board nodeBoard) {
+            this.rule = rule;
+            this.transitionBoard = transitionBoard;
+            this.nodeBoard = nodeBoard;
+        }
+    }
+
+    /** Split is the application of a case rule at an element */
+    private static final class Split {
+        private final int rule;
+        private final PuzzleElement selection;
+        private final List<Board> cases;
+        private final Branch[] children;
+        private int openCount;
+        private int openChild;
+        private boolean makesProgress;
+
+        /**
+         * Split Constructor creates a case split
+         *
+         * @param rule index of the case rule
+         * @param selection element that the rule is applied to
+         * @param cases boards of the cases
+         */
+        Split(int rule, PuzzleElement selection, List<Board> cases) {
+            this.rule = rule;
+            this.selection = selection;
+            this.cases = cases;
+            this.children = new Branch[cases.size()];
+            this.openCount = 0;
+            this.openChild = -1;
+            this.makesProgress = false;
+        }
+
+        /**
+         * Determines if the split is forced, which is when every case but at most one leads to a
+         * contradiction straight away and the remaining case changes the board
+         *
+         * @return true if the split is forced, false otherwise
+         */
+        boolean isForced() {
+            return openCount == 0 || (openCount == 1 && makesProgress);
+        }
+
+        /**
+         * Gets the first case that did not lead to a contradiction straight away. The branch of
+         * the case may since have been propagated to a contradiction, so this is kept by index
+         * rather than found from the branches.
+         *
+         * @return the branch of the open case, or null if every case led to a contradiction
+         */
+        Branch getOpenChild() {
+            return openChild < 0 ? null : children[openChild];
+        }
+    }
+
+    /** Thrown inside of the search once it has run out of time */
+    private static final class SearchTimeoutException extends RuntimeException {
+        SearchTimeoutException() {
+            super("Solver ran out of time", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package edu.rpi.legup.app;
+
+import edu.rpi.legup.model.Puzzle;
+import edu.rpi.legup.model.PuzzleImporter;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import edu.rpi.legup.save.PuzzleFileReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.stream.XMLStreamException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * {@code BatchGrader} grades a directory of student proof files without any user interface. Every
+ * file is loaded into its own {@link Puzzle} instance, so no state is shared through the {@link
+ * GameBoardFacade} singleton and no {@code BoardView} is ever created. Files are graded on a
+ * bounded worker pool, and the rows of the resulting csv file are written in a deterministic order
+ * regardless of which worker finishes first.
+ *
+ * <p>The selected directory must have a sub-directory for each student:
+ *
+ * <pre>
+ * GradeThis
+ *    |
+ *    | -> Student 1
+ *    |       |
+ *    |       | -> Proofs
+ * </pre>
+ */
+public class BatchGrader {
+    private static final Logger LOGGER = LogManager.getLogger(BatchGrader.class.getName());
+
+    public static final String RESULT_FILE_NAME = "result.csv";
+    public static final String RESULT_HEADER = "Name,File Name,Puzzle Type,Score,Solved?\n";
+
+    private final Config config;
+    private final int threadCount;
+
+    /**
+     * BatchGrader Constructor creates a grader that uses one worker thread per available processor
+     *
+     * @param config config used to look up the puzzle classes by name
+     */
+    public BatchGrader(Config config) {
+        this(config, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * BatchGrader Constructor creates a grader with a fixed number of worker threads
+     *
+     * @param config config used to look up the puzzle classes by name
+     * @param threadCount number of files that may be graded at the same time
+     */
+    public BatchGrader(Config config, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.config = config;
+        this.threadCount = threadCount;
+        // Preferences are loaded lazily and are read by every rule, so load them before the
+        // workers start rather than letting them race to do it
+        LegupPreferences.getInstance();
+    }
+
+    /**
+     * Grades every student folder in the specified folder and writes the results to {@value
+     * #RESULT_FILE_NAME} inside of it
+     *
+     * @param folder folder containing a sub-directory for each student
+     * @return the csv file that the results were written to
+     * @throws IOException if the csv file could not be written
+     */
+    public File grade(File folder) throws IOException {
+        File resultFile = new File(folder.getAbsolutePath() + File.separator + RESULT_FILE_NAME);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(resultFile))) {
+            grade(folder, writer);
+        }
+        return resultFile;
+    }
+
+    /**
+     * Grades every student folder in the specified folder and streams the csv rows to the writer.
+     * Rows are written as soon as they and every row before them are finished.
+     *
+     * @param folder folder containing a sub-directory for each student
+     * @param writer writer that receives the csv header and rows
+     * @throws IOException if a row could not be written
+     */
+    public void grade(File folder, Writer writer) throws IOException {
+        writer.append(RESULT_HEADER);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<String>> rows = new ArrayList<>();
+            for (File studentFolder : listSorted(folder)) {
+                if (studentFolder.isDirectory()) {
+                    submitFolder(executor, studentFolder, studentFolder.getName(), rows);
+                }
+            }
+            executor.shutdown();
+
+            for (Future<String> row : rows) {
+                writer.append(awaitRow(row));
+            }
+            writer.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Recursively queues a grading task for every file in the folder, in sorted order
+     *
+     * @param executor executor that grades the files
+     * @param folder the folder to traverse
+     * @param path the path of the folder relative to the graded directory
+     * @param rows list that receives the pending csv rows in output order
+     */
+    private void submitFolder(
+            ExecutorService executor, File folder, String path, List<Future<String>> rows) {
+        File[] files = listSorted(folder);
+        if (files.length == 0) {
+            rows.add(CompletableFuture.completedFuture(path + ",Empty folder,,Ungradeable\n"));
+            return;
+        }
+
+        for (File file : files) {
+            if (file.isDirectory()) {
+                submitFolder(executor, file, path + "/" + file.getName(), rows);
+            } else if (!file.getName().equals(RESULT_FILE_NAME)) {
+                rows.add(executor.submit(() -> gradeFile(file, path)));
+            }
+        }
+    }
+
+    /**
+     * Waits for a row to finish grading
+     *
+     * @param row pending csv row
+     * @return the finished csv row
+     * @throws IOException if the thread was interrupted while waiting or the worker failed
+     */
+    private String awaitRow(Future<String> row) throws IOException {
+        try {
+            return row.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch grading was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Batch grading failed", e.getCause());
+        }
+    }
+
+    /**
+     * Loads and grades a single proof file
+     *
+     * @param file the proof file to grade
+     * @param path the path of the folder containing the file, relative to the graded directory
+     * @return the csv row for the file
+     */
+    private String gradeFile(File file, String path) {
+        String row = path + "," + file.getName() + ",";
+        try {
+            Puzzle puzzle = loadPuzzle(file);
+            if (puzzle.isPuzzleComplete()) {
+                return row + puzzle.getName() + ",1,Solved\n";
+            } else {
+                return row + puzzle.getName() + ",0,Unsolved\n";
+            }
+        } catch (InvalidFileFormatException | RuntimeException | StackOverflowError e) {
+            LOGGER.error("Unable to grade '{}'", file.getPath(), e);
+            return row + "Invalid,,Ungradeable\n";
+        }
+    }
+
+    /**
+     * Loads a puzzle file into a new puzzle instance without initializing its view
+     *
+     * @param file the puzzle file to load
+     * @return the loaded puzzle
+     * @throws InvalidFileFormatException if the file is not a valid Legup puzzle file
+     */
+    public Puzzle loadPuzzle(File file) throws InvalidFileFormatException {
+        Document document;
+        try {
+            document = PuzzleFileReader.readPuzzleDocument(file);
+        } catch (IOException | XMLStreamException e) {
+            throw new InvalidFileFormatException("Could not parse file " + file.getName());
+        }
+
+        Element rootNode = document.getDocumentElement();
+        if (!rootNode.getTagName().equals("Legup")) {
+            throw new InvalidFileFormatException("Invalid file: must be a Legup file");
+        }
+
+        Node node = rootNode.getElementsByTagName("puzzle").item(0);
+        if (node == null) {
+            throw new InvalidFileFormatException("Invalid file: does not contain a puzzle");
+        }
+        String qualifiedClassName =
+                config.getPuzzleClassForName(((Element) node).getAttribute("name"));
+        if (qualifiedClassName == null) {
+            throw new InvalidFileFormatException(
+                    "Puzzle creation error: cannot find puzzle with that name");
+        }
+
+        try {
+            Class<?> c = Class.forName(qualifiedClassName);
+            Constructor<?> cons = c.getConstructor();
+            Puzzle puzzle = (Puzzle) cons.newInstance();
+
+            PuzzleImporter importer = puzzle.getImporter();
+            if (importer == null) {
+                throw new InvalidFileFormatException("Puzzle importer null");
+            }
+            importer.initializePuzzle(node);
+            return puzzle;
+        } catch (ClassNotFoundException
+                | NoSuchMethodException
+                | InvocationTargetException
+                | IllegalAccessException
+                | InstantiationException e) {
+            LOGGER.error(e);
+            throw new InvalidFileFormatException("Puzzle creation error");
+        }
+    }
+
+    /**
+     * Lists the files of a folder sorted by name so that the grading order is reproducible
+     *
+     * @param folder folder to list
+     * @return the sorted files in the folder, or an empty array if the folder cannot be read
+     */
+    private static File[] listSorted(File folder) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        return files;
+    }
+}
@@ -8,6 +8,7 @@ import edu.rpi.legup.model.PuzzleImporter;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.tree.Tree;
 import edu.rpi.legup.save.InvalidFileFormatException;
+import edu.rpi.legup.save.PuzzleFileReader;
 import edu.rpi.legup.ui.LegupUI;
 import edu.rpi.legup.ui.ProofEditorPanel;
 import edu.rpi.legup.ui.PuzzleEditorPanel;
@@ -21,15 +22,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
 /**
  * {@code GameBoardFacade} is a class designed to manage the game board operations within the
@@ -337,10 +335,8 @@ public class GameBoardFacade implements IHistorySubject {
     public void loadPuzzleEditor(InputStream inputStream) throws InvalidFileFormatException {
         Document document;
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            document = builder.parse(inputStream);
-        } catch (IOException | SAXException | ParserConfigurationException e) {
+            document = PuzzleFileReader.readPuzzleDocument(inputStream);
+        } catch (IOException | XMLStreamException e) {
             LOGGER.error("Invalid file", e);
             throw new InvalidFileFormatException("Could not find file");
         }
@@ -411,10 +407,8 @@ public class GameBoardFacade implements IHistorySubject {
     public void loadPuzzle(InputStream inputStream) throws InvalidFileFormatException {
         Document document;
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            document = builder.parse(inputStream);
-        } catch (IOException | SAXException | ParserConfigurationException e) {
+            document = PuzzleFileReader.readPuzzleDocument(inputStream);
+        } catch (IOException | XMLStreamException e) {
             LOGGER.error("Invalid file", e);
             throw new InvalidFileFormatException("Could not find file");
         }
@@ -31,6 +31,13 @@ public class LegupPreferences {
     public static final String AUTO_GENERATE_CASES = "auto-generate-cases";
     public static final String IMMEDIATE_FEEDBACK = "immediate-feedback";
     public static final String COLOR_BLIND = "color-blind";
+    public static final String HISTORY_MEMORY = "history-memory";
+
+    /**
+     * Megabytes of memory the undo history may hold unless the user sets {@link #HISTORY_MEMORY},
+     * where 0 means that the history never drops commands
+     */
+    public static final int DEFAULT_HISTORY_MEMORY = 0;
 
     static {
         defaultPreferencesMap.put(WORK_DIRECTORY, System.getProperty("user.home"));
@@ -43,6 +50,7 @@ public class LegupPreferences {
         defaultPreferencesMap.put(AUTO_GENERATE_CASES, Boolean.toString(true));
         defaultPreferencesMap.put(IMMEDIATE_FEEDBACK, Boolean.toString(true));
         defaultPreferencesMap.put(COLOR_BLIND, Boolean.toString(false));
+        defaultPreferencesMap.put(HISTORY_MEMORY, Integer.toString(DEFAULT_HISTORY_MEMORY));
     }
 
     static {
@@ -75,6 +83,9 @@ public class LegupPreferences {
                 preferences.get(IMMEDIATE_FEEDBACK, defaultPreferencesMap.get(IMMEDIATE_FEEDBACK)));
         preferencesMap.put(
                 COLOR_BLIND, preferences.get(COLOR_BLIND, defaultPreferencesMap.get(COLOR_BLIND)));
+        preferencesMap.put(
+                HISTORY_MEMORY,
+                preferences.get(HISTORY_MEMORY, defaultPreferencesMap.get(HISTORY_MEMORY)));
     }
 
     /**
@@ -5,6 +5,7 @@ import static edu.rpi.legup.app.GameBoardFacade.*;
 import edu.rpi.legup.app.GameBoardFacade;
 import edu.rpi.legup.app.LegupPreferences;
 import edu.rpi.legup.history.AutoCaseRuleCommand;
+import edu.rpi.legup.history.BulkEditDataCommand;
 import edu.rpi.legup.history.EditDataCommand;
 import edu.rpi.legup.history.ICommand;
 import edu.rpi.legup.model.elements.Element;
@@ -14,6 +15,7 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.tree.TreeElement;
 import edu.rpi.legup.model.tree.TreeElementType;
 import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.model.tree.VerificationService;
 import edu.rpi.legup.ui.DynamicView;
 import edu.rpi.legup.ui.boardview.BoardView;
 import edu.rpi.legup.ui.boardview.ElementSelection;
@@ -22,6 +24,8 @@ import edu.rpi.legup.ui.boardview.SelectionItemView;
 import edu.rpi.legup.ui.proofeditorui.treeview.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The ElementController class manages UI interactions related to elements in a {@link BoardView}.
@@ -31,6 +35,7 @@ public class ElementController
         implements MouseListener, MouseMotionListener, ActionListener, KeyListener {
     protected BoardView boardView;
     private Element selectedElement;
+    private List<ElementView> paintedViews;
 
     /**
      * ElementController Constructor controller to handle ui events associated interacting with a
@@ -39,6 +44,7 @@ public class ElementController
     public ElementController() {
         this.boardView = null;
         this.selectedElement = null;
+        this.paintedViews = new ArrayList<>();
     }
 
     /**
@@ -68,12 +74,19 @@ public class ElementController
     public void mouseClicked(MouseEvent e) {}
 
     /**
-     * Invoked when a mouse button has been pressed on a component.
+     * Invoked when a mouse button has been pressed on a component. The element pressed on starts
+     * the elements painted if the mouse is dragged before it is released.
      *
      * @param e the event to be processed
      */
     @Override
-    public void mousePressed(MouseEvent e) {}
+    public void mousePressed(MouseEvent e) {
+        paintedViews.clear();
+        ElementView elementView = boardView.getElement(e.getPoint());
+        if (elementView != null) {
+            paintedViews.add(elementView);
+        }
+    }
 
     /**
      * Invoked when a mouse button has been released on a component.
@@ -114,7 +127,11 @@ public class ElementController
                 }
             } else {
                 if (selection != null) {
-                    ICommand edit = new EditDataCommand(elementView, selection, e);
+                    // elements dragged over are all changed by one edit
+                    ICommand edit =
+                            paintedViews.size() > 1
+                                    ? new BulkEditDataCommand(paintedViews, selection, e)
+                                    : new EditDataCommand(elementView, selection, e);
                     if (edit.canExecute()) {
                         edit.execute();
                         getInstance().getHistory().pushChange(edit);
@@ -129,6 +146,7 @@ public class ElementController
                 }
             }
         }
+        clearPaintedViews(boardView);
         boardView.repaint();
     }
 
@@ -153,26 +171,13 @@ public class ElementController
         }
         ElementView elementView = boardView.getElement(e.getPoint());
         ElementSelection selection = boardView.getSelection();
-        String error = null;
         if (elementView != null) {
+            ElementView previousHover = selection.getHover();
             selection.newHover(elementView);
             if (LegupPreferences.getInstance().getUserPrefAsBool(LegupPreferences.SHOW_MISTAKES)) {
-                PuzzleElement element = elementView.getPuzzleElement();
-                if (treeElement != null
-                        && treeElement.getType() == TreeElementType.TRANSITION
-                        && board.getModifiedData().contains(element)) {
-                    TreeTransition transition = (TreeTransition) treeElement;
-                    if (transition.isJustified() && !transition.isCorrect()) {
-                        error = transition.getRule().checkRuleAt(transition, element);
-                    }
-                }
-                if (error != null) {
-                    dynamicView.updateError(error);
-                } else {
-                    dynamicView.resetStatus();
-                }
+                showMistakeAt(dynamicView, treeElement, board, elementView.getPuzzleElement());
             }
-            boardView.repaint();
+            boardView.repaintElements(previousHover, elementView);
         }
     }
 
@@ -194,19 +199,47 @@ public class ElementController
         }
         ElementView element = boardView.getElement(e.getPoint());
         if (element != null) {
+            ElementView previousHover = boardView.getSelection().getHover();
             boardView.getSelection().clearHover();
             dynamicView.resetStatus();
-            boardView.repaint();
+            boardView.repaintElements(previousHover, element);
         }
     }
 
     /**
-     * Invoked when the mouse dragged
+     * Invoked when the mouse dragged. Every element the mouse is dragged over after being pressed
+     * on an element is selected, and all of them are changed together when the mouse is released.
      *
      * @param e the event to be processed
      */
     @Override
-    public void mouseDragged(MouseEvent e) {}
+    public void mouseDragged(MouseEvent e) {
+        if (paintedViews.isEmpty()) {
+            return;
+        }
+        ElementView elementView = boardView.getElement(e.getPoint());
+        if (elementView != null && !paintedViews.contains(elementView)) {
+            ElementSelection selection = boardView.getSelection();
+            if (paintedViews.size() == 1) {
+                selection.newSelection(paintedViews.get(0));
+            }
+            paintedViews.add(elementView);
+            selection.toggleSelection(elementView);
+            boardView.repaint();
+        }
+    }
+
+    /**
+     * Clears the elements painted by dragging the mouse, and their selection
+     *
+     * @param boardView board view the elements were selected on
+     */
+    private void clearPaintedViews(BoardView boardView) {
+        if (paintedViews.size() > 1) {
+            boardView.getSelection().clearSelection();
+        }
+        paintedViews.clear();
+    }
 
     /**
      * Invoked when the mouse moved
@@ -227,27 +260,46 @@ public class ElementController
         }
         ElementView elementView = boardView.getElement(e.getPoint());
         ElementSelection selection = boardView.getSelection();
-        String error = null;
         if (elementView != null && elementView != selection.getHover()) {
+            ElementView previousHover = selection.getHover();
             selection.newHover(elementView);
             if (LegupPreferences.getInstance().getUserPrefAsBool(LegupPreferences.SHOW_MISTAKES)) {
-                PuzzleElement element = elementView.getPuzzleElement();
-                if (treeElement != null
-                        && treeElement.getType() == TreeElementType.TRANSITION
-                        && board.getModifiedData().contains(element)) {
-                    TreeTransition transition = (TreeTransition) treeElement;
-                    if (transition.isJustified() && !transition.isCorrect()) {
-                        error = transition.getRule().checkRuleAt(transition, element);
-                    }
-                }
-                if (error != null) {
-                    dynamicView.updateError(error);
-                } else {
-                    dynamicView.resetStatus();
-                }
+                showMistakeAt(dynamicView, treeElement, board, elementView.getPuzzleElement());
+            }
+            boardView.repaintElements(previousHover, elementView);
+        }
+    }
+
+    /**
+     * Shows the mistake at a puzzle element of the transition shown on the board. The rule is
+     * checked at the element in the background, and the status is updated once the check is done.
+     *
+     * @param dynamicView view that shows the status
+     * @param treeElement tree element shown on the board
+     * @param board board of the tree element
+     * @param element puzzle element the mouse is over
+     */
+    private void showMistakeAt(
+            DynamicView dynamicView, TreeElement treeElement, Board board, PuzzleElement element) {
+        VerificationService verificationService = VerificationService.getInstance();
+        dynamicView.resetStatus();
+        if (treeElement != null
+                && treeElement.getType() == TreeElementType.TRANSITION
+                && board.getModifiedData().contains(element)) {
+            TreeTransition transition = (TreeTransition) treeElement;
+            if (transition.isJustified()) {
+                verificationService.checkAt(
+                        transition,
+                        element,
+                        error -> {
+                            if (error != null) {
+                                dynamicView.updateError(error);
+                            }
+                        });
+                return;
             }
-            boardView.repaint();
         }
+        verificationService.cancelCheckAt();
     }
 
     public void changeCell(MouseEvent e, PuzzleElement data) {}
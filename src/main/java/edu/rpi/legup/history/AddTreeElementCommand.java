@@ -122,4 +122,19 @@ public class AddTreeElementCommand extends PuzzleCommand {
         }
         puzzle.notifyTreeListeners(listener -> listener.onTreeSelectionChanged(newSelection));
     }
+
+    /**
+     * Estimates the memory held by this command, which is the tree elements it added and the
+     * subtrees below them, kept so that redo can put them back
+     *
+     * @return estimated size in bytes of this command
+     */
+    @Override
+    public long getRetainedSize() {
+        long size = History.COMMAND_SIZE;
+        for (TreeElement child : addChild.values()) {
+            size += History.estimateSize(child);
+        }
+        return size;
+    }
 }
@@ -137,4 +137,19 @@ public class ApplyDefaultDirectRuleCommand extends PuzzleCommand {
         puzzle.notifyBoardListeners(listener -> listener.onTreeElementChanged(finalTreeElement));
         puzzle.notifyTreeListeners(listener -> listener.onTreeSelectionChanged(selection));
     }
+
+    /**
+     * Estimates the memory held by this command, which is the transitions it added and the
+     * subtrees below them, kept so that redo can put them back
+     *
+     * @return estimated size in bytes of this command
+     */
+    @Override
+    public long getRetainedSize() {
+        long size = History.COMMAND_SIZE;
+        for (TreeTransition transition : addMap.values()) {
+            size += History.estimateSize(transition);
+        }
+        return size;
+    }
 }
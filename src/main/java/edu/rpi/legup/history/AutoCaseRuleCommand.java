@@ -17,6 +17,9 @@ import java.util.*;
  * The AutoCaseRuleCommand class represents a command to automatically apply a case rule to a
  * selected tree node in the proof tree. It extends the PuzzleCommand class to handle case rule
  * application and undo operation.
+ *
+ * <p>The cases are generated once, when they are first needed to check the selection, and the same
+ * boards become the boards of the new transitions.
  */
 public class AutoCaseRuleCommand extends PuzzleCommand {
 
@@ -26,6 +29,7 @@ public class AutoCaseRuleCommand extends PuzzleCommand {
     private CaseBoard caseBoard;
     private MouseEvent mouseEvent;
 
+    private List<Board> cases;
     private List<TreeTransition> caseTrans;
 
     /**
@@ -64,9 +68,7 @@ public class AutoCaseRuleCommand extends PuzzleCommand {
 
         TreeNode node = (TreeNode) selection.getFirstSelection().getTreeElement();
         if (caseTrans.isEmpty()) {
-            List<Board> cases =
-                    caseRule.getCases(caseBoard.getBaseBoard(), elementView.getPuzzleElement());
-            for (Board board : cases) {
+            for (Board board : getCases()) {
                 final TreeTransition transition = (TreeTransition) tree.addTreeElement(node);
                 // board.setModifiable(false);
                 transition.setBoard(board);
@@ -79,6 +81,8 @@ public class AutoCaseRuleCommand extends PuzzleCommand {
                 puzzle.notifyTreeListeners(listener -> listener.onTreeElementAdded(transition));
                 newSelection.addToSelection(treeView.getElementView(childNode));
             }
+            // the boards now belong to the transitions
+            cases = null;
         } else {
             for (final TreeTransition transition : caseTrans) {
                 tree.addTreeElement(node, transition);
@@ -119,14 +123,10 @@ public class AutoCaseRuleCommand extends PuzzleCommand {
             return "The selected data element is not pickable with this case rule.";
         }
 
-        if (caseRule.getCases(caseBoard.getBaseBoard(), elementView.getPuzzleElement()).size()
-                == 0) {
+        int numberOfCaseRules = getCases().size();
+        if (numberOfCaseRules == 0) {
             return "The selection must produce at least one case";
         }
-
-        int numberOfCaseRules =
-                caseRule.getCases(caseBoard.getBaseBoard(), elementView.getPuzzleElement()).size();
-        System.out.println("Number of cases:" + numberOfCaseRules);
         if (numberOfCaseRules > caseRule.MAX_CASES) {
             return "The selection can produce a max of " + caseRule.MAX_CASES + " cases";
         }
@@ -137,6 +137,18 @@ public class AutoCaseRuleCommand extends PuzzleCommand {
         return null;
     }
 
+    /**
+     * Gets the cases of the selected element, generating them the first time they are needed
+     *
+     * @return boards of the cases
+     */
+    private List<Board> getCases() {
+        if (cases == null) {
+            cases = caseRule.getPickedCases(caseBoard, elementView.getPuzzleElement());
+        }
+        return cases;
+    }
+
     /**
      * Undoes the command by removing the applied case rules from the tree node. Updates the puzzle
      * and tree view accordingly
@@ -157,4 +169,24 @@ public class AutoCaseRuleCommand extends PuzzleCommand {
         puzzle.notifyBoardListeners(listener -> listener.onTreeElementChanged(finalTreeElement));
         puzzle.notifyTreeListeners(listener -> listener.onTreeSelectionChanged(selection));
     }
+
+    /**
+     * Estimates the memory held by this command, which is the generated cases and the case
+     * transitions and subtrees below them, kept so that redo can put them back
+     *
+     * @return estimated size in bytes of this command
+     */
+    @Override
+    public long getRetainedSize() {
+        long size = History.COMMAND_SIZE;
+        if (cases != null) {
+            for (Board board : cases) {
+                size += History.estimateSize(board);
+            }
+        }
+        for (TreeTransition transition : caseTrans) {
+            size += History.estimateSize(transition);
+        }
+        return size;
+    }
 }
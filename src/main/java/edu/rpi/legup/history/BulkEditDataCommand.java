@@ -0,0 +1,33 @@
+package edu.rpi.legup.history;
+
+import edu.rpi.legup.ui.boardview.ElementView;
+import edu.rpi.legup.ui.proofeditorui.treeview.TreeViewSelection;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The BulkEditDataCommand class represents a command to edit the data of several puzzle elements
+ * within a tree transition at once. The editor uses it for the cells painted by dragging the mouse
+ * across the board, which is the only way it edits several elements at once. The first element is
+ * changed the same way a click would change it, and every other element is given the same data.
+ * All of the changes are propagated down the tree together, so the transitions below are updated
+ * and reverified once, and they are undone as a single command.
+ */
+public class BulkEditDataCommand extends EditDataCommand {
+
+    /**
+     * BulkEditDataCommand Constructor create a puzzle command for editing several elements of a
+     * board
+     *
+     * @param elementViews puzzle element views that are being edited, which must not be empty,
+     *     starting with the one whose change is copied to the others
+     * @param selection currently selected tree puzzleElement views that are being edited
+     * @param event mouse event that changes the first element
+     */
+    public BulkEditDataCommand(
+            List<ElementView> elementViews, TreeViewSelection selection, MouseEvent event) {
+        super(new ArrayList<>(new LinkedHashSet<>(elementViews)), selection, event);
+    }
+}
@@ -114,4 +114,19 @@ public class DeleteTreeElementCommand extends PuzzleCommand {
                                 selection.getFirstSelection().getTreeElement()));
         puzzle.notifyTreeListeners(listener -> listener.onTreeSelectionChanged(selection));
     }
+
+    /**
+     * Estimates the memory held by this command, which is the deleted tree elements and the
+     * subtrees below them, kept so that undo can put them back
+     *
+     * @return estimated size in bytes of this command
+     */
+    @Override
+    public long getRetainedSize() {
+        long size = History.COMMAND_SIZE;
+        for (TreeElementView selectedView : selection.getSelectedViews()) {
+            size += History.estimateSize(selectedView.getTreeElement());
+        }
+        return size;
+    }
 }
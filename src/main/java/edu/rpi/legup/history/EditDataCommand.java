@@ -12,6 +12,7 @@ import edu.rpi.legup.ui.boardview.ElementView;
 import edu.rpi.legup.ui.proofeditorui.treeview.*;
 import java.awt.*;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
 import javax.swing.*;
 
@@ -19,13 +20,21 @@ import javax.swing.*;
  * The EditDataCommand class represents a command to edit the data of a puzzle element within a tree
  * transition. It extends PuzzleCommand and provides functionality to execute and undo changes made
  * to puzzle elements.
+ *
+ * <p>Repeated edits of the same element in the same transition are coalesced into one command, so
+ * clicking through the values of a cell takes one entry in the history and is undone at once.
+ *
+ * <p>Subclasses can edit several elements at once. The first element is changed the same way a
+ * click would change it, every other element is given the same data, and all of the changes are
+ * propagated down the tree together.
  */
 public class EditDataCommand extends PuzzleCommand {
     private TreeTransition transition;
-    private PuzzleElement savePuzzleElement;
-    private PuzzleElement puzzleElement;
+    private List<PuzzleElement> savePuzzleElements;
+    private List<PuzzleElement> puzzleElements;
+    private PuzzleElement newPuzzleElement;
 
-    private ElementView elementView;
+    private List<ElementView> elementViews;
     private TreeViewSelection selection;
     private MouseEvent event;
 
@@ -37,18 +46,33 @@ public class EditDataCommand extends PuzzleCommand {
      * @param event mouse event
      */
     public EditDataCommand(ElementView elementView, TreeViewSelection selection, MouseEvent event) {
-        this.elementView = elementView;
+        this(List.of(elementView), selection, event);
+    }
+
+    /**
+     * EditDataCommand Constructor create a puzzle command for editing several elements of a board
+     *
+     * @param elementViews puzzle element views that are being edited, which must not be empty or
+     *     contain the same view twice, starting with the one whose change is copied to the others
+     * @param selection currently selected tree puzzleElement views that are being edited
+     * @param event mouse event that changes the first element
+     */
+    protected EditDataCommand(
+            List<ElementView> elementViews, TreeViewSelection selection, MouseEvent event) {
+        this.elementViews = elementViews;
         this.selection = selection.copy();
         this.event = event;
-        this.puzzleElement = null;
-        this.savePuzzleElement = null;
+        this.puzzleElements = new ArrayList<>();
+        this.savePuzzleElements = new ArrayList<>();
+        this.newPuzzleElement = null;
         this.transition = null;
     }
 
     /**
-     * Executes the edit data command, modifying the puzzle element and propagating changes
+     * Executes the edit data command, modifying the puzzle elements and propagating the changes
      *
-     * <p>The command edits the elementView for the selection stored within this class.
+     * <p>The command edits the elementViews for the selection stored within this class. Elements
+     * after the first that cannot be modified are left unchanged.
      */
     @SuppressWarnings("unchecked")
     @Override
@@ -61,7 +85,6 @@ public class EditDataCommand extends PuzzleCommand {
         TreeElement treeElement = selectedView.getTreeElement();
 
         Board board = treeElement.getBoard();
-        PuzzleElement selectedPuzzleElement = elementView.getPuzzleElement();
 
         // Editing an element must edit the data within a transition. Thus, if
         // a node is selected, we need to
@@ -78,26 +101,42 @@ public class EditDataCommand extends PuzzleCommand {
             transition = (TreeTransition) treeElement;
         }
 
-        // Now, we have the puzzle element that we will edit.
-        puzzleElement = board.getPuzzleElement(selectedPuzzleElement);
-        savePuzzleElement = puzzleElement.copy();
+        // Now, we have the puzzle elements that we will edit.
+        puzzleElements.clear();
+        savePuzzleElements.clear();
+        for (ElementView elementView : elementViews) {
+            PuzzleElement puzzleElement = board.getPuzzleElement(elementView.getPuzzleElement());
+            if (puzzleElements.isEmpty()
+                    || (puzzleElement.isModifiable() && puzzleElement.isModifiableCaseRule())) {
+                puzzleElements.add(puzzleElement);
+                savePuzzleElements.add(puzzleElement.copy());
+            }
+        }
 
         // We call the overloaded changeCell, which is dependent on which
-        // puzzle we are solving
-        Board prevBoard = transition.getParents().get(0).getBoard();
-        boardView.getElementController().changeCell(event, puzzleElement);
-
-        if (prevBoard.getPuzzleElement(selectedPuzzleElement).equalsData(puzzleElement)) {
-            board.removeModifiedData(puzzleElement);
+        // puzzle we are solving, and paint the rest of the elements to match. When redoing, the
+        // data the edits left is restored instead, since coalesced edits cannot be replayed by a
+        // single change.
+        PuzzleElement firstElement = puzzleElements.get(0);
+        if (newPuzzleElement == null) {
+            boardView.getElementController().changeCell(event, firstElement);
+            newPuzzleElement = firstElement.copy();
         } else {
-            board.addModifiedData(puzzleElement);
+            firstElement.setData(newPuzzleElement.getData());
+        }
+        for (PuzzleElement puzzleElement : puzzleElements.subList(1, puzzleElements.size())) {
+            puzzleElement.setData(firstElement.getData());
         }
-        transition.propagateChange(puzzleElement);
+
+        updateModifiedData(board);
+        transition.propagateChanges(puzzleElements);
 
         // Finally, we notify listeners that the tree changed.
         final TreeElement finalTreeElement = transition;
         puzzle.notifyBoardListeners(listener -> listener.onTreeElementChanged(finalTreeElement));
-        puzzle.notifyBoardListeners(listener -> listener.onBoardDataChanged(puzzleElement));
+        for (PuzzleElement puzzleElement : puzzleElements) {
+            puzzle.notifyBoardListeners(listener -> listener.onBoardDataChanged(puzzleElement));
+        }
 
         final TreeViewSelection newSelection =
                 new TreeViewSelection(treeView.getElementView(transition));
@@ -118,7 +157,7 @@ public class EditDataCommand extends PuzzleCommand {
         }
         TreeElementView selectedView = selection.getFirstSelection();
         Board board = selectedView.getTreeElement().getBoard();
-        PuzzleElement selectedPuzzleElement = elementView.getPuzzleElement();
+        PuzzleElement selectedPuzzleElement = elementViews.get(0).getPuzzleElement();
         if (selectedView.getType() == TreeElementType.NODE) {
             TreeNodeView nodeView = (TreeNodeView) selectedView;
             if (!nodeView.getChildrenViews().isEmpty()) {
@@ -141,7 +180,32 @@ public class EditDataCommand extends PuzzleCommand {
         return null;
     }
 
-    /** Undoes the edit data command, restoring the previous state of the puzzle element. */
+    /**
+     * Merges another edit of the same puzzle element in the same transition into this command.
+     * Only commands that edit a single element are merged.
+     *
+     * @param command command executed after this one
+     * @return true if the command edited the same puzzle element as this one, false otherwise
+     */
+    @Override
+    public boolean coalesce(ICommand command) {
+        if (!(command instanceof EditDataCommand)) {
+            return false;
+        }
+        EditDataCommand other = (EditDataCommand) command;
+        if (transition == null
+                || other.transition != transition
+                || puzzleElements.size() != 1
+                || other.puzzleElements.size() != 1
+                || other.puzzleElements.get(0) != puzzleElements.get(0)
+                || other.selection.getFirstSelection().getType() != TreeElementType.TRANSITION) {
+            return false;
+        }
+        newPuzzleElement = other.newPuzzleElement;
+        return true;
+    }
+
+    /** Undoes the edit data command, restoring the previous state of every puzzle element */
     @SuppressWarnings("unchecked")
     @Override
     public void undoCommand() {
@@ -150,7 +214,6 @@ public class EditDataCommand extends PuzzleCommand {
         Puzzle puzzle = getInstance().getPuzzleModule();
 
         Board board = transition.getBoard();
-        PuzzleElement selectedPuzzleElement = elementView.getPuzzleElement();
 
         if (selectedView.getType() == TreeElementType.NODE) {
             tree.removeTreeElement(transition);
@@ -158,22 +221,51 @@ public class EditDataCommand extends PuzzleCommand {
                     (ITreeListener listener) -> listener.onTreeElementRemoved(transition));
         }
 
-        Board prevBoard = transition.getParents().get(0).getBoard();
+        for (int i = 0; i < puzzleElements.size(); i++) {
+            PuzzleElement puzzleElement = puzzleElements.get(i);
+            puzzleElement.setData(savePuzzleElements.get(i).getData());
+            board.notifyChange(puzzleElement);
+        }
 
-        puzzleElement.setData(savePuzzleElement.getData());
-        board.notifyChange(puzzleElement);
+        updateModifiedData(board);
+        transition.propagateChanges(puzzleElements);
 
-        if (prevBoard.getPuzzleElement(selectedPuzzleElement).equalsData(puzzleElement)) {
-            board.removeModifiedData(puzzleElement);
-        } else {
-            board.addModifiedData(puzzleElement);
+        for (PuzzleElement puzzleElement : puzzleElements) {
+            puzzle.notifyBoardListeners(listener -> listener.onBoardDataChanged(puzzleElement));
         }
-        transition.propagateChange(puzzleElement);
-
-        puzzle.notifyBoardListeners(listener -> listener.onBoardDataChanged(puzzleElement));
 
         final TreeElement finalTreeElement = selection.getFirstSelection().getTreeElement();
         puzzle.notifyBoardListeners(listener -> listener.onTreeElementChanged(finalTreeElement));
         puzzle.notifyTreeListeners(listener -> listener.onTreeSelectionChanged(selection));
     }
+
+    /**
+     * Marks each edited puzzle element as modified if it differs from the parent board of the
+     * transition
+     *
+     * @param board board of the transition
+     */
+    @SuppressWarnings("unchecked")
+    private void updateModifiedData(Board board) {
+        Board prevBoard = transition.getParents().get(0).getBoard();
+        for (PuzzleElement puzzleElement : puzzleElements) {
+            if (prevBoard.getPuzzleElement(puzzleElement).equalsData(puzzleElement)) {
+                board.removeModifiedData(puzzleElement);
+            } else {
+                board.addModifiedData(puzzleElement);
+            }
+        }
+    }
+
+    /**
+     * Estimates the memory held by this command, which is the edited puzzle elements and their
+     * saved copies
+     *
+     * @return estimated size in bytes of this command
+     */
+    @Override
+    public long getRetainedSize() {
+        return History.COMMAND_SIZE
+                + (puzzleElements.size() + savePuzzleElements.size()) * History.ELEMENT_SIZE;
+    }
 }
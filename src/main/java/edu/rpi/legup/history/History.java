@@ -1,8 +1,18 @@
 package edu.rpi.legup.history;
 
 import edu.rpi.legup.app.GameBoardFacade;
+import edu.rpi.legup.app.LegupPreferences;
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.tree.TreeElement;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -10,40 +20,146 @@ import org.apache.logging.log4j.Logger;
  * The History class manages a stack of commands for undo and redo operations on the board and tree
  * structure. It maintains a list of commands and a current index to track the position in the
  * history stack.
+ *
+ * <p>A command that {@link ICommand#coalesce coalesces} with the command on top of the stack is
+ * merged into it instead of being pushed, so a run of edits to the same element takes one entry.
+ * Data edits keep only the elements they change, before and after the edit. Commands that add or
+ * remove tree elements keep those elements, since later commands in the stack refer to the same
+ * nodes and transitions and redo has to put them back as they were.
+ *
+ * <p>The history can be given a memory budget, read from the {@link
+ * LegupPreferences#HISTORY_MEMORY} preference in megabytes. Every command {@link
+ * ICommand#getRetainedSize() estimates} the memory it holds, and once the estimates add up to more
+ * than the budget, the oldest commands are dropped so that what they hold can be freed. By default
+ * there is no budget, so every command can be undone for the whole session.
  */
 public class History {
     private static final Logger LOGGER = LogManager.getLogger(History.class.getName());
 
+    /** Estimated size in bytes of a command apart from the elements it holds */
+    static final long COMMAND_SIZE = 64;
+
+    /** Estimated size in bytes of a puzzle element held by a command */
+    static final long ELEMENT_SIZE = 48;
+
     private final Object lock = new Object();
+    private final long memoryBudget;
     private List<ICommand> history;
+    private List<Long> sizes;
+    private long retainedSize;
     private int curIndex;
 
     /**
      * Constructs a History object to keep track of changes and allow undo and redo operations. The
-     * history is implemented as a stack, with curIndex pointing to the top of the stack.
+     * history is implemented as a stack, with curIndex pointing to the top of the stack. Its memory
+     * budget is read from the user preferences.
      */
     public History() {
+        this(getPreferredMemoryBudget());
+    }
+
+    /**
+     * Constructs a History object that holds commands up to a memory budget
+     *
+     * @param memoryBudget greatest estimated size in bytes of the commands that can be undone, or 0
+     *     for no limit
+     * @throws IllegalArgumentException if the memory budget is negative
+     */
+    public History(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException(
+                    "History memory budget is negative: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
         history = new ArrayList<>();
+        sizes = new ArrayList<>();
+        retainedSize = 0;
         curIndex = -1;
     }
 
+    private static long getPreferredMemoryBudget() {
+        String megabytes =
+                LegupPreferences.getInstance().getUserPref(LegupPreferences.HISTORY_MEMORY);
+        try {
+            return Math.max(0, Long.parseLong(megabytes)) * 1024 * 1024;
+        } catch (NumberFormatException e) {
+            int budget = LegupPreferences.DEFAULT_HISTORY_MEMORY;
+            LOGGER.warn("Invalid history memory " + megabytes + ", using " + budget);
+            return budget * 1024L * 1024L;
+        }
+    }
+
+    /**
+     * Estimates the size in bytes of a board held by a command
+     *
+     * @param board board, or null
+     * @return estimated size of the board
+     */
+    static long estimateSize(Board board) {
+        return board == null ? 0 : board.getPuzzleElements().size() * ELEMENT_SIZE;
+    }
+
+    /**
+     * Estimates the size in bytes of a tree element held by a command, together with the subtree
+     * below it
+     *
+     * @param element tree element, or null
+     * @return estimated size of the boards of the tree element and its subtree
+     */
+    static long estimateSize(TreeElement element) {
+        long size = 0;
+        Deque<TreeElement> elements = new ArrayDeque<>();
+        Set<TreeElement> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (element != null) {
+            elements.push(element);
+        }
+        while (!elements.isEmpty()) {
+            TreeElement next = elements.pop();
+            if (!visited.add(next)) {
+                continue;
+            }
+            size += estimateSize(next.getBoard());
+            if (next instanceof TreeNode) {
+                elements.addAll(((TreeNode) next).getChildren());
+            } else if (((TreeTransition) next).getChildNode() != null) {
+                elements.push(((TreeTransition) next).getChildNode());
+            }
+        }
+        return size;
+    }
+
     /**
      * Pushes a change to the history list and increments the current index. If the current index
      * does not point to the top of the stack, then at least 1 undo operation was called and that
-     * information will be lost by the next change
+     * information will be lost by the next change. If the command coalesces with the command on
+     * top of the stack, it is merged into that command instead. If the commands then hold more
+     * than the memory budget, the oldest commands are dropped.
      *
      * @param command command to be pushed onto the stack
      */
     public void pushChange(ICommand command) {
         synchronized (lock) {
-            if (curIndex < history.size() - 1) {
-                for (int i = history.size() - 1; i > curIndex; i--) {
-                    history.remove(i);
-                }
+            while (curIndex < history.size() - 1) {
+                history.remove(history.size() - 1);
+                retainedSize -= sizes.remove(sizes.size() - 1);
+            }
+            if (curIndex > -1 && history.get(curIndex).coalesce(command)) {
+                long size = history.get(curIndex).getRetainedSize();
+                retainedSize += size - sizes.set(curIndex, size);
+                LOGGER.info("Coalesced " + command.getClass().getSimpleName() + " into stack.");
+            } else {
+                long size = command.getRetainedSize();
+                history.add(command);
+                sizes.add(size);
+                retainedSize += size;
+                curIndex++;
+                LOGGER.info("Pushed " + command.getClass().getSimpleName() + " to stack.");
+            }
+            while (memoryBudget > 0 && retainedSize > memoryBudget && history.size() > 1) {
+                history.remove(0);
+                retainedSize -= sizes.remove(0);
+                curIndex--;
             }
-            history.add(command);
-            curIndex++;
-            LOGGER.info("Pushed " + command.getClass().getSimpleName() + " to stack.");
             GameBoardFacade.getInstance().notifyHistoryListeners(l -> l.onPushChange(command));
         }
     }
@@ -86,6 +202,8 @@ public class History {
     /** Clears all actions from the history stack and resets the current index */
     public void clear() {
         history.clear();
+        sizes.clear();
+        retainedSize = 0;
         curIndex = -1;
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("History Cleared");
@@ -110,4 +228,22 @@ public class History {
     public int size() {
         return history.size();
     }
+
+    /**
+     * Gets the estimated size of the actions on the stack
+     *
+     * @return estimated size in bytes of the actions on the stack
+     */
+    public long getRetainedSize() {
+        return retainedSize;
+    }
+
+    /**
+     * Gets the memory budget of the stack, over which the oldest actions are dropped
+     *
+     * @return memory budget in bytes, or 0 if the stack has no limit
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
 }
@@ -28,4 +28,27 @@ public interface ICommand {
 
     /** Redoes the command. Re-applies the changes made by the execute method after undoing */
     void redo();
+
+    /**
+     * Merges a command that was executed right after this one into this command, so that undoing
+     * this command also undoes the other one. The history calls this instead of pushing the other
+     * command when this command is on top of the stack.
+     *
+     * @param command command executed after this one
+     * @return true if the command was merged into this one, false if it must be pushed separately
+     */
+    default boolean coalesce(ICommand command) {
+        return false;
+    }
+
+    /**
+     * Estimates the memory this command holds on to while it is in the history, so that the
+     * history can drop the oldest commands once they hold more than its budget. Commands that keep
+     * boards or tree elements for undo and redo override this to count them.
+     *
+     * @return estimated size in bytes of this command
+     */
+    default long getRetainedSize() {
+        return History.COMMAND_SIZE;
+    }
 }
@@ -53,7 +53,7 @@ public class MergeCommand extends PuzzleCommand {
 
             mergedNode = new TreeNode(mergedBoard.copy());
             transition = new TreeTransition(mergedBoard);
-            transition.setRule(new MergeRule());
+            transition.setRule(puzzle.getRule(MergeRule.class));
             transition.setChildNode(mergedNode);
             mergedNode.setParent(transition);
         } else {
@@ -66,7 +66,12 @@ public class ValidateCaseRuleCommand extends PuzzleCommand {
                 final TreeNode finalNode = childNode;
                 puzzle.notifyTreeListeners(listener -> listener.onTreeElementAdded(finalNode));
             }
-            transition.getParents().get(0).getChildren().forEach(TreeTransition::reverify);
+            // the case rule checks are done in the background and shown once they are done
+            transition
+                    .getParents()
+                    .get(0)
+                    .getChildren()
+                    .forEach(t -> VerificationService.getInstance().reverify(puzzle, t));
             newSelection.addToSelection(treeView.getElementView(childNode));
         }
 
@@ -125,7 +130,12 @@ public class ValidateCaseRuleCommand extends PuzzleCommand {
             if (addNode.get(transition) != null) {
                 puzzle.notifyTreeListeners(listener -> listener.onTreeElementRemoved(childNode));
             }
-            transition.getParents().get(0).getChildren().forEach(TreeTransition::reverify);
+            // the case rule checks are done in the background and shown once they are done
+            transition
+                    .getParents()
+                    .get(0)
+                    .getChildren()
+                    .forEach(t -> VerificationService.getInstance().reverify(puzzle, t));
         }
 
         final TreeElement finalTreeElement = selection.getFirstSelection().getTreeElement();
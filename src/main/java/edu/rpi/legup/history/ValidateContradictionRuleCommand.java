@@ -66,7 +66,7 @@ public class ValidateContradictionRuleCommand extends PuzzleCommand {
                                     puzzle.notifyTreeListeners(
                                             listener -> listener.onTreeElementRemoved(n)));
 
-            treeNode.getChildren().clear();
+            treeNode.clearChildren();
 
             TreeTransition transition = addTran.get(treeElement);
             if (transition == null) {
@@ -154,12 +154,12 @@ public class ValidateContradictionRuleCommand extends PuzzleCommand {
                             n ->
                                     puzzle.notifyTreeListeners(
                                             listener -> listener.onTreeElementRemoved(n)));
-            node.getChildren().clear();
+            node.clearChildren();
 
             ArrayList<TreeTransition> save = saveElements.get(node);
 
             if (save != null) {
-                node.getChildren().addAll(save);
+                save.forEach(node::addChild);
                 node.getChildren()
                         .forEach(
                                 n ->
@@ -76,6 +76,8 @@ public class ValidateDirectRuleCommand extends PuzzleCommand {
                 puzzle.notifyTreeListeners(listener -> listener.onTreeElementAdded(finalNode));
             }
 
+            VerificationService.getInstance().verify(puzzle, transition);
+
             TreeElementView childView = treeView.getElementView(childNode);
             if (childView == null) {
                 LOGGER.error("Child view is null for child node: " + childNode);
@@ -102,6 +104,7 @@ public class ValidateDirectRuleCommand extends PuzzleCommand {
                 TreeNode childNode = transitionView.getTreeElement().getChildNode();
                 childView = (TreeNodeView) treeView.getElementView(childNode);
                 transitionView.setChildView(childView);
+                treeView.invalidateLayout(transitionView);
             }
             TreeTransition transition = transitionView.getTreeElement();
             if (transition.getParents().get(0).getChildren().isEmpty()) {
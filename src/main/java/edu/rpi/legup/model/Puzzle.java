@@ -14,6 +14,7 @@ import edu.rpi.legup.model.tree.TreeElement;
 import edu.rpi.legup.model.tree.TreeElementType;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.save.InvalidFileFormatException;
+import edu.rpi.legup.save.PuzzleFileReader;
 import edu.rpi.legup.ui.boardview.BoardView;
 import edu.rpi.legup.utility.LegupUtils;
 import java.io.FileInputStream;
@@ -26,14 +27,11 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
 /**
  * Abstract class representing a puzzle. The Puzzle class manages the core components of a puzzle
@@ -50,6 +48,7 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
     protected BoardView boardView;
     protected PuzzleImporter importer;
     protected PuzzleExporter exporter;
+    protected PuzzleGenerator generator;
     protected ElementFactory factory;
 
     private List<IBoardListener> boardListeners;
@@ -60,6 +59,8 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
     protected List<CaseRule> caseRules;
     protected List<PlaceableElement> placeableElements;
 
+    private final RuleRegistry ruleRegistry;
+
     /** Puzzle Constructor - creates a new Puzzle */
     public Puzzle() {
         this.boardListeners = new ArrayList<>();
@@ -70,20 +71,22 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
         this.caseRules = new ArrayList<>();
 
         this.placeableElements = new ArrayList<>();
+        this.ruleRegistry = new RuleRegistry();
 
         registerRules();
         registerPuzzleElements();
     }
 
     /**
-     * Registers puzzle elements from the package of the derived class. Scans for classes annotated
-     * with {@link RegisterElement} and initializes them.
+     * Registers puzzle elements from the package of the derived class. Looks up the classes of the
+     * package in the registry index, and initializes the ones annotated with {@link
+     * RegisterElement}.
      */
     private void registerPuzzleElements() {
         String packageName = this.getClass().getPackage().toString().replace("package ", "");
 
         try {
-            Class[] possElements = LegupUtils.getClasses(packageName);
+            Class[] possElements = LegupUtils.getRegisteredClasses(packageName);
 
             for (Class c : possElements) {
 
@@ -126,14 +129,14 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
     }
 
     /**
-     * Registers rules from the package of the derived class. Scans for classes annotated with
-     * {@link RegisterRule} and initializes them.
+     * Registers rules from the package of the derived class. Looks up the classes of the package in
+     * the registry index, and initializes the ones annotated with {@link RegisterRule}.
      */
     private void registerRules() {
         String packageName = this.getClass().getPackage().toString().replace("package ", "");
 
         try {
-            Class[] possRules = LegupUtils.getClasses(packageName);
+            Class[] possRules = LegupUtils.getRegisteredClasses(packageName);
 
             for (Class c : possRules) {
 
@@ -149,9 +152,8 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
                 for (Annotation a : c.getAnnotations()) {
                     if (a.annotationType() == RegisterRule.class) {
                         RegisterRule registerRule = (RegisterRule) a;
-                        Constructor<?> cons = c.getConstructor();
                         try {
-                            Rule rule = (Rule) cons.newInstance();
+                            Rule rule = ruleRegistry.get(c);
 
                             switch (rule.getRuleType()) {
                                 case BASIC:
@@ -168,9 +170,8 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
                                 default:
                                     break;
                             }
-                        } catch (InvocationTargetException e) {
-                            LOGGER.error("    Failed ");
-                            e.getTargetException().printStackTrace();
+                        } catch (IllegalArgumentException e) {
+                            LOGGER.error("    Failed ", e);
                         }
                     }
                 }
@@ -187,7 +188,8 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
      * Generates a random edu.rpi.legup.puzzle based on the difficulty
      *
      * @param difficulty level of difficulty (1-10)
-     * @return board of the random edu.rpi.legup.puzzle
+     * @return board of the random edu.rpi.legup.puzzle, or null if this puzzle type has no {@link
+     *     PuzzleGenerator}
      */
     public abstract Board generatePuzzle(int difficulty);
 
@@ -230,9 +232,9 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
                     if (!node.isRoot()) {
                         isComplete &=
                                 node.getParent().isContradictoryBranch()
-                                        || isBoardComplete(node.getBoard());
+                                        || isNodeBoardComplete(node);
                     } else {
-                        isComplete &= isBoardComplete(node.getBoard());
+                        isComplete &= isNodeBoardComplete(node);
                     }
                 } else {
                     isComplete = false;
@@ -250,6 +252,38 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
      */
     public abstract boolean isBoardComplete(Board board);
 
+    /**
+     * Determines if the board of a leaf node is a valid state, reusing the result of the last check
+     * if the board has not changed since then
+     *
+     * @param node leaf node whose board to check
+     * @return true if the board of the node is valid, false otherwise
+     */
+    private boolean isNodeBoardComplete(TreeNode node) {
+        Boolean isComplete = node.getCachedBoardComplete();
+        if (isComplete == null) {
+            isComplete = isBoardCompleteAnalyzed(node.getBoard());
+            node.setCachedBoardComplete(isComplete);
+        }
+        return isComplete;
+    }
+
+    /**
+     * Determines if the board is a valid state inside of a single analysis pass, so that facts
+     * about the board are shared by all of the contradiction rules that check it
+     *
+     * @param board board to check for validity
+     * @return true if board is valid, false otherwise
+     */
+    private boolean isBoardCompleteAnalyzed(Board board) {
+        board.beginAnalysis();
+        try {
+            return isBoardComplete(board);
+        } finally {
+            board.endAnalysis();
+        }
+    }
+
     /**
      * Callback for when the board puzzleElement changes
      *
@@ -281,10 +315,8 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
     public void importPuzzle(InputStream inputStream) throws InvalidFileFormatException {
         Document document;
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            document = builder.parse(inputStream);
-        } catch (IOException | SAXException | ParserConfigurationException e) {
+            document = PuzzleFileReader.readPuzzleDocument(inputStream);
+        } catch (IOException | XMLStreamException e) {
             LOGGER.error("Importing puzzle error", e);
             throw new InvalidFileFormatException("Could not find file");
         }
@@ -320,6 +352,15 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
         return exporter;
     }
 
+    /**
+     * Gets the generator for creating random puzzles of this type
+     *
+     * @return puzzle generator, or null if this puzzle type cannot be generated
+     */
+    public PuzzleGenerator getGenerator() {
+        return generator;
+    }
+
     /**
      * Gets the name of the edu.rpi.legup.puzzle
      *
@@ -473,6 +514,19 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
         caseRules.remove(rule);
     }
 
+    /**
+     * Gets this puzzle's instance of a rule class, creating it on first use. Rules that the puzzle
+     * registers are the same instances that its rule lists hold.
+     *
+     * @param ruleClass class of the rule
+     * @param <T> type of the rule
+     * @return this puzzle's instance of the rule
+     * @throws IllegalArgumentException if the rule cannot be instantiated
+     */
+    public <T extends Rule> T getRule(Class<T> ruleClass) {
+        return ruleRegistry.get(ruleClass);
+    }
+
     /**
      * Gets the rule using the specified name
      *
@@ -495,7 +549,7 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
                 return rule;
             }
         }
-        Rule mergeRule = new MergeRule();
+        Rule mergeRule = getRule(MergeRule.class);
         if (mergeRule.getRuleName().equals(name)) {
             return mergeRule;
         }
@@ -524,7 +578,7 @@ public abstract class Puzzle implements IBoardSubject, ITreeSubject {
                 return rule;
             }
         }
-        Rule mergeRule = new MergeRule();
+        Rule mergeRule = getRule(MergeRule.class);
         if (mergeRule.getRuleID().equals(id)) {
             return mergeRule;
         }
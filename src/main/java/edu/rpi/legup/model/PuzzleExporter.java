@@ -5,19 +5,24 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.save.ExportFileException;
-import java.io.File;
+import edu.rpi.legup.save.PuzzleFileReader;
+import edu.rpi.legup.save.PuzzleFileWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.*;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.XMLStreamException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
@@ -85,64 +90,129 @@ public abstract class PuzzleExporter {
     }
 
     /**
-     * Exports the puzzle to an xml formatted file
+     * Exports the puzzle to an xml formatted file. The board is created as a DOM element by the
+     * subclass, while the proof tree is streamed to a temporary file next to the target, which
+     * replaces the target only once the whole puzzle has been written. A failed export leaves an
+     * existing file unchanged.
      *
      * @param fileName name of file to be exported
      * @throws ExportFileException if puzzle can not be exported
      */
     public void exportPuzzle(String fileName) throws ExportFileException {
+        // quick patch for ParserConfigurationException thrown
+        // when a double quote is placed in the file name
+        fileName = fileName.replace("\"", "");
+
+        Document newDocument;
+        try {
+            newDocument = PuzzleFileReader.getDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new ExportFileException("Puzzle Exporter: parser configuration exception");
+        }
+        Element boardElement = createBoardElement(newDocument);
+
+        LocalDateTime dateTime = LocalDateTime.now(ZoneId.of("America/New_York"));
+        String time = dateTime.format(DATE_FORMAT);
+        // hash is based on the time. Theoretically, if two students complete
+        // the puzzle at the exact same time, then they will have the same hash.
+        int hashedState = obfHash(puzzle.isPuzzleComplete(), time);
+
+        Path target;
+        Path tempFile;
+        try {
+            target = Paths.get(fileName).toAbsolutePath();
+            tempFile =
+                    Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        } catch (IOException | RuntimeException e) {
+            throw new ExportFileException("Puzzle Exporter: unable to write " + fileName);
+        }
+
+        boolean isSaved = false;
         try {
-            // quick patch for ParserConfigurationException thrown
-            // when a double quote is placed in the file name
-            fileName = fileName.replace("\"", "");
-
-            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-            Document newDocument = docBuilder.newDocument();
-
-            org.w3c.dom.Element legupElement = newDocument.createElement("Legup");
-            legupElement.setAttribute("version", VersionInfo.getVersion());
-            newDocument.appendChild(legupElement);
-
-            org.w3c.dom.Element puzzleElement = newDocument.createElement("puzzle");
-            String idStr =
-                    puzzle.getTag().isEmpty()
-                            ? fileName.substring(fileName.lastIndexOf("\\") + 1)
-                            : puzzle.getTag();
-            puzzleElement.setAttribute("tag", idStr);
-            puzzleElement.setAttribute("name", puzzle.getName());
-            legupElement.appendChild(puzzleElement);
-
-            puzzleElement.appendChild(createBoardElement(newDocument));
-            if (puzzle.getTree() != null
-                    && !puzzle.getTree().getRootNode().getChildren().isEmpty()) {
-                puzzleElement.appendChild(createProofElement(newDocument));
+            try (OutputStream outputStream =
+                            new BufferedOutputStream(Files.newOutputStream(tempFile));
+                    PuzzleFileWriter writer = new PuzzleFileWriter(outputStream)) {
+                writer.startDocument();
+                writer.startElement("Legup");
+                writer.attribute("version", VersionInfo.getVersion());
+
+                writer.startElement("puzzle");
+                String idStr =
+                        puzzle.getTag().isEmpty()
+                                ? fileName.substring(fileName.lastIndexOf("\\") + 1)
+                                : puzzle.getTag();
+                writer.attribute("name", puzzle.getName());
+                writer.attribute("tag", idStr);
+                writer.writeElement(boardElement);
+                if (puzzle.getTree() != null
+                        && !puzzle.getTree().getRootNode().getChildren().isEmpty()) {
+                    writeProof(writer, newDocument);
+                }
+                writer.endElement();
+
+                writer.startElement("solved");
+                writer.attribute("isSolved", hashedState + "");
+                writer.attribute("lastSaved", time);
+                writer.endElement();
+
+                writer.endDocument();
+            }
+            copyPermissions(target, tempFile);
+            moveOver(tempFile, target);
+            isSaved = true;
+        } catch (IOException | XMLStreamException e) {
+            throw new ExportFileException("Puzzle Exporter: unable to write " + fileName);
+        } finally {
+            if (!isSaved) {
+                deleteTempFile(tempFile);
             }
+        }
+    }
 
-            org.w3c.dom.Element statusElement = newDocument.createElement("solved");
-            LocalDateTime dateTime = LocalDateTime.now(ZoneId.of("America/New_York"));
-            String time = dateTime.format(DATE_FORMAT);
-            statusElement.setAttribute("lastSaved", time);
-            // hash is based on the time. Theoretically, if two students complete
-            // the puzzle at the exact same time, then they will have the same hash.
-            int hashedState = obfHash(puzzle.isPuzzleComplete(), time);
-            statusElement.setAttribute("isSolved", hashedState + "");
-            legupElement.appendChild(statusElement);
-
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-
-            DOMSource source = new DOMSource(newDocument);
-            StreamResult result = new StreamResult(new File(fileName));
-
-            transformer.transform(source, result);
-        } catch (ParserConfigurationException | TransformerException e) {
-            throw new ExportFileException("Puzzle Exporter: parser configuration exception");
-        } catch (Exception e) {
-            throw e;
-            // throw new ExportFileException(e.getMessage());
+    /**
+     * Gives a new file the POSIX permissions of the file it replaces, since the temporary file is
+     * only readable and writable by its owner. Nothing is copied if the file does not exist yet or
+     * the file system has no POSIX permissions.
+     *
+     * @param target file that is replaced
+     * @param source file that replaces the target
+     */
+    private static void copyPermissions(Path target, Path source) {
+        if (!Files.exists(target)
+                || !target.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(source, Files.getPosixFilePermissions(target));
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Unable to keep the permissions of " + target);
+        }
+    }
+
+    /**
+     * Replaces a file with another one, atomically where the file system supports it
+     *
+     * @param source file that replaces the target
+     * @param target file that is replaced
+     * @throws IOException if the file cannot be moved
+     */
+    private static void moveOver(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete temporary file " + tempFile);
         }
     }
 
@@ -156,68 +226,68 @@ public abstract class PuzzleExporter {
     protected abstract Element createBoardElement(Document newDocument);
 
     /**
-     * Creates an XML element representing the proof of the puzzle, including its tree structure.
-     * This method is used to generate the proof section of the XML, which contains the tree
-     * representation.
+     * Writes the proof of the puzzle, including its tree structure
      *
-     * @param newDocument The XML document to create elements within.
-     * @return An XML element representing the proof of the puzzle.
+     * @param writer writer of the puzzle file
+     * @param newDocument document used to create the elements of the changed cells
+     * @throws XMLStreamException if the proof cannot be written
      */
-    protected Element createProofElement(Document newDocument) {
-        org.w3c.dom.Element proofElement = newDocument.createElement("proof");
-        org.w3c.dom.Element treeElement = createTreeElement(newDocument);
-        proofElement.appendChild(treeElement);
-        return proofElement;
+    protected void writeProof(PuzzleFileWriter writer, Document newDocument)
+            throws XMLStreamException {
+        writer.startElement("proof");
+        writeTree(writer, newDocument);
+        writer.endElement();
     }
 
     /**
-     * Creates an XML element representing the tree structure of the puzzle. This method traverses
-     * the tree nodes and transitions, and creates XML elements for each.
+     * Writes the tree structure of the puzzle. This method traverses the tree nodes and
+     * transitions, and writes an element for each.
      *
-     * @param newDocument The XML document to create elements within.
-     * @return An XML element representing the puzzle's tree structure.
+     * @param writer writer of the puzzle file
+     * @param newDocument document used to create the elements of the changed cells
+     * @throws XMLStreamException if the tree cannot be written
      */
-    protected Element createTreeElement(Document newDocument) {
-        org.w3c.dom.Element treeElement = newDocument.createElement("tree");
+    protected void writeTree(PuzzleFileWriter writer, Document newDocument)
+            throws XMLStreamException {
+        writer.startElement("tree");
 
         Set<TreeNode> visited = new HashSet<>();
         List<TreeNode> nodes = new ArrayList<>();
         nodes.add(puzzle.getTree().getRootNode());
         while (!nodes.isEmpty()) {
-            TreeNode treeNode = nodes.get(nodes.size() - 1);
-            nodes.remove(treeNode);
+            TreeNode treeNode = nodes.remove(nodes.size() - 1);
             if (!visited.contains(treeNode)) {
                 visited.add(treeNode);
 
-                org.w3c.dom.Element nodeElement = newDocument.createElement("node");
-                nodeElement.setAttribute("id", String.valueOf(treeNode.hashCode()));
+                writer.startElement("node");
+                writer.attribute("id", String.valueOf(treeNode.hashCode()));
                 if (treeNode.isRoot()) {
-                    nodeElement.setAttribute("root", "true");
+                    writer.attribute("root", "true");
                 }
 
                 for (TreeTransition transition : treeNode.getChildren()) {
-                    org.w3c.dom.Element transElement = newDocument.createElement("transition");
-                    transElement.setAttribute("id", String.valueOf(transition.hashCode()));
+                    writer.startElement("transition");
+                    writer.attribute("id", String.valueOf(transition.hashCode()));
 
                     TreeNode child = transition.getChildNode();
                     if (child != null) {
-                        transElement.setAttribute("child", String.valueOf(child.hashCode()));
+                        writer.attribute("child", String.valueOf(child.hashCode()));
                         nodes.add(child);
                     }
 
                     if (transition.isJustified()) {
-                        transElement.setAttribute("rule", transition.getRule().getRuleName());
-                        transElement.setAttribute("rule_id", transition.getRule().getRuleID());
+                        writer.attribute("rule", transition.getRule().getRuleName());
+                        writer.attribute("rule_id", transition.getRule().getRuleID());
                     }
 
                     for (PuzzleElement data : transition.getBoard().getModifiedData()) {
-                        transElement.appendChild(puzzle.getFactory().exportCell(newDocument, data));
+                        writer.writeElement(puzzle.getFactory().exportCell(newDocument, data));
                     }
-                    nodeElement.appendChild(transElement);
+                    writer.endElement();
                 }
-                treeElement.appendChild(nodeElement);
+                writer.endElement();
             }
         }
-        return treeElement;
+        writer.endElement();
     }
 }
@@ -0,0 +1,362 @@
+package edu.rpi.legup.model;
+
+import edu.rpi.legup.model.gameboard.Board;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Abstract class for generating random puzzles that have exactly one solution. A puzzle is
+ * generated by filling in a random solution and then removing clues in random order for as long as
+ * the puzzle stays uniquely solvable. Uniqueness and difficulty are checked with a small search
+ * over the values of the cells, stored as plain int arrays, for which subclasses supply the
+ * constraint propagation of their puzzle. This is much faster than checking them with the rules of
+ * the puzzle, which is what makes generating large batches practical.
+ *
+ * <p>Generating is deterministic: the same seed always gives the same puzzle, and a batch
+ * generated from a seed gives the same puzzles in the same order no matter how many threads are
+ * used. Subclasses must therefore not keep any state between calls, so that a single generator
+ * can be used from several threads.
+ *
+ * <p>Only Sudoku ({@code SudokuGenerator}) and Binary ({@code BinaryGenerator}) puzzles have a
+ * generator. Their puzzles are solved by giving a value to every cell, and the clues are a subset
+ * of those values, which is what this class assumes. The other puzzle types do not fit it. Their
+ * clues are not cell values of the solution, like the edge clues of Skyscrapers or the trees and
+ * counts of TreeTent, or their constraints, like the islands of Nurikabe, need a different search
+ * to propagate. Those types have no generator: {@link Puzzle#getGenerator()} returns null and
+ * {@link Puzzle#generatePuzzle(int)} still returns null.
+ */
+public abstract class PuzzleGenerator {
+    public static final int MIN_DIFFICULTY = 1;
+    public static final int MAX_DIFFICULTY = 10;
+
+    /** Value of a cell that is not known */
+    protected static final int UNKNOWN = -1;
+
+    // puzzles up to this difficulty can be solved without guessing
+    private static final int MAX_EASY_DIFFICULTY = 4;
+    // puzzles from this difficulty on cannot be solved without guessing
+    private static final int MIN_HARD_DIFFICULTY = 7;
+    private static final int MAX_ATTEMPTS = 32;
+    private static final int MAX_SEARCH_NODES = 100_000;
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Generates a random puzzle
+     *
+     * @param difficulty level of difficulty, from {@value #MIN_DIFFICULTY} to {@value
+     *     #MAX_DIFFICULTY}
+     * @param seed seed of the random puzzle
+     * @return the board of the puzzle, or null if no puzzle of that difficulty was found
+     * @throws IllegalArgumentException if the difficulty is out of range
+     */
+    public Board generate(int difficulty, long seed) {
+        checkDifficulty(difficulty);
+        Random random = new Random(seed);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int[] cells = new int[getCellCount()];
+            Arrays.fill(cells, UNKNOWN);
+            int[] solution = new Search().solveRandomly(cells, random);
+            if (solution == null) {
+                continue;
+            }
+            int[] clues = removeClues(solution, difficulty, random);
+            if (clues != null) {
+                return createBoard(clues);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generates a batch of random puzzles in parallel. The puzzle at each position of the batch
+     * only depends on the seed and the position, so a batch can be reproduced, or extended by
+     * generating a larger batch from the same seed.
+     *
+     * @param difficulty level of difficulty, from {@value #MIN_DIFFICULTY} to {@value
+     *     #MAX_DIFFICULTY}
+     * @param seed seed of the batch
+     * @param count number of puzzles to generate
+     * @param threadCount number of puzzles that may be generated at the same time
+     * @return the boards of the puzzles in order, with null for each puzzle that was not found
+     * @throws IllegalArgumentException if the difficulty, count or thread count is out of range
+     */
+    public List<Board> generate(int difficulty, long seed, int count, int threadCount) {
+        checkDifficulty(difficulty);
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Board>> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long puzzleSeed = seed + i * SEED_INCREMENT;
+                results.add(executor.submit(() -> generate(difficulty, puzzleSeed)));
+            }
+            executor.shutdown();
+
+            List<Board> boards = new ArrayList<>(count);
+            for (Future<Board> result : results) {
+                boards.add(awaitBoard(result));
+            }
+            return boards;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the number of cells of the generated puzzles
+     *
+     * @return the number of cells
+     */
+    protected abstract int getCellCount();
+
+    /**
+     * Sets the values of the cells that follow from the values that are known, until no more
+     * values follow or a constraint of the puzzle is broken. When every cell is known, this must
+     * return false unless the cells are a solution of the puzzle.
+     *
+     * @param cells values of the cells, with {@link #UNKNOWN} for the cells that are not known
+     * @return false if a constraint is broken, true otherwise
+     */
+    protected abstract boolean propagate(int[] cells);
+
+    /**
+     * Gets the values that a cell that is not known could still have
+     *
+     * @param cells values of the cells, as left by {@link #propagate(int[])}
+     * @param index index of a cell that is not known
+     * @return the possible values of the cell
+     */
+    protected abstract int[] getOptions(int[] cells, int index);
+
+    /**
+     * Creates the board of a generated puzzle
+     *
+     * @param clues values of the cells, with {@link #UNKNOWN} for the cells that are not given
+     * @return the board of the puzzle
+     */
+    protected abstract Board createBoard(int[] clues);
+
+    /**
+     * Chooses the cell that the search guesses the value of next. The default is the cell that
+     * has the fewest possible values.
+     *
+     * @param cells values of the cells, as left by {@link #propagate(int[])}
+     * @return index of the cell, or -1 if every cell is known
+     */
+    protected int chooseCell(int[] cells) {
+        int best = -1;
+        int bestCount = Integer.MAX_VALUE;
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == UNKNOWN) {
+                int count = getOptions(cells, i).length;
+                if (count < bestCount) {
+                    best = i;
+                    bestCount = count;
+                    if (count <= 1) {
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Removes clues from a solution in random order while the puzzle stays uniquely solvable. The
+     * difficulty decides how many clues are removed, whether the puzzle must be solvable by
+     * propagation alone, and whether it must need guessing.
+     *
+     * @param solution values of every cell
+     * @param difficulty level of difficulty
+     * @param random source of the order in which clues are removed
+     * @return the clues, or null if the clues do not match the difficulty
+     */
+    private int[] removeClues(int[] solution, int difficulty, Random random) {
+        int[] clues = solution.clone();
+        int[] order = new int[clues.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        shuffle(order, random);
+
+        int target = clues.length * (30 + 6 * difficulty) / 100;
+        int removed = 0;
+        for (int i = 0; i < order.length && removed < target; i++) {
+            int index = order[i];
+            int value = clues[index];
+            clues[index] = UNKNOWN;
+
+            Search search = new Search();
+            if (search.countSolutions(clues, 2) == 1
+                    && (difficulty > MAX_EASY_DIFFICULTY || search.guesses == 0)) {
+                removed++;
+            } else {
+                clues[index] = value;
+            }
+        }
+
+        if (difficulty >= MIN_HARD_DIFFICULTY) {
+            Search search = new Search();
+            search.countSolutions(clues, 2);
+            if (search.guesses == 0) {
+                return null;
+            }
+        }
+        return clues;
+    }
+
+    /**
+     * Waits for a puzzle of a batch to be generated
+     *
+     * @param result pending board
+     * @return the board
+     */
+    private static Board awaitBoard(Future<Board> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Puzzle generation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Puzzle generation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Checks that the difficulty is in range
+     *
+     * @param difficulty level of difficulty
+     * @throws IllegalArgumentException if the difficulty is out of range
+     */
+    private static void checkDifficulty(int difficulty) {
+        if (difficulty < MIN_DIFFICULTY || difficulty > MAX_DIFFICULTY) {
+            throw new IllegalArgumentException(
+                    "Difficulty must be between "
+                            + MIN_DIFFICULTY
+                            + " and "
+                            + MAX_DIFFICULTY);
+        }
+    }
+
+    /**
+     * Shuffles the values in place
+     *
+     * @param values the values to shuffle
+     * @param random source of the order
+     */
+    private static void shuffle(int[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Search is a single depth first search over the values of the cells. It gives up after
+     * {@value #MAX_SEARCH_NODES} nodes, so that a puzzle whose propagation is too weak cannot
+     * stall the generator; a search that gave up never counts a puzzle as uniquely solvable.
+     */
+    private final class Search {
+        private int nodes;
+        private int guesses;
+        private boolean isAborted;
+
+        /**
+         * Finds a solution, trying the values of each cell in random order
+         *
+         * @param cells values of the cells, which are not changed
+         * @param random source of the order of the values
+         * @return a solution, or null if none was found
+         */
+        int[] solveRandomly(int[] cells, Random random) {
+            int[] current = visit(cells);
+            if (current == null) {
+                return null;
+            }
+            int index = chooseCell(current);
+            if (index < 0) {
+                return current;
+            }
+
+            int[] options = getOptions(current, index);
+            shuffle(options, random);
+            for (int option : options) {
+                current[index] = option;
+                int[] solution = solveRandomly(current, random);
+                if (solution != null) {
+                    return solution;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Counts the solutions, but stops once the limit is reached. The number of guesses that
+         * were needed is kept in {@link #guesses}.
+         *
+         * @param cells values of the cells, which are not changed
+         * @param limit number of solutions to stop at
+         * @return the number of solutions, or the limit if there are at least that many or the
+         *     search gave up
+         */
+        int countSolutions(int[] cells, int limit) {
+            int[] current = visit(cells);
+            if (isAborted) {
+                return limit;
+            }
+            if (current == null) {
+                return 0;
+            }
+            int index = chooseCell(current);
+            if (index < 0) {
+                return 1;
+            }
+
+            int[] options = getOptions(current, index);
+            if (options.length > 1) {
+                guesses++;
+            }
+            int count = 0;
+            for (int option : options) {
+                current[index] = option;
+                count += countSolutions(current, limit - count);
+                if (count >= limit || isAborted) {
+                    return limit;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Propagates a copy of the cells
+         *
+         * @param cells values of the cells, which are not changed
+         * @return the propagated copy, or null if a constraint is broken or the search gave up
+         */
+        private int[] visit(int[] cells) {
+            if (++nodes > MAX_SEARCH_NODES) {
+                isAborted = true;
+                return null;
+            }
+            int[] current = cells.clone();
+            return propagate(current) ? current : null;
+        }
+    }
+}
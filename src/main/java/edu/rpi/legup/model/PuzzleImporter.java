@@ -237,7 +237,7 @@ public abstract class PuzzleImporter {
 
         HashMap<String, TreeNode> treeNodes = new HashMap<>();
         HashMap<String, TreeTransition> treeTransitions = new HashMap<>();
-        HashMap<TreeTransition, Node> nodeChanges = new HashMap<>();
+        Map<TreeTransition, Node> nodeChanges = new LinkedHashMap<>();
 
         for (int i = 0; i < nodeList.getLength(); i++) {
             org.w3c.dom.Element treeNodeElement = (org.w3c.dom.Element) nodeList.item(i);
@@ -315,9 +315,151 @@ public abstract class PuzzleImporter {
 
         // validateTreeStructure(treeNodes, treeTransitions);
         System.err.println("Tree Size: " + treeTransitions.size());
-        for (Map.Entry<TreeTransition, Node> entry : nodeChanges.entrySet()) {
-            makeTransitionChanges(entry.getKey(), entry.getValue());
+        replayTransitions(nodeChanges);
+    }
+
+    /**
+     * Applies the changes of every transition to the tree at once. Transitions are replayed in
+     * topological order, so every transition starts from the finished board of its parent node and
+     * each change only updates the transition and its child node instead of the whole sub tree
+     * below it. The rules are verified once per transition after the whole tree has been built.
+     * Transitions that cannot be reached from a node without a parent, which only happens in
+     * malformed files, are applied one change at a time by {@link #makeTransitionChanges}.
+     *
+     * @param transitionChanges map of each transition to the XML node containing its changes, in
+     *     file order
+     * @throws InvalidFileFormatException if the XML node format is incorrect or unknown nodes are
+     *     encountered
+     */
+    protected void replayTransitions(Map<TreeTransition, Node> transitionChanges)
+            throws InvalidFileFormatException {
+        List<TreeTransition> order = sortTransitions(transitionChanges.keySet());
+        Map<TreeNode, List<PuzzleElement>> nodeChanges = new HashMap<>();
+        Map<TreeNode, Board> headBoards = new HashMap<>();
+        for (TreeTransition transition : order) {
+            replayTransition(
+                    transition, transitionChanges.get(transition), nodeChanges, headBoards);
+        }
+
+        if (order.size() != transitionChanges.size()) {
+            Set<TreeTransition> replayed = new HashSet<>(order);
+            for (Map.Entry<TreeTransition, Node> entry : transitionChanges.entrySet()) {
+                if (!replayed.contains(entry.getKey())) {
+                    makeTransitionChanges(entry.getKey(), entry.getValue());
+                    order.add(entry.getKey());
+                }
+            }
+        }
+
+        for (TreeTransition transition : order) {
+            transition.reverify();
+        }
+    }
+
+    /**
+     * Applies the changes of a single transition once the boards of all of its parent nodes are
+     * finished
+     *
+     * @param transition the transition to apply the changes to
+     * @param transElement the XML node containing the transition data
+     * @param nodeChanges map of each finished node to the changes made to it by its ancestors,
+     *     which receives the changes made to the child node of the transition
+     * @param headBoards map of each finished node to the board of the root it descends from
+     *     through first parents, which receives the child node of the transition
+     * @throws InvalidFileFormatException if the XML node format is incorrect or unknown nodes are
+     *     encountered
+     */
+    private void replayTransition(
+            TreeTransition transition,
+            Node transElement,
+            Map<TreeNode, List<PuzzleElement>> nodeChanges,
+            Map<TreeNode, Board> headBoards)
+            throws InvalidFileFormatException {
+        List<PuzzleElement> childChanges = new ArrayList<>();
+        TreeNode childNode = transition.getChildNode();
+        // nodes without a finished parent transition are roots and are their own head
+        TreeNode firstParent = transition.getParents().get(0);
+        Board headBoard = headBoards.computeIfAbsent(firstParent, TreeNode::getBoard);
+        if (transition.getRule() instanceof MergeRule) {
+            makeTransitionChanges(transition, transElement);
+            if (childNode != null) {
+                // the merged board only merges the indexed elements of the boards
+                for (TreeNode parent : transition.getParents()) {
+                    for (PuzzleElement element : nodeChanges.getOrDefault(parent, List.of())) {
+                        if (element.getIndex() >= 0) {
+                            childChanges.add(childNode.getBoard().getPuzzleElement(element));
+                        }
+                    }
+                }
+            }
+        } else {
+            // bring the transition up to date with the finished parent node first
+            Board childHeadBoard = childNode == null ? null : headBoard;
+            for (PuzzleElement element : nodeChanges.getOrDefault(firstParent, List.of())) {
+                childChanges.add(transition.applyChange(element.copy(), childHeadBoard));
+            }
+
+            NodeList cellList = transElement.getChildNodes();
+            for (int i = 0; i < cellList.getLength(); i++) {
+                Node node = cellList.item(i);
+                List<String> elements = getImporterElements();
+                if (elements.contains(node.getNodeName().toLowerCase())) {
+                    Board board = transition.getBoard();
+                    PuzzleElement cell = puzzle.getFactory().importCell(node, board);
+
+                    board.setPuzzleElement(cell.getIndex(), cell);
+                    board.addModifiedData(cell);
+                    childChanges.add(transition.applyChange(cell, childHeadBoard));
+                } else {
+                    if (!node.getNodeName().equalsIgnoreCase("#text")) {
+                        throw new InvalidFileFormatException(
+                                "Proof Tree construction error: unknown node in transition");
+                    }
+                }
+            }
+        }
+
+        if (childNode != null) {
+            nodeChanges.put(childNode, childChanges);
+            headBoards.put(childNode, headBoard);
+        }
+    }
+
+    /**
+     * Sorts the transitions so that every transition comes after the transitions leading to all of
+     * its parent nodes
+     *
+     * @param transitions transitions to sort
+     * @return the transitions that can be reached from a node without a parent, in topological
+     *     order
+     */
+    private static List<TreeTransition> sortTransitions(Collection<TreeTransition> transitions) {
+        Deque<TreeNode> readyNodes = new ArrayDeque<>();
+        Set<TreeNode> visited = new HashSet<>();
+        for (TreeTransition transition : transitions) {
+            for (TreeNode parent : transition.getParents()) {
+                if (parent.getParent() == null && visited.add(parent)) {
+                    readyNodes.add(parent);
+                }
+            }
+        }
+
+        List<TreeTransition> order = new ArrayList<>();
+        Map<TreeTransition, Integer> readyParents = new HashMap<>();
+        while (!readyNodes.isEmpty()) {
+            TreeNode node = readyNodes.poll();
+            for (TreeTransition transition : node.getChildren()) {
+                int ready = readyParents.merge(transition, 1, Integer::sum);
+                if (ready == transition.getParents().size()) {
+                    order.add(transition);
+                    TreeNode child = transition.getChildNode();
+                    if (child != null && visited.add(child)) {
+                        readyNodes.add(child);
+                    }
+                }
+            }
         }
+        return order;
     }
 
     protected void validateTreeStructure(
@@ -39,12 +39,11 @@ public abstract class Element {
         this.description = description;
         this.imageName = imageName;
         this.INVALID_USE_MESSAGE = "Invalid use of the rule " + this.elementName;
-        loadImage();
     }
 
     /**
      * Loads the image for the element and resizes it to a width of 100 pixels while maintaining
-     * aspect ratio
+     * aspect ratio. Called the first time the image is requested.
      */
     private void loadImage() {
         if (imageName != null) {
@@ -110,7 +109,10 @@ public abstract class Element {
      *
      * @return The ImageIcon for the element
      */
-    public ImageIcon getImageIcon() {
+    public synchronized ImageIcon getImageIcon() {
+        if (image == null) {
+            loadImage();
+        }
         return image;
     }
 
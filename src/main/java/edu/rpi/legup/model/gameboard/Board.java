@@ -1,25 +1,36 @@
 package edu.rpi.legup.model.gameboard;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Abstract class representing a game board. This class provides functionality for managing puzzle
  * elements, tracking modifications, and determining if the board is modifiable.
  */
 public abstract class Board {
+    private static final AtomicLong VERSIONS = new AtomicLong();
 
     protected List<PuzzleElement> puzzleElements;
     protected Set<PuzzleElement> modifiedData;
     protected boolean isModifiable;
+    private volatile long version;
+
+    private final Map<Function<?, ?>, Object> analyses = new HashMap<>();
+    private int analysisDepth;
+    private long analysisVersion;
 
     /** Board Constructor creates an empty board. */
     public Board() {
         this.puzzleElements = new ArrayList<>();
         this.modifiedData = new HashSet<>();
         this.isModifiable = true;
+        this.version = VERSIONS.incrementAndGet();
     }
 
     /**
@@ -57,6 +68,8 @@ public abstract class Board {
     public void setPuzzleElement(int index, PuzzleElement puzzleElement) {
         if (index < puzzleElements.size()) {
             puzzleElements.set(index, puzzleElement);
+            trackElement(puzzleElement);
+            markChanged();
         }
     }
 
@@ -85,6 +98,11 @@ public abstract class Board {
      */
     public void setPuzzleElements(List<PuzzleElement> puzzleElements) {
         this.puzzleElements = puzzleElements;
+        // packed cells are tracked as they are created
+        if (!(puzzleElements instanceof PackedCellList)) {
+            puzzleElements.forEach(this::trackElement);
+        }
+        markChanged();
     }
 
     /**
@@ -131,6 +149,7 @@ public abstract class Board {
     public void addModifiedData(PuzzleElement puzzleElement) {
         modifiedData.add(puzzleElement);
         puzzleElement.setModified(true);
+        markChanged();
     }
 
     /**
@@ -141,6 +160,7 @@ public abstract class Board {
     public void removeModifiedData(PuzzleElement data) {
         modifiedData.remove(data);
         data.setModified(false);
+        markChanged();
     }
 
     /**
@@ -152,6 +172,8 @@ public abstract class Board {
     @SuppressWarnings("unchecked")
     public void notifyChange(PuzzleElement puzzleElement) {
         puzzleElements.set(puzzleElement.getIndex(), puzzleElement);
+        trackElement(puzzleElement);
+        markChanged();
     }
 
     /**
@@ -160,7 +182,9 @@ public abstract class Board {
      *
      * @param puzzleElement equivalent puzzle element with the data.
      */
-    public void notifyAddition(PuzzleElement puzzleElement) {}
+    public void notifyAddition(PuzzleElement puzzleElement) {
+        markChanged();
+    }
 
     /**
      * Called when a {@link PuzzleElement} has been deleted and passes in the equivalent puzzle
@@ -168,7 +192,91 @@ public abstract class Board {
      *
      * @param puzzleElement equivalent puzzle element with the data.
      */
-    public void notifyDeletion(PuzzleElement puzzleElement) {}
+    public void notifyDeletion(PuzzleElement puzzleElement) {
+        markChanged();
+    }
+
+    /**
+     * Gets the version of this board. Every board starts with a version that no other board has
+     * and gets a new one whenever its puzzle elements or its set of modified puzzle elements
+     * change through this class, or the data of one of its puzzle elements is set, so two equal
+     * versions always describe the same board state.
+     *
+     * @return version of this board
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gives this board a new version. Subclasses that change their puzzle elements without going
+     * through the methods of this class must call this so that cached rule checks are redone.
+     */
+    protected void markChanged() {
+        version = VERSIONS.incrementAndGet();
+    }
+
+    /**
+     * Records that a puzzle element was placed on this board, so that setting its data gives this
+     * board a new version. Subclasses that place puzzle elements without going through the methods
+     * of this class must call this.
+     *
+     * @param puzzleElement puzzle element placed on this board, or null
+     */
+    protected void trackElement(PuzzleElement puzzleElement) {
+        if (puzzleElement != null) {
+            puzzleElement.setBoard(this);
+        }
+    }
+
+    /**
+     * Starts a pass in which this board is analysed but not changed. Until the matching call to
+     * {@link #endAnalysis()}, the result of each analysis requested through {@link
+     * #getAnalysis(Function)} is computed once per board version and shared by every caller.
+     * Passes may be nested.
+     */
+    public synchronized void beginAnalysis() {
+        if (analysisDepth++ == 0) {
+            analyses.clear();
+        }
+    }
+
+    /** Ends a pass started by {@link #beginAnalysis()} */
+    public synchronized void endAnalysis() {
+        if (--analysisDepth == 0) {
+            analyses.clear();
+        }
+    }
+
+    /**
+     * Gets the result of analysing this board. Inside of an analysis pass the result is cached, so
+     * the analyzer should be a constant that is used as the key of the result and the result must
+     * not be modified by the caller. Outside of an analysis pass the board may be changed at any
+     * time without its version changing, for example by changing a puzzle element that is not on
+     * the board through {@link #notifyChange}, so the analysis is always recomputed.
+     *
+     * @param analyzer function that analyses the board
+     * @param <B> type of the board
+     * @param <T> type of the result of the analysis
+     * @return the result of the analysis
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <B extends Board, T> T getAnalysis(Function<B, T> analyzer) {
+        if (analysisDepth == 0) {
+            return analyzer.apply((B) this);
+        }
+        if (analysisVersion != version) {
+            analyses.clear();
+            analysisVersion = version;
+        }
+        // analyzers may request other analyses, so the result is not computed inside of the map
+        T result = (T) analyses.get(analyzer);
+        if (result == null) {
+            result = analyzer.apply((B) this);
+            analyses.put(analyzer, result);
+        }
+        return result;
+    }
 
     @SuppressWarnings("unchecked")
     public Board mergedBoard(Board lca, List<Board> boards) {
@@ -5,15 +5,25 @@ import edu.rpi.legup.puzzle.treetent.TreeTentBoard;
 import edu.rpi.legup.puzzle.treetent.TreeTentClue;
 import java.awt.*;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 
 /**
  * GridBoard represents a grid-based board where each cell can be manipulated based on its
  * coordinates. The board supports operations such as getting and setting cells, and provides
  * dimensions of the grid. It also supports deep copying of the board.
+ *
+ * <p>Boards whose cells are fully described by an {@code int} value and their modifiable and
+ * given flags can opt in to packed copies by returning a {@link PackedCellCodec} from {@link
+ * #getPackedCellCodec()}. A packed copy stores the cells in primitive arrays and only creates the
+ * cell objects that are accessed. Copies of a packed copy share its arrays and only store the
+ * cells that differ from it.
  */
 public class GridBoard extends Board {
 
     protected Dimension dimension;
+    private GridNeighbors neighbors;
 
     /**
      * GridBoard Constructor creates a board for grid using puzzles from a width and height.
@@ -23,10 +33,7 @@ public class GridBoard extends Board {
      */
     public GridBoard(int width, int height) {
         this.dimension = new Dimension(width, height);
-
-        for (int i = 0; i < width * height; i++) {
-            puzzleElements.add(null);
-        }
+        this.puzzleElements = new ArrayList<>(Collections.nCopies(width * height, null));
     }
 
     /**
@@ -46,18 +53,106 @@ public class GridBoard extends Board {
      * @return grid cell at location (x, y)
      */
     public GridCell getCell(int x, int y) {
-        if (y * dimension.width + x >= puzzleElements.size()
-                || x >= dimension.width
-                || y >= dimension.height
-                || x < 0
-                || y < 0) {
+        GridCell cell = getCellOrNull(x, y);
+        if (cell == null && !isInBounds(x, y)) {
             System.err.printf(
                     "not in bounds, bounds are %dx%d\n", dimension.width, dimension.height);
+        }
+        return cell;
+    }
+
+    /**
+     * Gets a {@link GridCell} from the board without reporting locations that are out of bounds,
+     * for rules that look past the edge of the board on purpose
+     *
+     * @param x x location of the cell
+     * @param y y location of the cell
+     * @return grid cell at location (x, y), or null if the location is out of bounds
+     */
+    public GridCell getCellOrNull(int x, int y) {
+        if (!isInBounds(x, y)) {
             return null;
         }
         return (GridCell) puzzleElements.get(y * dimension.width + x);
     }
 
+    /**
+     * Gets the {@link GridCell} at an index of the board, as returned by the neighbor methods
+     *
+     * @param index row major index of the cell, {@code y * width + x}
+     * @return grid cell at the index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public GridCell getCell(int index) {
+        return (GridCell) puzzleElements.get(index);
+    }
+
+    /**
+     * Gets the indices of the cells that share a side with the cell at an index
+     *
+     * @param index index of the cell
+     * @return the indices of the orthogonal neighbors, in the order up, right, down, left, which
+     *     must not be modified
+     * @see GridNeighbors#getOrthogonal(int)
+     */
+    public int[] getOrthogonalNeighbors(int index) {
+        return getNeighbors().getOrthogonal(index);
+    }
+
+    /**
+     * Gets the indices of the cells that share only a corner with the cell at an index
+     *
+     * @param index index of the cell
+     * @return the indices of the diagonal neighbors, in the order up right, down right, down left,
+     *     up left, which must not be modified
+     * @see GridNeighbors#getDiagonal(int)
+     */
+    public int[] getDiagonalNeighbors(int index) {
+        return getNeighbors().getDiagonal(index);
+    }
+
+    /**
+     * Gets the indices of the cells that share a side or a corner with the cell at an index
+     *
+     * @param index index of the cell
+     * @return the indices of the surrounding neighbors, which must not be modified
+     * @see GridNeighbors#getSurrounding(int)
+     */
+    public int[] getSurroundingNeighbors(int index) {
+        return getNeighbors().getSurrounding(index);
+    }
+
+    /**
+     * Gets the shared neighbors of a grid the size of this board
+     *
+     * @return the neighbors of the cells of this board
+     */
+    public GridNeighbors getNeighbors() {
+        GridNeighbors current = neighbors;
+        if (current == null
+                || current.getWidth() != dimension.width
+                || current.getHeight() != dimension.height) {
+            current = GridNeighbors.of(dimension.width, dimension.height);
+            neighbors = current;
+        }
+        return current;
+    }
+
+    /**
+     * Determines if a location is on the board
+     *
+     * @param x x location
+     * @param y y location
+     * @return true if there is a cell at the location, false otherwise
+     */
+    private boolean isInBounds(int x, int y) {
+        return x >= 0
+                && y >= 0
+                && x < dimension.width
+                && y < dimension.height
+                && y * dimension.width + x < puzzleElements.size();
+    }
+
     /**
      * Sets the {@link GridCell} at the location (x,y). This method does not set the cell if the
      * location specified is out of bounds.
@@ -75,6 +170,8 @@ public class GridBoard extends Board {
             return;
         }
         puzzleElements.set(y * dimension.width + x, cell);
+        trackElement(cell);
+        markChanged();
     }
 
     public void setCell(int x, int y, Element e, MouseEvent m) {
@@ -164,11 +261,101 @@ public class GridBoard extends Board {
      */
     public GridBoard copy() {
         GridBoard newGridBoard = new GridBoard(this.dimension.width, this.dimension.height);
+        copyCellsTo(newGridBoard);
+        return newGridBoard;
+    }
+
+    /**
+     * Copies every cell of this board into a new board of the same size. The copy is packed if
+     * both boards support packed cells and every cell of this board can be packed, otherwise every
+     * cell is deep copied with {@link GridCell#copy()}.
+     *
+     * @param copy newly created board that receives the cells
+     */
+    protected void copyCellsTo(GridBoard copy) {
+        PackedCellList packedCells = packCells(copy);
+        if (packedCells != null) {
+            copy.puzzleElements = packedCells;
+            copy.markChanged();
+            return;
+        }
         for (int x = 0; x < this.dimension.width; x++) {
             for (int y = 0; y < this.dimension.height; y++) {
-                newGridBoard.setCell(x, y, getCell(x, y).copy());
+                copy.setCell(x, y, getCell(x, y).copy());
             }
         }
-        return newGridBoard;
+    }
+
+    /**
+     * Packs the cells of this board into a new packed list for the copy. If this board is itself a
+     * packed copy, the copy shares its packed state and only the cells that were changed since are
+     * stored again, so that a chain of copies uses memory in proportion to the changes made.
+     *
+     * @param copy newly created board that the packed list will belong to
+     * @return the packed cells, or null if the cells of this board cannot be packed
+     */
+    private PackedCellList packCells(GridBoard copy) {
+        PackedCellCodec<?> codec = getPackedCellCodec();
+        PackedCellCodec<?> copyCodec = copy.getPackedCellCodec();
+        int size = dimension.width * dimension.height;
+        if (codec == null
+                || copyCodec == null
+                || copyCodec.getCellClass() != codec.getCellClass()
+                || !copy.dimension.equals(dimension)
+                || puzzleElements.size() != size) {
+            return null;
+        }
+
+        PackedCellList packed = null;
+        if (puzzleElements instanceof PackedCellList) {
+            packed = (PackedCellList) puzzleElements;
+            if (!packed.hasCreatedCells()) {
+                return new PackedCellList(copy, copyCodec, packed.getLayer());
+            }
+        }
+
+        int[] indices = new int[size];
+        int[] values = new int[size];
+        BitSet modifiable = new BitSet(size);
+        BitSet given = new BitSet(size);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (packed != null && !packed.isCreated(i)) {
+                continue;
+            }
+            PuzzleElement element = puzzleElements.get(i);
+            if (!codec.canPack(element) || element.getIndex() != i) {
+                return null;
+            }
+            GridCell cell = (GridCell) element;
+            Point location = cell.getLocation();
+            if (location == null
+                    || location.x != i % dimension.width
+                    || location.y != i / dimension.width) {
+                return null;
+            }
+            indices[count] = i;
+            values[count] = codec.pack(cell);
+            modifiable.set(count, cell.isModifiable());
+            given.set(count, cell.isGiven());
+            count++;
+        }
+
+        if (packed == null) {
+            PackedCellLayer layer = PackedCellLayer.full(values, modifiable, given);
+            return new PackedCellList(copy, copyCodec, layer);
+        }
+        PackedCellLayer layer = packed.getLayer().with(indices, values, modifiable, given, count);
+        return new PackedCellList(copy, copyCodec, layer);
+    }
+
+    /**
+     * Gets the codec that packs the cells of this board if the board supports packed copies. A
+     * board whose cells are not all packed by the codec is deep copied instead.
+     *
+     * @return the codec of the cells, or null if the board does not support packed copies
+     */
+    protected PackedCellCodec<?> getPackedCellCodec() {
+        return null;
     }
 }
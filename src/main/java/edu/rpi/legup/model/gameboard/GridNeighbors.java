@@ -0,0 +1,157 @@
+package edu.rpi.legup.model.gameboard;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * GridNeighbors holds the indices of the neighbors of every cell of a grid of a given size, so that
+ * rules can walk the neighbors of a cell without checking bounds or creating points and lists. The
+ * indices are computed once for each size and shared by every board of that size; the returned
+ * arrays must not be modified.
+ *
+ * <p>Cell indices are row major, {@code y * width + x}, like the puzzle elements of a {@link
+ * GridBoard}. Neighbors that would lie outside of the grid are left out.
+ */
+public final class GridNeighbors {
+    private static final ConcurrentMap<Long, GridNeighbors> CACHE = new ConcurrentHashMap<>();
+
+    private final int width;
+    private final int height;
+    private final int[][] orthogonal;
+    private final int[][] diagonal;
+    private final int[][] surrounding;
+
+    /**
+     * GridNeighbors Constructor computes the neighbors of every cell of a grid
+     *
+     * @param width width of the grid
+     * @param height height of the grid
+     */
+    private GridNeighbors(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int size = width * height;
+        this.orthogonal = new int[size][];
+        this.diagonal = new int[size][];
+        this.surrounding = new int[size][];
+
+        int[] buffer = new int[8];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+
+                // clockwise from the top: up, right, down, left
+                int count = 0;
+                count = add(buffer, count, x, y - 1);
+                count = add(buffer, count, x + 1, y);
+                count = add(buffer, count, x, y + 1);
+                count = add(buffer, count, x - 1, y);
+                orthogonal[index] = Arrays.copyOf(buffer, count);
+
+                // clockwise from the top right: up right, down right, down left, up left
+                count = 0;
+                count = add(buffer, count, x + 1, y - 1);
+                count = add(buffer, count, x + 1, y + 1);
+                count = add(buffer, count, x - 1, y + 1);
+                count = add(buffer, count, x - 1, y - 1);
+                diagonal[index] = Arrays.copyOf(buffer, count);
+
+                // column by column from the left, each from the top
+                count = 0;
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        if (dx != 0 || dy != 0) {
+                            count = add(buffer, count, x + dx, y + dy);
+                        }
+                    }
+                }
+                surrounding[index] = Arrays.copyOf(buffer, count);
+            }
+        }
+    }
+
+    /**
+     * Gets the neighbors of the cells of a grid of the given size
+     *
+     * @param width width of the grid
+     * @param height height of the grid
+     * @return the shared neighbors of a grid of that size
+     * @throws IllegalArgumentException if the width or height is negative
+     */
+    public static GridNeighbors of(int width, int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Invalid grid size: " + width + "x" + height);
+        }
+        long key = ((long) width << 32) | height;
+        return CACHE.computeIfAbsent(key, k -> new GridNeighbors(width, height));
+    }
+
+    /**
+     * Gets the indices of the cells that share a side with a cell, in the order up, right, down,
+     * left
+     *
+     * @param index index of the cell
+     * @return the indices of the orthogonal neighbors
+     */
+    public int[] getOrthogonal(int index) {
+        return orthogonal[index];
+    }
+
+    /**
+     * Gets the indices of the cells that share only a corner with a cell, in the order up right,
+     * down right, down left, up left
+     *
+     * @param index index of the cell
+     * @return the indices of the diagonal neighbors
+     */
+    public int[] getDiagonal(int index) {
+        return diagonal[index];
+    }
+
+    /**
+     * Gets the indices of the cells that share a side or a corner with a cell, column by column
+     * from the left and from the top within each column
+     *
+     * @param index index of the cell
+     * @return the indices of the surrounding neighbors
+     */
+    public int[] getSurrounding(int index) {
+        return surrounding[index];
+    }
+
+    /**
+     * Gets the width of the grid
+     *
+     * @return the width of the grid
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the grid
+     *
+     * @return the height of the grid
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Adds the index of a location to the buffer if the location lies inside of the grid
+     *
+     * @param buffer the buffer
+     * @param count number of indices in the buffer
+     * @param x x location
+     * @param y y location
+     * @return the new number of indices in the buffer
+     */
+    private int add(int[] buffer, int count, int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return count;
+        }
+        buffer[count] = y * width + x;
+        return count + 1;
+    }
+}
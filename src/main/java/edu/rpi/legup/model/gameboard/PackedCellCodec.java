@@ -0,0 +1,91 @@
+package edu.rpi.legup.model.gameboard;
+
+import java.awt.Point;
+import java.util.function.ToIntFunction;
+
+/**
+ * PackedCellCodec converts the cells of a {@link GridBoard} to and from the {@code int} values
+ * that packed copies of the board store. A board supports packed copies by returning a codec from
+ * {@link GridBoard#getPackedCellCodec()}; boards without one are always deep copied.
+ *
+ * <p>Only cells of exactly the class of the codec are packed, and only if their data, together
+ * with their modifiable and given flags, fully describes them.
+ *
+ * @param <T> class of the cells
+ */
+public final class PackedCellCodec<T extends GridCell<?>> {
+    private final Class<T> cellClass;
+    private final ToIntFunction<T> packer;
+    private final CellFactory<T> factory;
+
+    /**
+     * PackedCellCodec Constructor creates a codec for cells of a class
+     *
+     * @param cellClass class of the cells that are packed
+     * @param packer packs the data of a cell into an {@code int}
+     * @param factory creates a cell from its packed data, the same way that copying the cell would
+     */
+    public PackedCellCodec(Class<T> cellClass, ToIntFunction<T> packer, CellFactory<T> factory) {
+        this.cellClass = cellClass;
+        this.packer = packer;
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the class of the cells that are packed
+     *
+     * @return class of the cells
+     */
+    public Class<T> getCellClass() {
+        return cellClass;
+    }
+
+    /**
+     * Determines if a puzzle element can be packed by this codec
+     *
+     * @param element puzzle element, or null
+     * @return true if the element is a cell of exactly the class of this codec with data
+     */
+    boolean canPack(PuzzleElement element) {
+        return element != null && element.getClass() == cellClass && element.getData() != null;
+    }
+
+    /**
+     * Packs the data of a cell into an {@code int}
+     *
+     * @param element cell accepted by {@link #canPack(PuzzleElement)}
+     * @return the packed data of the cell
+     */
+    int pack(PuzzleElement element) {
+        return packer.applyAsInt(cellClass.cast(element));
+    }
+
+    /**
+     * Creates a cell from its packed data. The index and the modifiable and given flags of the cell
+     * are set by the caller.
+     *
+     * @param value the packed data of the cell
+     * @param location location of the cell
+     * @return the created cell
+     */
+    T unpack(int value, Point location) {
+        return factory.create(value, location);
+    }
+
+    /**
+     * Creates a cell from its packed data
+     *
+     * @param <T> class of the cells
+     */
+    @FunctionalInterface
+    public interface CellFactory<T> {
+        /**
+         * Creates a cell from its packed data
+         *
+         * @param value the packed data of the cell
+         * @param location location of the cell
+         * @return the created cell
+         */
+        T create(int value, Point location);
+    }
+}
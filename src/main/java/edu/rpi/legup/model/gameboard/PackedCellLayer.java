@@ -0,0 +1,237 @@
+package edu.rpi.legup.model.gameboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * PackedCellLayer is an immutable snapshot of the packed cells of a {@link GridBoard}. A layer is
+ * either a full layer that holds the value and flags of every cell, or a delta layer that only
+ * holds the cells that differ from its parent layer. Copies of a board share the layers of the
+ * board they were copied from, so a chain of boards that each change a few cells only stores the
+ * cells that were changed. Long chains are flattened back into a full layer to keep lookups fast.
+ */
+final class PackedCellLayer {
+    private static final int MAX_DEPTH = 32;
+
+    private final PackedCellLayer parent;
+    private final int size;
+    private final int depth;
+    private final int deltaCount;
+
+    private final int[] indices;
+    private final int[] values;
+    private final BitSet modifiable;
+    private final BitSet given;
+
+    // set once computed; boards are copied for rule checks on other threads
+    private volatile PackedCellLayer flattened;
+
+    /**
+     * PackedCellLayer Constructor creates a layer. For a full layer the parent and indices are
+     * null and the arrays are indexed by cell, for a delta layer they are indexed by the position
+     * of the cell in the sorted indices.
+     *
+     * @param parent layer that this layer changes, or null for a full layer
+     * @param size number of cells of the board
+     * @param indices sorted indices of the changed cells, or null for a full layer
+     * @param values packed values
+     * @param modifiable modifiable flags
+     * @param given given flags
+     */
+    private PackedCellLayer(
+            PackedCellLayer parent,
+            int size,
+            int[] indices,
+            int[] values,
+            BitSet modifiable,
+            BitSet given) {
+        this.parent = parent;
+        this.size = size;
+        this.indices = indices;
+        this.values = values;
+        this.modifiable = modifiable;
+        this.given = given;
+        if (parent == null) {
+            this.depth = 0;
+            this.deltaCount = 0;
+        } else {
+            this.depth = parent.depth + 1;
+            this.deltaCount = parent.deltaCount + indices.length;
+        }
+    }
+
+    /**
+     * Creates a full layer. The arrays are owned by the layer and must not be changed afterwards.
+     *
+     * @param values packed value of every cell
+     * @param modifiable cells that are modifiable
+     * @param given cells that are given
+     * @return the full layer
+     */
+    static PackedCellLayer full(int[] values, BitSet modifiable, BitSet given) {
+        return new PackedCellLayer(null, values.length, null, values, modifiable, given);
+    }
+
+    /**
+     * Gets the layer that holds the current state of a cell
+     *
+     * @param index index of the cell
+     * @return this layer or the closest ancestor that contains the cell
+     */
+    PackedCellLayer getLayerOf(int index) {
+        PackedCellLayer layer = this;
+        while (layer.indices != null && Arrays.binarySearch(layer.indices, index) < 0) {
+            layer = layer.parent;
+        }
+        return layer;
+    }
+
+    /**
+     * Gets the position of a cell in the arrays of this layer
+     *
+     * @param index index of a cell that this layer contains
+     * @return position of the cell in the arrays of this layer
+     */
+    int getPosition(int index) {
+        return indices == null ? index : Arrays.binarySearch(indices, index);
+    }
+
+    /**
+     * Gets the packed value at a position of this layer
+     *
+     * @param position position returned by {@link #getPosition(int)}
+     * @return the packed value
+     */
+    int getValue(int position) {
+        return values[position];
+    }
+
+    /**
+     * Gets the modifiable flag at a position of this layer
+     *
+     * @param position position returned by {@link #getPosition(int)}
+     * @return true if the cell is modifiable, false otherwise
+     */
+    boolean isModifiable(int position) {
+        return modifiable.get(position);
+    }
+
+    /**
+     * Gets the given flag at a position of this layer
+     *
+     * @param position position returned by {@link #getPosition(int)}
+     * @return true if the cell is given, false otherwise
+     */
+    boolean isGiven(int position) {
+        return given.get(position);
+    }
+
+    /**
+     * Creates a layer with some cells changed. Cells whose packed state is the same as in this
+     * layer are left out, and if no cell changed this layer itself is returned.
+     *
+     * @param changed indices of the cells, in ascending order
+     * @param changedValues packed value of each cell
+     * @param changedModifiable modifiable flag of each cell, by position
+     * @param changedGiven given flag of each cell, by position
+     * @param count number of cells
+     * @return a layer with the cells changed
+     */
+    PackedCellLayer with(
+            int[] changed,
+            int[] changedValues,
+            BitSet changedModifiable,
+            BitSet changedGiven,
+            int count) {
+        int[] deltaIndices = new int[count];
+        int[] deltaValues = new int[count];
+        BitSet deltaModifiable = new BitSet(count);
+        BitSet deltaGiven = new BitSet(count);
+        int deltaSize = 0;
+        for (int i = 0; i < count; i++) {
+            int index = changed[i];
+            PackedCellLayer layer = getLayerOf(index);
+            int position = layer.getPosition(index);
+            if (layer.getValue(position) == changedValues[i]
+                    && layer.isModifiable(position) == changedModifiable.get(i)
+                    && layer.isGiven(position) == changedGiven.get(i)) {
+                continue;
+            }
+            deltaIndices[deltaSize] = index;
+            deltaValues[deltaSize] = changedValues[i];
+            deltaModifiable.set(deltaSize, changedModifiable.get(i));
+            deltaGiven.set(deltaSize, changedGiven.get(i));
+            deltaSize++;
+        }
+        if (deltaSize == 0) {
+            return this;
+        }
+
+        PackedCellLayer delta =
+                new PackedCellLayer(
+                        this,
+                        size,
+                        Arrays.copyOf(deltaIndices, deltaSize),
+                        Arrays.copyOf(deltaValues, deltaSize),
+                        deltaModifiable,
+                        deltaGiven);
+        if (delta.depth > MAX_DEPTH || delta.deltaCount > size / 4) {
+            return delta.flatten();
+        }
+        return delta;
+    }
+
+    /**
+     * Gets a full layer with the same cells as this layer. The full layer of a delta layer is
+     * created once and kept, so that boards that create most of their cells do not have to search
+     * the whole chain of layers for each of them.
+     *
+     * @return this layer if it is a full layer, otherwise the full layer with the same cells
+     */
+    PackedCellLayer flatten() {
+        if (indices == null) {
+            return this;
+        }
+        PackedCellLayer full = flattened;
+        if (full != null) {
+            return full;
+        }
+
+        List<PackedCellLayer> chain = new ArrayList<>();
+        PackedCellLayer root = this;
+        while (root.indices != null && root.flattened == null) {
+            chain.add(root);
+            root = root.parent;
+        }
+        if (root.indices != null) {
+            root = root.flattened;
+        }
+
+        int[] flatValues = root.values.clone();
+        BitSet flatModifiable = (BitSet) root.modifiable.clone();
+        BitSet flatGiven = (BitSet) root.given.clone();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            PackedCellLayer layer = chain.get(i);
+            for (int position = 0; position < layer.indices.length; position++) {
+                int index = layer.indices[position];
+                flatValues[index] = layer.values[position];
+                flatModifiable.set(index, layer.modifiable.get(position));
+                flatGiven.set(index, layer.given.get(position));
+            }
+        }
+        full = full(flatValues, flatModifiable, flatGiven);
+        flattened = full;
+        return full;
+    }
+
+    /**
+     * Gets the number of cells of the board
+     *
+     * @return the number of cells
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,183 @@
+package edu.rpi.legup.model.gameboard;
+
+import java.awt.Point;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * PackedCellList is the list of puzzle elements of a {@link GridBoard} that was copied in packed
+ * form. The state of the cells is read from a {@link PackedCellLayer} that is shared with the board
+ * it was copied from, and the {@link GridCell} object of a cell is only created the first time the
+ * cell is accessed. Once created, the cell object is the cell, so changes made to it are seen by
+ * the board just like with a regular list; the shared layer is never written to. Boards that only
+ * have a few of their cells accessed keep the created cells in a short list instead of an array
+ * with an entry for every cell.
+ */
+final class PackedCellList extends AbstractList<PuzzleElement> implements RandomAccess {
+    private static final int SPARSE_LIMIT = 16;
+
+    private final GridBoard board;
+    private final PackedCellCodec<?> codec;
+    private final int width;
+    private final PackedCellLayer layer;
+
+    // created cells, kept as a short list of indices and cells until more than SPARSE_LIMIT cells
+    // are created, after which cells is indexed by cell and createdIndices is null
+    private int[] createdIndices;
+    private PuzzleElement[] cells;
+    private int createdCount;
+
+    /**
+     * PackedCellList Constructor creates a list whose cells are all still packed
+     *
+     * @param board board that the list belongs to
+     * @param codec codec of the board, which creates the cells
+     * @param layer packed state of the cells
+     */
+    PackedCellList(GridBoard board, PackedCellCodec<?> codec, PackedCellLayer layer) {
+        this.board = board;
+        this.codec = codec;
+        this.width = board.getWidth();
+        this.layer = layer;
+        this.createdIndices = new int[0];
+        this.cells = new PuzzleElement[0];
+        this.createdCount = 0;
+    }
+
+    /**
+     * Gets the cell at the index, creating it if it has not been accessed before
+     *
+     * @param index index of the cell
+     * @return the cell at the index
+     */
+    @Override
+    public PuzzleElement get(int index) {
+        Objects.checkIndex(index, layer.size());
+        PuzzleElement cell = find(index);
+        if (cell == null) {
+            PackedCellLayer source = createdIndices == null ? layer.flatten() : layer;
+            source = source.getLayerOf(index);
+            int position = source.getPosition(index);
+            Point location = new Point(index % width, index / width);
+            cell = codec.unpack(source.getValue(position), location);
+            cell.setIndex(index);
+            cell.setModifiable(source.isModifiable(position));
+            cell.setGiven(source.isGiven(position));
+            put(index, cell);
+        }
+        return cell;
+    }
+
+    /**
+     * Replaces the cell at the index
+     *
+     * @param index index of the cell
+     * @param element the new cell
+     * @return the cell that was previously at the index
+     */
+    @Override
+    public PuzzleElement set(int index, PuzzleElement element) {
+        PuzzleElement previous = get(index);
+        put(index, element);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return layer.size();
+    }
+
+    /**
+     * Determines if the cell at the index has been created
+     *
+     * @param index index of the cell
+     * @return true if the cell object exists, false if the cell is still only packed
+     */
+    boolean isCreated(int index) {
+        return find(index) != null;
+    }
+
+    /**
+     * Determines if any cell has been created
+     *
+     * @return true if at least one cell object exists, false if every cell is still only packed
+     */
+    boolean hasCreatedCells() {
+        return createdCount > 0;
+    }
+
+    /**
+     * Gets the packed state that the cells were created from, which is only correct for cells that
+     * have not been created
+     *
+     * @return the packed state of the cells
+     */
+    PackedCellLayer getLayer() {
+        return layer;
+    }
+
+    /**
+     * Finds the created cell at the index
+     *
+     * @param index index of the cell
+     * @return the cell, or null if it has not been created
+     */
+    private PuzzleElement find(int index) {
+        if (createdIndices == null) {
+            return cells[index];
+        }
+        for (int i = 0; i < createdCount; i++) {
+            if (createdIndices[i] == index) {
+                return cells[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the cell at the index, replacing the cell that was created there before
+     *
+     * @param index index of the cell
+     * @param cell the cell
+     */
+    private void put(int index, PuzzleElement cell) {
+        if (cell != null) {
+            cell.setBoard(board);
+        }
+        if (createdIndices == null) {
+            if (cells[index] == null) {
+                createdCount++;
+            }
+            cells[index] = cell;
+            return;
+        }
+        for (int i = 0; i < createdCount; i++) {
+            if (createdIndices[i] == index) {
+                cells[i] = cell;
+                return;
+            }
+        }
+        if (createdCount < SPARSE_LIMIT) {
+            if (createdCount == createdIndices.length) {
+                int capacity = Math.min(SPARSE_LIMIT, Math.max(4, createdCount * 2));
+                createdIndices = Arrays.copyOf(createdIndices, capacity);
+                cells = Arrays.copyOf(cells, capacity);
+            }
+            createdIndices[createdCount] = index;
+            cells[createdCount] = cell;
+            createdCount++;
+            return;
+        }
+
+        PuzzleElement[] dense = new PuzzleElement[layer.size()];
+        for (int i = 0; i < createdCount; i++) {
+            dense[createdIndices[i]] = cells[i];
+        }
+        dense[index] = cell;
+        createdIndices = null;
+        cells = dense;
+        createdCount++;
+    }
+}
@@ -19,6 +19,7 @@ public abstract class PuzzleElement<T> {
     protected boolean isGiven;
     protected boolean isValid;
     protected int casesDepended;
+    private Board board;
 
     /** PuzzleElement Constructor creates a new puzzle element. */
     public PuzzleElement() {
@@ -52,12 +53,27 @@ public abstract class PuzzleElement<T> {
     }
 
     /**
-     * Sets the data value that represents this puzzle element.
+     * Sets the data value that represents this puzzle element. If the puzzle element is on a
+     * board, the board gets a new version so that results cached for the board are redone.
      *
      * @param data data value that represents this puzzle element
      */
     public void setData(T data) {
         this.data = data;
+        if (board != null) {
+            board.markChanged();
+        }
+    }
+
+    /**
+     * Sets the board that this puzzle element is on, whose version changes whenever the data of
+     * this puzzle element is set. Copies of the puzzle element are not on any board until they are
+     * placed on one.
+     *
+     * @param board board the puzzle element was placed on
+     */
+    void setBoard(Board board) {
+        this.board = board;
     }
 
     public void setType(Element e, MouseEvent m) {
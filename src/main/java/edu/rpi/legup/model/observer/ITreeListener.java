@@ -1,6 +1,7 @@
 package edu.rpi.legup.model.observer;
 
 import edu.rpi.legup.model.tree.TreeElement;
+import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.ui.proofeditorui.treeview.TreeViewSelection;
 
 /**
@@ -31,4 +32,12 @@ public interface ITreeListener {
 
     /** Called when the model has finished updating the tree. */
     void onUpdateTree();
+
+    /**
+     * Called when the rule of a {@link TreeTransition} was checked in the background and the
+     * result is stored in the transition.
+     *
+     * @param transition tree transition that was checked
+     */
+    void onTransitionVerified(TreeTransition transition);
 }
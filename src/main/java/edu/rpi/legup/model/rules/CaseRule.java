@@ -57,6 +57,31 @@ public abstract class CaseRule extends Rule {
      */
     public abstract List<Board> getCases(Board board, PuzzleElement puzzleElement);
 
+    /**
+     * Gets the possible cases of a {@link PuzzleElement} picked on a case board of this case rule.
+     * Case rules whose case board needs more than its base board to generate the cases, such as a
+     * number the user chose or the board the case board was made from, keep it on the case board
+     * and override this method to read it from there.
+     *
+     * @param caseBoard case board returned by {@link #getCaseBoard(Board)}
+     * @param puzzleElement puzzleElement picked on the case board
+     * @return a list of elements the specified could be
+     */
+    public List<Board> getPickedCases(CaseBoard caseBoard, PuzzleElement puzzleElement) {
+        return getCases(caseBoard.getBaseBoard(), puzzleElement);
+    }
+
+    /**
+     * Determines if making a case board of this rule asks the user for input, such as the number
+     * to split on. Rules that do are skipped by code that applies case rules without a user, like
+     * the {@link edu.rpi.legup.ai.Solver}.
+     *
+     * @return true if {@link #getCaseBoard(Board)} asks the user for input, false otherwise
+     */
+    public boolean needsUserInput() {
+        return false;
+    }
+
     /**
      * Checks whether the {@link TreeTransition} logically follows from the parent node using this
      * rule.
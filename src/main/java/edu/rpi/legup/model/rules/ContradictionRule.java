@@ -88,11 +88,18 @@ public abstract class ContradictionRule extends Rule {
      * @return null if the tree node contains a contradiction, otherwise error message
      */
     public String checkContradiction(Board board) {
-        for (PuzzleElement puzzleElement : board.getPuzzleElements()) {
-            String checkStr = checkContradictionAt(board, puzzleElement);
-            if (checkStr == null) {
-                return checkStr;
+        // the board does not change while every element is checked, so board-wide facts such as
+        // regions can be shared between the elements
+        board.beginAnalysis();
+        try {
+            for (PuzzleElement puzzleElement : board.getPuzzleElements()) {
+                String checkStr = checkContradictionAt(board, puzzleElement);
+                if (checkStr == null) {
+                    return checkStr;
+                }
             }
+        } finally {
+            board.endAnalysis();
         }
         return this.NO_CONTRADICTION_MESSAGE;
     }
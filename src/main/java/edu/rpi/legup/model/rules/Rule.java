@@ -42,7 +42,6 @@ public abstract class Rule {
         this.description = description;
         this.imageName = imageName;
         this.INVALID_USE_MESSAGE = "Invalid use of the rule " + this.ruleName;
-        loadImage();
     }
 
     /**
@@ -86,8 +85,11 @@ public abstract class Rule {
     protected abstract String checkRuleRawAt(
             TreeTransition transition, PuzzleElement puzzleElement);
 
-    /** Loads the image file */
-    public void loadImage() {
+    /**
+     * Loads the image file. Rules are checked far more often than they are displayed, so this is
+     * only called once the image is first requested through {@link #getImageIcon()}.
+     */
+    public synchronized void loadImage() {
         if (imageName != null) {
             String name = imageName;
             LegupPreferences prefs = LegupPreferences.getInstance();
@@ -153,11 +155,14 @@ public abstract class Rule {
     }
 
     /**
-     * Gets the image icon of the rule
+     * Gets the image icon of the rule, loading it the first time it is requested
      *
      * @return image icon of the rule
      */
-    public ImageIcon getImageIcon() {
+    public synchronized ImageIcon getImageIcon() {
+        if (image == null) {
+            loadImage();
+        }
         return image;
     }
 
@@ -0,0 +1,82 @@
+package edu.rpi.legup.model.rules;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RuleRegistry creates one instance of every {@link Rule} class that is looked up in it and hands
+ * out that instance on every later lookup. Every {@link edu.rpi.legup.model.Puzzle} has its own
+ * registry for the rules it offers, so open puzzles never share rule instances. Rules that check
+ * with the help of another rule, and puzzle utilities that check with a rule, have no reference to
+ * their puzzle, so they look the rule up in a registry shared by the whole application through
+ * {@link #getRule(Class)} instead of creating a new instance on every check.
+ *
+ * <p>Rules must not keep state between calls. A case rule that needs to remember something from
+ * {@link CaseRule#getCaseBoard} until its cases are generated keeps it on the {@link
+ * edu.rpi.legup.model.gameboard.CaseBoard} it returns, see {@link CaseRule#getPickedCases}.
+ */
+public final class RuleRegistry {
+    private static final RuleRegistry SHARED = new RuleRegistry();
+
+    private final Map<Class<? extends Rule>, Rule> rules;
+
+    /** RuleRegistry Constructor creates an empty registry */
+    public RuleRegistry() {
+        this.rules = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the instance of the specified rule class from the registry shared by the whole
+     * application, creating it on first use. It is meant for rules and utilities that check with
+     * the help of another rule.
+     *
+     * @param ruleClass class of the rule; must have a public no argument constructor
+     * @param <T> type of the rule
+     * @return the shared instance of the rule
+     * @throws IllegalArgumentException if the rule cannot be instantiated
+     */
+    public static <T extends Rule> T getRule(Class<T> ruleClass) {
+        return SHARED.get(ruleClass);
+    }
+
+    /**
+     * Gets the instance of the specified rule class in this registry, creating it on first use
+     *
+     * @param ruleClass class of the rule; must have a public no argument constructor
+     * @param <T> type of the rule
+     * @return the instance of the rule in this registry
+     * @throws IllegalArgumentException if the rule cannot be instantiated
+     */
+    public <T extends Rule> T get(Class<T> ruleClass) {
+        Rule rule = rules.get(ruleClass);
+        if (rule == null) {
+            // Rules may look up other rules in their constructors, so the instance is created
+            // outside of the map rather than through computeIfAbsent
+            Rule created = createRule(ruleClass);
+            rule = rules.putIfAbsent(ruleClass, created);
+            if (rule == null) {
+                rule = created;
+            }
+        }
+        return ruleClass.cast(rule);
+    }
+
+    /**
+     * Creates a new instance of the specified rule class
+     *
+     * @param ruleClass class of the rule
+     * @return a new instance of the rule
+     * @throws IllegalArgumentException if the rule cannot be instantiated
+     */
+    private static Rule createRule(Class<? extends Rule> ruleClass) {
+        try {
+            return ruleClass.getConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException(
+                    "Unable to create rule " + ruleClass.getName(), e.getTargetException());
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to create rule " + ruleClass.getName(), e);
+        }
+    }
+}
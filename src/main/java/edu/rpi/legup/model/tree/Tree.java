@@ -39,7 +39,7 @@ public class Tree {
     public TreeTransition addNewTransition(TreeNode treeNode) {
         TreeTransition transition = new TreeTransition(treeNode, treeNode.getBoard().copy());
         treeNode.addChild(transition);
-        treeNode.getChildren().forEach(TreeTransition::reverify);
+        treeNode.getChildren().forEach(TreeTransition::markStale);
         return transition;
     }
 
@@ -71,7 +71,7 @@ public class Tree {
      */
     public TreeElement addTreeElement(TreeNode treeNode, TreeTransition transition) {
         treeNode.addChild(transition);
-        treeNode.getChildren().forEach(TreeTransition::reverify);
+        treeNode.getChildren().forEach(TreeTransition::markStale);
         return transition;
     }
 
@@ -106,7 +106,7 @@ public class Tree {
             TreeController treeController = new TreeController();
             TreeView treeView = new TreeView(treeController);
             treeView.removeTreeTransition(transition);
-            transition.getParents().get(0).getChildren().forEach(TreeTransition::reverify);
+            transition.getParents().get(0).getChildren().forEach(TreeTransition::markStale);
         }
     }
 
@@ -186,17 +186,18 @@ public class Tree {
             if (nodes.size() == 1) {
                 return nodes.get(0);
             } else {
-                List<List<TreeNode>> ancestors = new ArrayList<>();
-                for (TreeNode node : nodes) {
-                    ancestors.add(node.getAncestors());
+                List<Set<TreeNode>> ancestors = new ArrayList<>();
+                for (TreeNode node : nodes.subList(1, nodes.size())) {
+                    ancestors.add(new HashSet<>(node.getAncestors()));
                 }
 
-                List<TreeNode> first = ancestors.get(0);
-
-                for (TreeNode node : first) {
+                for (TreeNode node : nodes.get(0).getAncestors()) {
                     boolean isCommon = true;
-                    for (List<TreeNode> nList : ancestors) {
-                        isCommon &= nList.contains(node);
+                    for (Set<TreeNode> nSet : ancestors) {
+                        if (!nSet.contains(node)) {
+                            isCommon = false;
+                            break;
+                        }
                     }
 
                     if (isCommon) {
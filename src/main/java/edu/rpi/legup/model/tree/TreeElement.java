@@ -1,15 +1,26 @@
 package edu.rpi.legup.model.tree;
 
 import edu.rpi.legup.model.gameboard.Board;
+import java.util.List;
 
 /**
  * Represents an element in a tree structure, which can be either a {@link TreeNode} or a {@link
  * TreeTransition}.
+ *
+ * <p>Whether the branch rooted at a tree element is valid or contradictory is computed once and
+ * remembered until something below it changes, at which point it and its ancestors are
+ * invalidated. Computing the status of a tree element always computes the status of every
+ * descendant, so an element whose status is unknown never has an ancestor whose status is known,
+ * and invalidation can stop at the first ancestor that is already unknown.
  */
 public abstract class TreeElement {
     protected TreeElementType type;
     protected Board board;
 
+    private boolean isBranchStatusKnown;
+    private boolean isValidBranch;
+    private boolean isContradictoryBranch;
+
     /**
      * TreeElement Constructor creates a tree puzzleElement that is part of a tree
      *
@@ -25,7 +36,10 @@ public abstract class TreeElement {
      *
      * @return true if this tree node leads to a contradiction, false otherwise
      */
-    public abstract boolean isContradictoryBranch();
+    public boolean isContradictoryBranch() {
+        updateBranchStatus();
+        return isContradictoryBranch;
+    }
 
     /**
      * Recursively determines if the subtree rooted at this tree puzzleElement is valid by checking
@@ -35,7 +49,57 @@ public abstract class TreeElement {
      * @return true if this tree puzzleElement and all descendants of this tree puzzleElement is
      *     valid, false otherwise
      */
-    public abstract boolean isValidBranch();
+    public boolean isValidBranch() {
+        updateBranchStatus();
+        return isValidBranch;
+    }
+
+    /**
+     * Determines if the branch rooted at this tree element leads to a contradiction from the
+     * statuses of its children. Implementations must get the status of every child, even when the
+     * result is already decided.
+     *
+     * @return true if this tree element leads to a contradiction, false otherwise
+     */
+    protected abstract boolean computeContradictoryBranch();
+
+    /**
+     * Determines if the branch rooted at this tree element is valid from the statuses of its
+     * children. Implementations must get the status of every child, even when the result is
+     * already decided.
+     *
+     * @return true if this tree element and all of its descendants are valid, false otherwise
+     */
+    protected abstract boolean computeValidBranch();
+
+    /**
+     * Gets the tree elements that this tree element is a child of
+     *
+     * @return parent tree elements of this tree element
+     */
+    protected abstract List<? extends TreeElement> getParentElements();
+
+    /** Computes the branch status of this tree element if it is not already known */
+    private void updateBranchStatus() {
+        if (!isBranchStatusKnown) {
+            isValidBranch = computeValidBranch();
+            isContradictoryBranch = computeContradictoryBranch();
+            isBranchStatusKnown = true;
+        }
+    }
+
+    /**
+     * Forgets the branch status of this tree element and of every ancestor. Must be called whenever
+     * something that the status of this tree element depends on changes.
+     */
+    protected void invalidateBranchStatus() {
+        isBranchStatusKnown = false;
+        for (TreeElement parent : getParentElements()) {
+            if (parent != null && parent.isBranchStatusKnown) {
+                parent.invalidateBranchStatus();
+            }
+        }
+    }
 
     /**
      * Gets the type of tree puzzleElement
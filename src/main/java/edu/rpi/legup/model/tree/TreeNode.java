@@ -13,6 +13,8 @@ public class TreeNode extends TreeElement {
     private TreeTransition parent;
     private List<TreeTransition> children;
     private boolean isRoot;
+    private long completeBoardVersion;
+    private boolean isBoardComplete;
 
     /**
      * TreeNode Constructor creates a tree node whenever a rule has been made
@@ -25,6 +27,8 @@ public class TreeNode extends TreeElement {
         this.parent = null;
         this.children = new ArrayList<>();
         this.isRoot = false;
+        this.completeBoardVersion = -1;
+        this.isBoardComplete = false;
     }
 
     /**
@@ -34,7 +38,7 @@ public class TreeNode extends TreeElement {
      * @return true if this tree node leads to a contradiction, false otherwise
      */
     @Override
-    public boolean isContradictoryBranch() {
+    protected boolean computeContradictoryBranch() {
         boolean leadsToContra = true;
         for (TreeTransition child : children) {
             leadsToContra &= child.isContradictoryBranch();
@@ -51,38 +55,63 @@ public class TreeNode extends TreeElement {
      *     valid, false otherwise
      */
     @Override
-    public boolean isValidBranch() {
+    protected boolean computeValidBranch() {
+        boolean isValid = true;
         for (TreeTransition transition : children) {
-            if (!transition.isValidBranch()) {
-                return false;
-            }
+            isValid &= transition.isValidBranch();
         }
-        return true;
+        return isValid;
+    }
+
+    @Override
+    protected List<TreeTransition> getParentElements() {
+        return Collections.singletonList(parent);
+    }
+
+    /**
+     * Gets whether the board of this node was complete when it was last checked, as long as the
+     * board has not changed since then
+     *
+     * @return true or false if the board was checked at its current version, null otherwise
+     */
+    public Boolean getCachedBoardComplete() {
+        return completeBoardVersion == board.getVersion() ? isBoardComplete : null;
     }
 
     /**
-     * Gets a list of the ancestors of this node
+     * Remembers whether the board of this node is complete at its current version
+     *
+     * @param isBoardComplete true if the board is complete, false otherwise
+     */
+    public void setCachedBoardComplete(boolean isBoardComplete) {
+        this.isBoardComplete = isBoardComplete;
+        this.completeBoardVersion = board.getVersion();
+    }
+
+    /**
+     * Gets a list of the ancestors of this node, starting with this node and ordered by how many
+     * transitions away from this node they are. Merges can give a node several parents, so every
+     * ancestor is listed once even if it can be reached by more than one path.
      *
      * @return list of all the ancestors for this node
      */
     public List<TreeNode> getAncestors() {
         List<TreeNode> ancestors = new ArrayList<>();
-        Queue<TreeNode> it = new LinkedList<>();
+        Set<TreeNode> visited = new HashSet<>();
+        Queue<TreeNode> it = new ArrayDeque<>();
+        visited.add(this);
         it.add(this);
 
         while (!it.isEmpty()) {
             TreeNode next = it.poll();
+            ancestors.add(next);
             if (next.getParent() != null) {
                 for (TreeNode treeNode : next.getParent().getParents()) {
-                    if (!it.contains(treeNode)) {
+                    if (visited.add(treeNode)) {
                         it.add(treeNode);
                     }
                 }
             }
-
-            if (!ancestors.contains(next)) {
-                ancestors.add(next);
-            }
         }
         return ancestors;
     }
@@ -94,7 +123,8 @@ public class TreeNode extends TreeElement {
      */
     public List<TreeElement> getDescendants() {
         List<TreeElement> descendants = new ArrayList<>();
-        Queue<TreeElement> it = new LinkedList<>();
+        Set<TreeElement> visited = new HashSet<>();
+        Queue<TreeElement> it = new ArrayDeque<>();
         it.add(this);
 
         while (!it.isEmpty()) {
@@ -103,7 +133,7 @@ public class TreeNode extends TreeElement {
             if (next.getType() == TreeElementType.NODE) {
                 TreeNode node = (TreeNode) next;
                 for (TreeTransition transition : node.getChildren()) {
-                    if (!descendants.contains(transition)) {
+                    if (visited.add(transition)) {
                         descendants.add(transition);
                         it.add(transition);
                     }
@@ -111,7 +141,7 @@ public class TreeNode extends TreeElement {
             } else {
                 TreeTransition trans = (TreeTransition) next;
                 TreeNode childNode = trans.getChildNode();
-                if (childNode != null && !descendants.contains(childNode)) {
+                if (childNode != null && visited.add(childNode)) {
                     descendants.add(childNode);
                     it.add(childNode);
                 }
@@ -136,23 +166,30 @@ public class TreeNode extends TreeElement {
 
             TreeNode child = tran.getChildNode();
             if (child != null) {
-                List<TreeElement> nodes = new ArrayList<>();
+                // a merge inside the branch would otherwise have its subtree walked once per path
+                Set<TreeElement> visited = new HashSet<>();
+                Queue<TreeElement> nodes = new ArrayDeque<>();
+                visited.add(child);
                 nodes.add(child);
                 while (!nodes.isEmpty()) {
-                    TreeElement element = nodes.get(0);
+                    TreeElement element = nodes.poll();
                     branches.createSet(element);
                     branches.union(tran, element);
 
                     if (element.getType() == TreeElementType.NODE) {
                         TreeNode node = (TreeNode) element;
-                        nodes.addAll(node.getChildren());
+                        for (TreeTransition childTran : node.getChildren()) {
+                            if (visited.add(childTran)) {
+                                nodes.add(childTran);
+                            }
+                        }
                     } else {
                         TreeTransition childTran = (TreeTransition) element;
-                        if (childTran.getChildNode() != null) {
-                            nodes.add(childTran.getChildNode());
+                        TreeNode childNode = childTran.getChildNode();
+                        if (childNode != null && visited.add(childNode)) {
+                            nodes.add(childNode);
                         }
                     }
-                    nodes.remove(element);
                 }
             }
         }
@@ -256,6 +293,7 @@ public class TreeNode extends TreeElement {
      */
     public void addChild(TreeTransition child) {
         children.add(child);
+        invalidateBranchStatus();
     }
 
     /**
@@ -265,6 +303,7 @@ public class TreeNode extends TreeElement {
      */
     public void removeChild(TreeTransition child) {
         children.remove(child);
+        invalidateBranchStatus();
     }
 
     /**
@@ -311,6 +350,7 @@ public class TreeNode extends TreeElement {
      */
     public void setChildren(List<TreeTransition> children) {
         this.children = children;
+        invalidateBranchStatus();
     }
 
     /**
@@ -337,5 +377,6 @@ public class TreeNode extends TreeElement {
      */
     public void clearChildren() {
         this.children.clear();
+        invalidateBranchStatus();
     }
 }
@@ -7,6 +7,7 @@ import edu.rpi.legup.model.rules.Rule;
 import edu.rpi.legup.model.rules.RuleType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a transition between two nodes in a tree structure within a game. A transition is
@@ -21,6 +22,7 @@ public class TreeTransition extends TreeElement {
     private PuzzleElement selection;
     private boolean isCorrect;
     private boolean isVerified;
+    private List<Object> verifiedInputs;
 
     /**
      * TreeTransition Constructor create a transition from one node to another
@@ -36,6 +38,7 @@ public class TreeTransition extends TreeElement {
         this.selection = null;
         this.isCorrect = false;
         this.isVerified = false;
+        this.verifiedInputs = null;
     }
 
     /**
@@ -54,85 +57,145 @@ public class TreeTransition extends TreeElement {
      *
      * @param element puzzleElement of the change made
      */
-    @SuppressWarnings("unchecked")
     public void propagateChange(PuzzleElement element) {
+        propagateChanges(List.of(element));
+    }
+
+    /**
+     * Recursively propagates the changes of several puzzleElements down the tree. All of the
+     * changes are applied to this transition before they are passed on, so every transition below
+     * this one receives them together and has its rule check marked out of date once, no matter
+     * how many elements changed.
+     *
+     * @param elements puzzleElements of the changes made, each of which must be a different
+     *     element of the board
+     */
+    public void propagateChanges(List<? extends PuzzleElement> elements) {
+        propagateChanges(elements, null);
+    }
+
+    /**
+     * Recursively propagates the changes of several puzzleElements down the tree
+     *
+     * @param elements puzzleElements of the changes made
+     * @param headBoard board of the root of the tree, or null if it has not been found yet
+     */
+    @SuppressWarnings("unchecked")
+    private void propagateChanges(List<? extends PuzzleElement> elements, Board headBoard) {
+        List<PuzzleElement> childChanges = new ArrayList<>();
         if (isJustified() && rule.getRuleType() == RuleType.MERGE) {
             TreeNode lca = Tree.getLowestCommonAncestor(parents);
             Board lcaBoard = lca.getBoard();
             List<Board> boards = new ArrayList<>();
             parents.forEach(p -> boards.add(p.getBoard()));
-            PuzzleElement lcaElement = lcaBoard.getPuzzleElement(element);
-            boolean isSame = true;
-            for (Board board : boards) {
-                isSame &= element.equalsData(board.getPuzzleElement(lcaElement));
-            }
+            for (PuzzleElement element : elements) {
+                PuzzleElement lcaElement = lcaBoard.getPuzzleElement(element);
+                boolean isSame = true;
+                for (Board board : boards) {
+                    isSame &= element.equalsData(board.getPuzzleElement(lcaElement));
+                }
 
-            if (isSame) {
-                boolean changed = false;
-                PuzzleElement mergedData = board.getPuzzleElement(element);
-                if (lcaElement.equalsData(element) && !mergedData.equalsData(element)) {
-                    mergedData.setData(element.getData());
-                    board.removeModifiedData(element);
-                    board.notifyChange(element);
-                    changed = true;
-                } else {
-                    if (!lcaElement.equalsData(element)) {
+                if (isSame) {
+                    boolean changed = false;
+                    PuzzleElement mergedData = board.getPuzzleElement(element);
+                    if (lcaElement.equalsData(element) && !mergedData.equalsData(element)) {
                         mergedData.setData(element.getData());
-                        board.addModifiedData(mergedData);
+                        board.removeModifiedData(element);
                         board.notifyChange(element);
                         changed = true;
+                    } else {
+                        if (!lcaElement.equalsData(element)) {
+                            mergedData.setData(element.getData());
+                            board.addModifiedData(mergedData);
+                            board.notifyChange(element);
+                            changed = true;
+                        }
                     }
-                }
-                if (changed && childNode != null) {
-                    childNode.getBoard().notifyChange(element.copy());
-                    for (TreeTransition child : childNode.getChildren()) {
+                    if (changed && childNode != null) {
+                        childNode.getBoard().notifyChange(element.copy());
                         PuzzleElement copy = element.copy();
                         copy.setModifiable(false);
-                        child.propagateChange(copy);
+                        childChanges.add(copy);
                     }
                 }
             }
-        } else {
-            // Overwrite previous modifications to this element
-            board.removeModifiedData(board.getPuzzleElement(element));
-
-            // apply changes to tranistion
-            board.notifyChange(element);
+        } else if (!elements.isEmpty()) {
+            if (headBoard == null && childNode != null) {
+                headBoard = getStartingBoard();
+            }
+            for (PuzzleElement element : elements) {
+                PuzzleElement copy = applyChange(element, headBoard);
+                if (copy != null) {
+                    childChanges.add(copy);
+                }
+            }
+        }
 
-            // mark first transition as modified
-            if (!board.getPuzzleElement(element)
-                    .equalsData(parents.get(0).getBoard().getPuzzleElement(element))) {
-                board.addModifiedData(element);
+        // apply to all child transitions
+        if (childNode != null && !childChanges.isEmpty()) {
+            for (TreeTransition child : childNode.getChildren()) {
+                List<PuzzleElement> copies = new ArrayList<>(childChanges.size());
+                childChanges.forEach(copy -> copies.add(copy.copy()));
+                child.propagateChanges(copies, headBoard);
             }
+        }
+        markStale();
+    }
 
-            // propagate to children
-            if (childNode != null) {
+    /**
+     * Applies the change of puzzleElement to this transition and its child node without
+     * propagating it to the child transitions or marking its rule check out of date. Callers that
+     * apply many changes find the board of the root once and pass it in, instead of walking up the
+     * tree for every change.
+     *
+     * @param element puzzleElement of the change made
+     * @param headBoard board of the root of the tree, or null if there is no child node
+     * @return the copy of the puzzleElement applied to the child node, or null if there is no
+     *     child node
+     */
+    @SuppressWarnings("unchecked")
+    public PuzzleElement applyChange(PuzzleElement element, Board headBoard) {
+        // Overwrite previous modifications to this element
+        board.removeModifiedData(board.getPuzzleElement(element));
 
-                // find starting board
-                TreeNode head = childNode;
-                while (head.getParent() != null) {
-                    head = head.getParent().getParents().get(0);
-                }
-                Board headBoard = head.getBoard();
+        // apply changes to tranistion
+        board.notifyChange(element);
 
-                PuzzleElement copy = element.copy();
-                // Set as modifiable if reverted to starting value (and started modifiable)
-                if (headBoard.getPuzzleElement(element).equalsData(element)) {
-                    copy.setModifiable(headBoard.getPuzzleElement(element).isModifiable());
-                } else {
-                    copy.setModifiable(false);
-                }
+        // mark first transition as modified
+        if (!board.getPuzzleElement(element)
+                .equalsData(parents.get(0).getBoard().getPuzzleElement(element))) {
+            board.addModifiedData(element);
+        }
 
-                // apply changes to result node
-                childNode.getBoard().notifyChange(copy);
+        if (childNode == null) {
+            return null;
+        }
 
-                // apply to all child transitions
-                for (TreeTransition child : childNode.getChildren()) {
-                    child.propagateChange(copy.copy());
-                }
-            }
+        PuzzleElement copy = element.copy();
+        // Set as modifiable if reverted to starting value (and started modifiable)
+        if (headBoard.getPuzzleElement(element).equalsData(element)) {
+            copy.setModifiable(headBoard.getPuzzleElement(element).isModifiable());
+        } else {
+            copy.setModifiable(false);
         }
-        reverify();
+
+        // apply changes to result node
+        childNode.getBoard().notifyChange(copy);
+        return copy;
+    }
+
+    /**
+     * Gets the board of the root of the tree, found by following the first parent of every
+     * transition up from the child node
+     *
+     * @return board of the root node
+     */
+    private Board getStartingBoard() {
+        TreeNode head = childNode;
+        while (head.getParent() != null) {
+            head = head.getParent().getParents().get(0);
+        }
+        return head.getBoard();
     }
 
     /**
@@ -185,7 +248,7 @@ public class TreeTransition extends TreeElement {
                 }
             }
         }
-        reverify();
+        markStale();
     }
 
     /**
@@ -238,7 +301,7 @@ public class TreeTransition extends TreeElement {
                 }
             }
         }
-        reverify();
+        markStale();
     }
 
     /**
@@ -248,15 +311,12 @@ public class TreeTransition extends TreeElement {
      * @return true if this tree node leads to a contradiction, false otherwise
      */
     @Override
-    public boolean isContradictoryBranch() {
+    protected boolean computeContradictoryBranch() {
+        boolean isChildContradictory = childNode != null && childNode.isContradictoryBranch();
         if (isJustified() && isCorrect() && rule.getRuleType() == RuleType.CONTRADICTION) {
             return true;
         } else {
-            if (childNode == null) {
-                return false;
-            } else {
-                return childNode.isContradictoryBranch() && isJustified() && isCorrect();
-            }
+            return isChildContradictory && isJustified() && isCorrect();
         }
     }
 
@@ -269,8 +329,14 @@ public class TreeTransition extends TreeElement {
      *     valid, false otherwise
      */
     @Override
-    public boolean isValidBranch() {
-        return isJustified() && isCorrect() && childNode != null && childNode.isValidBranch();
+    protected boolean computeValidBranch() {
+        boolean isChildValid = childNode != null && childNode.isValidBranch();
+        return isJustified() && isCorrect() && isChildValid;
+    }
+
+    @Override
+    protected List<TreeNode> getParentElements() {
+        return parents;
     }
 
     /**
@@ -335,6 +401,7 @@ public class TreeTransition extends TreeElement {
      */
     public void setChildNode(TreeNode childNode) {
         this.childNode = childNode;
+        invalidateBranchStatus();
     }
 
     /**
@@ -372,6 +439,8 @@ public class TreeTransition extends TreeElement {
     public void setRule(Rule rule) {
         this.rule = rule;
         isVerified = false;
+        verifiedInputs = null;
+        invalidateBranchStatus();
     }
 
     /**
@@ -393,6 +462,9 @@ public class TreeTransition extends TreeElement {
      */
     public void setSelection(PuzzleElement selection) {
         this.selection = selection;
+        isVerified = false;
+        verifiedInputs = null;
+        invalidateBranchStatus();
     }
 
     /**
@@ -402,8 +474,15 @@ public class TreeTransition extends TreeElement {
      */
     public boolean isCorrect() {
         if (isJustified() && !isVerified) {
-            isCorrect = rule.checkRule(this) == null;
+            VerificationCache.recordMiss();
+            List<Object> inputs = VerificationCache.inputsOf(this);
+            boolean isCorrect = rule.checkRule(this) == null;
+            if (isCorrect != this.isCorrect) {
+                this.isCorrect = isCorrect;
+                invalidateBranchStatus();
+            }
             isVerified = true;
+            verifiedInputs = inputs;
         }
         return isJustified() && isCorrect;
     }
@@ -414,20 +493,90 @@ public class TreeTransition extends TreeElement {
      * @param isCorrect true if this transition is correctly justified, false otherwise
      */
     public void setCorrect(boolean isCorrect) {
-        this.isCorrect = isCorrect;
+        if (isCorrect != this.isCorrect) {
+            this.isCorrect = isCorrect;
+            invalidateBranchStatus();
+        }
         this.isVerified = true;
+        this.verifiedInputs = isJustified() ? VerificationCache.inputsOf(this) : null;
     }
 
     /**
-     * Forces check of rule on this transition regardless if it has been cached already
+     * Checks the rule on this transition again unless none of the boards it depends on have
+     * changed since it was last checked, in which case the cached result is used
      *
      * @return true if this transition is correctly justified, false otherwise
      */
     public boolean reverify() {
+        if (isInputUnchanged()) {
+            return isCorrect;
+        }
         isVerified = false;
         return isCorrect();
     }
 
+    /**
+     * Marks the rule check of this transition out of date if any of the boards it depends on have
+     * changed since it was last checked. The rule is not checked here: the {@link
+     * VerificationService} checks it in the background once the change is announced to the tree
+     * listeners, or {@link #isCorrect()} checks it when the result is needed right away.
+     */
+    void markStale() {
+        if (isVerified && !isInputUnchanged()) {
+            clearVerified();
+            invalidateBranchStatus();
+        }
+    }
+
+    /**
+     * Gets whether the result of the rule check of this transition is known, so that {@link
+     * #isCorrect()} returns without checking the rule
+     *
+     * @return true if this transition is not justified or its rule has been checked, false
+     *     otherwise
+     */
+    public boolean isVerified() {
+        return !isJustified() || isVerified;
+    }
+
+    /**
+     * Determines if the result of the last rule check can be reused because none of the boards
+     * this transition depends on have changed since
+     *
+     * @return true if the last result can be reused, false otherwise
+     */
+    boolean isInputUnchanged() {
+        if (isJustified()
+                && isVerified
+                && Objects.equals(verifiedInputs, VerificationCache.inputsOf(this))) {
+            VerificationCache.recordHit();
+            return true;
+        }
+        return false;
+    }
+
+    /** Marks the rule of this transition as not checked, so it is checked again when needed */
+    void clearVerified() {
+        isVerified = false;
+        verifiedInputs = null;
+    }
+
+    /**
+     * Sets the result of a rule check of this transition that was made against the specified
+     * inputs
+     *
+     * @param isCorrect true if this transition is correctly justified, false otherwise
+     * @param inputs inputs of this transition when its rule was checked
+     */
+    void setVerified(boolean isCorrect, List<Object> inputs) {
+        if (isCorrect != this.isCorrect) {
+            this.isCorrect = isCorrect;
+            invalidateBranchStatus();
+        }
+        this.isVerified = true;
+        this.verifiedInputs = inputs;
+    }
+
     /**
      * Gets whether this transition is justified
      *
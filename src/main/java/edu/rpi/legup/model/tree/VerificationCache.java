@@ -0,0 +1,84 @@
+package edu.rpi.legup.model.tree;
+
+import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.rules.Rule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * VerificationCache decides whether the rule check of a {@link TreeTransition} has to be redone.
+ * Each transition remembers the inputs its rule was last checked against: the versions of its own
+ * board and of its parent boards, which change whenever a puzzle element or the set of modified
+ * puzzle elements changes, and the shape of its parent nodes. When a transition is asked to
+ * reverify and none of those inputs have changed, the remembered result is reused instead of
+ * running the rule again.
+ *
+ * <p>Hit and miss counters are kept for every transition in the program so the effectiveness of
+ * the cache can be measured.
+ */
+public final class VerificationCache {
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private VerificationCache() {}
+
+    /**
+     * Gets the inputs that the rule of the transition depends on. Case rules check every child of
+     * the parent node at once, so the boards and rules of the sibling transitions are included for
+     * them.
+     *
+     * @param transition transition whose inputs to get
+     * @return list of the inputs of the transition
+     */
+    static List<Object> inputsOf(TreeTransition transition) {
+        List<Object> inputs = new ArrayList<>();
+        inputs.add(transition.getBoard().getVersion());
+        for (TreeNode parent : transition.getParents()) {
+            inputs.add(parent.getBoard().getVersion());
+            inputs.add(parent.getChildren().size());
+            if (transition.getRule() instanceof CaseRule) {
+                for (TreeTransition sibling : parent.getChildren()) {
+                    Rule rule = sibling.getRule();
+                    inputs.add(sibling.getBoard().getVersion());
+                    inputs.add(rule == null ? "" : rule);
+                }
+            }
+        }
+        return inputs;
+    }
+
+    /** Records that a transition reused its previous result */
+    static void recordHit() {
+        HITS.incrementAndGet();
+    }
+
+    /** Records that a transition had to run its rule check */
+    static void recordMiss() {
+        MISSES.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of times a transition was reverified without running its rule check
+     *
+     * @return number of cache hits
+     */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of times a transition ran its rule check
+     *
+     * @return number of cache misses
+     */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    /** Resets the hit and miss counters to zero */
+    public static void resetCounters() {
+        HITS.set(0);
+        MISSES.set(0);
+    }
+}
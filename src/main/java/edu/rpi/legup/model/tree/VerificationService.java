@@ -0,0 +1,377 @@
+package edu.rpi.legup.model.tree;
+
+import edu.rpi.legup.model.Puzzle;
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.Rule;
+import java.awt.EventQueue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * VerificationService checks the rules of {@link TreeTransition}s in the background, so that
+ * expensive rules do not block the user interface. The rule is checked against a snapshot of the
+ * boards of the transition, its parent node and the siblings of the transition, which is taken when
+ * the check is requested, so the tree can be edited while the check runs. The result is handed
+ * back on the publishing thread, normally the event dispatch thread, where it is stored in the
+ * transition and announced to the tree listeners of the puzzle through {@link
+ * edu.rpi.legup.model.observer.ITreeListener#onTransitionVerified(TreeTransition)}.
+ *
+ * <p>A check is superseded when the transition is checked again with different inputs, for
+ * example after the user edits its board; the superseded check is cancelled and its result is
+ * dropped. Checks of merge transitions need the whole tree above them to find the common ancestor
+ * of the merged nodes, so they are done right away on the calling thread.
+ */
+public final class VerificationService {
+    private static final Logger LOGGER = LogManager.getLogger(VerificationService.class.getName());
+
+    private static VerificationService instance;
+
+    private final ExecutorService executor;
+    private final Executor publisher;
+    private final Map<TreeTransition, Check> checks;
+    private volatile ElementCheck elementCheck;
+
+    /**
+     * VerificationService Constructor creates a service that checks rules on the executor
+     *
+     * @param executor executor that checks the rules
+     * @param publisher executor that stores and announces the results, which must be the thread
+     *     that edits the tree
+     */
+    public VerificationService(ExecutorService executor, Executor publisher) {
+        this.executor = executor;
+        this.publisher = publisher;
+        this.checks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the service used by the user interface, which checks rules on a small pool of daemon
+     * threads and publishes the results on the event dispatch thread
+     *
+     * @return the shared verification service
+     */
+    public static synchronized VerificationService getInstance() {
+        if (instance == null) {
+            int threadCount =
+                    Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+            AtomicInteger threadNumber = new AtomicInteger();
+            ExecutorService executor =
+                    Executors.newFixedThreadPool(
+                            threadCount,
+                            runnable -> {
+                                Thread thread =
+                                        new Thread(
+                                                runnable,
+                                                "verification-" + threadNumber.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            instance = new VerificationService(executor, EventQueue::invokeLater);
+        }
+        return instance;
+    }
+
+    /**
+     * Requests the result of the rule check of a transition. If the result is not known yet, the
+     * rule is checked in the background and the tree listeners of the puzzle are notified once
+     * the result has been stored in the transition.
+     *
+     * @param puzzle puzzle whose tree listeners are notified, or null to notify nobody
+     * @param transition transition to check
+     * @return true if the result is known and {@link TreeTransition#isCorrect()} returns it
+     *     without checking the rule, false if the check is pending
+     */
+    public boolean verify(Puzzle puzzle, TreeTransition transition) {
+        if (transition.isVerified()) {
+            return true;
+        }
+        if (transition.getParents().size() != 1) {
+            transition.isCorrect();
+            return true;
+        }
+
+        Check check =
+                new Check(
+                        transition.getRule(),
+                        transition.getSelection(),
+                        VerificationCache.inputsOf(transition));
+        Check previous = checks.get(transition);
+        if (previous != null) {
+            if (previous.isCheckOf(transition, check.inputs)) {
+                return false;
+            }
+            previous.cancel();
+        }
+        checks.put(transition, check);
+
+        TreeTransition snapshot = snapshot(transition);
+        check.future =
+                executor.submit(
+                        () -> {
+                            boolean isCorrect = checkRule(snapshot);
+                            publisher.execute(
+                                    () -> publish(puzzle, transition, check, snapshot, isCorrect));
+                        });
+        return false;
+    }
+
+    /**
+     * Requests the rule check of a transition again unless none of the boards it depends on have
+     * changed since it was last checked. This is the background counterpart of {@link
+     * TreeTransition#reverify()}.
+     *
+     * @param puzzle puzzle whose tree listeners are notified, or null to notify nobody
+     * @param transition transition to check
+     * @return true if the result is known, false if the check is pending
+     */
+    public boolean reverify(Puzzle puzzle, TreeTransition transition) {
+        if (!transition.isInputUnchanged()) {
+            transition.clearVerified();
+        }
+        return verify(puzzle, transition);
+    }
+
+    /**
+     * Determines if the rule check of a transition is running or waiting to run
+     *
+     * @param transition transition
+     * @return true if the check of the transition is pending, false otherwise
+     */
+    public boolean isPending(TreeTransition transition) {
+        return checks.containsKey(transition);
+    }
+
+    /**
+     * Finds the mistake of a transition at a single puzzle element in the background, as is done
+     * to explain a mistake at the element. Like {@link Rule#checkRuleAt} it gives the error
+     * message of the rule at the element, but only if the transition is not correctly justified.
+     * Only the most recent of these checks is completed; requesting another one or calling {@link
+     * #cancelCheckAt()} cancels it.
+     *
+     * @param transition justified transition to check
+     * @param element puzzle element of the board of the transition
+     * @param callback receives the error message, or null if the transition is correct or the rule
+     *     holds at the element, on the publishing thread
+     */
+    public void checkAt(
+            TreeTransition transition, PuzzleElement element, Consumer<String> callback) {
+        cancelCheckAt();
+        Rule rule = transition.getRule();
+        if (transition.isVerified() && transition.isCorrect()) {
+            callback.accept(null);
+            return;
+        }
+        if (transition.getParents().size() != 1) {
+            callback.accept(
+                    transition.isCorrect() ? null : rule.checkRuleAt(transition, element));
+            return;
+        }
+
+        boolean isKnownIncorrect = transition.isVerified();
+        TreeTransition snapshot = snapshot(transition);
+        PuzzleElement snapshotElement = snapshot.getBoard().getPuzzleElement(element);
+        ElementCheck check = new ElementCheck();
+        elementCheck = check;
+        check.future =
+                executor.submit(
+                        () -> {
+                            String error = null;
+                            if (isKnownIncorrect || !checkRule(snapshot)) {
+                                error = checkRuleAt(rule, snapshot, snapshotElement);
+                            }
+                            String finalError = error;
+                            publisher.execute(
+                                    () -> {
+                                        if (elementCheck == check) {
+                                            elementCheck = null;
+                                            callback.accept(finalError);
+                                        }
+                                    });
+                        });
+    }
+
+    /** Cancels the check requested through {@link #checkAt}, so its callback is not called */
+    public void cancelCheckAt() {
+        ElementCheck check = elementCheck;
+        elementCheck = null;
+        if (check != null && check.future != null) {
+            check.future.cancel(true);
+        }
+    }
+
+    /** Cancels every pending check and stops the threads of this service */
+    public void shutdown() {
+        checks.values().forEach(Check::cancel);
+        checks.clear();
+        cancelCheckAt();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Stores the result of a check in the transition, unless the check was superseded or the
+     * transition was changed while it ran, and notifies the tree listeners
+     *
+     * @param puzzle puzzle whose tree listeners are notified, or null
+     * @param transition transition that was checked
+     * @param check the check
+     * @param snapshot snapshot of the transition the rule was checked on
+     * @param isCorrect result of the check
+     */
+    private void publish(
+            Puzzle puzzle,
+            TreeTransition transition,
+            Check check,
+            TreeTransition snapshot,
+            boolean isCorrect) {
+        if (!checks.remove(transition, check)) {
+            return;
+        }
+        if (!transition.isVerified()
+                && check.isCheckOf(transition, VerificationCache.inputsOf(transition))) {
+            // direct rules mark the elements they reject, which is shown on the board
+            for (PuzzleElement element : snapshot.getBoard().getModifiedData()) {
+                PuzzleElement original = transition.getBoard().getPuzzleElement(element);
+                if (original != null) {
+                    original.setValid(element.isValid());
+                }
+            }
+            transition.setVerified(isCorrect, check.inputs);
+        }
+        if (puzzle != null) {
+            puzzle.notifyTreeListeners(listener -> listener.onTransitionVerified(transition));
+        }
+    }
+
+    /**
+     * Creates a copy of a transition that has a single parent, together with its parent node and
+     * the siblings of the transition, that a rule can be checked on without reading the boards of
+     * the tree
+     *
+     * @param transition transition to copy
+     * @return the copy of the transition
+     */
+    private static TreeTransition snapshot(TreeTransition transition) {
+        TreeNode parent = transition.getParents().get(0);
+        TreeNode parentCopy = new TreeNode(parent.getBoard().copy());
+        TreeTransition copy = null;
+        for (TreeTransition child : parent.getChildren()) {
+            TreeTransition childCopy = copyTransition(parentCopy, child);
+            parentCopy.addChild(childCopy);
+            if (child == transition) {
+                copy = childCopy;
+            }
+        }
+        if (copy == null) {
+            copy = copyTransition(parentCopy, transition);
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a copy of a transition below a copy of its parent node
+     *
+     * @param parentCopy copy of the parent node
+     * @param transition transition to copy
+     * @return the copy of the transition
+     */
+    private static TreeTransition copyTransition(TreeNode parentCopy, TreeTransition transition) {
+        Board board = transition.getBoard();
+        Board boardCopy = board.copy();
+        // board copies do not keep the modified puzzle elements, which direct rules check, even
+        // when the copied puzzle elements are still flagged as modified
+        for (PuzzleElement element : board.getModifiedData()) {
+            PuzzleElement elementCopy = boardCopy.getPuzzleElement(element);
+            if (elementCopy != null && !boardCopy.getModifiedData().contains(elementCopy)) {
+                boardCopy.addModifiedData(elementCopy);
+                elementCopy.setModifiable(element.isModifiable());
+            }
+        }
+        TreeTransition copy = new TreeTransition(parentCopy, boardCopy);
+        copy.setRule(transition.getRule());
+        copy.setSelection(transition.getSelection());
+        return copy;
+    }
+
+    /**
+     * Checks the rule of a snapshot of a transition
+     *
+     * @param snapshot snapshot of the transition
+     * @return true if the transition is correctly justified, false otherwise or if the rule failed
+     */
+    private static boolean checkRule(TreeTransition snapshot) {
+        VerificationCache.recordMiss();
+        try {
+            return snapshot.getRule().checkRule(snapshot) == null;
+        } catch (RuntimeException e) {
+            LOGGER.error("Rule {} failed to check a transition", snapshot.getRule(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks the rule of a snapshot of a transition at a puzzle element
+     *
+     * @param rule rule to check
+     * @param snapshot snapshot of the transition
+     * @param element puzzle element of the snapshot
+     * @return the error message, or null if the rule holds at the element
+     */
+    private static String checkRuleAt(Rule rule, TreeTransition snapshot, PuzzleElement element) {
+        try {
+            return rule.checkRuleAt(snapshot, element);
+        } catch (RuntimeException e) {
+            LOGGER.error("Rule {} failed to check a puzzle element", rule, e);
+            return e.getMessage();
+        }
+    }
+
+    /** A requested check of a transition and the inputs it was requested with */
+    private static final class Check {
+        private final Rule rule;
+        private final PuzzleElement selection;
+        private final List<Object> inputs;
+        private volatile Future<?> future;
+
+        private Check(Rule rule, PuzzleElement selection, List<Object> inputs) {
+            this.rule = rule;
+            this.selection = selection;
+            this.inputs = inputs;
+        }
+
+        /**
+         * Determines if this check is a check of the current state of a transition
+         *
+         * @param transition transition
+         * @param currentInputs current inputs of the transition
+         * @return true if the rule, selection and inputs of the transition are the ones checked
+         */
+        private boolean isCheckOf(TreeTransition transition, List<Object> currentInputs) {
+            return transition.getRule() == rule
+                    && transition.getSelection() == selection
+                    && Objects.equals(inputs, currentInputs);
+        }
+
+        private void cancel() {
+            Future<?> running = future;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+
+    /** A requested check of a transition at a single puzzle element */
+    private static final class ElementCheck {
+        private volatile Future<?> future;
+    }
+}
@@ -93,10 +93,10 @@ public class BattleshipBoard extends GridBoard {
     public List<BattleshipCell> getAdjOrthogonals(BattleshipCell cell) {
         List<BattleshipCell> adj = new ArrayList<>();
         Point loc = cell.getLocation();
-        BattleshipCell up = getCell(loc.x, loc.y - 1);
-        BattleshipCell right = getCell(loc.x + 1, loc.y);
-        BattleshipCell down = getCell(loc.x, loc.y + 1);
-        BattleshipCell left = getCell(loc.x - 1, loc.y);
+        BattleshipCell up = (BattleshipCell) getCellOrNull(loc.x, loc.y - 1);
+        BattleshipCell right = (BattleshipCell) getCellOrNull(loc.x + 1, loc.y);
+        BattleshipCell down = (BattleshipCell) getCellOrNull(loc.x, loc.y + 1);
+        BattleshipCell left = (BattleshipCell) getCellOrNull(loc.x - 1, loc.y);
         adj.add(up);
         adj.add(right);
         adj.add(down);
@@ -114,10 +114,10 @@ public class BattleshipBoard extends GridBoard {
     public List<BattleshipCell> getAdjDiagonals(BattleshipCell cell) {
         List<BattleshipCell> dia = new ArrayList<>();
         Point loc = cell.getLocation();
-        BattleshipCell upRight = getCell(loc.x + 1, loc.y - 1);
-        BattleshipCell downRight = getCell(loc.x + 1, loc.y + 1);
-        BattleshipCell downLeft = getCell(loc.x - 1, loc.y + 1);
-        BattleshipCell upLeft = getCell(loc.x - 1, loc.y - 1);
+        BattleshipCell upRight = (BattleshipCell) getCellOrNull(loc.x + 1, loc.y - 1);
+        BattleshipCell downRight = (BattleshipCell) getCellOrNull(loc.x + 1, loc.y + 1);
+        BattleshipCell downLeft = (BattleshipCell) getCellOrNull(loc.x - 1, loc.y + 1);
+        BattleshipCell upLeft = (BattleshipCell) getCellOrNull(loc.x - 1, loc.y - 1);
         dia.add(upRight);
         dia.add(downRight);
         dia.add(downLeft);
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.Puzzle;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
+import java.util.Random;
 
 public class Binary extends Puzzle {
     public Binary() {
@@ -15,6 +16,7 @@ public class Binary extends Puzzle {
         this.exporter = new BinaryExporter(this);
 
         this.factory = new BinaryCellFactory();
+        this.generator = new BinaryGenerator(8, 8);
     }
 
     /** Initializes the game board. Called by the invoker of the class */
@@ -32,7 +34,7 @@ public class Binary extends Puzzle {
      */
     @Override
     public Board generatePuzzle(int difficulty) {
-        return null;
+        return generator.generate(difficulty, new Random().nextLong());
     }
 
     /**
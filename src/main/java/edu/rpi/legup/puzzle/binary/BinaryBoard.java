@@ -1,12 +1,16 @@
 package edu.rpi.legup.puzzle.binary;
 
 import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.PackedCellCodec;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
 public class BinaryBoard extends GridBoard {
+    private static final PackedCellCodec<BinaryCell> PACKED_CELL_CODEC =
+            new PackedCellCodec<>(BinaryCell.class, BinaryCell::getData, BinaryCell::new);
+
     private int size;
 
     public BinaryBoard(int width, int height) {
@@ -28,14 +32,7 @@ public class BinaryBoard extends GridBoard {
      */
     @Override
     public BinaryCell getCell(int x, int y) {
-        if (y * dimension.width + x >= puzzleElements.size()
-                || x >= dimension.width
-                || y >= dimension.height
-                || x < 0
-                || y < 0) {
-            return null;
-        }
-        return (BinaryCell) super.getCell(x, y);
+        return (BinaryCell) getCellOrNull(x, y);
     }
 
     /**
@@ -97,6 +94,11 @@ public class BinaryBoard extends GridBoard {
         return col;
     }
 
+    @Override
+    protected PackedCellCodec<BinaryCell> getPackedCellCodec() {
+        return PACKED_CELL_CODEC;
+    }
+
     /**
      * Get a copy of the binary board
      *
@@ -105,11 +107,7 @@ public class BinaryBoard extends GridBoard {
     @Override
     public BinaryBoard copy() {
         BinaryBoard copy = new BinaryBoard(dimension.width, dimension.height);
-        for (int x = 0; x < this.dimension.width; x++) {
-            for (int y = 0; y < this.dimension.height; y++) {
-                copy.setCell(x, y, getCell(x, y).copy());
-            }
-        }
+        copyCellsTo(copy);
         for (PuzzleElement e : modifiedData) {
             copy.getPuzzleElement(e).setModifiable(false);
         }
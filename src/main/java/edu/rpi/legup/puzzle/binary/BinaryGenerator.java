@@ -0,0 +1,201 @@
+package edu.rpi.legup.puzzle.binary;
+
+import edu.rpi.legup.model.PuzzleGenerator;
+import edu.rpi.legup.model.gameboard.Board;
+import java.awt.Point;
+
+/**
+ * Generates random Binary puzzles. Propagation completes trios and rows or columns that already
+ * have half of their cells set to one value, and rejects boards with three equal cells in a line,
+ * unbalanced rows or columns, or two rows or columns that are the same.
+ */
+public class BinaryGenerator extends PuzzleGenerator {
+    private static final int[] OPTIONS = {BinaryType.ZERO.toValue(), BinaryType.ONE.toValue()};
+
+    private final int width;
+    private final int height;
+
+    /**
+     * BinaryGenerator Constructor creates a generator for boards of the given size
+     *
+     * @param width number of columns of the board
+     * @param height number of rows of the board
+     * @throws IllegalArgumentException if the width or height is not a positive even number
+     */
+    public BinaryGenerator(int width, int height) {
+        if (width < 2 || height < 2 || width % 2 != 0 || height % 2 != 0) {
+            throw new IllegalArgumentException(
+                    "Invalid Binary dimensions: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    protected int getCellCount() {
+        return width * height;
+    }
+
+    @Override
+    protected boolean propagate(int[] cells) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int y = 0; y < height; y++) {
+                int result = propagateLine(cells, y * width, 1, width);
+                if (result < 0) {
+                    return false;
+                }
+                changed |= result > 0;
+            }
+            for (int x = 0; x < width; x++) {
+                int result = propagateLine(cells, x, width, height);
+                if (result < 0) {
+                    return false;
+                }
+                changed |= result > 0;
+            }
+        }
+        return hasUniqueLines(cells, width, 1, width) && hasUniqueLines(cells, 1, width, height);
+    }
+
+    @Override
+    protected int[] getOptions(int[] cells, int index) {
+        return OPTIONS.clone();
+    }
+
+    @Override
+    protected Board createBoard(int[] clues) {
+        BinaryBoard board = new BinaryBoard(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int value = clues[y * width + x];
+                BinaryCell cell =
+                        new BinaryCell(
+                                value == UNKNOWN ? BinaryType.UNKNOWN.toValue() : value,
+                                new Point(x, y));
+                cell.setIndex(y * width + x);
+                cell.setModifiable(value == UNKNOWN);
+                cell.setGiven(value != UNKNOWN);
+                board.setCell(x, y, cell);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Fills in the cells of a row or column that follow from trios and from the balance of the
+     * line
+     *
+     * @param cells values of the cells
+     * @param start index of the first cell of the line
+     * @param step difference between the indices of neighbouring cells of the line
+     * @param length number of cells in the line
+     * @return -1 if the line breaks a constraint, 1 if a cell was filled in, 0 otherwise
+     */
+    private static int propagateLine(int[] cells, int start, int step, int length) {
+        boolean changed = false;
+        for (int i = 0; i + 2 < length; i++) {
+            int a = start + i * step;
+            int b = a + step;
+            int c = b + step;
+            if (cells[a] != UNKNOWN && cells[a] == cells[b] && cells[b] == cells[c]) {
+                return -1;
+            }
+            // two equal cells of a trio force the third to the other value
+            if (cells[a] == UNKNOWN && cells[b] != UNKNOWN && cells[b] == cells[c]) {
+                cells[a] = 1 - cells[b];
+                changed = true;
+            } else if (cells[b] == UNKNOWN && cells[a] != UNKNOWN && cells[a] == cells[c]) {
+                cells[b] = 1 - cells[a];
+                changed = true;
+            } else if (cells[c] == UNKNOWN && cells[a] != UNKNOWN && cells[a] == cells[b]) {
+                cells[c] = 1 - cells[a];
+                changed = true;
+            }
+        }
+
+        int[] counts = new int[2];
+        for (int i = 0; i < length; i++) {
+            int value = cells[start + i * step];
+            if (value != UNKNOWN) {
+                counts[value]++;
+            }
+        }
+        for (int value = 0; value < 2; value++) {
+            if (counts[value] > length / 2) {
+                return -1;
+            }
+            if (counts[value] == length / 2 && counts[1 - value] < length / 2) {
+                for (int i = 0; i < length; i++) {
+                    if (cells[start + i * step] == UNKNOWN) {
+                        cells[start + i * step] = 1 - value;
+                    }
+                }
+                changed = true;
+            }
+        }
+        return changed ? 1 : 0;
+    }
+
+    /**
+     * Determines if no two complete lines are the same
+     *
+     * @param cells values of the cells
+     * @param lineStep difference between the indices of the first cells of neighbouring lines
+     * @param step difference between the indices of neighbouring cells of a line
+     * @param length number of cells in a line
+     * @return true if every complete line is different, false otherwise
+     */
+    private static boolean hasUniqueLines(int[] cells, int lineStep, int step, int length) {
+        int lineCount = cells.length / length;
+        for (int first = 0; first < lineCount; first++) {
+            if (!isComplete(cells, first * lineStep, step, length)) {
+                continue;
+            }
+            for (int second = first + 1; second < lineCount; second++) {
+                if (isSame(cells, first * lineStep, second * lineStep, step, length)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if every cell of a line is known
+     *
+     * @param cells values of the cells
+     * @param start index of the first cell of the line
+     * @param step difference between the indices of neighbouring cells of the line
+     * @param length number of cells in the line
+     * @return true if the line is complete, false otherwise
+     */
+    private static boolean isComplete(int[] cells, int start, int step, int length) {
+        for (int i = 0; i < length; i++) {
+            if (cells[start + i * step] == UNKNOWN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if a complete line has the same cells as another line
+     *
+     * @param cells values of the cells
+     * @param first index of the first cell of the complete line
+     * @param second index of the first cell of the other line
+     * @param step difference between the indices of neighbouring cells of a line
+     * @param length number of cells in a line
+     * @return true if the other line is complete and the same, false otherwise
+     */
+    private static boolean isSame(int[] cells, int first, int second, int step, int length) {
+        for (int i = 0; i < length; i++) {
+            if (cells[first + i * step] != cells[second + i * step]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.binary.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.binary.BinaryBoard;
@@ -31,7 +32,7 @@ public class PreventTrioDirectRule extends DirectRule {
     @Override
     public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
         BinaryBoard origBoard = (BinaryBoard) transition.getParents().get(0).getBoard();
-        TrioContradictionRule contraRule = new TrioContradictionRule();
+        TrioContradictionRule contraRule = RuleRegistry.getRule(TrioContradictionRule.class);
         BinaryCell binaryCell = (BinaryCell) puzzleElement;
         BinaryBoard modified = origBoard.copy();
 
@@ -1,41 +1,114 @@
 package edu.rpi.legup.puzzle.fillapix;
 
 import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.fillapix.rules.TooFewBlackCellsContradictionRule;
 import edu.rpi.legup.puzzle.fillapix.rules.TooManyBlackCellsContradictionRule;
+import edu.rpi.legup.utility.Combinations;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class FillapixUtilities {
 
     public static boolean isForcedBlack(FillapixBoard board, FillapixCell cell) {
-        TooFewBlackCellsContradictionRule tooManyBlackCells =
-                new TooFewBlackCellsContradictionRule();
-        FillapixBoard whiteCaseBoard = board.copy();
-        FillapixCell whiteCell = (FillapixCell) whiteCaseBoard.getPuzzleElement(cell);
-        whiteCell.setCellType(FillapixCellType.WHITE);
-        ArrayList<FillapixCell> adjCells = getAdjacentCells(whiteCaseBoard, whiteCell);
-        for (FillapixCell adjCell : adjCells) {
-            if (tooManyBlackCells.checkContradictionAt(whiteCaseBoard, adjCell) == null) {
+        return isForced(board, cell, true);
+    }
+
+    public static boolean isForcedWhite(FillapixBoard board, FillapixCell cell) {
+        return isForced(board, cell, false);
+    }
+
+    /**
+     * Checks if a cell is forced to be black or white by a clue next to it. The cell is forced if
+     * no way of shading the cells around the clue satisfies the clue unless the cell has that
+     * color. A clue that already touches too many black cells does not force cells to be black,
+     * and one that touches too few cells that can be black does not force cells to be white.
+     *
+     * @param board fillapix board
+     * @param cell cell to check, which is treated as unknown
+     * @param isBlack true to check if the cell must be black, false to check if it must be white
+     * @return true if the cell is forced, false otherwise
+     */
+    private static boolean isForced(FillapixBoard board, FillapixCell cell, boolean isBlack) {
+        FillapixCell boardCell = (FillapixCell) board.getPuzzleElement(cell);
+        for (FillapixCell clue : getAdjacentCells(board, boardCell)) {
+            int number = clue.getNumber();
+            if (number < 0 || number >= 10) {
+                continue;
+            }
+            // the cell is item 0 and the other unknown cells around the clue follow it
+            int black = 0;
+            int items = 1;
+            for (FillapixCell adjCell : getAdjacentCells(board, clue)) {
+                if (adjCell == boardCell) {
+                    continue;
+                }
+                if (adjCell.getType() == FillapixCellType.BLACK) {
+                    black++;
+                }
+                if (adjCell.getType() == FillapixCellType.UNKNOWN) {
+                    items++;
+                }
+            }
+            int needed = number - black;
+            if (isBlack ? needed < 0 : needed > items) {
+                continue;
+            }
+            if (!Combinations.anyMatch(
+                    needed, items, List.of(), mask -> ((mask & 1L) != 0) != isBlack)) {
                 return true;
             }
         }
         return false;
     }
 
-    public static boolean isForcedWhite(FillapixBoard board, FillapixCell cell) {
-        TooManyBlackCellsContradictionRule tooManyBlackCells =
-                new TooManyBlackCellsContradictionRule();
-        FillapixBoard blackCaseBoard = board.copy();
-        FillapixCell blackCell = (FillapixCell) blackCaseBoard.getPuzzleElement(cell);
-        blackCell.setCellType(FillapixCellType.BLACK);
-        ArrayList<FillapixCell> adjCells = getAdjacentCells(blackCaseBoard, blackCell);
-        for (FillapixCell adjCell : adjCells) {
-            if (tooManyBlackCells.checkContradictionAt(blackCaseBoard, adjCell) == null) {
-                return true;
+    /**
+     * Gets the limits that the clues next to some unknown cells put on which of those cells can be
+     * black. The limits are used to skip the ways of shading the cells around a clue that leave
+     * another clue with too many black cells or too few cells left to shade. Clues that already
+     * have too many black cells or too few cells left are skipped.
+     *
+     * @param board fillapix board
+     * @param clue clue cell whose cells are shaded, which puts no limit
+     * @param unknownCells unknown cells, in the order of the items of the combinations
+     * @return a limit for each other clue next to the unknown cells
+     */
+    public static List<Combinations.Constraint> getClueConstraints(
+            FillapixBoard board, FillapixCell clue, List<FillapixCell> unknownCells) {
+        Map<FillapixCell, Long> masks = new IdentityHashMap<>();
+        for (int i = 0; i < unknownCells.size(); i++) {
+            for (FillapixCell adjCell : getAdjacentCells(board, unknownCells.get(i))) {
+                int number = adjCell.getNumber();
+                if (adjCell != clue && number >= 0 && number < 10) {
+                    masks.merge(adjCell, 1L << i, (a, b) -> a | b);
+                }
             }
         }
-        return false;
+
+        List<Combinations.Constraint> constraints = new ArrayList<>(masks.size());
+        for (Map.Entry<FillapixCell, Long> entry : masks.entrySet()) {
+            int black = 0;
+            int unknown = 0;
+            for (FillapixCell adjCell : getAdjacentCells(board, entry.getKey())) {
+                if (adjCell.getType() == FillapixCellType.BLACK) {
+                    black++;
+                }
+                if (adjCell.getType() == FillapixCellType.UNKNOWN) {
+                    unknown++;
+                }
+            }
+            int needed = entry.getKey().getNumber() - black;
+            if (needed < 0 || needed > unknown) {
+                continue;
+            }
+            int outside = unknown - Long.bitCount(entry.getValue());
+            constraints.add(
+                    new Combinations.Constraint(entry.getValue(), needed - outside, needed));
+        }
+        return constraints;
     }
 
     public static boolean isComplete(FillapixBoard board, FillapixCell cell) {
@@ -171,63 +244,11 @@ public class FillapixUtilities {
         return adjCells;
     }
 
-    /**
-     * Finds all possible combinations of <code>chosenNumObj</code> items can be chosen from <code>
-     * totalNumObj</code> total items. For example, if 1 item is chosen from 2 possible items, the
-     * combinations are:
-     *
-     * <pre>[ [true,false], [false,true] ]</pre>
-     *
-     * @param totalNumItems the total number of items that can possibly be chosen
-     * @param chosenNumItems the number of items to be chosen
-     * @return an ArrayList of Boolean arrays. Each index in the ArrayList represents a distinct
-     *     combination. Each Boolean array will be <code>totalNumItems</code> long and each index
-     *     will be <code>true</code> if the corresponding item is included in that combination, and
-     *     <code>
-     *     false</code> otherwise.
-     */
-    public static ArrayList<boolean[]> getCombinations(int chosenNumItems, int totalNumItems) {
-        ArrayList<boolean[]> combinations = new ArrayList<boolean[]>();
-
-        // calculate all combinations
-        boolean[] array = new boolean[totalNumItems];
-        recurseCombinations(combinations, 0, chosenNumItems, 0, totalNumItems, array);
-
-        return combinations;
-    }
-
-    private static void recurseCombinations(
-            ArrayList<boolean[]> result,
-            int curIndex,
-            int maxBlack,
-            int numBlack,
-            int len,
-            boolean[] workingArray) {
-        if (curIndex == len) {
-            // complete, but not valid solution
-            if (numBlack != maxBlack) {
-                return;
-            }
-            // complete and valid solution
-            result.add(workingArray.clone());
-            return;
-        }
-        // there is no chance of completing the required number of solutions, so quit
-        if (len - curIndex < maxBlack - numBlack) {
-            return;
-        }
-
-        if (numBlack < maxBlack) {
-            workingArray[curIndex] = true;
-            recurseCombinations(result, curIndex + 1, maxBlack, numBlack + 1, len, workingArray);
-        }
-        workingArray[curIndex] = false;
-        recurseCombinations(result, curIndex + 1, maxBlack, numBlack, len, workingArray);
-    }
-
     public static boolean checkBoardForContradiction(FillapixBoard board) {
-        ContradictionRule tooManyBlack = new TooManyBlackCellsContradictionRule();
-        ContradictionRule tooManyWhite = new TooFewBlackCellsContradictionRule();
+        ContradictionRule tooManyBlack =
+                RuleRegistry.getRule(TooManyBlackCellsContradictionRule.class);
+        ContradictionRule tooManyWhite =
+                RuleRegistry.getRule(TooFewBlackCellsContradictionRule.class);
         for (int i = 0; i < board.getWidth(); i++) {
             for (int j = 0; j < board.getHeight(); j++) {
                 if (tooManyBlack.checkContradictionAt(board, board.getCell(i, j)) == null
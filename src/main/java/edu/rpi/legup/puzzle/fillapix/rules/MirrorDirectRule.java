@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.fillapix.FillapixBoard;
@@ -75,7 +76,7 @@ public class MirrorDirectRule extends DirectRule {
             parentCell.setCellType(FillapixCellType.BLACK);
         }
         parentBoard.addModifiedData(parentCell);
-        CaseRule completeClue = new SatisfyClueCaseRule();
+        CaseRule completeClue = RuleRegistry.getRule(SatisfyClueCaseRule.class);
         List<Board> caseBoards;
         for (FillapixCell adjNum : adjNums) {
             caseBoards = completeClue.getCases(parentBoard, adjNum);
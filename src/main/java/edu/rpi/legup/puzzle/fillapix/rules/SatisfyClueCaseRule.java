@@ -10,9 +10,9 @@ import edu.rpi.legup.puzzle.fillapix.FillapixBoard;
 import edu.rpi.legup.puzzle.fillapix.FillapixCell;
 import edu.rpi.legup.puzzle.fillapix.FillapixCellType;
 import edu.rpi.legup.puzzle.fillapix.FillapixUtilities;
+import edu.rpi.legup.utility.Combinations;
 import java.awt.Point;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -76,23 +76,28 @@ public class SatisfyClueCaseRule extends CaseRule {
             return cases;
         }
 
-        // generate all cases as boolean expressions
-        ArrayList<boolean[]> combinations;
-        combinations = FillapixUtilities.getCombinations(cellMaxBlack - cellNumBlack, cellNumEmpty);
-
-        for (int i = 0; i < combinations.size(); i++) {
-            Board case_ = board.copy();
-            for (int j = 0; j < combinations.get(i).length; j++) {
-                cell = (FillapixCell) case_.getPuzzleElement(emptyCells.get(j));
-                if (combinations.get(i)[j]) {
-                    cell.setCellType(FillapixCellType.BLACK);
-                } else {
-                    cell.setCellType(FillapixCellType.WHITE);
-                }
-                case_.addModifiedData(cell);
-            }
-            cases.add(case_);
-        }
+        // generate a case for each way to shade the cells that leaves the other clues possible
+        List<Combinations.Constraint> constraints =
+                FillapixUtilities.getClueConstraints(fillapixBoard, cell, emptyCells);
+        Combinations.forEach(
+                cellMaxBlack - cellNumBlack,
+                cellNumEmpty,
+                constraints,
+                combination -> {
+                    Board case_ = board.copy();
+                    for (int j = 0; j < emptyCells.size(); j++) {
+                        FillapixCell caseCell =
+                                (FillapixCell) case_.getPuzzleElement(emptyCells.get(j));
+                        if ((combination & 1L << j) != 0) {
+                            caseCell.setCellType(FillapixCellType.BLACK);
+                        } else {
+                            caseCell.setCellType(FillapixCellType.WHITE);
+                        }
+                        case_.addModifiedData(caseCell);
+                    }
+                    cases.add(case_);
+                    return true;
+                });
 
         return cases;
     }
@@ -166,62 +171,41 @@ public class SatisfyClueCaseRule extends CaseRule {
             int numBlack = 0;
             int numEmpty = 0;
             int maxBlack = possibleCenter.getNumber();
+            List<FillapixCell> emptyCells = new ArrayList<FillapixCell>();
             for (FillapixCell adjCell : FillapixUtilities.getAdjacentCells(board, possibleCenter)) {
                 if (adjCell.getType() == FillapixCellType.BLACK) {
                     numBlack++;
                 }
                 if (adjCell.getType() == FillapixCellType.UNKNOWN) {
                     numEmpty++;
+                    emptyCells.add(adjCell);
                 }
             }
-            if (numEmpty <= 0 || numBlack > maxBlack) {
+            if (numEmpty <= 0 || numBlack > maxBlack || modCells.size() != numEmpty) {
                 // this cell has no cases (no empty) or is already broken (too many black)
                 continue;
             }
 
-            ArrayList<boolean[]> combinations =
-                    FillapixUtilities.getCombinations(maxBlack - numBlack, numEmpty);
-            if (combinations.size() != childTransitions.size()) {
-                // not this center because combinations do not match transitions
-                continue;
-            }
-            boolean quitEarly = false;
-            for (TreeTransition trans : childTransitions) {
-                /* convert the transition board into boolean format, so that it
-                 * can be compared to the combinations */
-                FillapixBoard transBoard = (FillapixBoard) trans.getBoard();
-                ArrayList<FillapixCell> transModCells = new ArrayList<FillapixCell>();
-                for (PuzzleElement modCell : modCells) {
-                    transModCells.add((FillapixCell) transBoard.getPuzzleElement(modCell));
-                }
-
-                boolean[] translatedModCells = new boolean[transModCells.size()];
-                for (int i = 0; i < transModCells.size(); i++) {
-                    if (transModCells.get(i).getType() == FillapixCellType.BLACK) {
-                        translatedModCells[i] = true;
-                    } else {
-                        translatedModCells[i] = false;
-                    }
-                }
-
-                // try to find the above state in the combinations, remove if found
-                boolean removed = false;
-                for (boolean[] combination : combinations) {
-                    if (Arrays.equals(combination, translatedModCells)) {
-                        combinations.remove(combination);
-                        removed = true;
-                        break;
+            /* convert the transition boards into masks of the empty cells that became black,
+             * so that they can be compared to the combinations */
+            long[] caseMasks = new long[childTransitions.size()];
+            for (int i = 0; i < childTransitions.size(); i++) {
+                FillapixBoard transBoard = (FillapixBoard) childTransitions.get(i).getBoard();
+                for (int j = 0; j < emptyCells.size(); j++) {
+                    FillapixCell transCell =
+                            (FillapixCell) transBoard.getPuzzleElement(emptyCells.get(j));
+                    if (transCell.getType() == FillapixCellType.BLACK) {
+                        caseMasks[i] |= 1L << j;
                     }
                 }
-                // if combination not found, no need to check further, just quit
-                if (!removed) {
-                    quitEarly = true;
-                    break;
-                }
             }
 
-            /* we found a center that is valid */
-            if (combinations.isEmpty() && !quitEarly) {
+            /* we found a center that is valid if the transitions are its cases, either
+             * without the cases that break other clues or with every case */
+            List<Combinations.Constraint> constraints =
+                    FillapixUtilities.getClueConstraints(board, possibleCenter, emptyCells);
+            if (Combinations.matches(maxBlack - numBlack, numEmpty, constraints, caseMasks)
+                    || Combinations.matches(maxBlack - numBlack, numEmpty, List.of(), caseMasks)) {
                 return null;
             }
         }
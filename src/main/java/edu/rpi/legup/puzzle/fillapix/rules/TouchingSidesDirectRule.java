@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.fillapix.FillapixBoard;
@@ -94,7 +95,7 @@ public class TouchingSidesDirectRule extends DirectRule {
         }
         // check for some contradiction in all cases
         parentBoard.addModifiedData(parentCell);
-        CaseRule completeClue = new SatisfyClueCaseRule();
+        CaseRule completeClue = RuleRegistry.getRule(SatisfyClueCaseRule.class);
         List<Board> caseBoards;
         for (FillapixCell adjCell : adjCells) {
             caseBoards = completeClue.getCases(parentBoard, adjCell);
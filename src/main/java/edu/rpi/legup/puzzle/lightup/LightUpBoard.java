@@ -76,24 +76,8 @@ public class LightUpBoard extends GridBoard {
      */
     public Set<LightUpCell> getAdj(LightUpCell cell) {
         Set<LightUpCell> adjCells = new HashSet<>();
-        cell = (LightUpCell) getPuzzleElement(cell);
-
-        Point loc = cell.getLocation();
-        LightUpCell up = getCell(loc.x, loc.y + 1);
-        if (up != null) {
-            adjCells.add(up);
-        }
-        LightUpCell down = getCell(loc.x, loc.y - 1);
-        if (down != null) {
-            adjCells.add(down);
-        }
-        LightUpCell right = getCell(loc.x + 1, loc.y);
-        if (right != null) {
-            adjCells.add(right);
-        }
-        LightUpCell left = getCell(loc.x - 1, loc.y);
-        if (left != null) {
-            adjCells.add(left);
+        for (int index : getOrthogonalNeighbors(getIndexOf(cell))) {
+            adjCells.add((LightUpCell) getCell(index));
         }
         return adjCells;
     }
@@ -107,8 +91,8 @@ public class LightUpBoard extends GridBoard {
      */
     public int getNumAdj(LightUpCell cell, LightUpCellType type) {
         int num = 0;
-        Set<LightUpCell> adjCells = getAdj(cell);
-        for (LightUpCell c : adjCells) {
+        for (int index : getOrthogonalNeighbors(getIndexOf(cell))) {
+            LightUpCell c = (LightUpCell) getCell(index);
             if (c.getType() == type) {
                 num++;
             }
@@ -124,8 +108,8 @@ public class LightUpBoard extends GridBoard {
      */
     public int getNumAdjLite(LightUpCell cell) {
         int num = 0;
-        Set<LightUpCell> adjCells = getAdj(cell);
-        for (LightUpCell c : adjCells) {
+        for (int index : getOrthogonalNeighbors(getIndexOf(cell))) {
+            LightUpCell c = (LightUpCell) getCell(index);
             if (c.isLite()) {
                 num++;
             }
@@ -141,8 +125,8 @@ public class LightUpBoard extends GridBoard {
      */
     public int getNumPlaceable(LightUpCell cell) {
         int num = 0;
-        Set<LightUpCell> adjCells = getAdj(cell);
-        for (LightUpCell c : adjCells) {
+        for (int index : getOrthogonalNeighbors(getIndexOf(cell))) {
+            LightUpCell c = (LightUpCell) getCell(index);
             if (c.getType() == LightUpCellType.UNKNOWN && !c.isLite()) {
                 num++;
             }
@@ -155,6 +139,22 @@ public class LightUpBoard extends GridBoard {
         return (LightUpCell) super.getCell(x, y);
     }
 
+    @Override
+    public LightUpCell getCellOrNull(int x, int y) {
+        return (LightUpCell) super.getCellOrNull(x, y);
+    }
+
+    /**
+     * Gets the index of the cell on this board at the location of the specified cell
+     *
+     * @param cell LightUpCell of this board or of a copy of it
+     * @return index of the cell
+     */
+    private int getIndexOf(LightUpCell cell) {
+        Point loc = cell.getLocation();
+        return loc.y * dimension.width + loc.x;
+    }
+
     @Override
     public void notifyChange(PuzzleElement puzzleElement) {
         super.notifyChange(puzzleElement);
@@ -70,14 +70,7 @@ public class LightUpElementView extends GridElementView {
                         if (type == LightUpCellType.BULB) {
                             graphics2D.setColor(Color.LIGHT_GRAY);
                             graphics2D.fillRect(location.x, location.y, size.width, size.height);
-                            graphics2D.drawImage(
-                                    LightUpView.lightImage,
-                                    location.x,
-                                    location.y,
-                                    size.width,
-                                    size.height,
-                                    LITE,
-                                    null);
+                            drawImage(graphics2D, LightUpView.lightImage, LITE);
                             graphics2D.setColor(BLACK_COLOR);
                             graphics2D.drawRect(location.x, location.y, size.width, size.height);
                         }
@@ -3,30 +3,15 @@ package edu.rpi.legup.puzzle.lightup;
 import edu.rpi.legup.controller.BoardController;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.ui.ImageCache;
 import edu.rpi.legup.ui.boardview.DataSelectionView;
 import edu.rpi.legup.ui.boardview.GridBoardView;
 import edu.rpi.legup.ui.boardview.SelectionItemView;
 import java.awt.*;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.*;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 public class LightUpView extends GridBoardView {
-    private static final Logger LOGGER = LogManager.getLogger(LightUpView.class.getName());
-    static Image lightImage;
-
-    static {
-        try {
-            lightImage =
-                    ImageIO.read(
-                            ClassLoader.getSystemClassLoader()
-                                    .getResource("edu/rpi/legup/images/lightup/light.png"));
-        } catch (IOException e) {
-            LOGGER.error("Failed to open TreeTent images");
-        }
-    }
+    static Image lightImage = ImageCache.getImage("edu/rpi/legup/images/lightup/light.png");
 
     public LightUpView(LightUpBoard board) {
         super(new BoardController(), new LightUpCellController(), board.getDimension());
@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.lightup.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.lightup.LightUpBoard;
@@ -46,19 +47,19 @@ public class EmptyCornersDirectRule extends DirectRule {
 
         Point loc = finalCell.getLocation();
         List<LightUpCell> numberedCells = new ArrayList<>();
-        LightUpCell upperRight = finalBoard.getCell(loc.x + 1, loc.y - 1);
+        LightUpCell upperRight = finalBoard.getCellOrNull(loc.x + 1, loc.y - 1);
         if (upperRight != null && upperRight.getType() == LightUpCellType.NUMBER) {
             numberedCells.add(upperRight);
         }
-        LightUpCell upperLeft = finalBoard.getCell(loc.x - 1, loc.y - 1);
+        LightUpCell upperLeft = finalBoard.getCellOrNull(loc.x - 1, loc.y - 1);
         if (upperLeft != null && upperLeft.getType() == LightUpCellType.NUMBER) {
             numberedCells.add(upperLeft);
         }
-        LightUpCell lowerRight = finalBoard.getCell(loc.x + 1, loc.y + 1);
+        LightUpCell lowerRight = finalBoard.getCellOrNull(loc.x + 1, loc.y + 1);
         if (lowerRight != null && lowerRight.getType() == LightUpCellType.NUMBER) {
             numberedCells.add(lowerRight);
         }
-        LightUpCell lowerLeft = finalBoard.getCell(loc.x - 1, loc.y + 1);
+        LightUpCell lowerLeft = finalBoard.getCellOrNull(loc.x - 1, loc.y + 1);
         if (lowerLeft != null && lowerLeft.getType() == LightUpCellType.NUMBER) {
             numberedCells.add(lowerLeft);
         }
@@ -67,7 +68,8 @@ public class EmptyCornersDirectRule extends DirectRule {
                     + ": This cell must diagonal to a numbered cell";
         }
 
-        TooFewBulbsContradictionRule tooFew = new TooFewBulbsContradictionRule();
+        TooFewBulbsContradictionRule tooFew =
+                RuleRegistry.getRule(TooFewBulbsContradictionRule.class);
         LightUpBoard bulbCaseBoard = finalBoard.copy();
         LightUpCell bulbCaseCell = (LightUpCell) bulbCaseBoard.getPuzzleElement(puzzleElement);
         bulbCaseCell.setData(LightUpCellType.BULB.value);
@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.lightup.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.lightup.LightUpBoard;
@@ -49,7 +50,8 @@ public class FinishWithBulbsDirectRule extends DirectRule {
 
         LightUpBoard emptyCase = initialBoard.copy();
         emptyCase.getPuzzleElement(finalCell).setData(LightUpCellType.EMPTY.value);
-        TooFewBulbsContradictionRule tooFew = new TooFewBulbsContradictionRule();
+        TooFewBulbsContradictionRule tooFew =
+                RuleRegistry.getRule(TooFewBulbsContradictionRule.class);
         for (LightUpCell c : adjCells) {
             if (tooFew.checkContradictionAt(emptyCase, c) == null) {
                 return null;
@@ -74,7 +76,8 @@ public class FinishWithBulbsDirectRule extends DirectRule {
 
         LightUpBoard emptyCase = board.copy();
         emptyCase.getPuzzleElement(cell).setData(LightUpCellType.EMPTY.value);
-        TooFewBulbsContradictionRule tooFew = new TooFewBulbsContradictionRule();
+        TooFewBulbsContradictionRule tooFew =
+                RuleRegistry.getRule(TooFewBulbsContradictionRule.class);
         for (LightUpCell c : adjCells) {
             if (tooFew.checkContradictionAt(emptyCase, c) == null) {
                 return true;
@@ -75,19 +75,19 @@ public class FinishWithEmptyDirectRule extends DirectRule {
 
         int bulbs = 0;
         int bulbsNeeded = cell.getData();
-        cell = board.getCell(loc.x + 1, loc.y);
+        cell = board.getCellOrNull(loc.x + 1, loc.y);
         if (cell != null && cell.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
-        cell = board.getCell(loc.x, loc.y + 1);
+        cell = board.getCellOrNull(loc.x, loc.y + 1);
         if (cell != null && cell.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
-        cell = board.getCell(loc.x - 1, loc.y);
+        cell = board.getCellOrNull(loc.x - 1, loc.y);
         if (cell != null && cell.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
-        cell = board.getCell(loc.x, loc.y - 1);
+        cell = board.getCellOrNull(loc.x, loc.y - 1);
         if (cell != null && cell.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
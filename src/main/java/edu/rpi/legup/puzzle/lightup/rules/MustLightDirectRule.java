@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.lightup.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.lightup.LightUpBoard;
@@ -54,7 +55,8 @@ public class MustLightDirectRule extends DirectRule {
     }
 
     private boolean isForcedBulb(LightUpBoard board, Point loc) {
-        CannotLightACellContradictionRule cannotLite = new CannotLightACellContradictionRule();
+        CannotLightACellContradictionRule cannotLite =
+                RuleRegistry.getRule(CannotLightACellContradictionRule.class);
         LightUpBoard modifiedBoard = board.copy();
         LightUpCell modifiedCell = modifiedBoard.getCell(loc.x, loc.y);
         modifiedCell.setData(LightUpCellType.EMPTY.value);
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.CaseBoard;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.lightup.LightUpBoard;
@@ -64,7 +65,7 @@ public class SatisfyNumberCaseRule extends CaseRule {
 
         int numNeeded = cell.getData();
 
-        LightUpCell checkCell = lightUpBoard.getCell(loc.x + 1, loc.y);
+        LightUpCell checkCell = lightUpBoard.getCellOrNull(loc.x + 1, loc.y);
         if (checkCell != null) {
             if (checkCell.getType() == LightUpCellType.UNKNOWN && !checkCell.isLite()) {
                 openSpots.add(checkCell);
@@ -74,7 +75,7 @@ public class SatisfyNumberCaseRule extends CaseRule {
                 }
             }
         }
-        checkCell = lightUpBoard.getCell(loc.x, loc.y + 1);
+        checkCell = lightUpBoard.getCellOrNull(loc.x, loc.y + 1);
         if (checkCell != null) {
             if (checkCell.getType() == LightUpCellType.UNKNOWN && !checkCell.isLite()) {
                 openSpots.add(checkCell);
@@ -84,7 +85,7 @@ public class SatisfyNumberCaseRule extends CaseRule {
                 }
             }
         }
-        checkCell = lightUpBoard.getCell(loc.x - 1, loc.y);
+        checkCell = lightUpBoard.getCellOrNull(loc.x - 1, loc.y);
         if (checkCell != null) {
             if (checkCell.getType() == LightUpCellType.UNKNOWN && !checkCell.isLite()) {
                 openSpots.add(checkCell);
@@ -94,7 +95,7 @@ public class SatisfyNumberCaseRule extends CaseRule {
                 }
             }
         }
-        checkCell = lightUpBoard.getCell(loc.x, loc.y - 1);
+        checkCell = lightUpBoard.getCellOrNull(loc.x, loc.y - 1);
         if (checkCell != null) {
             if (checkCell.getType() == LightUpCellType.UNKNOWN && !checkCell.isLite()) {
                 openSpots.add(checkCell);
@@ -206,7 +207,8 @@ public class SatisfyNumberCaseRule extends CaseRule {
 
                 // If there is only 1 case, then this case rule should function no
                 // differently than the Finish With Bulbs Direct Rule
-                FinishWithBulbsDirectRule finishWithBulbs = new FinishWithBulbsDirectRule();
+                FinishWithBulbsDirectRule finishWithBulbs =
+                        RuleRegistry.getRule(FinishWithBulbsDirectRule.class);
                 childTransition.setRule(finishWithBulbs);
                 boolean isCorrect = childTransition.isCorrect();
 
@@ -305,19 +307,19 @@ public class SatisfyNumberCaseRule extends CaseRule {
     private List<LightUpCell> getAdjacentCells(LightUpBoard board, LightUpCell cell) {
         List<LightUpCell> cells = new ArrayList<>();
         Point point = cell.getLocation();
-        LightUpCell right = board.getCell(point.x + 1, point.y);
+        LightUpCell right = board.getCellOrNull(point.x + 1, point.y);
         if (right != null) {
             cells.add(right);
         }
-        LightUpCell down = board.getCell(point.x, point.y + 1);
+        LightUpCell down = board.getCellOrNull(point.x, point.y + 1);
         if (down != null) {
             cells.add(down);
         }
-        LightUpCell left = board.getCell(point.x - 1, point.y);
+        LightUpCell left = board.getCellOrNull(point.x - 1, point.y);
         if (left != null) {
             cells.add(left);
         }
-        LightUpCell up = board.getCell(point.x, point.y - 1);
+        LightUpCell up = board.getCellOrNull(point.x, point.y - 1);
         if (up != null) {
             cells.add(up);
         }
@@ -39,19 +39,19 @@ public class TooManyBulbsContradictionRule extends ContradictionRule {
 
         int bulbs = 0;
 
-        LightUpCell up = lightUpBoard.getCell(location.x, location.y + 1);
+        LightUpCell up = lightUpBoard.getCellOrNull(location.x, location.y + 1);
         if (up != null && up.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
-        LightUpCell down = lightUpBoard.getCell(location.x, location.y - 1);
+        LightUpCell down = lightUpBoard.getCellOrNull(location.x, location.y - 1);
         if (down != null && down.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
-        LightUpCell right = lightUpBoard.getCell(location.x + 1, location.y);
+        LightUpCell right = lightUpBoard.getCellOrNull(location.x + 1, location.y);
         if (right != null && right.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
-        LightUpCell left = lightUpBoard.getCell(location.x - 1, location.y);
+        LightUpCell left = lightUpBoard.getCellOrNull(location.x - 1, location.y);
         if (left != null && left.getType() == LightUpCellType.BULB) {
             bulbs++;
         }
@@ -65,7 +65,7 @@ public class EditLineCommand extends PuzzleCommand {
                 transition = new TreeTransition(treeNode, treeNode.getBoard().copy());
             }
 
-            treeNode.getChildren().add(transition);
+            treeNode.addChild(transition);
             puzzle.notifyTreeListeners(
                     (ITreeListener listener) -> listener.onTreeElementAdded(transition));
             transitionView = (TreeTransitionView) treeView.getElementView(transition);
@@ -35,6 +35,8 @@ public class MasyuBoard extends GridBoard {
     public void notifyChange(PuzzleElement puzzleElement) {
         if (puzzleElement instanceof MasyuLine) {
             lines.add((MasyuLine) puzzleElement);
+            trackElement(puzzleElement);
+            markChanged();
         } else {
             super.notifyChange(puzzleElement);
         }
@@ -72,14 +72,7 @@ public class MinesweeperElementView extends GridElementView {
         }
         if (type == MinesweeperTileType.UNSET) {
             graphics2D.setStroke(new BasicStroke(1));
-            graphics2D.drawImage(
-                    MinesweeperView.UNSET_IMAGE,
-                    location.x,
-                    location.y,
-                    size.width,
-                    size.height,
-                    Color.GRAY,
-                    null);
+            drawImage(graphics2D, MinesweeperView.UNSET_IMAGE, Color.GRAY);
             graphics2D.setColor(Color.BLACK);
             graphics2D.drawRect(location.x, location.y, size.width, size.height);
             return;
@@ -89,14 +82,7 @@ public class MinesweeperElementView extends GridElementView {
             graphics2D.setColor(new Color(203, 203, 203));
             graphics2D.fillRect(location.x, location.y, size.width, size.height);
 
-            graphics2D.drawImage(
-                    MinesweeperView.EMPTY_IMAGE,
-                    location.x,
-                    location.y,
-                    size.width,
-                    size.height,
-                    Color.GRAY,
-                    null);
+            drawImage(graphics2D, MinesweeperView.EMPTY_IMAGE, Color.GRAY);
             graphics2D.setColor(Color.BLACK);
             graphics2D.drawRect(location.x, location.y, size.width, size.height);
         }
@@ -104,14 +90,7 @@ public class MinesweeperElementView extends GridElementView {
             graphics2D.setStroke(new BasicStroke(1));
             graphics2D.setColor(Color.LIGHT_GRAY);
             graphics2D.fillRect(location.x, location.y, size.width, size.height);
-            graphics2D.drawImage(
-                    MinesweeperView.MINE_IMAGE,
-                    location.x,
-                    location.y,
-                    size.width,
-                    size.height,
-                    Color.GRAY,
-                    null);
+            drawImage(graphics2D, MinesweeperView.MINE_IMAGE, Color.GRAY);
             graphics2D.setColor(Color.BLACK);
             graphics2D.drawRect(location.x, location.y, size.width, size.height);
         }
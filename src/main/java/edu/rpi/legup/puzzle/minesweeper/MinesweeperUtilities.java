@@ -1,10 +1,13 @@
 package edu.rpi.legup.puzzle.minesweeper;
 
 import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.minesweeper.rules.TooFewMinesContradictionRule;
 import edu.rpi.legup.puzzle.minesweeper.rules.TooManyMinesContradictionRule;
+import edu.rpi.legup.utility.Combinations;
 import java.awt.*;
 import java.util.*;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -84,9 +87,11 @@ public final class MinesweeperUtilities {
     }
 
     public static boolean hasEmptyAdjacent(MinesweeperBoard board, MinesweeperCell cell) {
-        ArrayList<MinesweeperCell> adjCells = getAdjacentCells(board, cell);
-        for (MinesweeperCell adjCell : adjCells) {
-            if (adjCell.getTileType() == MinesweeperTileType.UNSET) {
+        Point cellLoc = cell.getLocation();
+        for (int index :
+                board.getSurroundingNeighbors(cellLoc.y * board.getWidth() + cellLoc.x)) {
+            MinesweeperCell adjCell = (MinesweeperCell) board.getCell(index);
+            if (adjCell != null && adjCell.getTileType() == MinesweeperTileType.UNSET) {
                 return true;
             }
         }
@@ -95,134 +100,121 @@ public final class MinesweeperUtilities {
 
     public static ArrayList<MinesweeperCell> getAdjacentCells(
             MinesweeperBoard board, MinesweeperCell cell) {
-        ArrayList<MinesweeperCell> adjCells = new ArrayList<MinesweeperCell>();
         Point cellLoc = cell.getLocation();
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                if (cellLoc.getX() + i < 0
-                        || cellLoc.y + j < 0
-                        || cellLoc.x + i >= board.getWidth()
-                        || cellLoc.y + j >= board.getHeight()) {
-                    continue;
-                }
-                MinesweeperCell adjCell =
-                        (MinesweeperCell) board.getCell(cellLoc.x + i, cellLoc.y + j);
-                if (adjCell == null || adjCell == cell) {
-                    continue;
-                }
+        int[] neighbors = board.getSurroundingNeighbors(cellLoc.y * board.getWidth() + cellLoc.x);
+        ArrayList<MinesweeperCell> adjCells = new ArrayList<MinesweeperCell>(neighbors.length);
+        for (int index : neighbors) {
+            MinesweeperCell adjCell = (MinesweeperCell) board.getCell(index);
+            if (adjCell != null) {
                 adjCells.add(adjCell);
             }
         }
         return adjCells;
     }
 
-    public static ArrayList<boolean[]> getCombinations(int chosenNumItems, int totalNumItems) {
-        ArrayList<boolean[]> combinations = new ArrayList<boolean[]>();
-
-        // calculate all combinations
-        boolean[] array = new boolean[totalNumItems];
-        recurseCombinations(combinations, 0, chosenNumItems, 0, totalNumItems, array);
-
-        return combinations;
-    }
-
-    private static void recurseCombinations(
-            ArrayList<boolean[]> result,
-            int curIndex,
-            int maxBlack,
-            int numBlack,
-            int len,
-            boolean[] workingArray) {
-        if (curIndex == len) {
-            // complete, but not valid solution
-            if (numBlack != maxBlack) {
-                return;
+    /**
+     * Gets the limits that the numbers next to some unset cells put on which of those cells can be
+     * mines. The limits are used to skip the ways of placing mines around a number that leave
+     * another number with too many mines or too few cells left for its mines. Numbers that already
+     * have too many mines or too few cells left are skipped.
+     *
+     * @param board minesweeper board
+     * @param number number cell whose mines are placed, which puts no limit
+     * @param unsetCells unset cells, in the order of the items of the combinations
+     * @return a limit for each other number next to the unset cells
+     */
+    public static List<Combinations.Constraint> getNumberConstraints(
+            MinesweeperBoard board, MinesweeperCell number, List<MinesweeperCell> unsetCells) {
+        Map<MinesweeperCell, Long> masks = new IdentityHashMap<>();
+        for (int i = 0; i < unsetCells.size(); i++) {
+            for (MinesweeperCell adjCell : getAdjacentCells(board, unsetCells.get(i))) {
+                int adjNumber = adjCell.getTileNumber();
+                if (adjCell != number && adjNumber > 0 && adjNumber <= 8) {
+                    masks.merge(adjCell, 1L << i, (a, b) -> a | b);
+                }
             }
-            // complete and valid solution
-            result.add(workingArray.clone());
-            return;
-        }
-        // there is no chance of completing the required number of solutions, so quit
-        if (len - curIndex < maxBlack - numBlack) {
-            return;
         }
 
-        if (numBlack < maxBlack) {
-            workingArray[curIndex] = true;
-            recurseCombinations(result, curIndex + 1, maxBlack, numBlack + 1, len, workingArray);
+        List<Combinations.Constraint> constraints = new ArrayList<>(masks.size());
+        for (Map.Entry<MinesweeperCell, Long> entry : masks.entrySet()) {
+            int mines = 0;
+            int unset = 0;
+            for (MinesweeperCell adjCell : getAdjacentCells(board, entry.getKey())) {
+                if (adjCell.getTileType() == MinesweeperTileType.MINE) {
+                    mines++;
+                }
+                if (adjCell.getTileType() == MinesweeperTileType.UNSET) {
+                    unset++;
+                }
+            }
+            int needed = entry.getKey().getTileNumber() - mines;
+            if (needed < 0 || needed > unset) {
+                continue;
+            }
+            int outside = unset - Long.bitCount(entry.getValue());
+            constraints.add(
+                    new Combinations.Constraint(entry.getValue(), needed - outside, needed));
         }
-        workingArray[curIndex] = false;
-        recurseCombinations(result, curIndex + 1, maxBlack, numBlack, len, workingArray);
+        return constraints;
     }
 
     // checks if the current cell is forced to be a mine by checking if any of its adjacent cells
     // are a number cell that can only be satisfied if the current cell is a mine
     public static boolean isForcedMine(MinesweeperBoard board, MinesweeperCell cell) {
-        MinesweeperBoard emptyCaseBoard = board.copy();
-        MinesweeperCell emptyCell = (MinesweeperCell) emptyCaseBoard.getPuzzleElement(cell);
-        emptyCell.setCellType(MinesweeperTileData.mine());
-        ArrayList<MinesweeperCell> adjCells = getAdjacentCells(emptyCaseBoard, emptyCell);
-        int numMines;
-        int numUnset;
-        int cellNum;
-        for (MinesweeperCell adjCell : adjCells) {
-            cellNum = adjCell.getTileNumber();
-            if (cellNum <= 0) {
-                continue;
-            }
-            numMines = 0;
-            numUnset = 0;
-            ArrayList<MinesweeperCell> curAdjCells =
-                    MinesweeperUtilities.getAdjacentCells(emptyCaseBoard, adjCell);
-            for (MinesweeperCell curAdjCell : curAdjCells) {
-                if (curAdjCell.getTileType() == MinesweeperTileType.MINE) {
-                    numMines++;
-                }
-                if (curAdjCell.getTileType() == MinesweeperTileType.UNSET) {
-                    numUnset++;
-                }
-            }
-            if (cellNum == numUnset + numMines) {
-                return true;
-            }
-        }
-        return false;
+        return isForced(board, cell, true);
     }
 
     // checks if the current cell is forced to be empty by checking if any of its adjacent cells
     // are a number cell that can only be satisfied if the current cell is empty
     public static boolean isForcedEmpty(MinesweeperBoard board, MinesweeperCell cell) {
-        MinesweeperBoard emptyCaseBoard = board.copy();
-        MinesweeperCell emptyCell = (MinesweeperCell) emptyCaseBoard.getPuzzleElement(cell);
-        emptyCell.setCellType(MinesweeperTileData.empty());
-        ArrayList<MinesweeperCell> adjCells = getAdjacentCells(emptyCaseBoard, emptyCell);
-        int mineCount;
-        int adjCellNum;
-        int emptyCells = 0;
-        for (MinesweeperCell adjCell : adjCells) {
-            mineCount = 0;
-            adjCellNum = adjCell.getTileNumber();
-            if (adjCellNum >= 1) {
-                ArrayList<MinesweeperCell> adjAdjCells = getAdjacentCells(emptyCaseBoard, adjCell);
-                for (MinesweeperCell adjAdjCell : adjAdjCells) {
-                    if (adjAdjCell.getTileType() == MinesweeperTileType.MINE) {
-                        mineCount++;
-                    }
+        return isForced(board, cell, false);
+    }
+
+    /**
+     * Checks if a cell is forced to be a mine or empty by a number next to it. The cell is forced
+     * if the number can be satisfied, but only by the ways of placing its mines that make the cell
+     * a mine, or empty.
+     *
+     * @param board minesweeper board
+     * @param cell cell to check, which is treated as unset
+     * @param isMine true to check if the cell must be a mine, false to check if it must be empty
+     * @return true if the cell is forced, false otherwise
+     */
+    private static boolean isForced(MinesweeperBoard board, MinesweeperCell cell, boolean isMine) {
+        MinesweeperCell boardCell = (MinesweeperCell) board.getPuzzleElement(cell);
+        for (MinesweeperCell number : getAdjacentCells(board, boardCell)) {
+            if (number.getTileNumber() <= 0) {
+                continue;
+            }
+            // the cell is item 0 and the other unset cells around the number follow it
+            int mines = 0;
+            int items = 1;
+            for (MinesweeperCell adjCell : getAdjacentCells(board, number)) {
+                if (adjCell == boardCell) {
+                    continue;
                 }
-                if (mineCount == adjCellNum) {
-                    return true;
+                if (adjCell.getTileType() == MinesweeperTileType.MINE) {
+                    mines++;
                 }
-            } else {
-                emptyCells++;
+                if (adjCell.getTileType() == MinesweeperTileType.UNSET) {
+                    items++;
+                }
+            }
+            int needed = number.getTileNumber() - mines;
+            if (needed < 0 || needed > items) {
+                continue;
+            }
+            if (!Combinations.anyMatch(
+                    needed, items, List.of(), mask -> ((mask & 1L) != 0) != isMine)) {
+                return true;
             }
         }
         return false;
-        // return emptyCells == adjCells.size(); return this iff IsolateMine is a rule
     }
 
     public static boolean checkBoardForContradiction(MinesweeperBoard board) {
-        ContradictionRule tooManyMines = new TooManyMinesContradictionRule();
-        ContradictionRule tooFewMines = new TooFewMinesContradictionRule();
+        ContradictionRule tooManyMines = RuleRegistry.getRule(TooManyMinesContradictionRule.class);
+        ContradictionRule tooFewMines = RuleRegistry.getRule(TooFewMinesContradictionRule.class);
         for (int i = 0; i < board.getWidth(); i++) {
             for (int j = 0; j < board.getHeight(); j++) {
                 if (tooManyMines.checkContradictionAt(board, board.getCell(i, j)) == null
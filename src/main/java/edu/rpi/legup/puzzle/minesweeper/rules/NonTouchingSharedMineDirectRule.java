@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.minesweeper.*;
@@ -75,7 +76,7 @@ public class NonTouchingSharedMineDirectRule extends DirectRule {
         parentCell.setCellType(MinesweeperTileData.empty());
         // check for some contradiction in all cases
         parentBoard.addModifiedData(parentCell);
-        CaseRule completeClue = new SatisfyNumberCaseRule();
+        CaseRule completeClue = RuleRegistry.getRule(SatisfyNumberCaseRule.class);
         List<Board> caseBoards;
         for (MinesweeperCell adjCell : adjCells) {
             caseBoards = completeClue.getCases(parentBoard, adjCell);
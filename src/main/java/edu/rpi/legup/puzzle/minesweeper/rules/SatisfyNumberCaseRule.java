@@ -7,6 +7,7 @@ import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.minesweeper.*;
+import edu.rpi.legup.utility.Combinations;
 import java.awt.*;
 import java.util.*;
 import java.util.List;
@@ -68,24 +69,28 @@ public class SatisfyNumberCaseRule extends CaseRule {
             return cases;
         }
 
-        // generate all cases as boolean expressions
-        ArrayList<boolean[]> combinations;
-        combinations =
-                MinesweeperUtilities.getCombinations(cellMaxBlack - cellNummine, cellNumUnset);
-
-        for (int i = 0; i < combinations.size(); i++) {
-            Board case_ = board.copy();
-            for (int j = 0; j < combinations.get(i).length; j++) {
-                cell = (MinesweeperCell) case_.getPuzzleElement(unsetCells.get(j));
-                if (combinations.get(i)[j]) {
-                    cell.setCellType(MinesweeperTileData.mine());
-                } else {
-                    cell.setCellType(MinesweeperTileData.empty());
-                }
-                case_.addModifiedData(cell);
-            }
-            cases.add(case_);
-        }
+        // generate a case for each way to place the mines that leaves the other numbers possible
+        List<Combinations.Constraint> constraints =
+                MinesweeperUtilities.getNumberConstraints(minesweeperBoard, cell, unsetCells);
+        Combinations.forEach(
+                cellMaxBlack - cellNummine,
+                cellNumUnset,
+                constraints,
+                combination -> {
+                    Board case_ = board.copy();
+                    for (int j = 0; j < unsetCells.size(); j++) {
+                        MinesweeperCell caseCell =
+                                (MinesweeperCell) case_.getPuzzleElement(unsetCells.get(j));
+                        if ((combination & 1L << j) != 0) {
+                            caseCell.setCellType(MinesweeperTileData.mine());
+                        } else {
+                            caseCell.setCellType(MinesweeperTileData.empty());
+                        }
+                        case_.addModifiedData(caseCell);
+                    }
+                    cases.add(case_);
+                    return true;
+                });
 
         return cases;
     }
@@ -160,6 +165,7 @@ public class SatisfyNumberCaseRule extends CaseRule {
             int numBlack = 0;
             int numEmpty = 0;
             int maxBlack = possibleCenter.getTileNumber();
+            List<MinesweeperCell> unsetCells = new ArrayList<MinesweeperCell>();
             for (MinesweeperCell adjCell :
                     MinesweeperUtilities.getAdjacentCells(board, possibleCenter)) {
                 if (adjCell.getTileType() == MinesweeperTileType.MINE) {
@@ -167,56 +173,34 @@ public class SatisfyNumberCaseRule extends CaseRule {
                 }
                 if (adjCell.getTileType() == MinesweeperTileType.UNSET) {
                     numEmpty++;
+                    unsetCells.add(adjCell);
                 }
             }
-            if (numEmpty <= 0 || numBlack > maxBlack) {
+            if (numEmpty <= 0 || numBlack > maxBlack || modCells.size() != numEmpty) {
                 // this cell has no cases (no empty) or is already broken (too many black)
                 continue;
             }
 
-            ArrayList<boolean[]> combinations =
-                    MinesweeperUtilities.getCombinations(maxBlack - numBlack, numEmpty);
-            if (combinations.size() != childTransitions.size()) {
-                // not this center because combinations do not match transitions
-                continue;
-            }
-            boolean quitEarly = false;
-            for (TreeTransition trans : childTransitions) {
-                /* convert the transition board into boolean format, so that it
-                 * can be compared to the combinations */
-                MinesweeperBoard transBoard = (MinesweeperBoard) trans.getBoard();
-                ArrayList<MinesweeperCell> transModCells = new ArrayList<MinesweeperCell>();
-                for (PuzzleElement modCell : modCells) {
-                    transModCells.add((MinesweeperCell) transBoard.getPuzzleElement(modCell));
-                }
-
-                boolean[] translatedModCells = new boolean[transModCells.size()];
-                for (int i = 0; i < transModCells.size(); i++) {
-                    if (transModCells.get(i).getTileType() == MinesweeperTileType.MINE) {
-                        translatedModCells[i] = true;
-                    } else {
-                        translatedModCells[i] = false;
-                    }
-                }
-
-                // try to find the above state in the combinations, remove if found
-                boolean removed = false;
-                for (boolean[] combination : combinations) {
-                    if (Arrays.equals(combination, translatedModCells)) {
-                        combinations.remove(combination);
-                        removed = true;
-                        break;
+            /* convert the transition boards into masks of the unset cells that became mines,
+             * so that they can be compared to the combinations */
+            long[] caseMasks = new long[childTransitions.size()];
+            for (int i = 0; i < childTransitions.size(); i++) {
+                MinesweeperBoard transBoard = (MinesweeperBoard) childTransitions.get(i).getBoard();
+                for (int j = 0; j < unsetCells.size(); j++) {
+                    MinesweeperCell transCell =
+                            (MinesweeperCell) transBoard.getPuzzleElement(unsetCells.get(j));
+                    if (transCell.getTileType() == MinesweeperTileType.MINE) {
+                        caseMasks[i] |= 1L << j;
                     }
                 }
-                // if combination not found, no need to check further, just quit
-                if (!removed) {
-                    quitEarly = true;
-                    break;
-                }
             }
 
-            /* we found a center that is valid */
-            if (combinations.isEmpty() && !quitEarly) {
+            /* we found a center that is valid if the transitions are its cases, either
+             * without the cases that break other numbers or with every case */
+            List<Combinations.Constraint> constraints =
+                    MinesweeperUtilities.getNumberConstraints(board, possibleCenter, unsetCells);
+            if (Combinations.matches(maxBlack - numBlack, numEmpty, constraints, caseMasks)
+                    || Combinations.matches(maxBlack - numBlack, numEmpty, List.of(), caseMasks)) {
                 return null;
             }
         }
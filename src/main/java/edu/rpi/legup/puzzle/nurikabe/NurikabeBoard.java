@@ -1,12 +1,15 @@
 package edu.rpi.legup.puzzle.nurikabe;
 
 import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.PackedCellCodec;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class NurikabeBoard extends GridBoard {
     private static final Logger LOGGER = LogManager.getLogger(NurikabeBoard.class.getName());
+    private static final PackedCellCodec<NurikabeCell> PACKED_CELL_CODEC =
+            new PackedCellCodec<>(NurikabeCell.class, NurikabeCell::getData, NurikabeCell::new);
 
     public NurikabeBoard(int width, int height) {
         super(width, height);
@@ -18,14 +21,7 @@ public class NurikabeBoard extends GridBoard {
 
     @Override
     public NurikabeCell getCell(int x, int y) {
-        if (y * dimension.width + x >= puzzleElements.size()
-                || x >= dimension.width
-                || y >= dimension.height
-                || x < 0
-                || y < 0) {
-            return null;
-        }
-        return (NurikabeCell) super.getCell(x, y);
+        return (NurikabeCell) getCellOrNull(x, y);
     }
 
     /**
@@ -43,17 +39,18 @@ public class NurikabeBoard extends GridBoard {
         return arr;
     }
 
+    @Override
+    protected PackedCellCodec<NurikabeCell> getPackedCellCodec() {
+        return PACKED_CELL_CODEC;
+    }
+
     @Override
     public NurikabeBoard copy() {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("NurikabeBoard copy()");
         }
         NurikabeBoard copy = new NurikabeBoard(dimension.width, dimension.height);
-        for (int x = 0; x < this.dimension.width; x++) {
-            for (int y = 0; y < this.dimension.height; y++) {
-                copy.setCell(x, y, getCell(x, y).copy());
-            }
-        }
+        copyCellsTo(copy);
         for (PuzzleElement e : modifiedData) {
             copy.getPuzzleElement(e).setModifiable(false);
         }
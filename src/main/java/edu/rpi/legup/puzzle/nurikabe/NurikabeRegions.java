@@ -0,0 +1,107 @@
+package edu.rpi.legup.puzzle.nurikabe;
+
+import edu.rpi.legup.utility.RegionLabels;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * NurikabeRegions is a labeling of the cells of a nurikabe board into regions. Cells are looked up
+ * by their location, and only the cells of the labeled board itself belong to a region, so a cell
+ * of a copy of the board is in no region.
+ */
+public class NurikabeRegions {
+    private final NurikabeBoard board;
+    private final RegionLabels labels;
+
+    /**
+     * NurikabeRegions Constructor creates the regions of a board from a labeling of its cells
+     *
+     * @param board nurikabe board
+     * @param labels labeling of the cells of the board by their row major index
+     */
+    NurikabeRegions(NurikabeBoard board, RegionLabels labels) {
+        this.board = board;
+        this.labels = labels;
+    }
+
+    /**
+     * Gets the region of a cell
+     *
+     * @param cell nurikabe cell
+     * @return the label of the region of the cell, or {@link RegionLabels#NO_REGION} if the cell is
+     *     null, not a cell of the board or in no region
+     */
+    public int getRegion(NurikabeCell cell) {
+        if (cell == null) {
+            return RegionLabels.NO_REGION;
+        }
+        Point loc = cell.getLocation();
+        if (board.getCell(loc.x, loc.y) != cell) {
+            return RegionLabels.NO_REGION;
+        }
+        return labels.getLabel(loc.y * board.getWidth() + loc.x);
+    }
+
+    /**
+     * Gets the number of cells in the region of a cell
+     *
+     * @param cell nurikabe cell
+     * @return the number of cells in the region, or 0 if the cell is in no region
+     */
+    public int getSize(NurikabeCell cell) {
+        int region = getRegion(cell);
+        return region == RegionLabels.NO_REGION ? 0 : labels.getSize(region);
+    }
+
+    /**
+     * Gets the cells in the region of a cell
+     *
+     * @param cell nurikabe cell
+     * @return a new set of the cells in the region, or null if the cell is in no region
+     */
+    public Set<NurikabeCell> getSet(NurikabeCell cell) {
+        int region = getRegion(cell);
+        return region == RegionLabels.NO_REGION ? null : getCells(region);
+    }
+
+    /**
+     * Gets the cells of every region
+     *
+     * @return a list of new sets of the cells of each region
+     */
+    public List<Set<NurikabeCell>> getAllSets() {
+        List<Set<NurikabeCell>> sets = new ArrayList<>(labels.getRegionCount());
+        for (int region = 0; region < labels.getRegionCount(); region++) {
+            sets.add(getCells(region));
+        }
+        return sets;
+    }
+
+    /**
+     * Gets the number of regions
+     *
+     * @return the number of regions
+     */
+    public int getRegionCount() {
+        return labels.getRegionCount();
+    }
+
+    /**
+     * Gets the cells of a region
+     *
+     * @param region label of the region
+     * @return a new set of the cells of the region
+     */
+    private Set<NurikabeCell> getCells(int region) {
+        int width = board.getWidth();
+        int[] indices = labels.getElements(region);
+        Set<NurikabeCell> cells = new HashSet<>(indices.length * 2);
+        for (int index : indices) {
+            cells.add(board.getCell(index % width, index / width));
+        }
+        return cells;
+    }
+}
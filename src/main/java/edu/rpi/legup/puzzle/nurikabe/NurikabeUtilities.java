@@ -1,18 +1,29 @@
 package edu.rpi.legup.puzzle.nurikabe;
 
 import edu.rpi.legup.model.gameboard.PuzzleElement;
-import edu.rpi.legup.utility.DisjointSets;
+import edu.rpi.legup.utility.UnionFind;
 import java.awt.*;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class NurikabeUtilities {
     private static final Logger LOGGER = LogManager.getLogger(NurikabeUtilities.class.getName());
 
+    private static final Function<NurikabeBoard, NurikabeRegions> REGIONS =
+            NurikabeUtilities::findNurikabeRegions;
+    private static final Function<NurikabeBoard, NurikabeRegions> BLACK_REGIONS =
+            NurikabeUtilities::findPossibleBlackRegions;
+    private static final Function<NurikabeBoard, NurikabeRegions> WHITE_REGIONS =
+            NurikabeUtilities::findPossibleWhiteRegions;
+    private static final Function<NurikabeBoard, HashMap<NurikabeCell, Integer>> WHITE_REGION_MAP =
+            NurikabeUtilities::findWhiteRegionMap;
+
     /**
      * Gets all of the numbered cells in the Nurikabe board
      *
@@ -32,222 +43,165 @@ public class NurikabeUtilities {
     }
 
     /**
-     * Gets nurikabe regions of black, white, and unknown cells
+     * Gets nurikabe regions of black, white, and unknown cells. The regions are only computed once
+     * per analysis pass of the board.
      *
      * @param board nurikabe board
-     * @return a disjoint set of the regions
+     * @return the regions of the board
      */
-    public static DisjointSets<NurikabeCell> getNurikabeRegions(NurikabeBoard board) {
-        int width = board.getWidth();
-        int height = board.getHeight();
-
-        DisjointSets<NurikabeCell> regions = new DisjointSets<>();
-        for (PuzzleElement data : board.getPuzzleElements()) {
-            regions.createSet((NurikabeCell) data);
-        }
+    public static NurikabeRegions getNurikabeRegions(NurikabeBoard board) {
+        return board.getAnalysis(REGIONS);
+    }
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                NurikabeCell cell = board.getCell(x, y);
-                NurikabeCell rightCell = board.getCell(x + 1, y);
-                NurikabeCell downCell = board.getCell(x, y + 1);
+    /**
+     * Gets nurikabe regions of black, white, and unknown cells
+     *
+     * @param board nurikabe board
+     * @return the regions of the board
+     */
+    private static NurikabeRegions findNurikabeRegions(NurikabeBoard board) {
+        return findRegions(
+                board,
+                type ->
+                        type == NurikabeType.NUMBER
+                                ? NurikabeType.WHITE.ordinal()
+                                : type.ordinal());
+    }
 
-                if (cell.getType() == NurikabeType.NUMBER || cell.getType() == NurikabeType.WHITE) {
-                    if (rightCell != null
-                            && (rightCell.getType() == NurikabeType.NUMBER
-                                    || rightCell.getType() == NurikabeType.WHITE)) {
-                        regions.union(cell, rightCell);
-                    }
-                    if (downCell != null
-                            && (downCell.getType() == NurikabeType.NUMBER
-                                    || downCell.getType() == NurikabeType.WHITE)) {
-                        regions.union(cell, downCell);
-                    }
-                } else {
-                    if (cell.getType() == NurikabeType.BLACK) {
-                        if (rightCell != null && rightCell.getType() == NurikabeType.BLACK) {
-                            regions.union(cell, rightCell);
-                        }
-                        if (downCell != null && downCell.getType() == NurikabeType.BLACK) {
-                            regions.union(cell, downCell);
-                        }
-                    } else {
-                        if (cell.getType() == NurikabeType.UNKNOWN) {
-                            if (rightCell != null && rightCell.getType() == NurikabeType.UNKNOWN) {
-                                regions.union(cell, rightCell);
-                            }
-                            if (downCell != null && downCell.getType() == NurikabeType.UNKNOWN) {
-                                regions.union(cell, downCell);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return regions;
+    /**
+     * Gets the possible black regions by interpreting all unknown cells as black cells. The
+     * regions are only computed once per analysis pass of the board.
+     *
+     * @param board nurikabe board
+     * @return the possible black regions, which white and numbered cells are not in
+     */
+    public static NurikabeRegions getPossibleBlackRegions(NurikabeBoard board) {
+        return board.getAnalysis(BLACK_REGIONS);
     }
 
     /**
-     * Gets the disjoint set containing the possible black regions be interpreting all unknown cells
-     * as black cells
+     * Gets the possible black regions by interpreting all unknown cells as black cells
      *
      * @param board nurikabe board
-     * @return the disjoint set containing the possible black regions
+     * @return the possible black regions, which white and numbered cells are not in
      */
-    public static DisjointSets<NurikabeCell> getPossibleBlackRegions(NurikabeBoard board) {
-        int width = board.getWidth();
-        int height = board.getHeight();
+    private static NurikabeRegions findPossibleBlackRegions(NurikabeBoard board) {
+        return findRegions(
+                board,
+                type -> type == NurikabeType.BLACK || type == NurikabeType.UNKNOWN ? 0 : -1);
+    }
 
-        DisjointSets<NurikabeCell> blackRegions = new DisjointSets<>();
-        for (PuzzleElement data : board.getPuzzleElements()) {
-            NurikabeCell cell = (NurikabeCell) data;
-            if (cell.getType() == NurikabeType.BLACK || cell.getType() == NurikabeType.UNKNOWN) {
-                blackRegions.createSet(cell);
-            }
-        }
+    /**
+     * Gets the possible white regions by interpreting all unknown cells as white cells. The
+     * regions are only computed once per analysis pass of the board.
+     *
+     * @param board nurikabe board
+     * @return the possible white regions, which black cells are not in
+     */
+    public static NurikabeRegions getPossibleWhiteRegions(NurikabeBoard board) {
+        return board.getAnalysis(WHITE_REGIONS);
+    }
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                NurikabeCell cell = board.getCell(x, y);
-                NurikabeCell rightCell = board.getCell(x + 1, y);
-                NurikabeCell downCell = board.getCell(x, y + 1);
-                if (cell.getType() == NurikabeType.BLACK
-                        || cell.getType() == NurikabeType.UNKNOWN) {
-                    if (rightCell != null
-                            && (rightCell.getType() == NurikabeType.BLACK
-                                    || rightCell.getType() == NurikabeType.UNKNOWN)) {
-                        blackRegions.union(cell, rightCell);
-                    }
-                    if (downCell != null
-                            && (downCell.getType() == NurikabeType.BLACK
-                                    || downCell.getType() == NurikabeType.UNKNOWN)) {
-                        blackRegions.union(cell, downCell);
-                    }
-                }
-            }
-        }
-        return blackRegions;
+    /**
+     * Gets the possible white regions by interpreting all unknown cells as white cells
+     *
+     * @param board nurikabe board
+     * @return the possible white regions, which black cells are not in
+     */
+    private static NurikabeRegions findPossibleWhiteRegions(NurikabeBoard board) {
+        return findRegions(board, type -> type == NurikabeType.BLACK ? -1 : 0);
     }
 
     /**
-     * Gets the disjoint set containing the possible white regions be interpreting all unknown cells
-     * as white cells
+     * Finds the regions of a board by joining each cell with the cells to its right and below it
+     * that have the same class
      *
      * @param board nurikabe board
-     * @return the disjoint set containing the possible white regions
+     * @param classOf gets the class of a cell type, or a negative number if cells of that type are
+     *     in no region
+     * @return the regions of the board
      */
-    public static DisjointSets<NurikabeCell> getPossibleWhiteRegions(NurikabeBoard board) {
+    private static NurikabeRegions findRegions(
+            NurikabeBoard board, ToIntFunction<NurikabeType> classOf) {
         int width = board.getWidth();
         int height = board.getHeight();
 
-        DisjointSets<NurikabeCell> whiteRegions = new DisjointSets<>();
-        for (PuzzleElement data : board.getPuzzleElements()) {
-            NurikabeCell cell = (NurikabeCell) data;
-            if (cell.getType() == NurikabeType.WHITE
-                    || cell.getType() == NurikabeType.NUMBER
-                    || cell.getType() == NurikabeType.UNKNOWN) {
-                whiteRegions.createSet(cell);
+        int[] classes = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                classes[y * width + x] = classOf.applyAsInt(board.getCell(x, y).getType());
             }
         }
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                NurikabeCell cell = board.getCell(x, y);
-                NurikabeCell rightCell = board.getCell(x + 1, y);
-                NurikabeCell downCell = board.getCell(x, y + 1);
-                if (cell.getType() == NurikabeType.WHITE
-                        || cell.getType() == NurikabeType.NUMBER
-                        || cell.getType() == NurikabeType.UNKNOWN) {
-                    if (rightCell != null
-                            && (rightCell.getType() == NurikabeType.WHITE
-                                    || rightCell.getType() == NurikabeType.NUMBER
-                                    || rightCell.getType() == NurikabeType.UNKNOWN)) {
-                        whiteRegions.union(cell, rightCell);
-                    }
-                    if (downCell != null
-                            && (downCell.getType() == NurikabeType.WHITE
-                                    || downCell.getType() == NurikabeType.NUMBER
-                                    || downCell.getType() == NurikabeType.UNKNOWN)) {
-                        whiteRegions.union(cell, downCell);
-                    }
+        UnionFind sets = new UnionFind(classes.length);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                if (classes[index] < 0) {
+                    continue;
+                }
+                if (x + 1 < width && classes[index + 1] == classes[index]) {
+                    sets.union(index, index + 1);
+                }
+                if (y + 1 < height && classes[index + width] == classes[index]) {
+                    sets.union(index, index + width);
                 }
             }
         }
-        return whiteRegions;
+        return new NurikabeRegions(board, sets.getLabels(index -> classes[index] >= 0));
     }
 
     /**
      * Makes a map where the keys are white/numbered cells and the values are the amount of cells
-     * that need to be added to the region
+     * that need to be added to the region. The map is only computed once per analysis pass of the
+     * board.
      *
      * @param board nurikabe board
      * @return a map of cell keys to integer values
      */
     public static HashMap<NurikabeCell, Integer> getWhiteRegionMap(NurikabeBoard board) {
+        return board.getAnalysis(WHITE_REGION_MAP);
+    }
+
+    /**
+     * Makes a map where the keys are white/numbered cells and the values are the amount of cells
+     * that need to be added to the region
+     *
+     * @param board nurikabe board
+     * @return a map of cell keys to integer values
+     */
+    private static HashMap<NurikabeCell, Integer> findWhiteRegionMap(NurikabeBoard board) {
         int width = board.getWidth();
-        int height = board.getHeight();
 
         Set<NurikabeCell> numberedCells = getNurikabeNumberedCells(board);
         // Final mapping of cell to size
         HashMap<NurikabeCell, Integer> whiteRegionMap = new HashMap<>();
+        boolean[] visited = new boolean[width * board.getHeight()];
+        int[] queue = new int[visited.length];
         for (NurikabeCell center : numberedCells) {
-            // BFS for each center to find the size of the region
+            // BFS through the white cells around each center to find the size of the region
+            Arrays.fill(visited, false);
+            Point loc = center.getLocation();
+            int start = loc.y * width + loc.x;
+            visited[start] = true;
+            queue[0] = start;
             int size = 1;
-            // Mark all the vertices as not visited(By default
-            // set as false)
-            HashMap<NurikabeCell, Boolean> visited = new HashMap<>();
-
-            // Create a queue for BFS
-            LinkedList<NurikabeCell> queue = new LinkedList<>();
-
-            // Mark the current node as visited and enqueue it
-            visited.put(center, true);
-            queue.add(center);
-
-            // Set of cells in the current region
-            Set<NurikabeCell> connected = new HashSet<>();
-
-            while (queue.size() != 0) {
-                // Dequeue a vertex from queue and print it
-                // s is the source node in the graph
-                NurikabeCell s = queue.poll();
+            for (int next = 0; next < size; next++) {
                 if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("{} ", s);
-                }
-
-                // Make a linked list of all adjacent squares
-                Set<NurikabeCell> adj = new HashSet<>();
-
-                Point loc = s.getLocation();
-                // First check if the side is on the board
-                if (loc.x >= 1) {
-                    adj.add(board.getCell(loc.x - 1, loc.y));
-                }
-                if (loc.x < width - 1) {
-                    adj.add(board.getCell(loc.x + 1, loc.y));
-                }
-                if (loc.y >= 1) {
-                    adj.add(board.getCell(loc.x, loc.y - 1));
-                }
-                if (loc.y < height - 1) {
-                    adj.add(board.getCell(loc.x, loc.y + 1));
+                    LOGGER.trace("{} ", board.getCell(queue[next]));
                 }
-                // Get all adjacent vertices of the dequeued vertex s
-                // If a adjacent has not been visited, then mark it
-                // visited and enqueue it
-                for (NurikabeCell n : adj) {
-                    if (!visited.getOrDefault(n, false) && n.getType() == NurikabeType.WHITE) {
-                        connected.add(n);
-                        visited.put(n, true);
-                        queue.add(n);
-                        ++size;
+                for (int neighbor : board.getOrthogonalNeighbors(queue[next])) {
+                    if (!visited[neighbor]
+                            && ((NurikabeCell) board.getCell(neighbor)).getType()
+                                    == NurikabeType.WHITE) {
+                        visited[neighbor] = true;
+                        queue[size++] = neighbor;
                     }
                 }
             }
             // Map the cells to the center-size (including the center)
-            whiteRegionMap.put(center, center.getData() - size);
-            for (NurikabeCell member : connected) {
-                whiteRegionMap.put(member, center.getData() - size);
+            for (int i = 0; i < size; i++) {
+                whiteRegionMap.put((NurikabeCell) board.getCell(queue[i]), center.getData() - size);
             }
         }
         return whiteRegionMap;
@@ -263,55 +217,28 @@ public class NurikabeUtilities {
     public static Set<NurikabeCell> getSurroundedRegionOf(
             NurikabeBoard board, NurikabeCell center) {
         int width = board.getWidth();
-        int height = board.getHeight();
-
-        // Mark all the vertices as not visited(By default
-        // set as false)
-        Set<NurikabeCell> visited = new HashSet<>();
-
-        // Create a queue for BFS
-        LinkedList<NurikabeCell> queue = new LinkedList<>();
 
-        // Mark the current node as visited and enqueue it
-        visited.add(center);
-        queue.add(center);
+        // BFS through the non-black cells around the center
+        boolean[] visited = new boolean[width * board.getHeight()];
+        int[] queue = new int[visited.length];
+        Point loc = center.getLocation();
+        int start = loc.y * width + loc.x;
+        visited[start] = true;
+        queue[0] = start;
+        int count = 1;
 
         // Set of cells in the current region
         Set<NurikabeCell> connected = new HashSet<>();
-
-        while (queue.size() != 0) {
-            // Dequeue a vertex from queue and print it
-            // s is the source node in the graph
-            NurikabeCell s = queue.poll();
+        for (int next = 0; next < count; next++) {
             if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("{} ", s);
-            }
-
-            // Make a set of all adjacent squares
-            Set<NurikabeCell> adj = new HashSet<>();
-
-            Point loc = s.getLocation();
-            // First check if the side is on the board
-            if (loc.x >= 1) {
-                adj.add(board.getCell(loc.x - 1, loc.y));
-            }
-            if (loc.x < width - 1) {
-                adj.add(board.getCell(loc.x + 1, loc.y));
-            }
-            if (loc.y >= 1) {
-                adj.add(board.getCell(loc.x, loc.y - 1));
-            }
-            if (loc.y < height - 1) {
-                adj.add(board.getCell(loc.x, loc.y + 1));
+                LOGGER.trace("{} ", board.getCell(queue[next]));
             }
-            // Get all adjacent vertices of the dequeued vertex s
-            // If a adjacent has not been visited, then mark it
-            // visited and enqueue it
-            for (NurikabeCell n : adj) {
-                if (!visited.contains(n) && n.getType() != NurikabeType.BLACK) {
-                    connected.add(n);
-                    visited.add(n);
-                    queue.add(n);
+            for (int neighbor : board.getOrthogonalNeighbors(queue[next])) {
+                NurikabeCell cell = (NurikabeCell) board.getCell(neighbor);
+                if (!visited[neighbor] && cell.getType() != NurikabeType.BLACK) {
+                    connected.add(cell);
+                    visited[neighbor] = true;
+                    queue[count++] = neighbor;
                 }
             }
         }
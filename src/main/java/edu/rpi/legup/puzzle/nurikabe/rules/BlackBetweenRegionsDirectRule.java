@@ -4,13 +4,14 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -37,8 +38,8 @@ public class BlackBetweenRegionsDirectRule extends DirectRule {
     @Override
     public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
         Set<ContradictionRule> contras = new LinkedHashSet<>();
-        contras.add(new MultipleNumbersContradictionRule());
-        contras.add(new TooManySpacesContradictionRule());
+        contras.add(RuleRegistry.getRule(MultipleNumbersContradictionRule.class));
+        contras.add(RuleRegistry.getRule(TooManySpacesContradictionRule.class));
 
         NurikabeBoard destBoardState = (NurikabeBoard) transition.getBoard();
         NurikabeBoard origBoardState = (NurikabeBoard) transition.getParents().get(0).getBoard();
@@ -53,8 +54,8 @@ public class BlackBetweenRegionsDirectRule extends DirectRule {
         int x = cell.getLocation().x;
         int y = cell.getLocation().y;
 
-        DisjointSets<NurikabeCell> regions = NurikabeUtilities.getNurikabeRegions(destBoardState);
-        Set<NurikabeCell> adjacentWhiteRegions = new HashSet<>();
+        NurikabeRegions regions = NurikabeUtilities.getNurikabeRegions(destBoardState);
+        Set<Integer> adjacentWhiteRegions = new HashSet<>();
         NurikabeCell upCell = destBoardState.getCell(x, y - 1);
         NurikabeCell rightCell = destBoardState.getCell(x + 1, y);
         NurikabeCell downCell = destBoardState.getCell(x, y + 1);
@@ -63,34 +64,22 @@ public class BlackBetweenRegionsDirectRule extends DirectRule {
         if (upCell != null
                 && (upCell.getType() == NurikabeType.WHITE
                         || upCell.getType() == NurikabeType.NUMBER)) {
-            NurikabeCell repCell = regions.find(upCell);
-            if (!adjacentWhiteRegions.contains(repCell)) {
-                adjacentWhiteRegions.add(repCell);
-            }
+            adjacentWhiteRegions.add(regions.getRegion(upCell));
         }
         if (rightCell != null
                 && (rightCell.getType() == NurikabeType.WHITE
                         || rightCell.getType() == NurikabeType.NUMBER)) {
-            NurikabeCell repCell = regions.find(rightCell);
-            if (!adjacentWhiteRegions.contains(repCell)) {
-                adjacentWhiteRegions.add(repCell);
-            }
+            adjacentWhiteRegions.add(regions.getRegion(rightCell));
         }
         if (downCell != null
                 && (downCell.getType() == NurikabeType.WHITE
                         || downCell.getType() == NurikabeType.NUMBER)) {
-            NurikabeCell repCell = regions.find(downCell);
-            if (!adjacentWhiteRegions.contains(repCell)) {
-                adjacentWhiteRegions.add(repCell);
-            }
+            adjacentWhiteRegions.add(regions.getRegion(downCell));
         }
         if (leftCell != null
                 && (leftCell.getType() == NurikabeType.WHITE
                         || leftCell.getType() == NurikabeType.NUMBER)) {
-            NurikabeCell repCell = regions.find(leftCell);
-            if (!adjacentWhiteRegions.contains(repCell)) {
-                adjacentWhiteRegions.add(repCell);
-            }
+            adjacentWhiteRegions.add(regions.getRegion(leftCell));
         }
 
         if (adjacentWhiteRegions.size() < 2) {
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
@@ -30,7 +31,8 @@ public class CannotReachCellDirectRule extends DirectRule {
      */
     @Override
     protected String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
-        ContradictionRule contraRule = new UnreachableWhiteCellContradictionRule();
+        ContradictionRule contraRule =
+                RuleRegistry.getRule(UnreachableWhiteCellContradictionRule.class);
 
         NurikabeBoard destBoardState = (NurikabeBoard) transition.getBoard();
         NurikabeCell cell = (NurikabeCell) destBoardState.getPuzzleElement(puzzleElement);
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
@@ -45,7 +46,7 @@ public class CornerBlackDirectRule extends DirectRule {
             return "Only black cells are allowed for this rule!";
         }
 
-        ContradictionRule tooFewContra = new TooFewSpacesContradictionRule();
+        ContradictionRule tooFewContra = RuleRegistry.getRule(TooFewSpacesContradictionRule.class);
         Point cellLocation = cell.getLocation();
         // 1. Find the coordinates of the white space (should be a corner of cell)
         for (int i = -1; i < 2; i += 2) {
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
@@ -33,7 +34,7 @@ public class FillinWhiteDirectRule extends DirectRule {
     public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
         NurikabeBoard board = (NurikabeBoard) transition.getBoard();
         NurikabeBoard origBoard = (NurikabeBoard) transition.getParents().get(0).getBoard();
-        ContradictionRule contraRule = new IsolateBlackContradictionRule();
+        ContradictionRule contraRule = RuleRegistry.getRule(IsolateBlackContradictionRule.class);
 
         NurikabeCell cell = (NurikabeCell) board.getPuzzleElement(puzzleElement);
 
@@ -7,9 +7,9 @@ import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -18,8 +18,6 @@ import java.util.Set;
 
 public class FinishRoomCaseRule extends CaseRule {
 
-    private Set<Integer> uniqueCases; // stores the unique case hashes
-
     public FinishRoomCaseRule() {
         super(
                 "NURI-CASE-0002",
@@ -28,7 +26,6 @@ public class FinishRoomCaseRule extends CaseRule {
                 "edu/rpi/legup/images/nurikabe/cases/FinishRoom.png");
         this.MAX_CASES = 9;
         this.MIN_CASES = 1;
-        this.uniqueCases = new HashSet<>();
     }
 
     /**
@@ -125,7 +122,7 @@ public class FinishRoomCaseRule extends CaseRule {
     public CaseBoard getCaseBoard(Board board) {
         NurikabeBoard nurikabeBoard = (NurikabeBoard) board.copy();
         CaseBoard caseBoard = new CaseBoard(nurikabeBoard, this);
-        DisjointSets<NurikabeCell> regions = NurikabeUtilities.getNurikabeRegions(nurikabeBoard);
+        NurikabeRegions regions = NurikabeUtilities.getNurikabeRegions(nurikabeBoard);
         nurikabeBoard.setModifiable(false);
 
         for (PuzzleElement element :
@@ -195,7 +192,7 @@ public class FinishRoomCaseRule extends CaseRule {
         Set<Point> checkedPoints =
                 new HashSet<>(); // add all into checked points and continue at start of loop if
         // inside
-        DisjointSets<NurikabeCell> regions =
+        NurikabeRegions regions =
                 NurikabeUtilities.getNurikabeRegions(nuriBoard); // gathers regions
         Set<NurikabeCell> numberCellRegion = regions.getSet(numberCell); // set of white spaces
 
@@ -266,7 +263,7 @@ public class FinishRoomCaseRule extends CaseRule {
                 newModList.add(newPoint);
 
                 // Recompute regions
-                DisjointSets<NurikabeCell> regions =
+                NurikabeRegions regions =
                         NurikabeUtilities.getNurikabeRegions(nuriBoard);
                 Set<NurikabeCell> newRoomSet = regions.getSet(newCell);
 
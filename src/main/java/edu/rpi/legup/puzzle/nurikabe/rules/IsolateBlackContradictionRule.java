@@ -5,10 +5,11 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.util.Set;
+import java.util.function.Function;
 
 public class IsolateBlackContradictionRule extends ContradictionRule {
 
@@ -16,6 +17,9 @@ public class IsolateBlackContradictionRule extends ContradictionRule {
             "Contradiction applied incorrectly. No isolated Blacks.";
     private final String INVALID_USE_MESSAGE = "Contradiction must be a black cell";
 
+    private static final Function<NurikabeBoard, Boolean> HAS_ISOLATED_BLACK =
+            IsolateBlackContradictionRule::hasIsolatedBlack;
+
     public IsolateBlackContradictionRule() {
         super(
                 "NURI-CONT-0003",
@@ -41,14 +45,28 @@ public class IsolateBlackContradictionRule extends ContradictionRule {
             return super.getInvalidUseOfRuleMessage() + ": " + this.INVALID_USE_MESSAGE;
         }
 
-        DisjointSets<NurikabeCell> blackRegions =
-                NurikabeUtilities.getPossibleBlackRegions(nurikabeBoard);
+        if (nurikabeBoard.getAnalysis(HAS_ISOLATED_BLACK)) {
+            return null;
+        }
+
+        return super.getNoContradictionMessage() + ": " + this.NO_CONTRADICTION_MESSAGE;
+    }
+
+    /**
+     * Determines if the black cells of the board can no longer all be connected, which is the
+     * case when they are spread over more than one of the possible black regions
+     *
+     * @param board nurikabe board
+     * @return true if there are black cells in more than one possible black region
+     */
+    private static Boolean hasIsolatedBlack(NurikabeBoard board) {
+        NurikabeRegions blackRegions = NurikabeUtilities.getPossibleBlackRegions(board);
         boolean oneRegion = false;
         for (Set<NurikabeCell> region : blackRegions.getAllSets()) {
             for (NurikabeCell c : region) {
                 if (c.getType() == NurikabeType.BLACK) {
                     if (oneRegion) {
-                        return null;
+                        return true;
                     } else {
                         oneRegion = true;
                         break;
@@ -56,6 +74,6 @@ public class IsolateBlackContradictionRule extends ContradictionRule {
                 }
             }
         }
-        return super.getNoContradictionMessage() + ": " + this.NO_CONTRADICTION_MESSAGE;
+        return false;
     }
 }
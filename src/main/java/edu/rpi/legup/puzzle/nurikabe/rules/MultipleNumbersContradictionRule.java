@@ -5,9 +5,9 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.util.Set;
 
 public class MultipleNumbersContradictionRule extends ContradictionRule {
@@ -41,7 +41,7 @@ public class MultipleNumbersContradictionRule extends ContradictionRule {
         if (cell.getType() != NurikabeType.NUMBER) {
             return super.getInvalidUseOfRuleMessage() + ": " + INVALID_USE_MESSAGE;
         }
-        DisjointSets<NurikabeCell> regions = NurikabeUtilities.getNurikabeRegions(nurikabeBoard);
+        NurikabeRegions regions = NurikabeUtilities.getNurikabeRegions(nurikabeBoard);
         Set<NurikabeCell> numberedRegion = regions.getSet(cell);
         for (NurikabeCell c : numberedRegion) {
             if (c != cell && c.getType() == NurikabeType.NUMBER) {
@@ -42,7 +42,9 @@ public class NoNumberContradictionRule extends ContradictionRule {
             return super.getInvalidUseOfRuleMessage() + ": " + this.INVALID_USE_MESSAGE;
         }
 
-        Set<NurikabeCell> region = NurikabeUtilities.getSurroundedRegionOf(nurikabeBoard, cell);
+        // the region of every cell that is not black
+        Set<NurikabeCell> region =
+                NurikabeUtilities.getPossibleWhiteRegions(nurikabeBoard).getSet(cell);
 
         boolean numberExists = false;
         for (NurikabeCell c : region) {
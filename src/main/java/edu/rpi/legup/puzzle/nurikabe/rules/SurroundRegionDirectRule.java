@@ -7,9 +7,9 @@ import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,7 +53,7 @@ public class SurroundRegionDirectRule extends DirectRule {
         modCell.setData(NurikabeType.WHITE.toValue());
 
         if (cell.getType() == NurikabeType.BLACK) {
-            DisjointSets<NurikabeCell> regions =
+            NurikabeRegions regions =
                     NurikabeUtilities.getNurikabeRegions(destBoardState);
             Set<NurikabeCell> adj = new HashSet<>(); // set to hold adjacent cells
             Point loc = cell.getLocation(); // position of placed cell
@@ -80,7 +80,7 @@ public class SurroundRegionDirectRule extends DirectRule {
                 }
             }
             for (NurikabeCell number : numberedCells) { // loops through numberedCells
-                if (regions.getSet(number).size()
+                if (regions.getSize(number)
                         == number.getData()) { // if that cells white area is the exact
                     return null; // size of the number of one of the number cells within that set
                 }
@@ -5,9 +5,9 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.util.Set;
 
 public class TooFewSpacesContradictionRule extends ContradictionRule {
@@ -42,7 +42,7 @@ public class TooFewSpacesContradictionRule extends ContradictionRule {
             return super.getInvalidUseOfRuleMessage() + ": " + this.INVALID_USE_MESSAGE;
         }
 
-        DisjointSets<NurikabeCell> regions =
+        NurikabeRegions regions =
                 NurikabeUtilities.getPossibleWhiteRegions(nurikabeBoard);
         Set<NurikabeCell> whiteRegion = regions.getSet(cell);
         NurikabeCell numberedCell = null;
@@ -5,9 +5,9 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeCell;
+import edu.rpi.legup.puzzle.nurikabe.NurikabeRegions;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeType;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeUtilities;
-import edu.rpi.legup.utility.DisjointSets;
 import java.util.ArrayList;
 import java.util.Set;
 
@@ -43,7 +43,7 @@ public class TooManySpacesContradictionRule extends ContradictionRule {
             return super.getInvalidUseOfRuleMessage() + ": " + this.INVALID_USE_MESSAGE;
         }
 
-        DisjointSets<NurikabeCell> regions = NurikabeUtilities.getNurikabeRegions(nurikabeBoard);
+        NurikabeRegions regions = NurikabeUtilities.getNurikabeRegions(nurikabeBoard);
         Set<NurikabeCell> whiteRegion = regions.getSet(cell);
         ArrayList<NurikabeCell> numberedCells = new ArrayList<>();
         for (NurikabeCell c : whiteRegion) {
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.NurikabeBoard;
@@ -35,8 +36,8 @@ public class WhiteBottleNeckDirectRule extends DirectRule {
     @Override
     public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
         Set<ContradictionRule> contras = new LinkedHashSet<>();
-        contras.add(new NoNumberContradictionRule());
-        contras.add(new TooFewSpacesContradictionRule());
+        contras.add(RuleRegistry.getRule(NoNumberContradictionRule.class));
+        contras.add(RuleRegistry.getRule(TooFewSpacesContradictionRule.class));
 
         NurikabeBoard destBoardState = (NurikabeBoard) transition.getBoard();
         NurikabeBoard origBoardState = (NurikabeBoard) transition.getParents().get(0).getBoard();
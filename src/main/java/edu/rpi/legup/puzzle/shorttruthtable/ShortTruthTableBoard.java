@@ -65,9 +65,6 @@ public class ShortTruthTableBoard extends GridBoard {
         for (PuzzleElement e : modifiedData) {
             boardCopy.getPuzzleElement(e).setModifiable(false);
         }
-        System.out.println("Board.copy()");
-        System.out.println("original:\n" + this);
-        System.out.println("copy:\n" + boardCopy);
         return boardCopy;
     }
 
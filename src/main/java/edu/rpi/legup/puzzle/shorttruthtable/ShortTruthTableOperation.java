@@ -45,4 +45,62 @@ public class ShortTruthTableOperation {
     public static boolean isOperation(char c) {
         return c == AND || c == OR || c == NOT || c == CONDITIONAL || c == BICONDITIONAL;
     }
+
+    /**
+     * Applies an operation to the values of its operands
+     *
+     * @param operation symbol of the operation
+     * @param left value of the left operand, which a negation does not have
+     * @param right value of the right operand, or of the only operand of a negation
+     * @return value of the operation
+     * @throws IllegalArgumentException if the symbol is not an operation
+     */
+    public static boolean evaluate(char operation, boolean left, boolean right) {
+        switch (operation) {
+            case NOT:
+                return !right;
+            case AND:
+                return left && right;
+            case OR:
+                return left || right;
+            case CONDITIONAL:
+                return !left || right;
+            case BICONDITIONAL:
+                return left == right;
+        }
+        throw new IllegalArgumentException(operation + " is not an operation");
+    }
+
+    /**
+     * Determines if an operation has a value for some values of its unknown operands, by looking
+     * up the rows of its truth table that keep the values of the operands that are known
+     *
+     * @param operation symbol of the operation
+     * @param value value the operation must have
+     * @param left value of the left operand, which is ignored for a negation
+     * @param right value of the right operand, or of the only operand of a negation
+     * @return true if some row of the truth table gives the value, false otherwise
+     * @throws IllegalArgumentException if the symbol is not an operation
+     */
+    public static boolean canEvaluateTo(
+            char operation,
+            boolean value,
+            ShortTruthTableCellType left,
+            ShortTruthTableCellType right) {
+        for (int row = 0; row < 4; row++) {
+            boolean leftValue = (row & 1) != 0;
+            boolean rightValue = (row & 2) != 0;
+            if ((operation != NOT && !matches(left, leftValue)) || !matches(right, rightValue)) {
+                continue;
+            }
+            if (evaluate(operation, leftValue, rightValue) == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(ShortTruthTableCellType type, boolean value) {
+        return !type.isTrueOrFalse() || (type == ShortTruthTableCellType.TRUE) == value;
+    }
 }
@@ -1,5 +1,6 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleAtomic;
 
 public class DirectRuleAtomic extends DirectRule_Generic {
@@ -10,7 +11,7 @@ public class DirectRuleAtomic extends DirectRule_Generic {
                 "Atomic Rule",
                 "All identical atoms have the same T/F value",
                 "Atomic",
-                new ContradictionRuleAtomic(),
+                RuleRegistry.getRule(ContradictionRuleAtomic.class),
                 false);
     }
 }
@@ -2,16 +2,16 @@ package edu.rpi.legup.puzzle.shorttruthtable.rules.basic;
 
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
-import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableBoard;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCell;
+import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRule_Generic;
 
 public abstract class DirectRule_Generic extends DirectRule {
 
-    final ContradictionRule CORRESPONDING_CONTRADICTION_RULE;
+    final ContradictionRule_Generic CORRESPONDING_CONTRADICTION_RULE;
     final boolean ELIMINATION_RULE;
 
     public DirectRule_Generic(
@@ -19,7 +19,7 @@ public abstract class DirectRule_Generic extends DirectRule {
             String ruleName,
             String description,
             String imageName,
-            ContradictionRule contraRule,
+            ContradictionRule_Generic contraRule,
             boolean eliminationRule) {
         super(
                 ruleID,
@@ -48,12 +48,9 @@ public abstract class DirectRule_Generic extends DirectRule {
         }
 
         // Strategy: Negate the modified cell and check if there is a contradiction. If there is
-        // one,
-        // then the
-        // original statement must be true. If there isn't one, then the original statement must be
-        // false.
-
-        ShortTruthTableBoard modifiedBoard = parentBoard.copy();
+        // one, then the original statement must be true. If there isn't one, then the original
+        // statement must be false. The negation is only assumed by the contradiction rule, so the
+        // parent board does not have to be copied.
 
         // Check that elimination rule is not using the whole statement, which is always improper
         if (this.ELIMINATION_RULE
@@ -66,16 +63,9 @@ public abstract class DirectRule_Generic extends DirectRule {
                         ? parentCell.getStatementReference().getParentStatement().getCell()
                         : element;
 
-        ShortTruthTableCell checkCell =
-                this.ELIMINATION_RULE
-                        ? (ShortTruthTableCell)
-                                modifiedBoard.getCell(parentCell.getX(), parentCell.getY())
-                        : (ShortTruthTableCell) modifiedBoard.getPuzzleElement(element);
-
-        checkCell.setType(finalCell.getType().getNegation());
-
         String contradictionMessage =
-                CORRESPONDING_CONTRADICTION_RULE.checkContradictionAt(modifiedBoard, checkElement);
+                CORRESPONDING_CONTRADICTION_RULE.checkContradictionAt(
+                        parentBoard, checkElement, parentCell, finalCell.getType().getNegation());
         if (contradictionMessage
                 == null) { // A contradiction exists in the modified statement; this is good!
             return null;
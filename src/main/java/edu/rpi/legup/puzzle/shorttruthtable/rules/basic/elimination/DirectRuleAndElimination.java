@@ -1,10 +1,11 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.elimination;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleAnd;
 
 public class DirectRuleAndElimination extends DirectRule_GenericElimination {
 
     public DirectRuleAndElimination() {
-        super("STTT-BASC-0002", "And", new ContradictionRuleAnd());
+        super("STTT-BASC-0002", "And", RuleRegistry.getRule(ContradictionRuleAnd.class));
     }
 }
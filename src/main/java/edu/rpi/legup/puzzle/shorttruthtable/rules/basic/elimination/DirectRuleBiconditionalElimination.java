@@ -1,10 +1,14 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.elimination;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleBiconditional;
 
 public class DirectRuleBiconditionalElimination extends DirectRule_GenericElimination {
 
     public DirectRuleBiconditionalElimination() {
-        super("STTT-BASC-0003", "Biconditional", new ContradictionRuleBiconditional());
+        super(
+                "STTT-BASC-0003",
+                "Biconditional",
+                RuleRegistry.getRule(ContradictionRuleBiconditional.class));
     }
 }
@@ -1,10 +1,11 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.elimination;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleNot;
 
 public class DirectRuleNotElimination extends DirectRule_GenericElimination {
 
     public DirectRuleNotElimination() {
-        super("STTT-BASC-0005", "Not", new ContradictionRuleNot());
+        super("STTT-BASC-0005", "Not", RuleRegistry.getRule(ContradictionRuleNot.class));
     }
 }
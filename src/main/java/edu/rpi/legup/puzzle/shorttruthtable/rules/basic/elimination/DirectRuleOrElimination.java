@@ -1,10 +1,11 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.elimination;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleOr;
 
 public class DirectRuleOrElimination extends DirectRule_GenericElimination {
 
     public DirectRuleOrElimination() {
-        super("STTT-BASC-0006", "Or", new ContradictionRuleOr());
+        super("STTT-BASC-0006", "Or", RuleRegistry.getRule(ContradictionRuleOr.class));
     }
 }
@@ -1,12 +1,12 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.elimination;
 
-import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.basic.DirectRule_Generic;
+import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRule_Generic;
 
 public abstract class DirectRule_GenericElimination extends DirectRule_Generic {
 
     public DirectRule_GenericElimination(
-            String ruleID, String ruleName, ContradictionRule contradictionRule) {
+            String ruleID, String ruleName, ContradictionRule_Generic contradictionRule) {
 
         super(
                 ruleID,
@@ -1,10 +1,11 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.introduction;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleAnd;
 
 public class DirectRuleAndIntroduction extends DirectRule_GenericIntroduction {
 
     public DirectRuleAndIntroduction() {
-        super("STTT-BASC-0007", "And", new ContradictionRuleAnd());
+        super("STTT-BASC-0007", "And", RuleRegistry.getRule(ContradictionRuleAnd.class));
     }
 }
@@ -1,10 +1,11 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.introduction;
 
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRuleNot;
 
 public class DirectRuleNotIntroduction extends DirectRule_GenericIntroduction {
 
     public DirectRuleNotIntroduction() {
-        super("STTT-BASC-0010", "Not", new ContradictionRuleNot());
+        super("STTT-BASC-0010", "Not", RuleRegistry.getRule(ContradictionRuleNot.class));
     }
 }
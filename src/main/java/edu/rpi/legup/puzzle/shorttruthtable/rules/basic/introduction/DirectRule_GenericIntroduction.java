@@ -1,12 +1,12 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.basic.introduction;
 
-import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.shorttruthtable.rules.basic.DirectRule_Generic;
+import edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction.ContradictionRule_Generic;
 
 public abstract class DirectRule_GenericIntroduction extends DirectRule_Generic {
 
     protected DirectRule_GenericIntroduction(
-            String ruleID, String ruleName, ContradictionRule contradictionRule) {
+            String ruleID, String ruleName, ContradictionRule_Generic contradictionRule) {
 
         super(
                 ruleID,
@@ -1,6 +1,5 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
 
-import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableOperation;
 
 public class ContradictionRuleAnd extends ContradictionRule_GenericStatement {
@@ -11,12 +10,6 @@ public class ContradictionRuleAnd extends ContradictionRule_GenericStatement {
                 "Contradicting And",
                 "An AND statement must have a contradicting pattern",
                 "edu/rpi/legup/images/shorttruthtable/ruleimages/contradiction/And.png",
-                ShortTruthTableOperation.AND,
-                new ShortTruthTableCellType[][] {
-                    {n, T, F},
-                    {F, T, n},
-                    // {F, T, F},
-                    {T, F, T},
-                });
+                ShortTruthTableOperation.AND);
     }
 }
@@ -1,15 +1,13 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
 
-import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
-import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableBoard;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCell;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
 import java.util.Iterator;
 import java.util.Set;
 
-public class ContradictionRuleAtomic extends ContradictionRule {
+public class ContradictionRuleAtomic extends ContradictionRule_Generic {
 
     public ContradictionRuleAtomic() {
         super(
@@ -20,10 +18,11 @@ public class ContradictionRuleAtomic extends ContradictionRule {
     }
 
     @Override
-    public String checkContradictionAt(Board puzzleBoard, PuzzleElement puzzleElement) {
-
-        // cast the board toa shortTruthTableBoard
-        ShortTruthTableBoard board = (ShortTruthTableBoard) puzzleBoard;
+    public String checkContradictionAt(
+            ShortTruthTableBoard board,
+            PuzzleElement puzzleElement,
+            ShortTruthTableCell assumedCell,
+            ShortTruthTableCellType assumedType) {
 
         // get the cell that contradicts another cell in the board
         ShortTruthTableCell cell = (ShortTruthTableCell) board.getPuzzleElement(puzzleElement);
@@ -33,7 +32,7 @@ public class ContradictionRuleAtomic extends ContradictionRule {
             return "Can not check for contradiction on a non-variable element";
         }
 
-        ShortTruthTableCellType cellType = cell.getType();
+        ShortTruthTableCellType cellType = getType(cell, assumedCell, assumedType);
         if (!cellType.isTrueOrFalse()) {
             return "Can only check for a contradiction against a cell that is assigned a value of"
                     + " True or False";
@@ -46,7 +45,7 @@ public class ContradictionRuleAtomic extends ContradictionRule {
         Iterator<ShortTruthTableCell> itr = varCells.iterator();
         while (itr.hasNext()) {
             ShortTruthTableCell checkCell = itr.next();
-            ShortTruthTableCellType checkCellType = checkCell.getType();
+            ShortTruthTableCellType checkCellType = getType(checkCell, assumedCell, assumedType);
             // if there is an assigned contradiction, return null
             if (checkCellType.isTrueOrFalse() && checkCellType != cellType) {
                 return null;
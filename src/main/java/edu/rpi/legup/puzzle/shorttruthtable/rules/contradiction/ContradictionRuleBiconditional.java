@@ -1,6 +1,5 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
 
-import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableOperation;
 
 public class ContradictionRuleBiconditional extends ContradictionRule_GenericStatement {
@@ -11,12 +10,6 @@ public class ContradictionRuleBiconditional extends ContradictionRule_GenericSta
                 "Contradicting Biconditional",
                 "A Biconditional statement must have a contradicting pattern",
                 "edu/rpi/legup/images/shorttruthtable/ruleimages/contradiction/Biconditional.png",
-                ShortTruthTableOperation.BICONDITIONAL,
-                new ShortTruthTableCellType[][] {
-                    {T, T, F},
-                    {F, T, T},
-                    {T, F, T},
-                    {F, F, F}
-                });
+                ShortTruthTableOperation.BICONDITIONAL);
     }
 }
@@ -1,6 +1,5 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
 
-import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableOperation;
 
 public class ContradictionRuleNot extends ContradictionRule_GenericStatement {
@@ -11,10 +10,6 @@ public class ContradictionRuleNot extends ContradictionRule_GenericStatement {
                 "Contradicting Negation",
                 "A negation and its following statement can not have the same truth value",
                 "edu/rpi/legup/images/shorttruthtable/ruleimages/contradiction/Not.png",
-                ShortTruthTableOperation.NOT,
-                new ShortTruthTableCellType[][] {
-                    {n, T, T},
-                    {n, F, F}
-                });
+                ShortTruthTableOperation.NOT);
     }
 }
@@ -1,6 +1,5 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
 
-import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableOperation;
 
 public class ContradictionRuleOr extends ContradictionRule_GenericStatement {
@@ -11,11 +10,6 @@ public class ContradictionRuleOr extends ContradictionRule_GenericStatement {
                 "Contradicting Or",
                 "An OR statement must have a contradicting pattern",
                 "edu/rpi/legup/images/shorttruthtable/ruleimages/contradiction/Or.png",
-                ShortTruthTableOperation.OR,
-                new ShortTruthTableCellType[][] {
-                    {n, F, T},
-                    {T, F, n},
-                    {F, T, F}
-                });
+                ShortTruthTableOperation.OR);
     }
 }
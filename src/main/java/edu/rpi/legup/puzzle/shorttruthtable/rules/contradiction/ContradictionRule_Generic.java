@@ -0,0 +1,64 @@
+package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableBoard;
+import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCell;
+import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
+
+/**
+ * ContradictionRule_Generic is the base of the short truth table contradiction rules. Besides the
+ * usual check on a board, it can check for a contradiction as if one cell of the board had a
+ * different value, which is how the direct rules try the negation of the value they assign.
+ */
+public abstract class ContradictionRule_Generic extends ContradictionRule {
+
+    public ContradictionRule_Generic(
+            String ruleID, String ruleName, String description, String imageName) {
+        super(ruleID, ruleName, description, imageName);
+    }
+
+    @Override
+    public String checkContradictionAt(Board puzzleBoard, PuzzleElement puzzleElement) {
+        return checkContradictionAt((ShortTruthTableBoard) puzzleBoard, puzzleElement, null, null);
+    }
+
+    /**
+     * Checks whether there is a contradiction at the specified puzzleElement as if one cell of the
+     * board had a different value. The direct rules use this to check the negation of a value
+     * without copying the board.
+     *
+     * @param board board to check for a contradiction
+     * @param puzzleElement equivalent puzzleElement
+     * @param assumedCell cell whose value is replaced, or null to use the board as it is
+     * @param assumedType value the assumed cell is treated as having
+     * @return null if the board contains a contradiction at the specified puzzleElement, otherwise
+     *     error message
+     */
+    public abstract String checkContradictionAt(
+            ShortTruthTableBoard board,
+            PuzzleElement puzzleElement,
+            ShortTruthTableCell assumedCell,
+            ShortTruthTableCellType assumedType);
+
+    /**
+     * Gets the value of a cell, or the assumed value if it is the assumed cell
+     *
+     * @param cell cell to get the value of
+     * @param assumedCell cell whose value is replaced, or null
+     * @param assumedType value the assumed cell is treated as having
+     * @return value of the cell
+     */
+    static ShortTruthTableCellType getType(
+            ShortTruthTableCell cell,
+            ShortTruthTableCell assumedCell,
+            ShortTruthTableCellType assumedType) {
+        if (assumedCell != null
+                && cell.getX() == assumedCell.getX()
+                && cell.getY() == assumedCell.getY()) {
+            return assumedType;
+        }
+        return cell.getType();
+    }
+}
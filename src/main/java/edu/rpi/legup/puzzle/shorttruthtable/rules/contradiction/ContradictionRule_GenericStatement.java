@@ -1,23 +1,16 @@
 package edu.rpi.legup.puzzle.shorttruthtable.rules.contradiction;
 
-import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
-import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableBoard;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCell;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
+import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableOperation;
 import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableStatement;
 
-public abstract class ContradictionRule_GenericStatement extends ContradictionRule {
+public abstract class ContradictionRule_GenericStatement extends ContradictionRule_Generic {
 
     private final char operationSymbol;
 
-    private final ShortTruthTableCellType[][] contradictionPatterns;
-
-    static final ShortTruthTableCellType T = ShortTruthTableCellType.TRUE;
-    static final ShortTruthTableCellType F = ShortTruthTableCellType.FALSE;
-    static final ShortTruthTableCellType n = null;
-
     private final String NOT_RIGHT_OPERATOR_ERROR_MESSAGE =
             "This cell does not contain the correct operation";
     private final String NOT_TRUE_FALSE_ERROR_MESSAGE =
@@ -29,18 +22,17 @@ public abstract class ContradictionRule_GenericStatement extends ContradictionRu
             String ruleName,
             String description,
             String imageName,
-            char operationSymbol,
-            ShortTruthTableCellType[][] contradictionPatterns) {
+            char operationSymbol) {
         super(ruleID, ruleName, description, imageName);
         this.operationSymbol = operationSymbol;
-        this.contradictionPatterns = contradictionPatterns;
     }
 
     @Override
-    public String checkContradictionAt(Board puzzleBoard, PuzzleElement operatorPuzzleElement) {
-
-        // cast the board to a shortTruthTableBoard
-        ShortTruthTableBoard board = (ShortTruthTableBoard) puzzleBoard;
+    public String checkContradictionAt(
+            ShortTruthTableBoard board,
+            PuzzleElement operatorPuzzleElement,
+            ShortTruthTableCell assumedCell,
+            ShortTruthTableCellType assumedType) {
 
         // get the cell that contradicts another cell in the board
         ShortTruthTableCell cell = board.getCellFromElement(operatorPuzzleElement);
@@ -53,34 +45,26 @@ public abstract class ContradictionRule_GenericStatement extends ContradictionRu
         }
 
         // check that the initial statement is assigned
-        ShortTruthTableCellType cellType = cell.getType();
+        ShortTruthTableCellType cellType = getType(cell, assumedCell, assumedType);
 
         if (!cellType.isTrueOrFalse()) {
             return super.getInvalidUseOfRuleMessage() + ": " + this.NOT_TRUE_FALSE_ERROR_MESSAGE;
         }
 
-        // get the pattern for this sub-statement
-        ShortTruthTableCellType[] testPattern = statement.getCellTypePattern();
+        // get the values of the operands, the only operand of a negation being on the right
+        ShortTruthTableCell rightCell = statement.getRightStatement().getCell();
+        ShortTruthTableCellType rightType = getType(rightCell, assumedCell, assumedType);
+        ShortTruthTableCellType leftType = ShortTruthTableCellType.UNKNOWN;
+        if (this.operationSymbol != ShortTruthTableOperation.NOT) {
+            ShortTruthTableCell leftCell = statement.getLeftStatement().getCell();
+            leftType = getType(leftCell, assumedCell, assumedType);
+        }
 
-        // if the board pattern matches any contradiction pattern, it is a valid contradiction
-        for (ShortTruthTableCellType[] pattern : contradictionPatterns) {
-            boolean matches = true;
-            for (int i = 0; i < 3; i++) {
-                // ull means that part does not affect the statement
-                if (pattern[i] == null) {
-                    continue;
-                }
-                // if it is not null, it must match the test pattern
-                if (pattern[i] != testPattern[i]) {
-                    matches = false;
-                    break;
-                }
-            }
-            // if testPattern matches one of the valid contradiction patterns, the contradiction is
-            // correct
-            if (matches) {
-                return null;
-            }
+        // it is a contradiction if no values of the unknown operands give the operator its value
+        boolean value = cellType == ShortTruthTableCellType.TRUE;
+        if (!ShortTruthTableOperation.canEvaluateTo(
+                this.operationSymbol, value, leftType, rightType)) {
+            return null;
         }
 
         return super.getNoContradictionMessage();
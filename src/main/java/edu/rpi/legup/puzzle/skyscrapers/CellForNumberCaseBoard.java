@@ -0,0 +1,39 @@
+package edu.rpi.legup.puzzle.skyscrapers;
+
+import edu.rpi.legup.model.gameboard.CaseBoard;
+import edu.rpi.legup.model.rules.CaseRule;
+
+/**
+ * CellForNumberCaseBoard is the case board of the cell for number case rule. It keeps the number
+ * that the user chose to place when the case board was made, so the cases of the picked clue place
+ * that number.
+ */
+public class CellForNumberCaseBoard extends CaseBoard {
+    private final int number;
+
+    /**
+     * CellForNumberCaseBoard Constructor creates a case board that places a number
+     *
+     * @param baseBoard the base board to use for this case board
+     * @param caseRule the case rule of this case board
+     * @param number number to place
+     */
+    public CellForNumberCaseBoard(SkyscrapersBoard baseBoard, CaseRule caseRule, int number) {
+        super(baseBoard, caseRule);
+        this.number = number;
+    }
+
+    /**
+     * Gets the number that the cases place
+     *
+     * @return the chosen number
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    @Override
+    public CellForNumberCaseBoard copy() {
+        return new CellForNumberCaseBoard((SkyscrapersBoard) baseBoard.copy(), caseRule, number);
+    }
+}
@@ -2,6 +2,7 @@ package edu.rpi.legup.puzzle.skyscrapers;
 
 import edu.rpi.legup.model.elements.Element;
 import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.PackedCellCodec;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import java.awt.*;
 import java.awt.event.MouseEvent;
@@ -255,14 +256,18 @@ public class SkyscrapersBoard extends GridBoard {
         return null;
     }
 
+    @Override
+    protected PackedCellCodec<SkyscrapersCell> getPackedCellCodec() {
+        return new PackedCellCodec<>(
+                SkyscrapersCell.class,
+                SkyscrapersCell::getData,
+                (value, location) -> new SkyscrapersCell(value, location, dimension.width));
+    }
+
     @Override
     public SkyscrapersBoard copy() {
         SkyscrapersBoard copy = new SkyscrapersBoard(dimension.width);
-        for (int x = 0; x < this.dimension.width; x++) {
-            for (int y = 0; y < this.dimension.height; y++) {
-                copy.setCell(x, y, getCell(x, y).copy());
-            }
-        }
+        copyCellsTo(copy);
         for (PuzzleElement e : modifiedData) {
             copy.getPuzzleElement(e).setModifiable(false);
         }
@@ -0,0 +1,214 @@
+package edu.rpi.legup.puzzle.skyscrapers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SkyscrapersLineSolver finds the ways a single row or column of a skyscrapers board can be
+ * completed. A line is given as an array of heights in order from its front clue to its back clue,
+ * with 0 for cells that are not filled in yet. Its completions are the permutations of the heights
+ * 1 to n that keep the filled cells and show exactly the number of skyscrapers given by both clues.
+ *
+ * <p>Permutations are built one cell at a time from the front, and a partial permutation is dropped
+ * as soon as too many skyscrapers are visible from the front or too few heights taller than those
+ * placed are left to reach the front clue. The completions are remembered for the most recently
+ * solved lines, so rules that check every cell of a line solve it only once.
+ */
+public final class SkyscrapersLineSolver {
+    /** Maximum number of solved lines that are remembered */
+    private static final int MAX_SOLVED_LINES = 1024;
+
+    private static final Map<Line, List<int[]>> SOLVED_LINES =
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Line, List<int[]>> eldest) {
+                    return size() > MAX_SOLVED_LINES;
+                }
+            };
+
+    private SkyscrapersLineSolver() {}
+
+    /**
+     * Gets the completions of a line
+     *
+     * @param size number of cells in the line, which is also the greatest height
+     * @param front number of skyscrapers that must be visible from the front of the line
+     * @param back number of skyscrapers that must be visible from the back of the line
+     * @param fixed heights of the filled cells, or 0 for cells that are not filled, in order from
+     *     the front
+     * @return unmodifiable list of the completions, which must not be modified either; empty if the
+     *     filled cells repeat a height, hold a height outside 1 to size, or cannot be completed
+     */
+    public static List<int[]> getPermutations(int size, int front, int back, int[] fixed) {
+        if (fixed.length != size) {
+            throw new IllegalArgumentException(
+                    "Line has " + fixed.length + " cells instead of " + size);
+        }
+        Line line = new Line(size, front, back, fixed.clone());
+        synchronized (SOLVED_LINES) {
+            List<int[]> permutations = SOLVED_LINES.get(line);
+            if (permutations != null) {
+                return permutations;
+            }
+        }
+        List<int[]> permutations = Collections.unmodifiableList(solve(line));
+        synchronized (SOLVED_LINES) {
+            SOLVED_LINES.put(line, permutations);
+        }
+        return permutations;
+    }
+
+    /**
+     * Gets the heights of a row or column of a board
+     *
+     * @param board skyscrapers board
+     * @param index y position of the row or x position of the column
+     * @param isRow true for a row, ordered west to east, false for a column, ordered north to south
+     * @return new array of the heights of the cells, with 0 for cells that are not filled
+     */
+    public static int[] getLine(SkyscrapersBoard board, int index, boolean isRow) {
+        int size = board.getSize();
+        int[] line = new int[size];
+        for (int i = 0; i < size; i++) {
+            SkyscrapersCell cell = isRow ? board.getCell(i, index) : board.getCell(index, i);
+            if (cell.getType() == SkyscrapersType.Number) {
+                line[i] = cell.getData();
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Counts the skyscrapers visible from one end of a line
+     *
+     * @param line heights of the cells of the line
+     * @param fromFront true to look from the front of the line, false to look from the back
+     * @return number of skyscrapers that are taller than every skyscraper in front of them
+     */
+    public static int countVisible(int[] line, boolean fromFront) {
+        int max = 0;
+        int count = 0;
+        for (int i = 0; i < line.length; i++) {
+            int height = line[fromFront ? i : line.length - 1 - i];
+            if (height > max) {
+                max = height;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the completions of a line
+     *
+     * @param line line to complete
+     * @return the completions
+     */
+    private static List<int[]> solve(Line line) {
+        List<int[]> permutations = new ArrayList<>();
+        long used = 0;
+        for (int height : line.fixed) {
+            if (height == 0) {
+                continue;
+            }
+            if (height < 1 || height > line.size || (used & bit(height)) != 0) {
+                return permutations;
+            }
+            used |= bit(height);
+        }
+        if (line.front < 1 || line.back < 1 || line.front + line.back > line.size + 1) {
+            return permutations;
+        }
+        permute(line, line.fixed.clone(), 0, used, 0, 0, permutations);
+        return permutations;
+    }
+
+    /**
+     * Fills the cells of a line from a position onwards with the unused heights
+     *
+     * @param line line to complete
+     * @param permutation heights placed so far
+     * @param position position of the next cell to fill
+     * @param used bit set of the heights that are placed or fixed
+     * @param max tallest height placed so far
+     * @param visible number of skyscrapers visible from the front so far
+     * @param permutations list the completions are added to
+     */
+    private static void permute(
+            Line line,
+            int[] permutation,
+            int position,
+            long used,
+            int max,
+            int visible,
+            List<int[]> permutations) {
+        if (visible > line.front) {
+            return;
+        }
+        // each height taller than the tallest so far can still add one visible skyscraper
+        if (visible + line.size - max < line.front) {
+            return;
+        }
+        if (position == line.size) {
+            if (visible == line.front && countVisible(permutation, false) == line.back) {
+                permutations.add(permutation.clone());
+            }
+            return;
+        }
+
+        int fixedHeight = line.fixed[position];
+        if (fixedHeight != 0) {
+            boolean isVisible = fixedHeight > max;
+            permute(
+                    line,
+                    permutation,
+                    position + 1,
+                    used,
+                    Math.max(max, fixedHeight),
+                    isVisible ? visible + 1 : visible,
+                    permutations);
+            return;
+        }
+        for (int height = 1; height <= line.size; height++) {
+            if ((used & bit(height)) != 0) {
+                continue;
+            }
+            permutation[position] = height;
+            boolean isVisible = height > max;
+            permute(
+                    line,
+                    permutation,
+                    position + 1,
+                    used | bit(height),
+                    Math.max(max, height),
+                    isVisible ? visible + 1 : visible,
+                    permutations);
+        }
+        permutation[position] = 0;
+    }
+
+    private static long bit(int height) {
+        return 1L << height;
+    }
+
+    /** A line to complete, compared by its size, clues and filled cells */
+    private record Line(int size, int front, int back, int[] fixed) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Line line
+                    && line.size == size
+                    && line.front == front
+                    && line.back == back
+                    && Arrays.equals(line.fixed, fixed);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((size * 31 + front) * 31 + back) * 31 + Arrays.hashCode(fixed);
+        }
+    }
+}
@@ -7,7 +7,7 @@ import edu.rpi.legup.ui.boardview.ElementView;
 import edu.rpi.legup.ui.boardview.GridBoardView;
 import java.awt.*;
 import java.util.ArrayList;
-import javax.annotation.Nullable;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -31,44 +31,19 @@ public class SkyscrapersView extends GridBoardView {
     }
 
     /**
-     * Gets the ElementView from the location specified or null if one does not exists at that
-     * location
+     * Gets the ElementViews that can be found by location, which are the cells followed by the
+     * clues around the board
      *
-     * @param point location on the viewport
-     * @return ElementView at the specified location
+     * @return list of the ElementViews that can be found by location
      */
     @Override
-    public @Nullable ElementView getElement(Point point) {
-        Point scaledPoint =
-                new Point(
-                        (int) Math.round(point.x / getScale()),
-                        (int) Math.round(point.y / getScale()));
-        for (ElementView element : elementViews) {
-            if (element.isWithinBounds(scaledPoint)) {
-                return element;
-            }
-        }
-        for (SkyscrapersClueView clueView : northClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        for (SkyscrapersClueView clueView : eastClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        for (SkyscrapersClueView clueView : southClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        for (SkyscrapersClueView clueView : westClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        return null;
+    protected List<ElementView> getLocatableElementViews() {
+        List<ElementView> views = new ArrayList<>(elementViews);
+        views.addAll(northClues);
+        views.addAll(eastClues);
+        views.addAll(southClues);
+        views.addAll(westClues);
+        return views;
     }
 
     public ArrayList<SkyscrapersClueView> getNorthClues() {
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.CaseBoard;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.skyscrapers.*;
 import java.awt.*;
@@ -20,22 +21,16 @@ public class CellForNumberCaseRule extends CaseRule {
                 "edu/rpi/legup/images/skyscrapers/cases/CellForNumber.png");
     }
 
-    private Integer selectedNumber;
-
+    /**
+     * Gets the case board of this rule, on which the clues can be picked. The user chooses the
+     * number to place first, and the case board keeps it.
+     *
+     * @param board board to find locations where this case rule can be applied
+     * @return a case board
+     * @throws IllegalArgumentException if the user cancels choosing the number
+     */
     @Override
     public CaseBoard getCaseBoard(Board board) {
-        SkyscrapersBoard currentBoard = (SkyscrapersBoard) board.copy();
-        currentBoard.setModifiable(false);
-        CaseBoard caseBoard = new CaseBoard(currentBoard, this);
-        for (SkyscrapersClue data : currentBoard.getWestClues()) {
-            // System.out.println(data.getType());
-            caseBoard.addPickableElement(data);
-        }
-        for (SkyscrapersClue data : currentBoard.getNorthClues()) {
-            // System.out.println(data.getType());
-            caseBoard.addPickableElement(data);
-        }
-
         // selects integer before checking Command.canExecute for use in Command.getErrorString
         int size = ((SkyscrapersBoard) board).getWidth();
         Object[] possibleValues = new Object[size];
@@ -58,7 +53,19 @@ public class CellForNumberCaseRule extends CaseRule {
                     "Rule was cancelled.")); // returns rule was cancelled error if input box is
             // closed.
         }
-        selectedNumber = (Integer) selectedValue;
+
+        SkyscrapersBoard currentBoard = (SkyscrapersBoard) board.copy();
+        currentBoard.setModifiable(false);
+        CaseBoard caseBoard =
+                new CellForNumberCaseBoard(currentBoard, this, (Integer) selectedValue);
+        for (SkyscrapersClue data : currentBoard.getWestClues()) {
+            // System.out.println(data.getType());
+            caseBoard.addPickableElement(data);
+        }
+        for (SkyscrapersClue data : currentBoard.getNorthClues()) {
+            // System.out.println(data.getType());
+            caseBoard.addPickableElement(data);
+        }
 
         return caseBoard;
     }
@@ -86,12 +93,13 @@ public class CellForNumberCaseRule extends CaseRule {
             // if flags
             boolean passed = true;
             if (skyscrapersboard.getDupeFlag()) {
-                DuplicateNumberContradictionRule DupeRule = new DuplicateNumberContradictionRule();
+                DuplicateNumberContradictionRule DupeRule =
+                        RuleRegistry.getRule(DuplicateNumberContradictionRule.class);
                 passed = passed && DupeRule.checkContradictionAt(newCase, newCell) != null;
             }
             if (skyscrapersboard.getViewFlag()) {
                 PreemptiveVisibilityContradictionRule ViewRule =
-                        new PreemptiveVisibilityContradictionRule();
+                        RuleRegistry.getRule(PreemptiveVisibilityContradictionRule.class);
                 passed = passed && ViewRule.checkContradictionAt(newCase, newCell) != null;
             }
             if (passed) {
@@ -101,9 +109,42 @@ public class CellForNumberCaseRule extends CaseRule {
         return cases;
     }
 
+    /**
+     * Gets the possible cases at a specific location based on this case rule. The number to place
+     * is chosen when the case board is made, so there are no cases without one; use {@link
+     * #getCasesFor} or {@link #getPickedCases} instead.
+     *
+     * @param board the current board state
+     * @param puzzleElement equivalent puzzleElement
+     * @return an empty list
+     */
     @Override
     public ArrayList<Board> getCases(Board board, PuzzleElement puzzleElement) {
-        return getCasesFor(board, puzzleElement, selectedNumber);
+        return new ArrayList<>();
+    }
+
+    /**
+     * Gets the possible cases of a clue picked on the case board, which place the number that was
+     * chosen for the case board
+     *
+     * @param caseBoard case board returned by {@link #getCaseBoard(Board)}
+     * @param puzzleElement clue picked on the case board
+     * @return a list of elements the specified could be
+     */
+    @Override
+    public ArrayList<Board> getPickedCases(CaseBoard caseBoard, PuzzleElement puzzleElement) {
+        int number = ((CellForNumberCaseBoard) caseBoard).getNumber();
+        return getCasesFor(caseBoard.getBaseBoard(), puzzleElement, number);
+    }
+
+    /**
+     * Determines if making a case board of this rule asks the user for input
+     *
+     * @return true, since the case board asks the user for the number to place
+     */
+    @Override
+    public boolean needsUserInput() {
+        return true;
     }
 
     @Override
@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.skyscrapers.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersBoard;
@@ -48,7 +49,7 @@ public class LastSingularNumberDirectRule extends DirectRule {
         boolean viewTemp = initialBoard.getViewFlag();
         initialBoard.setDupeFlag(true);
         initialBoard.setViewFlag(false);
-        NumberForCellCaseRule caseRule = new NumberForCellCaseRule();
+        NumberForCellCaseRule caseRule = RuleRegistry.getRule(NumberForCellCaseRule.class);
         ArrayList<Board> candidates = caseRule.getCases(initialBoard, puzzleElement);
         initialBoard.setDupeFlag(dupeTemp);
         initialBoard.setViewFlag(viewTemp);
@@ -67,7 +68,8 @@ public class LastSingularNumberDirectRule extends DirectRule {
     private boolean isForced(SkyscrapersBoard board, SkyscrapersCell cell) {
         SkyscrapersBoard emptyCase = board.copy();
         emptyCase.getPuzzleElement(cell).setData(SkyscrapersType.UNKNOWN.value);
-        DuplicateNumberContradictionRule duplicate = new DuplicateNumberContradictionRule();
+        DuplicateNumberContradictionRule duplicate =
+                RuleRegistry.getRule(DuplicateNumberContradictionRule.class);
         if (duplicate.checkContradictionAt(emptyCase, cell) == null) {
             System.out.println("no contradiction ln");
             return true;
@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.skyscrapers.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersBoard;
@@ -70,7 +71,8 @@ public class NEdgeDirectRule extends DirectRule {
     private boolean isForced(SkyscrapersBoard board, SkyscrapersCell cell) {
         SkyscrapersBoard emptyCase = board.copy();
         emptyCase.getPuzzleElement(cell).setData(SkyscrapersType.UNKNOWN.value);
-        DuplicateNumberContradictionRule duplicate = new DuplicateNumberContradictionRule();
+        DuplicateNumberContradictionRule duplicate =
+                RuleRegistry.getRule(DuplicateNumberContradictionRule.class);
         if (duplicate.checkContradictionAt(emptyCase, cell) == null) {
             System.out.println("no contradiction ln");
             return true;
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.CaseBoard;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersBoard;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersCell;
@@ -65,12 +66,13 @@ public class NumberForCellCaseRule extends CaseRule {
             // if flags
             boolean passed = true;
             if (skyscrapersboard.getDupeFlag()) {
-                DuplicateNumberContradictionRule DupeRule = new DuplicateNumberContradictionRule();
+                DuplicateNumberContradictionRule DupeRule =
+                        RuleRegistry.getRule(DuplicateNumberContradictionRule.class);
                 passed = passed && DupeRule.checkContradictionAt(newCase, newCell) != null;
             }
             if (skyscrapersboard.getViewFlag()) {
                 PreemptiveVisibilityContradictionRule ViewRule =
-                        new PreemptiveVisibilityContradictionRule();
+                        RuleRegistry.getRule(PreemptiveVisibilityContradictionRule.class);
                 passed = passed && ViewRule.checkContradictionAt(newCase, newCell) != null;
             }
             // how should unresolved be handled? should it be?
@@ -5,11 +5,8 @@ import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersBoard;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersCell;
-import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersType;
+import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersLineSolver;
 import java.awt.*;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
 
 public class PreemptiveVisibilityContradictionRule extends ContradictionRule {
 
@@ -36,143 +33,18 @@ public class PreemptiveVisibilityContradictionRule extends ContradictionRule {
         SkyscrapersCell cell = (SkyscrapersCell) puzzleElement;
         Point loc = cell.getLocation();
 
-        // Initialize instances of necessary contradiction and case rules
-        InsufficientVisibilityContradictionRule tooFew =
-                new InsufficientVisibilityContradictionRule();
-        ExceedingVisibilityContradictionRule tooMany = new ExceedingVisibilityContradictionRule();
-        CellForNumberCaseRule caseRule = new CellForNumberCaseRule();
+        int[] row = SkyscrapersLineSolver.getLine(skyscrapersBoard, loc.y, true);
+        int[] col = SkyscrapersLineSolver.getLine(skyscrapersBoard, loc.x, false);
+        int west = skyscrapersBoard.getWestClues().get(loc.y).getData();
+        int east = skyscrapersBoard.getEastClues().get(loc.y).getData();
+        int north = skyscrapersBoard.getNorthClues().get(loc.x).getData();
+        int south = skyscrapersBoard.getSouthClues().get(loc.x).getData();
 
-        // Initialize skyscraperBoard queues for rows and cols
-        Queue<SkyscrapersBoard> rowQ = new LinkedList<>();
-        rowQ.add(skyscrapersBoard);
-        Queue<SkyscrapersBoard> colQ = new LinkedList<>();
-        colQ.add(skyscrapersBoard);
-
-        // find all cases for the corresponding row and column for each possible skyscraper height
-
-        // Add every possible case for all heights for each corresponding row and column
-        for (int i = 0; i < skyscrapersBoard.getWidth(); i++) {
-            int num = i + 1;
-
-            // check row west clue
-            List<Board> rows;
-
-            int size = rowQ.size();
-            for (int j = 0; j < size; j++) {
-                SkyscrapersBoard temp = rowQ.poll(); // get row from the top of the stack
-
-                // don't do anything if already in row
-                boolean exists = false;
-                for (SkyscrapersCell c : temp.getRowCol(loc.y, SkyscrapersType.Number, true)) {
-                    if (c.getData() == num) {
-                        exists = true;
-                        break;
-                    }
-                }
-
-                if (exists) {
-                    rowQ.add(temp);
-                } else {
-                    // set flags
-                    boolean dupeTemp = temp.getDupeFlag();
-                    boolean viewTemp = temp.getViewFlag();
-                    temp.setDupeFlag(false);
-                    temp.setViewFlag(false);
-
-                    // get all cases for corresponding row based on west clue
-                    rows =
-                            caseRule.getCasesFor(
-                                    temp, skyscrapersBoard.getWestClues().get(loc.y), num);
-
-                    // reset flags
-                    temp.setDupeFlag(dupeTemp);
-                    temp.setViewFlag(viewTemp);
-
-                    // add all row cases to row queue
-                    for (Board k : rows) {
-                        rowQ.add((SkyscrapersBoard) k);
-                    }
-                }
-            }
-
-            // check col north clue
-            List<Board> cols;
-
-            size = colQ.size();
-            for (int j = 0; j < size; j++) {
-                SkyscrapersBoard temp = colQ.poll(); // get row from the top of the stack
-
-                // don't do anything if already in col
-                boolean exists = false;
-                for (SkyscrapersCell c : temp.getRowCol(loc.x, SkyscrapersType.Number, false)) {
-                    if (c.getData() == num) {
-                        exists = true;
-                        break;
-                    }
-                }
-
-                if (exists) {
-                    colQ.add(temp);
-                } else {
-                    // set flags
-                    boolean dupeTemp = temp.getDupeFlag();
-                    boolean viewTemp = temp.getViewFlag();
-                    temp.setDupeFlag(false);
-                    temp.setViewFlag(false);
-
-                    // get all cases for corresponding col based on north clue
-                    cols =
-                            caseRule.getCasesFor(
-                                    temp, skyscrapersBoard.getNorthClues().get(loc.x), num);
-
-                    // reset flags
-                    temp.setDupeFlag(dupeTemp);
-                    temp.setViewFlag(viewTemp);
-
-                    // add all row cases to row queue
-                    for (Board k : cols) {
-                        colQ.add((SkyscrapersBoard) k);
-                    }
-                }
-            }
-        }
-
-        String rowTooFew;
-        String rowTooMany;
-        boolean rowContradiction = true;
-        // check if each case board has a contradiction
-        while (rowQ.size() > 0) {
-            SkyscrapersBoard fullRow = rowQ.poll();
-
-            // checks if there is a contradiction given the row based on the west clue
-            rowTooFew =
-                    tooFew.checkContradictionAt(
-                            fullRow, cell); // is cell the correct puzzle element to check?
-            rowTooMany = tooMany.checkContradictionAt(fullRow, cell);
-
-            // boolean that checks if there is a contradiction within all rows
-            rowContradiction =
-                    rowContradiction
-                            && (rowTooFew == null
-                                    || rowTooMany
-                                            == null); // !null means there isn't a contradiction, so
-            // there must be a valid
-            // permutation of the array
-        }
-
-        String colTooFew;
-        String colTooMany;
-        boolean colContradiction = true;
-        while (colQ.size() > 0) {
-            SkyscrapersBoard fullCol = colQ.poll();
-
-            // checks if there is a contradiction given the col baesd on the north clue
-            colTooFew = tooFew.checkContradictionAt(fullCol, cell);
-            colTooMany = tooMany.checkContradictionAt(fullCol, cell);
-
-            // boolean that checks if there is a contradiction within all the cols
-            colContradiction = colContradiction && (colTooFew == null || colTooMany == null);
-        }
+        // every possible row or every possible col must contradict the clues
+        boolean rowContradiction =
+                !hasPossibleLine(row, west, east, loc.x, col, loc.y, north, south);
+        boolean colContradiction =
+                !hasPossibleLine(col, north, south, loc.y, row, loc.x, west, east);
 
         // if every possible permutation results in contradictions return null, else no
         // contradiction
@@ -182,6 +54,53 @@ public class PreemptiveVisibilityContradictionRule extends ContradictionRule {
         return super.getNoContradictionMessage();
     }
 
+    /**
+     * Determines if a line can be completed without a visibility contradiction. When the line
+     * completes the crossing line, the crossing line must not contradict its clues either.
+     *
+     * @param line heights of the line, with 0 for cells that are not filled
+     * @param front clue at the front of the line
+     * @param back clue at the back of the line
+     * @param position position of the crossing line in the line
+     * @param crossing heights of the crossing line
+     * @param crossingPosition position of the line in the crossing line
+     * @param crossingFront clue at the front of the crossing line
+     * @param crossingBack clue at the back of the crossing line
+     * @return true if some completion of the line meets the clues, false otherwise
+     */
+    private boolean hasPossibleLine(
+            int[] line,
+            int front,
+            int back,
+            int position,
+            int[] crossing,
+            int crossingPosition,
+            int crossingFront,
+            int crossingBack) {
+        boolean isCrossingFull = true;
+        for (int i = 0; i < crossing.length; i++) {
+            if (i != crossingPosition && crossing[i] == 0) {
+                isCrossingFull = false;
+                break;
+            }
+        }
+
+        int[] completedCrossing = crossing.clone();
+        for (int[] permutation :
+                SkyscrapersLineSolver.getPermutations(line.length, front, back, line)) {
+            if (!isCrossingFull) {
+                return true;
+            }
+            completedCrossing[crossingPosition] = permutation[position];
+            if (SkyscrapersLineSolver.countVisible(completedCrossing, true) == crossingFront
+                    && SkyscrapersLineSolver.countVisible(completedCrossing, false)
+                            == crossingBack) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks whether the tree node has a contradiction using this rule
      *
@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.skyscrapers.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import java.awt.*;
 import java.util.ArrayList;
 
@@ -28,7 +29,7 @@ public class UnresolvedCellContradictionRule extends ContradictionRule {
     @Override
     public String checkContradictionAt(Board board, PuzzleElement puzzleElement) {
 
-        NumberForCellCaseRule caseRule = new NumberForCellCaseRule();
+        NumberForCellCaseRule caseRule = RuleRegistry.getRule(NumberForCellCaseRule.class);
         ArrayList<Board> cases = caseRule.getCases(board, puzzleElement);
 
         if (cases.size() == 0) {
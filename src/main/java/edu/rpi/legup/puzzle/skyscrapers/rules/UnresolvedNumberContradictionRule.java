@@ -3,6 +3,7 @@ package edu.rpi.legup.puzzle.skyscrapers.rules;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersBoard;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersCell;
 import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersType;
@@ -35,7 +36,7 @@ public class UnresolvedNumberContradictionRule extends ContradictionRule {
         SkyscrapersCell cell = (SkyscrapersCell) puzzleElement;
         Point loc = cell.getLocation();
 
-        CellForNumberCaseRule caseRule = new CellForNumberCaseRule();
+        CellForNumberCaseRule caseRule = RuleRegistry.getRule(CellForNumberCaseRule.class);
         for (int i = 0; i < skyscrapersBoard.getWidth(); i++) {
             int num = i + 1;
             // check row
@@ -28,14 +28,7 @@ public class StarBattleElementView extends GridElementView {
         if (type == StarBattleCellType.STAR) {
             graphics2D.setColor(Color.LIGHT_GRAY);
             graphics2D.fillRect(location.x, location.y, size.width, size.height);
-            graphics2D.drawImage(
-                    StarBattleView.STAR,
-                    location.x,
-                    location.y,
-                    size.width,
-                    size.height,
-                    Color.WHITE,
-                    null);
+            drawImage(graphics2D, StarBattleView.STAR, Color.WHITE);
             graphics2D.setColor(Color.BLACK);
             graphics2D.drawRect(location.x, location.y, size.width, size.height);
         } else if (type == StarBattleCellType.BLACK) {
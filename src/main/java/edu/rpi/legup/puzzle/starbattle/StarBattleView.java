@@ -3,30 +3,18 @@ package edu.rpi.legup.puzzle.starbattle;
 import edu.rpi.legup.controller.BoardController;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.ui.ImageCache;
 import edu.rpi.legup.ui.boardview.GridBoardView;
 import java.awt.*;
-import java.io.IOException;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
 
 public class StarBattleView extends GridBoardView {
-    static Image STAR;
+    static Image STAR = ImageCache.getImage("edu/rpi/legup/images/starbattle/star.gif");
     private ArrayList<StarBattleBorderView>
             horizontalBorders; // board.size * board.size+1     left-right up-down
     private ArrayList<StarBattleBorderView>
             verticalBorders; // board.size+1 * board.size     left-right up-down
 
-    static {
-        try {
-            STAR =
-                    ImageIO.read(
-                            ClassLoader.getSystemClassLoader()
-                                    .getResource("edu/rpi/legup/images/starbattle/star.gif"));
-        } catch (IOException e) {
-            // pass
-        }
-    }
-
     public StarBattleView(StarBattleBoard board) {
         super(new BoardController(), new StarBattleController(), board.getDimension());
         this.horizontalBorders = new ArrayList<>();
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.starbattle.StarBattleBoard;
@@ -34,7 +35,7 @@ public class FinishWithEmptyDirectRule extends DirectRule {
 
         StarBattleBoard board = (StarBattleBoard) transition.getBoard();
         StarBattleBoard origBoard = (StarBattleBoard) transition.getParents().get(0).getBoard();
-        ContradictionRule contraRule = new TooManyStarsContradictionRule();
+        ContradictionRule contraRule = RuleRegistry.getRule(TooManyStarsContradictionRule.class);
 
         StarBattleCell cell = (StarBattleCell) board.getPuzzleElement(puzzleElement);
 
@@ -4,6 +4,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.rules.RuleRegistry;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.starbattle.StarBattleBoard;
@@ -33,7 +34,7 @@ public class SurroundStarDirectRule extends DirectRule {
     public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
         StarBattleBoard board = (StarBattleBoard) transition.getBoard();
         StarBattleBoard origBoard = (StarBattleBoard) transition.getParents().get(0).getBoard();
-        ContradictionRule contraRule = new ClashingOrbitContradictionRule();
+        ContradictionRule contraRule = RuleRegistry.getRule(ClashingOrbitContradictionRule.class);
 
         StarBattleCell cell = (StarBattleCell) board.getPuzzleElement(puzzleElement);
 
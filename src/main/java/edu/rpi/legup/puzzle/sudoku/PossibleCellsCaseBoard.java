@@ -0,0 +1,39 @@
+package edu.rpi.legup.puzzle.sudoku;
+
+import edu.rpi.legup.model.gameboard.CaseBoard;
+import edu.rpi.legup.model.rules.CaseRule;
+
+/**
+ * PossibleCellsCaseBoard is the case board of the possible cells for number case rules. Its base
+ * board shows the number that picking each cell places, so it also keeps the board it was made
+ * from, which the cases are generated from.
+ */
+public class PossibleCellsCaseBoard extends CaseBoard {
+    private final SudokuBoard board;
+
+    /**
+     * PossibleCellsCaseBoard Constructor creates a case board for a board
+     *
+     * @param baseBoard board that shows the number that picking each cell places
+     * @param caseRule the case rule of this case board
+     * @param board board the case board was made from
+     */
+    public PossibleCellsCaseBoard(SudokuBoard baseBoard, CaseRule caseRule, SudokuBoard board) {
+        super(baseBoard, caseRule);
+        this.board = board;
+    }
+
+    /**
+     * Gets the board this case board was made from
+     *
+     * @return the board the cases are generated from
+     */
+    public SudokuBoard getBoard() {
+        return board;
+    }
+
+    @Override
+    public PossibleCellsCaseBoard copy() {
+        return new PossibleCellsCaseBoard((SudokuBoard) baseBoard.copy(), caseRule, board.copy());
+    }
+}
@@ -5,6 +5,7 @@ import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.rules.ContradictionRule;
 import edu.rpi.legup.ui.boardview.BoardView;
+import java.util.Random;
 
 public class Sudoku extends Puzzle {
     private SudokuView boardView;
@@ -19,6 +20,7 @@ public class Sudoku extends Puzzle {
         this.exporter = new SudokuExporter(this);
 
         this.factory = new SudokuCellFactory();
+        this.generator = new SudokuGenerator(9);
     }
 
     public BoardView getBoardView() {
@@ -40,7 +42,7 @@ public class Sudoku extends Puzzle {
      */
     @Override
     public Board generatePuzzle(int difficulty) {
-        return null;
+        return generator.generate(difficulty, new Random().nextLong());
     }
 
     @Override
@@ -0,0 +1,202 @@
+package edu.rpi.legup.puzzle.sudoku;
+
+import edu.rpi.legup.model.PuzzleGenerator;
+import edu.rpi.legup.model.gameboard.Board;
+import java.awt.Point;
+
+/**
+ * Generates random Sudoku puzzles. The values of a row, column and group are kept as bit masks, and
+ * propagation fills in cells that can only have one value and values that can only go in one cell
+ * of a row, column or group.
+ */
+public class SudokuGenerator extends PuzzleGenerator {
+    private final int size;
+    private final int groupSize;
+    // the cells of every row, column and group
+    private final int[][] units;
+
+    /**
+     * SudokuGenerator Constructor creates a generator for boards of the given size
+     *
+     * @param size number of rows and columns of the board, which must be a perfect square
+     * @throws IllegalArgumentException if the size is not a perfect square of at least 4
+     */
+    public SudokuGenerator(int size) {
+        int groupSize = (int) Math.sqrt(size);
+        if (size < 4 || size > 25 || groupSize * groupSize != size) {
+            throw new IllegalArgumentException("Invalid Sudoku size: " + size);
+        }
+        this.size = size;
+        this.groupSize = groupSize;
+
+        this.units = new int[3 * size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                units[i][j] = i * size + j;
+                units[size + i][j] = j * size + i;
+                int x = (i % groupSize) * groupSize + j % groupSize;
+                int y = (i / groupSize) * groupSize + j / groupSize;
+                units[2 * size + i][j] = y * size + x;
+            }
+        }
+    }
+
+    @Override
+    protected int getCellCount() {
+        return size * size;
+    }
+
+    @Override
+    protected boolean propagate(int[] cells) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] candidates = getCandidates(cells);
+            if (candidates == null) {
+                return false;
+            }
+
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i] == UNKNOWN && Integer.bitCount(candidates[i]) == 1) {
+                    cells[i] = Integer.numberOfTrailingZeros(candidates[i]);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                continue;
+            }
+
+            for (int[] unit : units) {
+                int placed = 0;
+                int once = 0;
+                int twice = 0;
+                for (int index : unit) {
+                    if (cells[index] != UNKNOWN) {
+                        placed |= 1 << cells[index];
+                    } else {
+                        twice |= once & candidates[index];
+                        once |= candidates[index];
+                    }
+                }
+                if ((placed | once) != getAllValues()) {
+                    return false;
+                }
+                int hidden = once & ~twice & ~placed;
+                if (hidden == 0) {
+                    continue;
+                }
+                for (int index : unit) {
+                    if (cells[index] == UNKNOWN && (candidates[index] & hidden) != 0) {
+                        cells[index] = Integer.numberOfTrailingZeros(candidates[index] & hidden);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected int[] getOptions(int[] cells, int index) {
+        int mask = getAllValues() & ~getUsedValues(cells, index % size, index / size);
+        int[] options = new int[Integer.bitCount(mask)];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return options;
+    }
+
+    @Override
+    protected Board createBoard(int[] clues) {
+        SudokuBoard board = new SudokuBoard(size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int value = clues[y * size + x];
+                int groupIndex = x / groupSize + y / groupSize * groupSize;
+                SudokuCell cell =
+                        new SudokuCell(
+                                value == UNKNOWN ? 0 : value, new Point(x, y), groupIndex, size);
+                cell.setIndex(y * size + x);
+                cell.setModifiable(value == UNKNOWN);
+                cell.setGiven(value != UNKNOWN);
+                board.setCell(x, y, cell);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Gets the values that every cell that is not known could still have, as bit masks
+     *
+     * @param cells values of the cells
+     * @return the bit mask of each cell, or null if a value is repeated or a cell has no value
+     *     left
+     */
+    private int[] getCandidates(int[] cells) {
+        int[] rows = new int[size];
+        int[] columns = new int[size];
+        int[] groups = new int[size];
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != UNKNOWN) {
+                int bit = 1 << cells[i];
+                int x = i % size;
+                int y = i / size;
+                int group = x / groupSize + y / groupSize * groupSize;
+                if (((rows[y] | columns[x] | groups[group]) & bit) != 0) {
+                    return null;
+                }
+                rows[y] |= bit;
+                columns[x] |= bit;
+                groups[group] |= bit;
+            }
+        }
+
+        int[] candidates = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == UNKNOWN) {
+                int x = i % size;
+                int y = i / size;
+                int group = x / groupSize + y / groupSize * groupSize;
+                candidates[i] = getAllValues() & ~(rows[y] | columns[x] | groups[group]);
+                if (candidates[i] == 0) {
+                    return null;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the values that are used in the row, column and group of a cell
+     *
+     * @param cells values of the cells
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return bit mask of the used values
+     */
+    private int getUsedValues(int[] cells, int x, int y) {
+        int used = 0;
+        int groupX = x - x % groupSize;
+        int groupY = y - y % groupSize;
+        for (int i = 0; i < size; i++) {
+            int rowValue = cells[y * size + i];
+            int columnValue = cells[i * size + x];
+            int groupValue =
+                    cells[(groupY + i / groupSize) * size + groupX + i % groupSize];
+            used |= rowValue == UNKNOWN ? 0 : 1 << rowValue;
+            used |= columnValue == UNKNOWN ? 0 : 1 << columnValue;
+            used |= groupValue == UNKNOWN ? 0 : 1 << groupValue;
+        }
+        return used;
+    }
+
+    /**
+     * Gets the bit mask of every value from 1 to the size of the board
+     *
+     * @return bit mask of the values
+     */
+    private int getAllValues() {
+        return ((1 << size) - 1) << 1;
+    }
+}
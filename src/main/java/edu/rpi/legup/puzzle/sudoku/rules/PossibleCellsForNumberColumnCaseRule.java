@@ -7,6 +7,7 @@ import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.sudoku.GroupType;
 import edu.rpi.legup.puzzle.sudoku.ModelSudokuBoard;
+import edu.rpi.legup.puzzle.sudoku.PossibleCellsCaseBoard;
 import edu.rpi.legup.puzzle.sudoku.SudokuBoard;
 import edu.rpi.legup.puzzle.sudoku.SudokuCell;
 import java.util.ArrayList;
@@ -17,9 +18,6 @@ public class PossibleCellsForNumberColumnCaseRule extends CaseRule {
     // Board math for translating indexes to numbers
     private ModelSudokuBoard model = new ModelSudokuBoard();
 
-    // Old board for caseBoard reference
-    private SudokuBoard lagBoard;
-
     public PossibleCellsForNumberColumnCaseRule() {
         super(
                 "SUDO-CASE-0004",
@@ -56,8 +54,8 @@ public class PossibleCellsForNumberColumnCaseRule extends CaseRule {
     @Override
     public CaseBoard getCaseBoard(Board board) {
         SudokuBoard sudokuBoard = (SudokuBoard) board.copy();
-        lagBoard = (SudokuBoard) sudokuBoard.copy();
-        CaseBoard caseBoard = new CaseBoard(sudokuBoard, this);
+        CaseBoard caseBoard =
+                new PossibleCellsCaseBoard(sudokuBoard, this, (SudokuBoard) board.copy());
         for (PuzzleElement puzzleElement : sudokuBoard.getPuzzleElements()) {
             puzzleElement.setData(model.getModelColumnNumbers(puzzleElement.getIndex()));
             caseBoard.addPickableElement(puzzleElement);
@@ -77,6 +75,19 @@ public class PossibleCellsForNumberColumnCaseRule extends CaseRule {
         return getCases(board, puzzleElement, 1, GroupType.COLUMN);
     }
 
+    /**
+     * Gets the possible cases of a cell picked on the case board, which are generated from the
+     * board the case board was made from
+     *
+     * @param caseBoard case board returned by {@link #getCaseBoard(Board)}
+     * @param puzzleElement cell picked on the case board
+     * @return a list of elements the specified could be
+     */
+    @Override
+    public ArrayList<Board> getPickedCases(CaseBoard caseBoard, PuzzleElement puzzleElement) {
+        return getCases(((PossibleCellsCaseBoard) caseBoard).getBoard(), puzzleElement);
+    }
+
     /**
      * Gets the possible cases at a specific location based on this case rule
      *
@@ -89,15 +100,22 @@ public class PossibleCellsForNumberColumnCaseRule extends CaseRule {
     public ArrayList<Board> getCases(
             Board board, PuzzleElement puzzleElement, int value, GroupType groupType) {
         ArrayList<Board> cases = new ArrayList<>();
-        SudokuBoard sudokuBoard = lagBoard;
+        SudokuBoard sudokuBoard = (SudokuBoard) board;
         SudokuCell sourceCell = (SudokuCell) puzzleElement;
 
         Set<SudokuCell> group = sudokuBoard.getCol(sourceCell.getLocation().x);
+        int number = model.getModelColumnNumbers(sourceCell.getIndex());
+        for (SudokuCell cell : group) {
+            // the number must go in one of the empty cells only if it is not placed yet
+            if (cell.getData() == number) {
+                return cases;
+            }
+        }
         for (SudokuCell cell : group) {
             if (cell.getData() == 0) {
                 Board newCase = sudokuBoard.copy();
                 PuzzleElement element = newCase.getPuzzleElement(cell);
-                element.setData(model.getModelColumnNumbers(sourceCell.getIndex()));
+                element.setData(number);
                 newCase.addModifiedData(element);
                 cases.add(newCase);
             }
@@ -14,9 +14,6 @@ public class PossibleCellsForNumberRegionCaseRule extends CaseRule {
     // Board math for translating indexes to numbers
     private ModelSudokuBoard model = new ModelSudokuBoard();
 
-    // Old board for caseBoard reference
-    private SudokuBoard lagBoard;
-
     public PossibleCellsForNumberRegionCaseRule() {
         super(
                 "SUDO-CASE-0002",
@@ -53,8 +50,8 @@ public class PossibleCellsForNumberRegionCaseRule extends CaseRule {
     @Override
     public CaseBoard getCaseBoard(Board board) {
         SudokuBoard sudokuBoard = (SudokuBoard) board.copy();
-        lagBoard = (SudokuBoard) sudokuBoard.copy();
-        CaseBoard caseBoard = new CaseBoard(sudokuBoard, this);
+        CaseBoard caseBoard =
+                new PossibleCellsCaseBoard(sudokuBoard, this, (SudokuBoard) board.copy());
         for (PuzzleElement puzzleElement : sudokuBoard.getPuzzleElements()) {
             puzzleElement.setData(model.getModelRegionNumbers(puzzleElement.getIndex()));
             caseBoard.addPickableElement(puzzleElement);
@@ -74,6 +71,19 @@ public class PossibleCellsForNumberRegionCaseRule extends CaseRule {
         return getCases(board, puzzleElement, 1, GroupType.REGION);
     }
 
+    /**
+     * Gets the possible cases of a cell picked on the case board, which are generated from the
+     * board the case board was made from
+     *
+     * @param caseBoard case board returned by {@link #getCaseBoard(Board)}
+     * @param puzzleElement cell picked on the case board
+     * @return a list of elements the specified could be
+     */
+    @Override
+    public ArrayList<Board> getPickedCases(CaseBoard caseBoard, PuzzleElement puzzleElement) {
+        return getCases(((PossibleCellsCaseBoard) caseBoard).getBoard(), puzzleElement);
+    }
+
     /**
      * Gets the possible cases at a specific location based on this case rule
      *
@@ -86,15 +96,22 @@ public class PossibleCellsForNumberRegionCaseRule extends CaseRule {
     public ArrayList<Board> getCases(
             Board board, PuzzleElement puzzleElement, int value, GroupType groupType) {
         ArrayList<Board> cases = new ArrayList<>();
-        SudokuBoard sudokuBoard = lagBoard;
+        SudokuBoard sudokuBoard = (SudokuBoard) board;
         SudokuCell sourceCell = (SudokuCell) puzzleElement;
 
         Set<SudokuCell> group = sudokuBoard.getRegion(sourceCell.getGroupIndex());
+        int number = model.getModelRegionNumbers(sourceCell.getIndex());
+        for (SudokuCell cell : group) {
+            // the number must go in one of the empty cells only if it is not placed yet
+            if (cell.getData() == number) {
+                return cases;
+            }
+        }
         for (SudokuCell cell : group) {
             if (cell.getData() == 0) {
                 Board newCase = sudokuBoard.copy();
                 PuzzleElement element = newCase.getPuzzleElement(cell);
-                element.setData(model.getModelRegionNumbers(sourceCell.getIndex()));
+                element.setData(number);
                 newCase.addModifiedData(element);
                 cases.add(newCase);
             }
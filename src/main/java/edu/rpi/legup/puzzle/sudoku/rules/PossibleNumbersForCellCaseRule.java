@@ -98,4 +98,23 @@ public class PossibleNumbersForCellCaseRule extends CaseRule {
 
         return cases;
     }
+
+    /**
+     * Returns the elements necessary for the cases returned by getCases(board,puzzleElement) to be
+     * valid. Every case only sets the selected cell, so the cases do not have to be generated to
+     * find it.
+     *
+     * @param board board state at application
+     * @param puzzleElement selected puzzleElement
+     * @return List of puzzle elements (typically cells) this application of the case rule depends
+     *     upon, which is the selected cell
+     */
+    @Override
+    public List<PuzzleElement> dependentElements(Board board, PuzzleElement puzzleElement) {
+        List<PuzzleElement> elements = new ArrayList<>();
+        if (puzzleElement != null) {
+            elements.add(board.getPuzzleElement(puzzleElement));
+        }
+        return elements;
+    }
 }
@@ -7,8 +7,11 @@ import edu.rpi.legup.puzzle.sudoku.SudokuBoard;
 import edu.rpi.legup.puzzle.sudoku.SudokuCell;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 public class RepeatedNumberContradictionRule extends ContradictionRule {
+    private static final Function<SudokuBoard, Boolean> HAS_REPEATED_NUMBER =
+            RepeatedNumberContradictionRule::hasRepeatedNumber;
 
     public RepeatedNumberContradictionRule() {
         super(
@@ -32,6 +35,21 @@ public class RepeatedNumberContradictionRule extends ContradictionRule {
         // Get board to check
         SudokuBoard sudokuBoard = (SudokuBoard) board;
 
+        // The check does not depend on the puzzleElement, so it is shared by every element
+        if (sudokuBoard.getAnalysis(HAS_REPEATED_NUMBER)) {
+            return null;
+        }
+
+        return super.getNoContradictionMessage();
+    }
+
+    /**
+     * Determines if any row, column or region of the board contains the same number twice
+     *
+     * @param sudokuBoard board to check
+     * @return true if a number is repeated in a group, false otherwise
+     */
+    private static Boolean hasRepeatedNumber(SudokuBoard sudokuBoard) {
         // Loop all group indexes
         for (int i = 0; i < 9; i++) {
             // Get regions and sets to check duplicates
@@ -50,7 +68,7 @@ public class RepeatedNumberContradictionRule extends ContradictionRule {
                     continue;
                 }
                 if (regionDup.contains(c.getData())) {
-                    return null;
+                    return true;
                 }
                 regionDup.add(c.getData());
             }
@@ -60,7 +78,7 @@ public class RepeatedNumberContradictionRule extends ContradictionRule {
                     continue;
                 }
                 if (rowDup.contains(c.getData())) {
-                    return null;
+                    return true;
                 }
                 rowDup.add(c.getData());
             }
@@ -70,12 +88,12 @@ public class RepeatedNumberContradictionRule extends ContradictionRule {
                     continue;
                 }
                 if (colDup.contains(c.getData())) {
-                    return null;
+                    return true;
                 }
                 colDup.add(c.getData());
             }
         }
 
-        return super.getNoContradictionMessage();
+        return false;
     }
 }
@@ -2,12 +2,19 @@ package edu.rpi.legup.puzzle.treetent;
 
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.PackedCellCodec;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class TreeTentBoard extends GridBoard {
+    private static final PackedCellCodec<TreeTentCell> PACKED_CELL_CODEC =
+            new PackedCellCodec<>(
+                    TreeTentCell.class,
+                    cell -> cell.getData().ordinal(),
+                    (value, location) -> new TreeTentCell(TreeTentType.values()[value], location));
+
 
     private ArrayList<TreeTentLine> lines;
 
@@ -67,6 +74,8 @@ public class TreeTentBoard extends GridBoard {
         } else if (index < puzzleElements.size()) {
             puzzleElements.set(index, puzzleElement);
         }
+        trackElement(puzzleElement);
+        markChanged();
     }
 
     @Override
@@ -77,6 +86,8 @@ public class TreeTentBoard extends GridBoard {
         } else if (index < puzzleElements.size()) {
             puzzleElements.set(index, puzzleElement);
         }
+        trackElement(puzzleElement);
+        markChanged();
     }
 
     public TreeTentClue getClue(int x, int y) {
@@ -101,6 +112,7 @@ public class TreeTentBoard extends GridBoard {
         if (puzzleElement instanceof TreeTentLine) {
             lines.add((TreeTentLine) puzzleElement);
         }
+        markChanged();
     }
 
     /**
@@ -119,6 +131,7 @@ public class TreeTentBoard extends GridBoard {
                 }
             }
         }
+        markChanged();
     }
 
     /**
@@ -222,6 +235,11 @@ public class TreeTentBoard extends GridBoard {
         return super.equalsBoard(treeTentBoard);
     }
 
+    @Override
+    protected PackedCellCodec<TreeTentCell> getPackedCellCodec() {
+        return PACKED_CELL_CODEC;
+    }
+
     /**
      * Performs a deep copy of the TreeTentBoard
      *
@@ -230,11 +248,7 @@ public class TreeTentBoard extends GridBoard {
     @Override
     public TreeTentBoard copy() {
         TreeTentBoard copy = new TreeTentBoard(dimension.width, dimension.height);
-        for (int x = 0; x < this.dimension.width; x++) {
-            for (int y = 0; y < this.dimension.height; y++) {
-                copy.setCell(x, y, getCell(x, y).copy());
-            }
-        }
+        copyCellsTo(copy);
         for (TreeTentLine line : lines) {
             TreeTentLine lineCpy = line.copy();
             lineCpy.setModifiable(false);
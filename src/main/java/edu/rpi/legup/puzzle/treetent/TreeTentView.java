@@ -4,39 +4,17 @@ import edu.rpi.legup.controller.BoardController;
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
 import edu.rpi.legup.model.tree.TreeElement;
+import edu.rpi.legup.ui.ImageCache;
 import edu.rpi.legup.ui.boardview.ElementView;
 import edu.rpi.legup.ui.boardview.GridBoardView;
 import java.awt.*;
-import java.io.IOException;
 import java.util.ArrayList;
-import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import java.util.List;
 
 public class TreeTentView extends GridBoardView {
-    private static final Logger LOGGER = LogManager.getLogger(TreeTentView.class.getName());
-
-    static Image TREE, GRASS, TENT;
-
-    static {
-        try {
-            TREE =
-                    ImageIO.read(
-                            ClassLoader.getSystemResourceAsStream(
-                                    "edu/rpi/legup/images/treetent/tree.png"));
-            GRASS =
-                    ImageIO.read(
-                            ClassLoader.getSystemResourceAsStream(
-                                    "edu/rpi/legup/images/treetent/grass.png"));
-            TENT =
-                    ImageIO.read(
-                            ClassLoader.getSystemResourceAsStream(
-                                    "edu/rpi/legup/images/treetent/tent.png"));
-        } catch (IOException e) {
-            LOGGER.error("Failed to open TreeTent images");
-        }
-    }
+    static Image TREE = ImageCache.getImage("edu/rpi/legup/images/treetent/tree.png");
+    static Image GRASS = ImageCache.getImage("edu/rpi/legup/images/treetent/grass.png");
+    static Image TENT = ImageCache.getImage("edu/rpi/legup/images/treetent/tent.png");
 
     private final ArrayList<TreeTentLineView> lineViews;
 
@@ -59,44 +37,19 @@ public class TreeTentView extends GridBoardView {
     }
 
     /**
-     * Gets the ElementView from the location specified or null if one does not exists at that
-     * location
+     * Gets the ElementViews that can be found by location, which are the cells followed by the
+     * clues around the board
      *
-     * @param point location on the viewport
-     * @return ElementView at the specified location
+     * @return list of the ElementViews that can be found by location
      */
     @Override
-    public @Nullable ElementView getElement(Point point) {
-        Point scaledPoint =
-                new Point(
-                        (int) Math.round(point.x / getScale()),
-                        (int) Math.round(point.y / getScale()));
-        for (ElementView element : elementViews) {
-            if (element.isWithinBounds(scaledPoint)) {
-                return element;
-            }
-        }
-        for (TreeTentClueView clueView : northClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        for (TreeTentClueView clueView : eastClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        for (TreeTentClueView clueView : southClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        for (TreeTentClueView clueView : westClues) {
-            if (clueView.isWithinBounds(scaledPoint)) {
-                return clueView;
-            }
-        }
-        return null;
+    protected List<ElementView> getLocatableElementViews() {
+        List<ElementView> views = new ArrayList<>(elementViews);
+        views.addAll(northClues);
+        views.addAll(eastClues);
+        views.addAll(southClues);
+        views.addAll(westClues);
+        return views;
     }
 
     public ArrayList<TreeTentLineView> getLineViews() {
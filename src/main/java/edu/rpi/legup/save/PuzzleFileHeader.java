@@ -0,0 +1,94 @@
+package edu.rpi.legup.save;
+
+/**
+ * PuzzleFileHeader holds the attributes of the {@code <puzzle>} and {@code <solved>} elements of a
+ * puzzle file, which is all that is needed to grade a file by its saved solved state.
+ *
+ * @see PuzzleFileReader#readHeader(java.io.File)
+ */
+public class PuzzleFileHeader {
+    private boolean hasPuzzle;
+    private String puzzleName = "";
+    private String tag = "";
+    private boolean hasSolved;
+    private String isSolved = "";
+    private String lastSaved = "";
+
+    /**
+     * Sets the attributes of the puzzle element
+     *
+     * @param puzzleName name attribute of the puzzle element
+     * @param tag tag attribute of the puzzle element
+     */
+    void setPuzzle(String puzzleName, String tag) {
+        this.hasPuzzle = true;
+        this.puzzleName = puzzleName;
+        this.tag = tag;
+    }
+
+    /**
+     * Sets the attributes of the solved element
+     *
+     * @param isSolved isSolved attribute of the solved element
+     * @param lastSaved lastSaved attribute of the solved element
+     */
+    void setSolved(String isSolved, String lastSaved) {
+        this.hasSolved = true;
+        this.isSolved = isSolved;
+        this.lastSaved = lastSaved;
+    }
+
+    /**
+     * Gets whether the file has a puzzle element
+     *
+     * @return true if the file has a puzzle element, false otherwise
+     */
+    public boolean hasPuzzle() {
+        return hasPuzzle;
+    }
+
+    /**
+     * Gets the name of the puzzle type
+     *
+     * @return the name attribute of the puzzle element, or an empty string if it is missing
+     */
+    public String getPuzzleName() {
+        return puzzleName;
+    }
+
+    /**
+     * Gets the tag of the puzzle
+     *
+     * @return the tag attribute of the puzzle element, or an empty string if it is missing
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Gets whether the file has a solved element
+     *
+     * @return true if the file has a solved element, false otherwise
+     */
+    public boolean hasSolved() {
+        return hasSolved;
+    }
+
+    /**
+     * Gets the hashed solved state
+     *
+     * @return the isSolved attribute of the solved element, or an empty string if it is missing
+     */
+    public String getIsSolved() {
+        return isSolved;
+    }
+
+    /**
+     * Gets the time the file was last saved
+     *
+     * @return the lastSaved attribute of the solved element, or an empty string if it is missing
+     */
+    public String getLastSaved() {
+        return lastSaved;
+    }
+}
@@ -0,0 +1,285 @@
+package edu.rpi.legup.save;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * PuzzleFileReader reads Legup puzzle files with a streaming StAX parser, so that only the parts of
+ * a file that are needed are ever read into memory. Loading a puzzle builds a DOM for the {@code
+ * <Legup>} root and its {@code <puzzle>} element only, which is what the {@link
+ * edu.rpi.legup.model.PuzzleImporter} works on, and reading the header of a file for grading never
+ * builds a DOM at all. The parser factories are created once and shared by every caller.
+ */
+public final class PuzzleFileReader {
+    private static final String ROOT_ELEMENT = "Legup";
+    private static final String PUZZLE_ELEMENT = "puzzle";
+    private static final String SOLVED_ELEMENT = "solved";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final DocumentBuilderFactory DOCUMENT_FACTORY =
+            DocumentBuilderFactory.newInstance();
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+
+    private PuzzleFileReader() {}
+
+    /**
+     * Creates the shared StAX factory. Puzzle files never declare a DTD, so DTDs and external
+     * entities are not processed.
+     *
+     * @return the StAX factory used for every file
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Gets the document builder of the calling thread, creating it on first use
+     *
+     * @return a document builder that is only used by the calling thread
+     * @throws ParserConfigurationException if a document builder cannot be created
+     */
+    public static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+        if (builder == null) {
+            synchronized (DOCUMENT_FACTORY) {
+                builder = DOCUMENT_FACTORY.newDocumentBuilder();
+            }
+            DOCUMENT_BUILDER.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    /**
+     * Parses a whole xml file into a DOM. Only needed when the document is going to be modified and
+     * written back; use {@link #readPuzzleDocument(InputStream)} to load a puzzle.
+     *
+     * @param file file to parse
+     * @return the parsed document
+     * @throws IOException if the file cannot be read
+     * @throws SAXException if the file is not well formed xml
+     * @throws ParserConfigurationException if a document builder cannot be created
+     */
+    public static Document parseDocument(File file)
+            throws IOException, SAXException, ParserConfigurationException {
+        return getDocumentBuilder().parse(file);
+    }
+
+    /**
+     * Reads the {@code <Legup>} root element of a puzzle file together with its first {@code
+     * <puzzle>} element. Everything else in the file, such as the {@code <solved>} element, is left
+     * out, and reading stops as soon as the puzzle element ends. If the root element is not a
+     * {@code <Legup>} element, the returned document contains the root element alone.
+     *
+     * @param inputStream stream of the puzzle file
+     * @return document containing the root element and its puzzle element, if there is one
+     * @throws IOException if the stream cannot be read
+     * @throws XMLStreamException if the stream is not well formed xml
+     */
+    public static Document readPuzzleDocument(InputStream inputStream)
+            throws IOException, XMLStreamException {
+        Document document;
+        try {
+            document = getDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IOException("Unable to create document", e);
+        }
+
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            if (!nextStartElement(reader)) {
+                throw new XMLStreamException("Document does not have a root element");
+            }
+            Element root = readElement(reader, document);
+            document.appendChild(root);
+            if (!root.getTagName().equals(ROOT_ELEMENT)) {
+                return document;
+            }
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (getName(reader).equals(PUZZLE_ELEMENT)) {
+                        root.appendChild(readSubtree(reader, document));
+                        break;
+                    }
+                }
+            }
+            return document;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the {@code <Legup>} root element of a puzzle file together with its first {@code
+     * <puzzle>} element
+     *
+     * @param file the puzzle file
+     * @return document containing the root element and its puzzle element, if there is one
+     * @throws IOException if the file cannot be read
+     * @throws XMLStreamException if the file is not well formed xml
+     * @see #readPuzzleDocument(InputStream)
+     */
+    public static Document readPuzzleDocument(File file) throws IOException, XMLStreamException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return readPuzzleDocument(inputStream);
+        }
+    }
+
+    /**
+     * Reads the attributes of the {@code <puzzle>} and {@code <solved>} elements of a puzzle file
+     * without building a DOM. The contents of the puzzle element are skipped over, and reading
+     * stops as soon as the solved element is found.
+     *
+     * @param file the puzzle file
+     * @return the header of the file
+     * @throws IOException if the file cannot be read
+     * @throws XMLStreamException if the file is not well formed xml
+     */
+    public static PuzzleFileHeader readHeader(File file) throws IOException, XMLStreamException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                PuzzleFileHeader header = new PuzzleFileHeader();
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    String name = getName(reader);
+                    if (name.equals(PUZZLE_ELEMENT) && !header.hasPuzzle()) {
+                        header.setPuzzle(
+                                getAttribute(reader, "name"), getAttribute(reader, "tag"));
+                    } else if (name.equals(SOLVED_ELEMENT)) {
+                        header.setSolved(
+                                getAttribute(reader, "isSolved"),
+                                getAttribute(reader, "lastSaved"));
+                        break;
+                    }
+                }
+                return header;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Advances the reader to the next start element
+     *
+     * @param reader the reader
+     * @return true if a start element was found, false if the end of the document was reached
+     * @throws XMLStreamException if the stream is not well formed xml
+     */
+    private static boolean nextStartElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a DOM element with the name and attributes of the start element the reader is on
+     *
+     * @param reader the reader, positioned on a start element
+     * @param document document that creates the element
+     * @return the created element, without any children
+     */
+    private static Element readElement(XMLStreamReader reader, Document document) {
+        Element element = document.createElement(getName(reader));
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name = reader.getAttributeLocalName(i);
+            element.setAttribute(
+                    prefix == null || prefix.isEmpty() ? name : prefix + ":" + name,
+                    reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    /**
+     * Reads the element the reader is on and everything inside of it into a DOM, leaving the
+     * reader on the matching end element. Text and comments are kept so that the DOM is the same
+     * as one built by a {@link DocumentBuilder}.
+     *
+     * @param reader the reader, positioned on a start element
+     * @param document document that creates the nodes
+     * @return the element that was read
+     * @throws XMLStreamException if the stream is not well formed xml
+     */
+    private static Element readSubtree(XMLStreamReader reader, Document document)
+            throws XMLStreamException {
+        Element root = readElement(reader, document);
+        Node current = root;
+        while (current != null) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    Element child = readElement(reader, document);
+                    current.appendChild(child);
+                    current = child;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    current = current == root ? null : current.getParentNode();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    current.appendChild(document.createTextNode(reader.getText()));
+                    break;
+                case XMLStreamConstants.CDATA:
+                    current.appendChild(document.createCDATASection(reader.getText()));
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    current.appendChild(document.createComment(reader.getText()));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Gets the qualified name of the element the reader is on
+     *
+     * @param reader the reader, positioned on a start or end element
+     * @return the qualified name of the element
+     */
+    private static String getName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        return prefix == null || prefix.isEmpty()
+                ? reader.getLocalName()
+                : prefix + ":" + reader.getLocalName();
+    }
+
+    /**
+     * Gets the value of an attribute of the element the reader is on
+     *
+     * @param reader the reader, positioned on a start element
+     * @param name name of the attribute
+     * @return the value of the attribute, or an empty string if the element does not have it
+     */
+    private static String getAttribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(null, name);
+        return value == null ? "" : value;
+    }
+}
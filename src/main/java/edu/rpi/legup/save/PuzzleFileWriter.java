@@ -0,0 +1,184 @@
+package edu.rpi.legup.save;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * PuzzleFileWriter writes Legup puzzle files with a streaming StAX writer, so that the proof tree
+ * is written out as it is traversed instead of being built into a DOM first. Elements are indented
+ * by four spaces per level, and elements without children are written as empty elements. Parts of
+ * the file that are still created as DOM elements, such as boards and cells, can be written with
+ * {@link #writeElement(Element)}.
+ */
+public class PuzzleFileWriter implements AutoCloseable {
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    private static final String INDENT = "    ";
+
+    private final XMLStreamWriter writer;
+    private int depth;
+    private boolean hasChildren;
+
+    private String pendingName;
+    private final List<String> pendingAttributes;
+
+    /**
+     * PuzzleFileWriter Constructor creates a writer that writes UTF-8 xml to the stream. The
+     * stream is not closed by the writer.
+     *
+     * @param outputStream stream to write to
+     * @throws XMLStreamException if the writer cannot be created
+     */
+    public PuzzleFileWriter(OutputStream outputStream) throws XMLStreamException {
+        this.writer = OUTPUT_FACTORY.createXMLStreamWriter(outputStream, "UTF-8");
+        this.depth = 0;
+        this.hasChildren = false;
+        this.pendingName = null;
+        this.pendingAttributes = new ArrayList<>();
+    }
+
+    /**
+     * Writes the xml declaration
+     *
+     * @throws XMLStreamException if the declaration cannot be written
+     */
+    public void startDocument() throws XMLStreamException {
+        writer.writeStartDocument("UTF-8", "1.0");
+    }
+
+    /**
+     * Ends every element that is still open and flushes the writer
+     *
+     * @throws XMLStreamException if the document cannot be written
+     */
+    public void endDocument() throws XMLStreamException {
+        while (depth > 0) {
+            endElement();
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Starts a new element inside of the current element. Attributes of the element must be added
+     * with {@link #attribute(String, String)} before anything else is written inside of it.
+     *
+     * @param name name of the element
+     * @throws XMLStreamException if the element cannot be written
+     */
+    public void startElement(String name) throws XMLStreamException {
+        flushPending(false);
+        writer.writeCharacters("\n");
+        writer.writeCharacters(INDENT.repeat(depth));
+        pendingName = name;
+        hasChildren = false;
+        depth++;
+    }
+
+    /**
+     * Adds an attribute to the element that was just started
+     *
+     * @param name name of the attribute
+     * @param value value of the attribute
+     * @throws IllegalStateException if something was already written inside of the element
+     */
+    public void attribute(String name, String value) {
+        if (pendingName == null) {
+            throw new IllegalStateException("Attributes must be written before element content");
+        }
+        pendingAttributes.add(name);
+        pendingAttributes.add(value);
+    }
+
+    /**
+     * Ends the current element
+     *
+     * @throws XMLStreamException if the element cannot be written
+     */
+    public void endElement() throws XMLStreamException {
+        depth--;
+        if (pendingName != null) {
+            flushPending(true);
+        } else {
+            if (hasChildren) {
+                writer.writeCharacters("\n");
+                writer.writeCharacters(INDENT.repeat(depth));
+            }
+            writer.writeEndElement();
+        }
+        hasChildren = true;
+    }
+
+    /**
+     * Writes a DOM element and all of its descendants inside of the current element. Text that is
+     * only whitespace is dropped since the output is indented anyway.
+     *
+     * @param element the element to write
+     * @throws XMLStreamException if the element cannot be written
+     */
+    public void writeElement(Element element) throws XMLStreamException {
+        startElement(element.getTagName());
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr attribute = (Attr) attributes.item(i);
+            attribute(attribute.getName(), attribute.getValue());
+        }
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                writeElement((Element) child);
+            } else if (child.getNodeType() == Node.TEXT_NODE
+                    || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+                String text = child.getNodeValue();
+                if (!text.isBlank()) {
+                    flushPending(false);
+                    writer.writeCharacters(text);
+                }
+            }
+        }
+        endElement();
+    }
+
+    /**
+     * Writes the element that was started but not written yet, now that its attributes are known
+     *
+     * @param isEmpty true if the element does not have any content
+     * @throws XMLStreamException if the element cannot be written
+     */
+    private void flushPending(boolean isEmpty) throws XMLStreamException {
+        if (pendingName == null) {
+            return;
+        }
+        if (isEmpty) {
+            writer.writeEmptyElement(pendingName);
+        } else {
+            writer.writeStartElement(pendingName);
+        }
+        for (int i = 0; i < pendingAttributes.size(); i += 2) {
+            writer.writeAttribute(pendingAttributes.get(i), pendingAttributes.get(i + 1));
+        }
+        pendingName = null;
+        pendingAttributes.clear();
+    }
+
+    /**
+     * Closes the underlying StAX writer without closing the stream
+     *
+     * @throws XMLStreamException if the writer cannot be closed
+     */
+    @Override
+    public void close() throws XMLStreamException {
+        writer.close();
+    }
+}
@@ -5,6 +5,8 @@ import edu.rpi.legup.app.LegupPreferences;
 import edu.rpi.legup.app.VersionInfo;
 import edu.rpi.legup.controller.CursorController;
 import edu.rpi.legup.model.PuzzleExporter;
+import edu.rpi.legup.save.PuzzleFileHeader;
+import edu.rpi.legup.save.PuzzleFileReader;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -18,8 +20,7 @@ import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.swing.*;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.*;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -27,7 +28,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 /**
  * The {@code HomePanel} class represents the home panel of the LEGUP application. This panel
@@ -343,9 +343,7 @@ public class HomePanel extends LegupPanel {
     public Document isxmlfile(File file) {
         Document doc = null;
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            doc = builder.parse(file);
+            doc = PuzzleFileReader.parseDocument(file);
         } catch (Exception e) {
             LOGGER.error("'{}' is not a valid XML file", file.getPath());
         }
@@ -355,23 +353,21 @@ public class HomePanel extends LegupPanel {
     /**
      * reads the puzzle name and type, and outputs to .csv file
      *
-     * @param doc - the parsed file currently being graded
+     * @param header - the header of the file currently being graded
      * @param writer - write to .csv
      * @throws IOException
      */
-    private void parsePuzzle(Document doc, BufferedWriter writer) throws IOException {
-        NodeList puzzleNodes = doc.getElementsByTagName("puzzle");
-        if (puzzleNodes.getLength() <= 0) {
+    private void parsePuzzle(PuzzleFileHeader header, BufferedWriter writer) throws IOException {
+        if (!header.hasPuzzle()) {
             writer.write("not a LEGUP puzzle!");
             return;
         }
 
-        Element puzzleElement = (Element) puzzleNodes.item(0);
-        String puzzleType = puzzleElement.getAttribute("name");
+        String puzzleType = header.getPuzzleName();
         writer.write(puzzleType.isEmpty() ? "not a LEGUP puzzle!" : puzzleType);
         writer.write(",");
 
-        String puzzleTag = puzzleElement.getAttribute("tag");
+        String puzzleTag = header.getTag();
         writer.write(puzzleTag.isEmpty() ? "No tag given" : puzzleTag);
     }
 
@@ -379,20 +375,19 @@ public class HomePanel extends LegupPanel {
      * Reads the hashed solved state and export timestamp, unhashes information and prints out to
      * csv
      *
-     * @param doc - the parsed file currently being graded
+     * @param header - the header of the file currently being graded
      * @param writer - write to .csv
      * @throws IOException
      */
-    private void parseSolvedState(Document doc, BufferedWriter writer) throws IOException {
-        NodeList solvedNodes = doc.getElementsByTagName("solved");
-        if (solvedNodes.getLength() <= 0) {
+    private void parseSolvedState(PuzzleFileHeader header, BufferedWriter writer)
+            throws IOException {
+        if (!header.hasSolved()) {
             writer.write(",missing flag!");
             return;
         }
 
-        Element solvedElement = (Element) solvedNodes.item(0);
-        String isSolved = solvedElement.getAttribute("isSolved");
-        String lastSaved = solvedElement.getAttribute("lastSaved");
+        String isSolved = header.getIsSolved();
+        String lastSaved = header.getLastSaved();
 
         // unhash solved flag
         writer.write(",");
@@ -447,8 +442,13 @@ public class HomePanel extends LegupPanel {
                     continue;
                 }
 
-                Document doc;
-                if ((doc = isxmlfile(fileEntry)) == null) {
+                // Only the puzzle and solved attributes are needed, so the rest of the file is
+                // skipped over rather than parsed into a document
+                PuzzleFileHeader header;
+                try {
+                    header = PuzzleFileReader.readHeader(fileEntry);
+                } catch (IOException | XMLStreamException e) {
+                    LOGGER.error("'{}' is not a valid XML file", fileEntry.getPath());
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debug("{} is not a '.xml' file", fName);
                     }
@@ -456,26 +456,24 @@ public class HomePanel extends LegupPanel {
                     continue;
                 }
 
-                NodeList puzzleNodes = doc.getElementsByTagName("puzzle");
-                Element puzzleElement = (Element) puzzleNodes.item(0);
-                String puzzleTag = puzzleElement.getAttribute("tag");
+                String puzzleTag = header.getTag();
                 if (!_tagsToGrade.isEmpty()
                         && _tagsToGrade.stream().noneMatch(puzzleTag::contains)) {
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debug(
                                 "'{}' is not graded with tag '{}'",
-                                puzzleElement.getAttribute("name"),
+                                header.getPuzzleName(),
                                 puzzleTag);
                     }
                     continue;
                 }
-                String puzzleType = puzzleElement.getAttribute("name");
+                String puzzleType = header.getPuzzleName();
                 if (!_typesToGrade.isEmpty()
                         && _typesToGrade.stream().noneMatch(puzzleType::contains)) {
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debug(
                                 "'{}' is not graded with type '{}'",
-                                puzzleElement.getAttribute("name"),
+                                header.getPuzzleName(),
                                 puzzleType);
                     }
                     continue;
@@ -488,8 +486,8 @@ public class HomePanel extends LegupPanel {
                 writer.write(fName);
                 writer.write(",");
 
-                parsePuzzle(doc, writer);
-                parseSolvedState(doc, writer);
+                parsePuzzle(header, writer);
+                parseSolvedState(header, writer);
 
                 writer.write("\n");
             }
@@ -0,0 +1,163 @@
+package edu.rpi.legup.ui;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.imageio.ImageIO;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ImageCache decodes image resources once and keeps copies of images scaled to the sizes they are
+ * drawn at. Board views draw the same few images for every cell on every repaint; drawing a copy
+ * that already has the size of the cell on screen avoids decoding or rescaling the image each
+ * time. The scaled copies are kept for the most recently used sizes only, so zooming through many
+ * levels does not keep every copy alive.
+ */
+public final class ImageCache {
+    private static final Logger LOGGER = LogManager.getLogger(ImageCache.class.getName());
+
+    /** Maximum number of scaled copies kept across all images and sizes */
+    private static final int MAX_SCALED_IMAGES = 256;
+
+    private static final ConcurrentMap<String, Optional<BufferedImage>> IMAGES =
+            new ConcurrentHashMap<>();
+
+    private static final Map<ScaledKey, Image> SCALED_IMAGES =
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ScaledKey, Image> eldest) {
+                    return size() > MAX_SCALED_IMAGES;
+                }
+            };
+
+    private ImageCache() {}
+
+    /**
+     * Gets the image of a resource, decoding it the first time it is requested
+     *
+     * @param resource path of the image resource on the class path
+     * @return the decoded image, or null if the resource does not exist or cannot be decoded
+     */
+    public static BufferedImage getImage(String resource) {
+        return IMAGES.computeIfAbsent(resource, ImageCache::readImage).orElse(null);
+    }
+
+    /**
+     * Gets a copy of an image scaled to the specified size. The copy is made the first time the
+     * size is requested and kept until it is one of the least recently used copies.
+     *
+     * @param image image to scale
+     * @param width width of the copy in pixels
+     * @param height height of the copy in pixels
+     * @return the scaled copy, or the image itself if it already has that size or cannot be scaled
+     */
+    public static Image getScaledImage(Image image, int width, int height) {
+        if (image == null || width <= 0 || height <= 0) {
+            return image;
+        }
+        int imageWidth = image.getWidth(null);
+        int imageHeight = image.getHeight(null);
+        if (imageWidth <= 0 || imageHeight <= 0) {
+            return image;
+        }
+        if (imageWidth == width && imageHeight == height) {
+            return image;
+        }
+        ScaledKey key = new ScaledKey(image, width, height);
+        synchronized (SCALED_IMAGES) {
+            Image scaled = SCALED_IMAGES.get(key);
+            if (scaled == null) {
+                scaled = scale(image, width, height);
+                SCALED_IMAGES.put(key, scaled);
+            }
+            return scaled;
+        }
+    }
+
+    /**
+     * Gets a copy of the image of a resource scaled to the specified size
+     *
+     * @param resource path of the image resource on the class path
+     * @param width width of the copy in pixels
+     * @param height height of the copy in pixels
+     * @return the scaled copy, or null if the resource does not exist or cannot be decoded
+     */
+    public static Image getScaledImage(String resource, int width, int height) {
+        return getScaledImage(getImage(resource), width, height);
+    }
+
+    /**
+     * Decodes the image of a resource
+     *
+     * @param resource path of the image resource on the class path
+     * @return the decoded image, or empty if the resource does not exist or cannot be decoded
+     */
+    private static Optional<BufferedImage> readImage(String resource) {
+        try (InputStream stream = ClassLoader.getSystemResourceAsStream(resource)) {
+            if (stream == null) {
+                LOGGER.error("Image resource not found: {}", resource);
+                return Optional.empty();
+            }
+            BufferedImage image = ImageIO.read(stream);
+            if (image == null) {
+                LOGGER.error("Image resource could not be decoded: {}", resource);
+            }
+            return Optional.ofNullable(image);
+        } catch (IOException e) {
+            LOGGER.error("Failed to open image resource {}", resource, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Draws an image into a new image of the specified size
+     *
+     * @param image image to scale
+     * @param width width of the new image
+     * @param height height of the new image
+     * @return the scaled image
+     */
+    private static BufferedImage scale(Image image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics2D = scaled.createGraphics();
+        graphics2D.setRenderingHint(
+                RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics2D.setRenderingHint(
+                RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics2D.drawImage(image, 0, 0, width, height, null);
+        graphics2D.dispose();
+        return scaled;
+    }
+
+    /**
+     * Key of a scaled copy. Images are compared by identity, so copies of different images with
+     * equal contents are kept apart.
+     *
+     * @param image image that was scaled
+     * @param width width of the copy
+     * @param height height of the copy
+     */
+    private record ScaledKey(Image image, int width, int height) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ScaledKey key
+                    && key.image == image
+                    && key.width == width
+                    && key.height == height;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(image) * 31 + width) * 31 + height;
+        }
+    }
+}
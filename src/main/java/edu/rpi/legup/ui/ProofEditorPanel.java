@@ -1,5 +1,6 @@
 package edu.rpi.legup.ui;
 
+import edu.rpi.legup.app.BatchGrader;
 import edu.rpi.legup.app.GameBoardFacade;
 import edu.rpi.legup.app.LegupPreferences;
 import edu.rpi.legup.app.VersionInfo;
@@ -24,14 +25,11 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.InputEvent;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.util.List;
-import java.util.Objects;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import org.apache.logging.log4j.LogManager;
@@ -82,6 +80,8 @@ public class ProofEditorPanel extends LegupPanel implements IHistoryListener {
 
     private LegupUI legupUI;
 
+    // flags of the proof modes below; a proof mode cannot be chosen in the editor yet, so none of
+    // them has an effect, and the solver is only run from the command line by LegupSolver
     public static final int ALLOW_HINTS = 1;
     public static final int ALLOW_DEFAPP = 2;
     public static final int ALLOW_FULLAI = 4;
@@ -1111,6 +1111,7 @@ public class ProofEditorPanel extends LegupPanel implements IHistoryListener {
         this.treePanel.getTreeView().setTree(puzzle.getTree());
 
         puzzle.addTreeListener(treePanel.getTreeView());
+        puzzle.addBoardListener(treePanel.getTreeView());
         puzzle.addBoardListener(puzzle.getBoardView());
 
         ruleFrame.getDirectRulePanel().setRules(puzzle.getDirectRules());
@@ -1140,7 +1141,7 @@ public class ProofEditorPanel extends LegupPanel implements IHistoryListener {
         GameBoardFacade facade = GameBoardFacade.getInstance();
 
         /*
-         * Select dir to grade; recursively grade sub-dirs using traverseDir()
+         * Select dir to grade; recursively grade sub-dirs using BatchGrader
          * Selected dir must have sub-dirs for each student:
          * GradeThis
          *    |
@@ -1162,94 +1163,34 @@ public class ProofEditorPanel extends LegupPanel implements IHistoryListener {
         folderBrowser.setAcceptAllFileFilterUsed(false);
 
         File folder = folderBrowser.getSelectedFile();
-
-        // Write csv file (Path,File-Name,Puzzle-Type,Score,Solved?)
-        File resultFile = new File(folder.getAbsolutePath() + File.separator + "result.csv");
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(resultFile))) {
-            writer.append("Name,File Name,Puzzle Type,Score,Solved?\n");
-
-            // Go through student folders
-            for (final File folderEntry :
-                    Objects.requireNonNull(folder.listFiles(File::isDirectory))) {
-                // Write path
-                String path = folderEntry.getName();
-                traverseDir(folderEntry, writer, path);
-            }
-        } catch (IOException ex) {
-            LOGGER.error(ex.getMessage());
+        if (folder == null) {
+            return;
         }
-        JOptionPane.showMessageDialog(null, "Batch grading complete.");
+
+        // Write csv file (Path,File-Name,Puzzle-Type,Score,Solved?) off of the event thread
+        BatchGrader grader = new BatchGrader(facade.getConfig());
+        Thread gradingThread =
+                new Thread(
+                        () -> {
+                            String message = "Batch grading complete.";
+                            try {
+                                grader.grade(folder);
+                            } catch (IOException ex) {
+                                LOGGER.error(ex.getMessage());
+                                message = "Batch grading failed: " + ex.getMessage();
+                            }
+                            String finalMessage = message;
+                            EventQueue.invokeLater(
+                                    () -> JOptionPane.showMessageDialog(null, finalMessage));
+                        },
+                        "batch-grader");
+        gradingThread.start();
     }
 
     private boolean basicCheckProof(int[][] origCells) {
         return false;
     }
 
-    /**
-     * Traverses a given directory, grades the proofs found in the directory, and writes the results
-     * to the specified CSV writer.
-     *
-     * @param folder the folder to traverse
-     * @param writer the CSV writer
-     * @param path the current path in the directory traversal
-     * @throws IOException if an error occurs while writing to the CSV file
-     */
-    private void traverseDir(File folder, BufferedWriter writer, String path) throws IOException {
-        // Recursively traverse directory
-        GameBoardFacade facade = GameBoardFacade.getInstance();
-
-        // Folder is empty
-        if (Objects.requireNonNull(folder.listFiles()).length == 0) {
-            writer.append(path).append(",Empty folder,,Ungradeable\n");
-            return;
-        }
-
-        // Travese directory, recurse if sub-directory found
-        // If ungradeable, do not leave a score (0, 1)
-        for (final File f : Objects.requireNonNull(folder.listFiles())) {
-            // Recurse
-            if (f.isDirectory()) {
-                traverseDir(f, writer, path + "/" + f.getName());
-                continue;
-            }
-
-            // Set path name
-            writer.append(path).append(",");
-
-            // Load puzzle, run checker
-            // If wrong file type, ungradeable
-            String fName = f.getName();
-            String fPath = f.getAbsolutePath();
-            File puzzleFile = new File(fPath);
-            if (puzzleFile.exists()) {
-                // Try to load file. If invalid, note in csv
-                try {
-                    // Load puzzle, run checker
-                    GameBoardFacade.getInstance().loadPuzzle(fPath);
-                    String puzzleName = GameBoardFacade.getInstance().getPuzzleModule().getName();
-                    frame.setTitle(puzzleName + " - " + puzzleFile.getName());
-                    facade = GameBoardFacade.getInstance();
-                    Puzzle puzzle = facade.getPuzzleModule();
-
-                    // Write data
-                    writer.append(fName).append(",");
-                    writer.append(puzzle.getName()).append(",");
-                    if (puzzle.isPuzzleComplete()) {
-                        writer.append("1,Solved\n");
-                    } else {
-                        writer.append("0,Unsolved\n");
-                    }
-                } catch (InvalidFileFormatException e) {
-                    writer.append(fName).append(",Invalid,,Ungradeable\n");
-                }
-            } else {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("Failed to run sim");
-                }
-            }
-        }
-    }
-
     /**
      * Returns the current board view.
      *
@@ -12,6 +12,7 @@ import edu.rpi.legup.model.tree.TreeElement;
 import edu.rpi.legup.ui.ScrollView;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.swing.*;
 
@@ -24,10 +25,13 @@ import javax.swing.*;
  * example, the NurikabeView class is used for BoardView when a Nurikabe puzzle is loaded.
  */
 public abstract class BoardView extends ScrollView implements IBoardListener {
+    private static final int REPAINT_MARGIN = 2;
+
     protected TreeElement treeElement;
     protected ArrayList<ElementView> elementViews;
     protected ElementController elementController;
     protected ElementSelection selection;
+    private ElementViewIndex elementIndex;
 
     /**
      * BoardView Constructor creates a view for the board object using the controller handle the ui
@@ -81,6 +85,7 @@ public abstract class BoardView extends ScrollView implements IBoardListener {
      */
     public void setElementViews(ArrayList<ElementView> elements) {
         elementViews = elements;
+        invalidateElementIndex();
     }
 
     /**
@@ -95,12 +100,68 @@ public abstract class BoardView extends ScrollView implements IBoardListener {
                 new Point(
                         (int) Math.round(point.x / getScale()),
                         (int) Math.round(point.y / getScale()));
+        if (elementIndex == null) {
+            elementIndex = new ElementViewIndex(getLocatableElementViews(), getElementCellSize());
+        }
+        return elementIndex.getElement(scaledPoint);
+    }
+
+    /**
+     * Gets the ElementViews that {@link #getElement(Point)} can find, in the order they are
+     * checked where their bounds overlap. Views that are drawn outside of the element view list,
+     * such as clues around the board, are added here so they can be found as well.
+     *
+     * @return list of the ElementViews that can be found by location
+     */
+    protected List<ElementView> getLocatableElementViews() {
+        return elementViews;
+    }
+
+    /**
+     * Gets the size of the cells the board is split into to find ElementViews by location
+     *
+     * @return the size of the first ElementView, or 1x1 if there are none
+     */
+    protected Dimension getElementCellSize() {
         for (ElementView element : elementViews) {
-            if (element.isWithinBounds(scaledPoint)) {
-                return element;
+            if (element.getSize() != null) {
+                return element.getSize();
             }
         }
-        return null;
+        return new Dimension(1, 1);
+    }
+
+    /**
+     * Discards the index used to find ElementViews by location, so that it is rebuilt on the next
+     * lookup. Must be called when ElementViews are added, removed or moved after the first lookup.
+     */
+    protected void invalidateElementIndex() {
+        elementIndex = null;
+    }
+
+    /**
+     * Repaints only the area covered by the specified ElementViews, for changes such as hovering
+     * that do not affect the rest of the board
+     *
+     * @param elements ElementViews to repaint, null entries are ignored
+     */
+    public void repaintElements(ElementView... elements) {
+        Rectangle dirty = null;
+        for (ElementView element : elements) {
+            if (element != null && element.getLocation() != null && element.getSize() != null) {
+                dirty = dirty == null ? element.getBounds() : dirty.union(element.getBounds());
+            }
+        }
+        if (dirty == null) {
+            return;
+        }
+        // convert to canvas coordinates and pad for strokes that straddle the bounds
+        double scale = getScale();
+        int x = (int) Math.floor(dirty.x * scale) - REPAINT_MARGIN;
+        int y = (int) Math.floor(dirty.y * scale) - REPAINT_MARGIN;
+        int width = (int) Math.ceil((dirty.x + dirty.width) * scale) + REPAINT_MARGIN - x;
+        int height = (int) Math.ceil((dirty.y + dirty.height) * scale) + REPAINT_MARGIN - y;
+        getCanvas().repaint(new Rectangle(x, y, width, height));
     }
 
     /**
@@ -1,6 +1,7 @@
 package edu.rpi.legup.ui.boardview;
 
 import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.ui.ImageCache;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.PathIterator;
@@ -143,6 +144,32 @@ public abstract class ElementView implements Shape {
                         location.x + 1.5f, location.y + 1.5f, size.width - 3, size.height - 3));
     }
 
+    /**
+     * Draws an image over the whole ElementView. The image is drawn from a copy that is already
+     * scaled to the size of the element on screen at the current zoom, so repainting does not
+     * rescale the image.
+     *
+     * @param graphics2D the Graphics2D context to use for drawing
+     * @param image the image to draw, nothing is drawn if it is null
+     * @param background color drawn behind transparent pixels of the image, or null for none
+     */
+    protected void drawImage(Graphics2D graphics2D, Image image, Color background) {
+        if (image == null) {
+            return;
+        }
+        AffineTransform transform = graphics2D.getTransform();
+        int width = (int) Math.round(size.width * Math.abs(transform.getScaleX()));
+        int height = (int) Math.round(size.height * Math.abs(transform.getScaleY()));
+        graphics2D.drawImage(
+                ImageCache.getScaledImage(image, width, height),
+                location.x,
+                location.y,
+                size.width,
+                size.height,
+                background,
+                null);
+    }
+
     /**
      * Creates an image representation of the ElementView.
      *
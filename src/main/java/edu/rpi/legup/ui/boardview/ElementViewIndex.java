@@ -0,0 +1,131 @@
+package edu.rpi.legup.ui.boardview;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ElementViewIndex finds the ElementView at a location on a board view without checking every
+ * view. The area covered by the views is split into buckets, and each view is stored in every
+ * bucket its bounds touch, so a lookup only checks the few views of a single bucket. With buckets
+ * the size of an element, a grid of views is looked up in constant time.
+ *
+ * <p>The views of a bucket are checked in the order the views were given, so where the bounds of
+ * views overlap, such as on their shared edges, the lookup returns the same view as checking every
+ * view in order would.
+ */
+class ElementViewIndex {
+    private static final ElementView[] EMPTY = new ElementView[0];
+
+    private final int originX;
+    private final int originY;
+    private final int bucketWidth;
+    private final int bucketHeight;
+    private final int columns;
+    private final int rows;
+    private final ElementView[][] buckets;
+
+    /**
+     * ElementViewIndex Constructor creates an index of the element views
+     *
+     * @param views element views in the order they are checked
+     * @param bucketSize size of each bucket, usually the size of an element
+     */
+    ElementViewIndex(List<? extends ElementView> views, Dimension bucketSize) {
+        this.bucketWidth = Math.max(1, bucketSize.width);
+        this.bucketHeight = Math.max(1, bucketSize.height);
+
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (ElementView view : views) {
+            if (isPlaced(view)) {
+                minX = Math.min(minX, view.getLocation().x);
+                minY = Math.min(minY, view.getLocation().y);
+                maxX = Math.max(maxX, view.getLocation().x + view.getSize().width);
+                maxY = Math.max(maxY, view.getLocation().y + view.getSize().height);
+            }
+        }
+        if (minX > maxX) {
+            this.originX = 0;
+            this.originY = 0;
+            this.columns = 0;
+            this.rows = 0;
+            this.buckets = new ElementView[0][];
+            return;
+        }
+        this.originX = minX;
+        this.originY = minY;
+        this.columns = (maxX - minX) / bucketWidth + 1;
+        this.rows = (maxY - minY) / bucketHeight + 1;
+
+        List<List<ElementView>> lists = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            lists.add(null);
+        }
+        for (ElementView view : views) {
+            if (!isPlaced(view)) {
+                continue;
+            }
+            // bounds are inclusive of the right and bottom edges, like isWithinBounds
+            Point location = view.getLocation();
+            Dimension size = view.getSize();
+            int firstColumn = (location.x - originX) / bucketWidth;
+            int lastColumn = (location.x + size.width - originX) / bucketWidth;
+            int firstRow = (location.y - originY) / bucketHeight;
+            int lastRow = (location.y + size.height - originY) / bucketHeight;
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    int bucket = row * columns + column;
+                    if (lists.get(bucket) == null) {
+                        lists.set(bucket, new ArrayList<>(4));
+                    }
+                    lists.get(bucket).add(view);
+                }
+            }
+        }
+
+        this.buckets = new ElementView[columns * rows][];
+        for (int i = 0; i < buckets.length; i++) {
+            List<ElementView> list = lists.get(i);
+            buckets[i] = list == null ? EMPTY : list.toArray(EMPTY);
+        }
+    }
+
+    /**
+     * Gets the first ElementView whose bounds contain the location
+     *
+     * @param point location in board coordinates
+     * @return the ElementView at the location, or null if there is none
+     */
+    ElementView getElement(Point point) {
+        int x = point.x - originX;
+        int y = point.y - originY;
+        if (x < 0 || y < 0) {
+            return null;
+        }
+        int column = x / bucketWidth;
+        int row = y / bucketHeight;
+        if (column >= columns || row >= rows) {
+            return null;
+        }
+        for (ElementView view : buckets[row * columns + column]) {
+            if (view.isWithinBounds(point)) {
+                return view;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines if a view has a location and a size, and so can be looked up
+     *
+     * @param view element view
+     * @return true if the view has a location and a size, false otherwise
+     */
+    private static boolean isPlaced(ElementView view) {
+        return view.getLocation() != null && view.getSize() != null;
+    }
+}
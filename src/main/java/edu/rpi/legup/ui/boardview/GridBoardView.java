@@ -96,6 +96,17 @@ public abstract class GridBoardView extends BoardView {
         return boardViewSize;
     }
 
+    /**
+     * Gets the size of the cells the board is split into to find ElementViews by location, which
+     * is the size of a grid element so each lookup only checks the views of one grid cell
+     *
+     * @return the dimension of each element in the grid
+     */
+    @Override
+    protected Dimension getElementCellSize() {
+        return elementSize;
+    }
+
     /**
      * Retrieves the selection popup menu for data selection. Currently returns null as there is no
      * implementation.
@@ -43,6 +43,7 @@ public class TreeNodeView extends TreeElementView {
 
     private boolean isCollapsed;
     private boolean isContradictoryState;
+    private boolean isVerificationPending;
 
     /**
      * TreeNodeView Constructor creates a node for display
@@ -57,6 +58,7 @@ public class TreeNodeView extends TreeElementView {
         this.childrenViews = new ArrayList<>();
         this.isCollapsed = false;
         this.isContradictoryState = false;
+        this.isVerificationPending = false;
         this.isVisible = true;
     }
 
@@ -86,7 +88,9 @@ public class TreeNodeView extends TreeElementView {
             } else {
                 isContradictoryState = false;
                 graphics2D.setStroke(MAIN_STROKE);
-                boolean isContraBranch = getTreeElement().isContradictoryBranch();
+                // the branch status needs the results of the pending rule checks below this node
+                boolean isContraBranch =
+                        !isVerificationPending && getTreeElement().isContradictoryBranch();
 
                 if (isSelected) {
                     graphics2D.setColor(SELECTION_COLOR);
@@ -140,6 +144,24 @@ public class TreeNodeView extends TreeElementView {
         return isContradictoryState;
     }
 
+    /**
+     * Gets whether the rule check of a transition below this node view is pending
+     *
+     * @return true if a check below this node view is pending, false otherwise
+     */
+    public boolean isVerificationPending() {
+        return isVerificationPending;
+    }
+
+    /**
+     * Sets whether the rule check of a transition below this node view is pending
+     *
+     * @param isVerificationPending true if a check below this node view is pending
+     */
+    public void setVerificationPending(boolean isVerificationPending) {
+        this.isVerificationPending = isVerificationPending;
+    }
+
     /**
      * Gets the list of children views associated with this tree node
      *
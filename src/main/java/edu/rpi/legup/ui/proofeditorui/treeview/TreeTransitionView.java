@@ -28,6 +28,7 @@ public class TreeTransitionView extends TreeElementView {
     private static final Color INCORRECT_COLOR = Color.RED;
     private static final Color DEFAULT_COLOR = Color.GRAY;
     private static final Color X_COLOR = Color.RED;
+    private static final Color PENDING_COLOR = new Color(0xFFC107);
 
     private static final Color CORRECT_COLOR_COLORBLIND = new Color(0, 0, 255);
     private static final Color INCORRECT_COLOR_COLORBLIND = new Color(255, 0, 0);
@@ -58,6 +59,7 @@ public class TreeTransitionView extends TreeElementView {
         this.endPoint = new Point();
         this.lineStartPoints = new ArrayList<>();
         this.lineEndPoint = new Point();
+        updateArrowhead();
     }
 
     /**
@@ -78,8 +80,6 @@ public class TreeTransitionView extends TreeElementView {
      * @param graphics2D graphics2D used for drawing
      */
     public void draw(Graphics2D graphics2D) {
-        arrowhead = createTransitionTriangle(RADIUS);
-
         graphics2D.setColor(OUTLINE_COLOR);
         graphics2D.setStroke(MAIN_STROKE);
 
@@ -102,27 +102,8 @@ public class TreeTransitionView extends TreeElementView {
             graphics2D.draw(c);
         }
 
-        LegupPreferences prefs = LegupPreferences.getInstance();
-        boolean colorBlind = prefs.getUserPref(LegupPreferences.COLOR_BLIND).equals("true");
-
         if (isSelected) {
-            Color c = DEFAULT_COLOR;
-            if (getTreeElement().isJustified()) {
-                if (getTreeElement().isCorrect()) {
-                    if (colorBlind) {
-                        c = CORRECT_COLOR_COLORBLIND;
-                    } else {
-                        c = CORRECT_COLOR;
-                    }
-                } else {
-                    if (colorBlind) {
-                        c = INCORRECT_COLOR_COLORBLIND;
-                    } else {
-                        c = INCORRECT_COLOR;
-                    }
-                }
-            }
-            graphics2D.setColor(c);
+            graphics2D.setColor(getJustificationColor());
 
             graphics2D.fillPolygon(arrowhead);
 
@@ -150,23 +131,7 @@ public class TreeTransitionView extends TreeElementView {
                 graphics2D.setColor(OUTLINE_HOVER_COLOR);
                 graphics2D.drawPolygon(selection_triangle);
             } else {
-                Color c = DEFAULT_COLOR;
-                if (getTreeElement().isJustified()) {
-                    if (getTreeElement().isCorrect()) {
-                        if (colorBlind) {
-                            c = CORRECT_COLOR_COLORBLIND;
-                        } else {
-                            c = CORRECT_COLOR;
-                        }
-                    } else {
-                        if (colorBlind) {
-                            c = INCORRECT_COLOR_COLORBLIND;
-                        } else {
-                            c = INCORRECT_COLOR;
-                        }
-                    }
-                }
-                graphics2D.setColor(c);
+                graphics2D.setColor(getJustificationColor());
                 graphics2D.fillPolygon(arrowhead);
 
                 graphics2D.setColor(OUTLINE_COLOR);
@@ -175,6 +140,39 @@ public class TreeTransitionView extends TreeElementView {
         }
     }
 
+    /**
+     * Gets the color of the arrowhead that shows whether the transition is correctly justified.
+     * The rule check of the transition runs in the background, so until its result is known the
+     * arrowhead is drawn in the pending color instead of waiting for it.
+     *
+     * @return the color of the arrowhead
+     */
+    private Color getJustificationColor() {
+        TreeTransition transition = getTreeElement();
+        if (!transition.isJustified()) {
+            return DEFAULT_COLOR;
+        }
+        if (!transition.isVerified()) {
+            return PENDING_COLOR;
+        }
+        LegupPreferences prefs = LegupPreferences.getInstance();
+        boolean colorBlind = prefs.getUserPref(LegupPreferences.COLOR_BLIND).equals("true");
+        if (transition.isCorrect()) {
+            return colorBlind ? CORRECT_COLOR_COLORBLIND : CORRECT_COLOR;
+        }
+        return colorBlind ? INCORRECT_COLOR_COLORBLIND : INCORRECT_COLOR;
+    }
+
+    /**
+     * Rebuilds the arrowhead and moves the end of the lines to its back after the end point moves,
+     * so that hit testing is correct for transitions that have not been drawn yet
+     */
+    private void updateArrowhead() {
+        arrowhead = createTransitionTriangle(RADIUS);
+        lineEndPoint.x = arrowhead.xpoints[1];
+        lineEndPoint.y = (arrowhead.ypoints[2] - arrowhead.ypoints[1]) / 2 + arrowhead.ypoints[1];
+    }
+
     /** Constructs the arrowhead shape from the start and end points */
     private Polygon createTransitionTriangle(int radius) {
         double thetaArrow = Math.toRadians(30);
@@ -188,9 +186,6 @@ public class TreeTransitionView extends TreeElementView {
         int point3X = point1X - radius;
         int point3Y = point1Y - (int) Math.round(radius / (2 * cos(thetaArrow)));
 
-        lineEndPoint.x = point2X;
-        lineEndPoint.y = (point3Y - point2Y) / 2 + point2Y;
-
         Polygon tri = new Polygon();
         tri.addPoint(point1X, point1Y);
         tri.addPoint(point2X, point2Y);
@@ -287,6 +282,7 @@ public class TreeTransitionView extends TreeElementView {
      */
     public void setEndX(int x) {
         this.endPoint.x = x;
+        updateArrowhead();
     }
 
     /**
@@ -305,6 +301,7 @@ public class TreeTransitionView extends TreeElementView {
      */
     public void setEndY(int y) {
         this.endPoint.y = y;
+        updateArrowhead();
     }
 
     /**
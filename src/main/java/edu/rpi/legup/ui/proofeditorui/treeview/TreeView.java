@@ -7,8 +7,11 @@ import static edu.rpi.legup.ui.proofeditorui.treeview.TreeNodeView.RADIUS;
 
 import edu.rpi.legup.app.GameBoardFacade;
 import edu.rpi.legup.controller.TreeController;
+import edu.rpi.legup.model.Puzzle;
 import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.CaseBoard;
 import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.observer.IBoardListener;
 import edu.rpi.legup.model.observer.ITreeListener;
 import edu.rpi.legup.model.rules.CaseRule;
 import edu.rpi.legup.model.rules.Rule;
@@ -16,6 +19,8 @@ import edu.rpi.legup.model.tree.Tree;
 import edu.rpi.legup.model.tree.TreeElement;
 import edu.rpi.legup.model.tree.TreeNode;
 import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.model.tree.VerificationService;
+import edu.rpi.legup.ui.boardview.BoardView;
 import edu.rpi.legup.ui.ScrollView;
 import edu.rpi.legup.utility.DisjointSets;
 import java.awt.*;
@@ -31,8 +36,11 @@ import org.apache.logging.log4j.Logger;
  * allowing interaction and visualization of tree elements, transitions, and selections. It extends
  * {@code ScrollView} and implements {@code ITreeListener} to respond to updates in the tree
  * structure.
+ *
+ * <p>The rule checks of the transitions are requested when the tree or the board of a tree element
+ * changes, not when the tree is drawn, so drawing only reads results that are already known.
  */
-public class TreeView extends ScrollView implements ITreeListener {
+public class TreeView extends ScrollView implements ITreeListener, IBoardListener {
     private static final Logger LOGGER = LogManager.getLogger(TreeView.class.getName());
 
     private static final int TRANS_GAP = 5;
@@ -45,6 +53,9 @@ public class TreeView extends ScrollView implements ITreeListener {
 
     private static final int BORDER_SPACING = 100;
 
+    /** Extra space around a view that its outline, selection ring or arrowhead may paint in */
+    private static final int PAINT_MARGIN = RADIUS + 12;
+
     private TreeNodeView nodeHover;
 
     private ArrayList<Rectangle> currentStateBoxes;
@@ -55,6 +66,11 @@ public class TreeView extends ScrollView implements ITreeListener {
     private Map<TreeElement, TreeElementView> viewMap;
     private Dimension dimension;
 
+    // the layout is only recomputed after the structure of the tree changes, and then only the
+    // spans of the node views whose subtree changed or that have merging transitions below them
+    private boolean layoutValid;
+    private Map<TreeNodeView, Double> spanCache;
+
     private TreeViewSelection selection;
 
     /**
@@ -69,6 +85,7 @@ public class TreeView extends ScrollView implements ITreeListener {
         setPreferredSize(new Dimension(640, 160));
 
         viewMap = new HashMap<>();
+        spanCache = new HashMap<>();
 
         selection = new TreeViewSelection();
     }
@@ -154,6 +171,7 @@ public class TreeView extends ScrollView implements ITreeListener {
      */
     public void updateTreeView(Tree tree) {
         this.tree = tree;
+        invalidateLayout();
         if (selection.getSelectedViews().size() == 0) {
             selection.newSelection(new TreeNodeView(tree.getRootNode()));
         }
@@ -257,7 +275,6 @@ public class TreeView extends ScrollView implements ITreeListener {
 
             drawTree(graphics2D);
 
-            dimension.width += BORDER_SPACING;
             setSize(dimension);
             //            graphics2D.drawRect(0,0, dimension.width, dimension.height);
 
@@ -277,19 +294,94 @@ public class TreeView extends ScrollView implements ITreeListener {
     }
 
     /**
-     * Recursively redraws the tree starting from the specified node view
+     * Recursively redraws the tree starting from the specified node view. Views outside of the
+     * clip are skipped, so only the part of the tree that is shown is painted.
      *
      * @param graphics2D the {@code Graphics2D} context to draw on
      * @param nodeView the {@code TreeNodeView} to start drawing from
+     * @param clip area to draw, or null to draw every view
      */
-    private void redrawTree(Graphics2D graphics2D, TreeNodeView nodeView) {
+    private void redrawTree(Graphics2D graphics2D, TreeNodeView nodeView, Rectangle clip) {
         if (nodeView != null) {
-            nodeView.draw(graphics2D);
+            if (clip == null || clip.intersects(getPaintBounds(nodeView))) {
+                nodeView.draw(graphics2D);
+            }
             for (TreeTransitionView transitionView : nodeView.getChildrenViews()) {
-                transitionView.draw(graphics2D);
-                redrawTree(graphics2D, transitionView.getChildView());
+                if (clip == null || clip.intersects(getPaintBounds(transitionView))) {
+                    transitionView.draw(graphics2D);
+                }
+                redrawTree(graphics2D, transitionView.getChildView(), clip);
+            }
+        }
+    }
+
+    /**
+     * Requests the rule checks of the transitions that are out of date since the tree last changed.
+     * A transition whose check is still pending with older inputs has that check cancelled and
+     * replaced.
+     */
+    private void updateVerification() {
+        if (rootNodeView != null) {
+            verifyTransitions(GameBoardFacade.getInstance().getPuzzleModule(), rootNodeView);
+        }
+    }
+
+    /**
+     * Requests the rule checks of the transitions below a node view that have not been checked
+     * yet. The checks run in the background, and the node views that have a pending check below
+     * them are marked so they are drawn without waiting for the result.
+     *
+     * @param puzzle puzzle whose tree listeners are notified of the results
+     * @param nodeView node view whose transitions to check
+     * @return true if the check of a transition below the node view is pending, false otherwise
+     */
+    private boolean verifyTransitions(Puzzle puzzle, TreeNodeView nodeView) {
+        boolean isPending = false;
+        for (TreeTransitionView transitionView : nodeView.getChildrenViews()) {
+            TreeTransition transition = transitionView.getTreeElement();
+            if (!VerificationService.getInstance().verify(puzzle, transition)) {
+                isPending = true;
+            }
+            TreeNodeView childView = transitionView.getChildView();
+            if (childView != null && verifyTransitions(puzzle, childView)) {
+                isPending = true;
+            }
+        }
+        nodeView.setVerificationPending(isPending);
+        return isPending;
+    }
+
+    /**
+     * Gets the area a node view paints in
+     *
+     * @param nodeView node view
+     * @return the area around the center of the node, including its selection ring
+     */
+    private static Rectangle getPaintBounds(TreeNodeView nodeView) {
+        return new Rectangle(
+                nodeView.getX() - PAINT_MARGIN,
+                nodeView.getY() - PAINT_MARGIN,
+                2 * PAINT_MARGIN,
+                2 * PAINT_MARGIN);
+    }
+
+    /**
+     * Gets the area a transition view paints in. The curves from the parents to the arrowhead stay
+     * within the box spanned by their end points.
+     *
+     * @param transitionView transition view
+     * @return the area of the lines and the arrowhead of the transition
+     */
+    private static Rectangle getPaintBounds(TreeTransitionView transitionView) {
+        Rectangle bounds = new Rectangle(transitionView.getEndX(), transitionView.getEndY(), 0, 0);
+        for (int i = 0; i < transitionView.getParentViews().size(); i++) {
+            Point lineStartPoint = transitionView.getLineStartPoint(i);
+            if (lineStartPoint != null) {
+                bounds.add(lineStartPoint);
             }
         }
+        bounds.grow(PAINT_MARGIN, PAINT_MARGIN);
+        return bounds;
     }
 
     /**
@@ -298,6 +390,7 @@ public class TreeView extends ScrollView implements ITreeListener {
      * @param view the {@code TreeElementView} to remove
      */
     public void removeTreeElement(TreeElementView view) {
+        invalidateLayout(view);
         if (view.getType() == NODE) {
             TreeNodeView nodeView = (TreeNodeView) view;
             nodeView.getParentView().setChildView(null);
@@ -334,6 +427,7 @@ public class TreeView extends ScrollView implements ITreeListener {
     public void resetView() {
         this.tree = null;
         this.rootNodeView = null;
+        invalidateLayout();
         this.selection.clearSelection();
         this.selection.clearHover();
     }
@@ -350,6 +444,11 @@ public class TreeView extends ScrollView implements ITreeListener {
         } else {
             addTreeTransition((TreeTransition) treeElement);
         }
+        TreeElementView view = viewMap.get(treeElement);
+        if (view != null) {
+            invalidateLayout(view);
+        }
+        updateVerification();
         repaint();
     }
 
@@ -364,6 +463,7 @@ public class TreeView extends ScrollView implements ITreeListener {
             TreeNode node = (TreeNode) element;
             TreeNodeView nodeView = (TreeNodeView) viewMap.get(node);
 
+            invalidateLayout(nodeView);
             nodeView.getParentView().setChildView(null);
             removeTreeNode(node);
         } else {
@@ -380,6 +480,8 @@ public class TreeView extends ScrollView implements ITreeListener {
                 }
 
                 CaseRule caseRule = (CaseRule) rule;
+                List<PuzzleElement> dependentElements =
+                        caseRule.dependentElements(node.getBoard(), trans.getSelection());
                 // set dependent elements to be modifiable by ancestors (if not dependent on others)
                 List<TreeNode> ancestors = node.getAncestors();
                 for (TreeNode ancestor : ancestors) {
@@ -388,8 +490,7 @@ public class TreeView extends ScrollView implements ITreeListener {
                         continue;
                     }
 
-                    for (PuzzleElement pelement :
-                            caseRule.dependentElements(node.getBoard(), trans.getSelection())) {
+                    for (PuzzleElement pelement : dependentElements) {
                         // decrement, unlock if 0 cases depended
                         PuzzleElement oldElement =
                                 ancestor.getParent().getBoard().getPuzzleElement(pelement);
@@ -421,9 +522,11 @@ public class TreeView extends ScrollView implements ITreeListener {
                 }
             }
 
+            invalidateLayout(transView);
             transView.getParentViews().forEach(n -> n.removeChildrenView(transView));
             removeTreeTransition(trans);
         }
+        updateVerification();
         repaint();
     }
 
@@ -443,9 +546,93 @@ public class TreeView extends ScrollView implements ITreeListener {
     /** Called when the model has finished updating the tree. */
     @Override
     public void onUpdateTree() {
+        invalidateLayout();
+        updateVerification();
+        repaint();
+    }
+
+    /**
+     * Called when the rule of a transition was checked in the background
+     *
+     * @param transition tree transition that was checked
+     */
+    @Override
+    public void onTransitionVerified(TreeTransition transition) {
+        // a result that came in after the transition changed again was dropped, so check it again
+        updateVerification();
+        repaint();
+        // the check marks the puzzle elements the rule rejects
+        if (GameBoardFacade.getInstance().getLegupUI() != null) {
+            BoardView boardView = GameBoardFacade.getInstance().getLegupUI().getBoardView();
+            if (boardView != null && boardView.getTreeElement() == transition) {
+                boardView.repaint();
+            }
+        }
+    }
+
+    /**
+     * Called when the board of a tree element has changed, after the change has been propagated
+     * down the tree
+     *
+     * @param treeElement tree element whose board changed
+     */
+    @Override
+    public void onTreeElementChanged(TreeElement treeElement) {
+        updateVerification();
         repaint();
     }
 
+    /**
+     * Called when a case board has been added to the view, which does not change the tree
+     *
+     * @param caseBoard case board that was added
+     */
+    @Override
+    public void onCaseBoardAdded(CaseBoard caseBoard) {}
+
+    /**
+     * Called when the data of a puzzle element has changed. The tree element it belongs to is
+     * announced through {@link #onTreeElementChanged}, which requests the rule checks.
+     *
+     * @param puzzleElement puzzle element that has changed
+     */
+    @Override
+    public void onBoardDataChanged(PuzzleElement puzzleElement) {}
+
+    /**
+     * Marks the layout of the whole tree as out of date, so it is recomputed on the next draw
+     */
+    public void invalidateLayout() {
+        layoutValid = false;
+        spanCache.clear();
+    }
+
+    /**
+     * Marks the layout as out of date after the children of a view were added or removed. Only the
+     * spans of the view and its ancestors are recomputed on the next draw; the subtrees that did
+     * not change keep their spans.
+     *
+     * @param view view whose children changed, or a view that was added or is being removed
+     */
+    public void invalidateLayout(TreeElementView view) {
+        layoutValid = false;
+        Deque<TreeElementView> pending = new ArrayDeque<>();
+        pending.push(view);
+        while (!pending.isEmpty()) {
+            TreeElementView next = pending.pop();
+            if (next.getType() == NODE) {
+                TreeNodeView nodeView = (TreeNodeView) next;
+                // a node view without a cached span has no ancestor with a cached span either
+                boolean cached = spanCache.remove(nodeView) != null;
+                if ((cached || next == view) && nodeView.getParentView() != null) {
+                    pending.push(nodeView.getParentView());
+                }
+            } else {
+                ((TreeTransitionView) next).getParentViews().forEach(pending::push);
+            }
+        }
+    }
+
     /**
      * Gets the TreeElementView by the corresponding TreeElement associated with it
      *
@@ -462,7 +649,7 @@ public class TreeView extends ScrollView implements ITreeListener {
      * @param node the {@link TreeNode} to be removed
      */
     public void removeTreeNode(TreeNode node) {
-        viewMap.remove(node);
+        spanCache.remove(viewMap.remove(node));
         if (node.getChildren() != null) {
             node.getChildren().forEach(t -> removeTreeTransition(t));
         }
@@ -474,6 +661,8 @@ public class TreeView extends ScrollView implements ITreeListener {
             Rule rule = children.get(0).getRule();
             if (rule instanceof CaseRule) {
                 CaseRule caseRule = (CaseRule) rule;
+                List<PuzzleElement> dependentElements =
+                        caseRule.dependentElements(node.getBoard(), children.get(0).getSelection());
                 // set dependent elements to be modifiable by ancestors (if not dependent on others)
                 List<TreeNode> ancestors = node.getAncestors();
                 for (TreeNode ancestor : ancestors) {
@@ -481,9 +670,7 @@ public class TreeView extends ScrollView implements ITreeListener {
                     if (ancestor.getParent() == null) {
                         continue;
                     }
-                    for (PuzzleElement pelement :
-                            caseRule.dependentElements(
-                                    node.getBoard(), children.get(0).getSelection())) {
+                    for (PuzzleElement pelement : dependentElements) {
                         // decrement, unlock if 0 cases depended
                         PuzzleElement oldElement =
                                 ancestor.getParent().getBoard().getPuzzleElement(pelement);
@@ -582,6 +769,9 @@ public class TreeView extends ScrollView implements ITreeListener {
             Rule rule = node.getChildren().get(0).getRule();
             if (rule instanceof CaseRule) {
                 CaseRule caseRule = (CaseRule) rule;
+                List<PuzzleElement> dependentElements =
+                        caseRule.dependentElements(
+                                node.getBoard(), node.getChildren().get(0).getSelection());
 
                 List<TreeNode> ancestors = node.getAncestors();
                 for (TreeNode ancestor : ancestors) {
@@ -589,9 +779,7 @@ public class TreeView extends ScrollView implements ITreeListener {
                     if (ancestor.getParent() == null) {
                         continue;
                     }
-                    for (PuzzleElement element :
-                            caseRule.dependentElements(
-                                    node.getBoard(), node.getChildren().get(0).getSelection())) {
+                    for (PuzzleElement element : dependentElements) {
                         // increment and lock
                         PuzzleElement oldElement =
                                 ancestor.getParent().getBoard().getPuzzleElement(element);
@@ -661,18 +849,24 @@ public class TreeView extends ScrollView implements ITreeListener {
                     LOGGER.debug("Creating new views for tree view.");
                 }
                 createViews(rootNodeView);
+                invalidateLayout();
+                updateVerification();
 
                 selection.newSelection(rootNodeView);
             }
 
-            dimension = new Dimension(0, 0);
-            calcSpan(rootNodeView);
-            rootNodeView.setSpan(rootNodeView.getSpan() + DIAMETER + BORDER_SPACING);
+            if (!layoutValid) {
+                dimension = new Dimension(0, 0);
+                calcSpan(rootNodeView);
+                rootNodeView.setSpan(rootNodeView.getSpan() + DIAMETER + BORDER_SPACING);
 
-            calculateViewLocations(rootNodeView, 0);
-            dimension.height = (int) rootNodeView.getSpan();
+                calculateViewLocations(rootNodeView, 0);
+                dimension.height = (int) rootNodeView.getSpan();
+                dimension.width += BORDER_SPACING;
+                layoutValid = true;
+            }
 
-            redrawTree(graphics2D, rootNodeView);
+            redrawTree(graphics2D, rootNodeView, graphics2D.getClipBounds());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("DrawTree: dimensions - {}x{}", dimension.width, dimension.height);
             }
@@ -833,7 +1027,8 @@ public class TreeView extends ScrollView implements ITreeListener {
     /**
      * Calculates the span (height) required for the given view, including its children. This method
      * recursively determines the span for nodes and transitions based on their children and the
-     * merging branches they belong to.
+     * merging branches they belong to. The span of a node without merging transitions below it
+     * only depends on its subtree, so it is kept until the subtree changes.
      *
      * @param view the view whose span is to be calculated
      */
@@ -841,6 +1036,11 @@ public class TreeView extends ScrollView implements ITreeListener {
         if (view.getType() == NODE) {
             TreeNodeView nodeView = (TreeNodeView) view;
             TreeNode node = nodeView.getTreeElement();
+            Double cachedSpan = spanCache.get(nodeView);
+            if (cachedSpan != null) {
+                nodeView.setSpan(cachedSpan);
+                return;
+            }
             if (nodeView.getChildrenViews().size() == 0) {
                 nodeView.setSpan(DIAMETER + NODE_GAP_HEIGHT);
             } else {
@@ -892,6 +1092,9 @@ public class TreeView extends ScrollView implements ITreeListener {
                     nodeView.setSpan(span);
                 }
             }
+            if (hasSimpleSubtree(nodeView)) {
+                spanCache.put(nodeView, nodeView.getSpan());
+            }
         } else {
             TreeTransitionView transView = (TreeTransitionView) view;
             TreeNodeView nodeView = transView.getChildView();
@@ -904,6 +1107,27 @@ public class TreeView extends ScrollView implements ITreeListener {
         }
     }
 
+    /**
+     * Determines if there are no merging transitions below a node view whose span was just
+     * calculated. The child node views were calculated first, so they have a cached span exactly
+     * when there are no merging transitions below them.
+     *
+     * @param nodeView node view
+     * @return true if no transition below the node view has more than one parent, false otherwise
+     */
+    private boolean hasSimpleSubtree(TreeNodeView nodeView) {
+        for (TreeTransitionView childView : nodeView.getChildrenViews()) {
+            if (childView.getParentViews().size() != 1) {
+                return false;
+            }
+            TreeNodeView childNodeView = childView.getChildView();
+            if (childNodeView != null && !spanCache.containsKey(childNodeView)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Calculates the span of a subtree rooted at the specified view, stopping at the given stop
      * view. The stop view is not included in the span calculation.
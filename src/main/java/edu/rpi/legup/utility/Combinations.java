@@ -0,0 +1,189 @@
+package edu.rpi.legup.utility;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Combinations enumerates the ways to choose a number of items out of at most 64 items, such as
+ * the cells around a clue that can be shaded. A combination is a {@code long} mask in which bit
+ * {@code i} is set if item {@code i} is chosen. Combinations are passed to a callback as they are
+ * found instead of being collected, and are visited in the order of the masks with item 0 chosen
+ * first: choosing 1 of 2 items visits {@code 0b01} and then {@code 0b10}.
+ *
+ * <p>The items are decided one at a time, and a partial combination is dropped as soon as it
+ * breaks a {@link Constraint}, for example a neighboring clue that already has too many of its
+ * cells chosen, so combinations that cannot be completed are never built.
+ */
+public final class Combinations {
+    private Combinations() {}
+
+    /**
+     * A limit on the number of chosen items among some of the items
+     *
+     * @param items mask of the items the limit applies to
+     * @param min least number of those items that must be chosen
+     * @param max greatest number of those items that may be chosen
+     */
+    public record Constraint(long items, int min, int max) {}
+
+    /**
+     * Visits every combination of items that meets the constraints
+     *
+     * @param chosenCount number of items to choose
+     * @param itemCount number of items, at most 64
+     * @param constraints limits every visited combination meets
+     * @param visitor receives each combination and returns false to stop the enumeration
+     * @return true if every combination was visited, false if the visitor stopped the enumeration
+     * @throws IllegalArgumentException if there are more than 64 items
+     */
+    public static boolean forEach(
+            int chosenCount, int itemCount, List<Constraint> constraints, LongPredicate visitor) {
+        if (itemCount < 0 || itemCount > Long.SIZE) {
+            throw new IllegalArgumentException("Cannot choose from " + itemCount + " items");
+        }
+        if (chosenCount < 0 || chosenCount > itemCount) {
+            return true;
+        }
+        Constraint[] limits = constraints.toArray(new Constraint[0]);
+        for (Constraint limit : limits) {
+            if (!isPossible(limit, 0, 0, itemCount)) {
+                return true;
+            }
+        }
+        return visit(chosenCount, itemCount, limits, visitor, 0, 0L, 0);
+    }
+
+    /**
+     * Visits every combination of items
+     *
+     * @param chosenCount number of items to choose
+     * @param itemCount number of items, at most 64
+     * @param visitor receives each combination and returns false to stop the enumeration
+     * @return true if every combination was visited, false if the visitor stopped the enumeration
+     * @throws IllegalArgumentException if there are more than 64 items
+     */
+    public static boolean forEach(int chosenCount, int itemCount, LongPredicate visitor) {
+        return forEach(chosenCount, itemCount, List.of(), visitor);
+    }
+
+    /**
+     * Determines if some combination of items that meets the constraints matches a predicate
+     *
+     * @param chosenCount number of items to choose
+     * @param itemCount number of items, at most 64
+     * @param constraints limits the combinations meet
+     * @param predicate predicate to test the combinations with
+     * @return true if a combination matches, false otherwise
+     * @throws IllegalArgumentException if there are more than 64 items
+     */
+    public static boolean anyMatch(
+            int chosenCount, int itemCount, List<Constraint> constraints, LongPredicate predicate) {
+        return !forEach(chosenCount, itemCount, constraints, predicate.negate());
+    }
+
+    /**
+     * Determines if some masks are exactly the combinations of items that meet the constraints,
+     * in any order and each of them once
+     *
+     * @param chosenCount number of items to choose
+     * @param itemCount number of items, at most 64
+     * @param constraints limits the combinations meet
+     * @param masks masks to compare with the combinations
+     * @return true if the masks and the combinations are the same, false otherwise
+     * @throws IllegalArgumentException if there are more than 64 items
+     */
+    public static boolean matches(
+            int chosenCount, int itemCount, List<Constraint> constraints, long[] masks) {
+        long[] sorted = masks.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                return false;
+            }
+        }
+        int[] count = {0};
+        boolean isContained =
+                forEach(
+                        chosenCount,
+                        itemCount,
+                        constraints,
+                        combination -> {
+                            count[0]++;
+                            return Arrays.binarySearch(sorted, combination) >= 0;
+                        });
+        return isContained && count[0] == sorted.length;
+    }
+
+    /**
+     * Chooses the items from a position onwards
+     *
+     * @param chosenCount number of items to choose in total
+     * @param itemCount number of items
+     * @param limits constraints
+     * @param visitor receives each combination
+     * @param position next item to decide
+     * @param chosen mask of the items chosen so far
+     * @param count number of items chosen so far
+     * @return false if the visitor stopped the enumeration, true otherwise
+     */
+    private static boolean visit(
+            int chosenCount,
+            int itemCount,
+            Constraint[] limits,
+            LongPredicate visitor,
+            int position,
+            long chosen,
+            int count) {
+        if (position == itemCount) {
+            return visitor.test(chosen);
+        }
+        long item = 1L << position;
+        if (count < chosenCount && fits(limits, chosen | item, position + 1, itemCount)) {
+            if (!visit(
+                    chosenCount,
+                    itemCount,
+                    limits,
+                    visitor,
+                    position + 1,
+                    chosen | item,
+                    count + 1)) {
+                return false;
+            }
+        }
+        // the rest of the items must still be enough to choose from
+        if (itemCount - position - 1 >= chosenCount - count
+                && fits(limits, chosen, position + 1, itemCount)) {
+            return visit(chosenCount, itemCount, limits, visitor, position + 1, chosen, count);
+        }
+        return true;
+    }
+
+    /**
+     * Determines if a partial combination can still meet every constraint
+     *
+     * @param limits constraints
+     * @param chosen mask of the chosen items
+     * @param decided number of items decided, which are the first items
+     * @param itemCount number of items
+     * @return true if every constraint can still be met, false otherwise
+     */
+    private static boolean fits(Constraint[] limits, long chosen, int decided, int itemCount) {
+        for (Constraint limit : limits) {
+            if (!isPossible(limit, chosen, decided, itemCount)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPossible(Constraint limit, long chosen, int decided, int itemCount) {
+        long undecided = decided == Long.SIZE ? 0L : -1L << decided;
+        if (itemCount < Long.SIZE) {
+            undecided &= (1L << itemCount) - 1;
+        }
+        int chosenItems = Long.bitCount(chosen & limit.items());
+        int openItems = Long.bitCount(undecided & limit.items());
+        return chosenItems <= limit.max() && chosenItems + openItems >= limit.min();
+    }
+}
@@ -16,15 +16,11 @@ public final class ConnectedRegions {
 
     public static List<Set<Point>> getConnectedRegions(
             Set<Integer> boundaryCells, int[][] cells, int width, int height) {
-        boolean[][] visited = new boolean[height][width];
-        List<Set<Point>> results = new ArrayList<>();
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Set<Point> region = floodfill(boundaryCells, cells, visited, width, height, x, y);
-                if (region.size() > 0) {
-                    results.add(region);
-                }
-            }
+        RegionLabels regions =
+                FloodFill.label(getClasses(boundaryCells, cells, width, height), width, height);
+        List<Set<Point>> results = new ArrayList<>(regions.getRegionCount());
+        for (int region = 0; region < regions.getRegionCount(); region++) {
+            results.add(toPoints(regions.getElements(region), width));
         }
         return results;
     }
@@ -47,32 +43,46 @@ public final class ConnectedRegions {
 
     public static Set<Point> getRegionAroundPoint(
             Point p, Set<Integer> boundaryCells, int[][] cells, int width, int height) {
-        return floodfill(boundaryCells, cells, new boolean[height][width], width, height, p.x, p.y);
+        if (p.x < 0 || p.x >= width || p.y < 0 || p.y >= height) {
+            return new HashSet<>();
+        }
+        int[] classes = getClasses(boundaryCells, cells, width, height);
+        return toPoints(FloodFill.fill(classes, width, height, p.y * width + p.x), width);
     }
 
-    private static Set<Point> floodfill(
-            Set<Integer> boundaryCells,
-            int[][] cells,
-            boolean[][] visited,
-            int w,
-            int h,
-            int x,
-            int y) {
-        HashSet<Point> result = new HashSet<>();
-        if ((x < 0) || (x >= w)) {
-            return result;
-        }
-        if ((y < 0) || (y >= h)) {
-            return result;
-        }
-        if (!visited[y][x] && (!boundaryCells.contains(cells[y][x]))) {
-            result.add(new Point(x, y));
-            visited[y][x] = true;
-            for (int delta = -1; delta < 2; delta += 2) {
-                result.addAll(floodfill(boundaryCells, cells, visited, w, h, x + delta, y));
-                result.addAll(floodfill(boundaryCells, cells, visited, w, h, x, y + delta));
+    /**
+     * Flattens the cells into classes for {@link FloodFill}, where boundary cells are in no region
+     * and all other cells are in the same class
+     *
+     * @param boundaryCells values of the cells that separate regions
+     * @param cells values of the cells, indexed by row and then column
+     * @param width width of the grid
+     * @param height height of the grid
+     * @return the class of each cell in row major order
+     */
+    private static int[] getClasses(
+            Set<Integer> boundaryCells, int[][] cells, int width, int height) {
+        int[] classes = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                classes[y * width + x] = boundaryCells.contains(cells[y][x]) ? -1 : 0;
             }
         }
-        return result;
+        return classes;
+    }
+
+    /**
+     * Converts row major cell indices into points
+     *
+     * @param indices indices of the cells
+     * @param width width of the grid
+     * @return a set of the locations of the cells
+     */
+    private static Set<Point> toPoints(int[] indices, int width) {
+        Set<Point> points = new HashSet<>(indices.length * 2);
+        for (int index : indices) {
+            points.add(new Point(index % width, index / width));
+        }
+        return points;
     }
 }
@@ -0,0 +1,147 @@
+package edu.rpi.legup.utility;
+
+import java.util.Arrays;
+
+/**
+ * FloodFill finds the regions of orthogonally connected cells of a grid. The cells are given as an
+ * {@code int} class per cell in row major order, {@code y * width + x}: neighboring cells of the
+ * same class are in the same region, and cells with a negative class are in no region. The fill is
+ * iterative, so it uses a fixed amount of memory per cell and cannot overflow the stack on large
+ * boards.
+ */
+public final class FloodFill {
+    private FloodFill() {}
+
+    /**
+     * Labels every region of the grid
+     *
+     * @param classes class of each cell, negative for cells that are in no region
+     * @param width width of the grid
+     * @param height height of the grid
+     * @return the labeling of the regions
+     * @throws IllegalArgumentException if the number of classes does not match the size of the
+     *     grid
+     */
+    public static RegionLabels label(int[] classes, int width, int height) {
+        checkSize(classes, width, height);
+        int[] labels = new int[classes.length];
+        Arrays.fill(labels, RegionLabels.NO_REGION);
+        int[] cells = new int[classes.length];
+        int regionCount = 0;
+        for (int start = 0; start < classes.length; start++) {
+            if (classes[start] >= 0 && labels[start] == RegionLabels.NO_REGION) {
+                fill(classes, width, height, start, labels, regionCount, cells);
+                regionCount++;
+            }
+        }
+        return new RegionLabels(labels, regionCount);
+    }
+
+    /**
+     * Finds the region that contains a cell
+     *
+     * @param classes class of each cell, negative for cells that are in no region
+     * @param width width of the grid
+     * @param height height of the grid
+     * @param start index of the cell
+     * @return the indices of the cells of the region in the order they were reached, or an empty
+     *     array if the cell is in no region
+     * @throws IllegalArgumentException if the number of classes does not match the size of the
+     *     grid
+     */
+    public static int[] fill(int[] classes, int width, int height, int start) {
+        checkSize(classes, width, height);
+        if (classes[start] < 0) {
+            return new int[0];
+        }
+        int[] labels = new int[classes.length];
+        Arrays.fill(labels, RegionLabels.NO_REGION);
+        int[] cells = new int[classes.length];
+        int count = fill(classes, width, height, start, labels, 0, cells);
+        return Arrays.copyOf(cells, count);
+    }
+
+    /**
+     * Labels the region that contains a cell. The cells are pushed onto the array in the order
+     * they are reached and are never removed from it, so afterwards it holds the cells of the
+     * region.
+     *
+     * @param classes class of each cell
+     * @param width width of the grid
+     * @param height height of the grid
+     * @param start index of the cell, which must not be labeled yet
+     * @param labels label of each cell, which receives the label of the region
+     * @param label label of the region
+     * @param cells array of at least one entry per cell of the grid
+     * @return the number of cells in the region
+     */
+    private static int fill(
+            int[] classes, int width, int height, int start, int[] labels, int label, int[] cells) {
+        int cellClass = classes[start];
+        labels[start] = label;
+        cells[0] = start;
+        int count = 1;
+        for (int next = 0; next < count; next++) {
+            int cell = cells[next];
+            int x = cell % width;
+            int y = cell / width;
+            if (y > 0) {
+                count = visit(classes, cellClass, cell - width, labels, label, cells, count);
+            }
+            if (x < width - 1) {
+                count = visit(classes, cellClass, cell + 1, labels, label, cells, count);
+            }
+            if (y < height - 1) {
+                count = visit(classes, cellClass, cell + width, labels, label, cells, count);
+            }
+            if (x > 0) {
+                count = visit(classes, cellClass, cell - 1, labels, label, cells, count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds a neighboring cell to the region if it has the class of the region and is not labeled
+     *
+     * @param classes class of each cell
+     * @param cellClass class of the region
+     * @param cell index of the neighboring cell
+     * @param labels label of each cell
+     * @param label label of the region
+     * @param cells cells of the region found so far
+     * @param count number of cells of the region found so far
+     * @return the new number of cells of the region
+     */
+    private static int visit(
+            int[] classes,
+            int cellClass,
+            int cell,
+            int[] labels,
+            int label,
+            int[] cells,
+            int count) {
+        if (classes[cell] != cellClass || labels[cell] != RegionLabels.NO_REGION) {
+            return count;
+        }
+        labels[cell] = label;
+        cells[count] = cell;
+        return count + 1;
+    }
+
+    /**
+     * Checks that there is a class for every cell of the grid
+     *
+     * @param classes class of each cell
+     * @param width width of the grid
+     * @param height height of the grid
+     * @throws IllegalArgumentException if the number of classes does not match the size of the
+     *     grid
+     */
+    private static void checkSize(int[] classes, int width, int height) {
+        if (width < 0 || height < 0 || classes.length != width * height) {
+            throw new IllegalArgumentException(
+                    "Expected " + width + "x" + height + " cells, got " + classes.length);
+        }
+    }
+}
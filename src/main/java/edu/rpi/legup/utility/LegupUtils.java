@@ -1,13 +1,19 @@
 package edu.rpi.legup.utility;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -16,6 +22,78 @@ public class LegupUtils {
 
     private static final Logger LOGGER = Logger.getLogger(LegupUtils.class.getName());
 
+    /**
+     * Classpath resource listing the rule and element classes of every puzzle, one fully qualified
+     * class name per line. It is written by the {@code generateRegistryIndex} Gradle task.
+     */
+    public static final String REGISTRY_INDEX = "edu/rpi/legup/registry.index";
+
+    private static final Map<String, Class[]> REGISTERED_CLASSES = new ConcurrentHashMap<>();
+    private static volatile List<String> registryIndex;
+
+    /**
+     * Gets the rule and element classes that belong to the given package and subpackages. The
+     * classes are read from the {@value #REGISTRY_INDEX} written at build time, so the cost does
+     * not depend on the size of the jar. When the index is not on the classpath, such as when
+     * running from an IDE that does not run the Gradle build, the package is scanned with {@link
+     * #getClasses(String)} instead. The result is cached for each package.
+     *
+     * @param packageName The base package
+     * @return The classes
+     * @throws ClassNotFoundException if a class in the index cannot be loaded
+     * @throws IOException if the index or the classpath cannot be read
+     */
+    public static Class[] getRegisteredClasses(String packageName)
+            throws ClassNotFoundException, IOException {
+        Class[] classes = REGISTERED_CLASSES.get(packageName);
+        if (classes == null) {
+            List<String> index = getRegistryIndex();
+            if (index == null) {
+                classes = getClasses(packageName);
+            } else {
+                List<Class> found = new ArrayList<>();
+                for (String className : index) {
+                    if (className.startsWith(packageName + ".")) {
+                        found.add(Class.forName(className));
+                    }
+                }
+                classes = found.toArray(new Class[found.size()]);
+            }
+            REGISTERED_CLASSES.put(packageName, classes);
+        }
+        return classes.clone();
+    }
+
+    /**
+     * Reads the registry index from the classpath the first time it is needed
+     *
+     * @return the class names in the index, or null if the index is not on the classpath
+     * @throws IOException if the index cannot be read
+     */
+    private static List<String> getRegistryIndex() throws IOException {
+        List<String> index = registryIndex;
+        if (index == null) {
+            InputStream stream =
+                    LegupUtils.class.getClassLoader().getResourceAsStream(REGISTRY_INDEX);
+            if (stream == null) {
+                LOGGER.fine("Registry index not found, scanning the classpath instead");
+                return null;
+            }
+            index = new ArrayList<>();
+            try (BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        index.add(line);
+                    }
+                }
+            }
+            registryIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Scans all classes accessible from the context class loader which belong to the given package
      * and subpackages.
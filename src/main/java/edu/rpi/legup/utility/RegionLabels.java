@@ -0,0 +1,96 @@
+package edu.rpi.legup.utility;
+
+import java.util.Arrays;
+
+/**
+ * RegionLabels is a compact labeling of elements into regions, as computed by {@link UnionFind}
+ * and {@link FloodFill}. Elements are identified by their index, regions are numbered from 0 in
+ * the order of their first element, and elements that are in no region have the label {@link
+ * #NO_REGION}. The elements of every region are kept in one array, so getting the size or the
+ * elements of a region does not search the labels.
+ */
+public final class RegionLabels {
+    public static final int NO_REGION = -1;
+
+    private final int[] labels;
+    private final int regionCount;
+    // elements ordered by region, and the offset of the first element of each region
+    private final int[] elements;
+    private final int[] starts;
+
+    /**
+     * RegionLabels Constructor creates a labeling from the label of each element
+     *
+     * @param labels label of each element, numbered from 0 in the order of the first element of
+     *     each region, or {@link #NO_REGION}; owned by the labeling
+     * @param regionCount number of regions
+     */
+    RegionLabels(int[] labels, int regionCount) {
+        this.labels = labels;
+        this.regionCount = regionCount;
+        this.starts = new int[regionCount + 1];
+        for (int label : labels) {
+            if (label != NO_REGION) {
+                starts[label + 1]++;
+            }
+        }
+        for (int i = 0; i < regionCount; i++) {
+            starts[i + 1] += starts[i];
+        }
+        this.elements = new int[starts[regionCount]];
+        int[] next = Arrays.copyOf(starts, regionCount);
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] != NO_REGION) {
+                elements[next[labels[i]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Gets the region of an element
+     *
+     * @param element index of the element
+     * @return the label of the region, or {@link #NO_REGION} if the element is in no region
+     */
+    public int getLabel(int element) {
+        return labels[element];
+    }
+
+    /**
+     * Gets the number of regions
+     *
+     * @return the number of regions
+     */
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /**
+     * Gets the number of elements in a region
+     *
+     * @param region label of the region
+     * @return the number of elements in the region
+     */
+    public int getSize(int region) {
+        return starts[region + 1] - starts[region];
+    }
+
+    /**
+     * Gets the elements of a region
+     *
+     * @param region label of the region
+     * @return the indices of the elements of the region, in ascending order
+     */
+    public int[] getElements(int region) {
+        return Arrays.copyOfRange(elements, starts[region], starts[region + 1]);
+    }
+
+    /**
+     * Gets the number of elements that were labeled, including those in no region
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return labels.length;
+    }
+}
@@ -0,0 +1,137 @@
+package edu.rpi.legup.utility;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * UnionFind keeps a partition of the elements {@code 0..size-1} into disjoint sets, using union
+ * by rank and path compression on plain arrays. Unlike {@link DisjointSets} it does not keep the
+ * members of each set; they are collected once by {@link #getLabels()} when the sets are done.
+ */
+public final class UnionFind {
+    private final int[] parents;
+    private final byte[] ranks;
+    private int setCount;
+
+    /**
+     * UnionFind Constructor creates a set for every element
+     *
+     * @param size number of elements
+     */
+    public UnionFind(int size) {
+        this.parents = new int[size];
+        this.ranks = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+        this.setCount = size;
+    }
+
+    /**
+     * Finds the representative element of the set that contains an element
+     *
+     * @param element the element
+     * @return the representative element of its set
+     */
+    public int find(int element) {
+        int root = element;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[element] != root) {
+            int parent = parents[element];
+            parents[element] = root;
+            element = parent;
+        }
+        return root;
+    }
+
+    /**
+     * Unions the sets that contain two elements
+     *
+     * @param first the first element
+     * @param second the second element
+     * @return true if the elements were in different sets, false otherwise
+     */
+    public boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return false;
+        }
+        if (ranks[firstRoot] < ranks[secondRoot]) {
+            parents[firstRoot] = secondRoot;
+        } else if (ranks[firstRoot] > ranks[secondRoot]) {
+            parents[secondRoot] = firstRoot;
+        } else {
+            parents[secondRoot] = firstRoot;
+            ranks[firstRoot]++;
+        }
+        setCount--;
+        return true;
+    }
+
+    /**
+     * Determines if two elements are in the same set
+     *
+     * @param first the first element
+     * @param second the second element
+     * @return true if the elements are in the same set, false otherwise
+     */
+    public boolean isConnected(int first, int second) {
+        return find(first) == find(second);
+    }
+
+    /**
+     * Gets the number of sets
+     *
+     * @return the number of sets
+     */
+    public int getSetCount() {
+        return setCount;
+    }
+
+    /**
+     * Gets the number of elements
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return parents.length;
+    }
+
+    /**
+     * Labels every element with its set
+     *
+     * @return the labeling of the sets
+     */
+    public RegionLabels getLabels() {
+        return getLabels(element -> true);
+    }
+
+    /**
+     * Labels the elements that are members with their set. Sets are only numbered if they contain
+     * a member, and elements that are not members are in no region.
+     *
+     * @param isMember determines which elements are labeled
+     * @return the labeling of the sets
+     */
+    public RegionLabels getLabels(IntPredicate isMember) {
+        int[] rootLabels = new int[parents.length];
+        Arrays.fill(rootLabels, RegionLabels.NO_REGION);
+        int[] labels = new int[parents.length];
+        int regionCount = 0;
+        for (int i = 0; i < parents.length; i++) {
+            if (!isMember.test(i)) {
+                labels[i] = RegionLabels.NO_REGION;
+                continue;
+            }
+            int root = find(i);
+            if (rootLabels[root] == RegionLabels.NO_REGION) {
+                rootLabels[root] = regionCount++;
+            }
+            labels[i] = rootLabels[root];
+        }
+        return new RegionLabels(labels, regionCount);
+    }
+}
@@ -0,0 +1,101 @@
+package edu.rpi.legup.model.gameboard;
+
+import java.util.BitSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PackedCellLayerTest {
+
+    /** Tests that a delta layer only holds the cells that differ from its parent */
+    @Test
+    public void PackedCellLayer_DeltaTrackingTest() {
+        PackedCellLayer full = fullLayer(100);
+
+        // cells with the same packed state are left out, so nothing is stored
+        Assert.assertSame(full, change(full, new int[] {3, 7}, new int[] {3, 7}));
+
+        PackedCellLayer delta = change(full, new int[] {3, 7}, new int[] {3, 70});
+        Assert.assertSame(full, delta.getLayerOf(3));
+        Assert.assertSame(delta, delta.getLayerOf(7));
+        Assert.assertEquals(70, delta.getValue(delta.getPosition(7)));
+        Assert.assertEquals(100, delta.size());
+
+        PackedCellLayer next = change(delta, new int[] {3}, new int[] {30});
+        Assert.assertSame(next, next.getLayerOf(3));
+        Assert.assertSame(delta, next.getLayerOf(7));
+        Assert.assertSame(full, next.getLayerOf(8));
+        Assert.assertEquals(3, delta.getLayerOf(3).getValue(3));
+    }
+
+    /** Tests that flattening a chain of delta layers keeps the latest state of every cell */
+    @Test
+    public void PackedCellLayer_FlattenChainTest() {
+        PackedCellLayer full = fullLayer(100);
+        PackedCellLayer layer = full;
+        for (int i = 0; i < 10; i++) {
+            layer = change(layer, new int[] {i, 50}, new int[] {-i, 100 + i});
+        }
+
+        PackedCellLayer flat = layer.flatten();
+        Assert.assertNotSame(layer, flat);
+        Assert.assertSame(flat, layer.flatten());
+        Assert.assertSame(flat, flat.flatten());
+        for (int i = 0; i < 100; i++) {
+            int expected = i < 10 ? -i : i == 50 ? 109 : i;
+            Assert.assertSame(flat, flat.getLayerOf(i));
+            Assert.assertEquals(expected, flat.getValue(flat.getPosition(i)));
+        }
+
+        // the layers of the chain are not changed by flattening
+        Assert.assertEquals(50, full.getValue(50));
+    }
+
+    /** Tests that a long chain of changes is flattened and still holds every change */
+    @Test
+    public void PackedCellLayer_LongChainTest() {
+        PackedCellLayer layer = fullLayer(1000);
+        for (int i = 0; i < 100; i++) {
+            layer = change(layer, new int[] {i}, new int[] {-i});
+        }
+        for (int i = 0; i < 1000; i++) {
+            PackedCellLayer source = layer.getLayerOf(i);
+            int expected = i < 100 ? -i : i;
+            Assert.assertEquals(expected, source.getValue(source.getPosition(i)));
+        }
+    }
+
+    /** Tests that the flags of the cells are tracked like their values */
+    @Test
+    public void PackedCellLayer_FlagsTest() {
+        PackedCellLayer full = fullLayer(10);
+        BitSet modifiable = new BitSet();
+        BitSet given = new BitSet();
+        given.set(0);
+        PackedCellLayer delta = full.with(new int[] {4}, new int[] {4}, modifiable, given, 1);
+
+        Assert.assertSame(delta, delta.getLayerOf(4));
+        int position = delta.getPosition(4);
+        Assert.assertFalse(delta.isModifiable(position));
+        Assert.assertTrue(delta.isGiven(position));
+        Assert.assertTrue(full.isModifiable(4));
+        Assert.assertFalse(full.isGiven(4));
+    }
+
+    /** Creates a full layer of modifiable cells whose value is their index */
+    static PackedCellLayer fullLayer(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        BitSet modifiable = new BitSet(size);
+        modifiable.set(0, size);
+        return PackedCellLayer.full(values, modifiable, new BitSet(size));
+    }
+
+    /** Changes the values of modifiable cells that are not given */
+    private static PackedCellLayer change(PackedCellLayer layer, int[] indices, int[] values) {
+        BitSet modifiable = new BitSet(indices.length);
+        modifiable.set(0, indices.length);
+        return layer.with(indices, values, modifiable, new BitSet(), indices.length);
+    }
+}
@@ -0,0 +1,128 @@
+package edu.rpi.legup.model.gameboard;
+
+import java.awt.Point;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PackedCellListTest {
+
+    /** Tests that changes to a packed copy and to the board it was copied from stay separate */
+    @Test
+    public void PackedCellList_CopyIsolationTest() {
+        IntBoard board = IntBoard.create(4, 4);
+        IntBoard copy = board.copy();
+        Assert.assertTrue(copy.getPuzzleElements() instanceof PackedCellList);
+
+        copy.getCell(1, 2).setData(-1);
+        board.getCell(2, 1).setData(-2);
+        Assert.assertEquals(9, (int) board.getCell(1, 2).getData());
+        Assert.assertEquals(6, (int) copy.getCell(2, 1).getData());
+        Assert.assertEquals(-1, (int) copy.getCell(1, 2).getData());
+
+        // a copy of the copy starts from its changes, which it does not share
+        IntBoard copyOfCopy = copy.copy();
+        Assert.assertEquals(-1, (int) copyOfCopy.getCell(1, 2).getData());
+        copyOfCopy.getCell(1, 2).setData(-3);
+        copyOfCopy.getCell(0, 0).setModifiable(false);
+        Assert.assertEquals(-1, (int) copy.getCell(1, 2).getData());
+        Assert.assertTrue(copy.getCell(0, 0).isModifiable());
+    }
+
+    /** Tests that a chain of copies that each change one cell keeps every change */
+    @Test
+    public void PackedCellList_ChainedCopiesTest() {
+        IntBoard board = IntBoard.create(10, 10);
+        IntBoard[] copies = new IntBoard[60];
+        IntBoard last = board;
+        for (int i = 0; i < copies.length; i++) {
+            last = last.copy();
+            last.getCell(i % 10, i / 10).setData(-i);
+            copies[i] = last;
+        }
+        for (int i = 0; i < copies.length; i++) {
+            for (int j = 0; j < 100; j++) {
+                int expected = j <= i ? -j : j;
+                Assert.assertEquals(expected, (int) copies[i].getCell(j % 10, j / 10).getData());
+            }
+        }
+        Assert.assertEquals(1, (int) board.getCell(1, 0).getData());
+    }
+
+    /** Tests that the created cells are kept when there are too many to keep in a short list */
+    @Test
+    public void PackedCellList_SparseToDenseTest() {
+        IntBoard board = IntBoard.create(8, 8);
+        PackedCellList cells =
+                new PackedCellList(board, IntBoard.CODEC, PackedCellLayerTest.fullLayer(64));
+        Assert.assertFalse(cells.hasCreatedCells());
+
+        GridCell[] created = new GridCell[64];
+        for (int i = 0; i < 40; i++) {
+            created[i] = (GridCell) cells.get(i);
+            Assert.assertEquals(i, (int) created[i].getData());
+            Assert.assertEquals(new Point(i % 8, i / 8), created[i].getLocation());
+            Assert.assertEquals(i, created[i].getIndex());
+        }
+        IntCell replacement = new IntCell(-50, new Point(2, 6));
+        cells.set(50, replacement);
+
+        Assert.assertTrue(cells.hasCreatedCells());
+        for (int i = 0; i < 64; i++) {
+            Assert.assertEquals(i < 40 || i == 50, cells.isCreated(i));
+        }
+        for (int i = 0; i < 40; i++) {
+            Assert.assertSame(created[i], cells.get(i));
+        }
+        Assert.assertSame(replacement, cells.get(50));
+        Assert.assertEquals(63, (int) ((GridCell) cells.get(63)).getData());
+        Assert.assertEquals(64, cells.size());
+    }
+
+    /** Cell that is fully described by an int */
+    private static final class IntCell extends GridCell<Integer> {
+        private IntCell(int value, Point location) {
+            super(value, location);
+        }
+
+        @Override
+        public IntCell copy() {
+            IntCell copy = new IntCell(data, (Point) location.clone());
+            copy.setIndex(index);
+            copy.setModifiable(isModifiable);
+            copy.setGiven(isGiven);
+            return copy;
+        }
+    }
+
+    /** Board of int cells, which start with their index as their value, that can be packed */
+    private static final class IntBoard extends GridBoard {
+        private static final PackedCellCodec<IntCell> CODEC =
+                new PackedCellCodec<>(IntCell.class, IntCell::getData, IntCell::new);
+
+        private IntBoard(int width, int height) {
+            super(width, height);
+        }
+
+        private static IntBoard create(int width, int height) {
+            IntBoard board = new IntBoard(width, height);
+            for (int i = 0; i < width * height; i++) {
+                IntCell cell = new IntCell(i, new Point(i % width, i / width));
+                cell.setIndex(i);
+                board.setCell(i % width, i / width, cell);
+            }
+            return board;
+        }
+
+        @Override
+        public IntBoard copy() {
+            IntBoard copy = new IntBoard(dimension.width, dimension.height);
+            copyCellsTo(copy);
+            return copy;
+        }
+
+        @Override
+        protected PackedCellCodec<IntCell> getPackedCellCodec() {
+            return CODEC;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package legup.ai;
+
+import edu.rpi.legup.ai.Solution;
+import edu.rpi.legup.ai.Solver;
+import edu.rpi.legup.model.Puzzle;
+import edu.rpi.legup.model.tree.Tree;
+import edu.rpi.legup.model.tree.TreeElement;
+import edu.rpi.legup.model.tree.TreeElementType;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.puzzle.binary.Binary;
+import edu.rpi.legup.puzzle.lightup.LightUp;
+import edu.rpi.legup.puzzle.sudoku.Sudoku;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SolverTest {
+
+    /** Tests that a LightUp puzzle that needs nested case splits is solved with a valid proof */
+    @Test
+    public void Solver_SolvesLightUp() throws IOException, InvalidFileFormatException {
+        LightUp lightUp = new LightUp();
+        Solution solution = solve(lightUp, "puzzles/lightup/solver/Solvable");
+        assertCompleteProof(lightUp, solution);
+        Assert.assertTrue(solution.getDepth() > 0);
+    }
+
+    /** Tests that a Binary puzzle is solved with a valid proof */
+    @Test
+    public void Solver_SolvesBinary() throws IOException, InvalidFileFormatException {
+        Binary binary = new Binary();
+        Solution solution = solve(binary, "puzzles/binary/solver/Solvable");
+        assertCompleteProof(binary, solution);
+    }
+
+    /** Tests that a Sudoku puzzle that the direct rules can fill is solved without branching */
+    @Test
+    public void Solver_SolvesSudoku() throws IOException, InvalidFileFormatException {
+        Sudoku sudoku = new Sudoku();
+        Solution solution = solve(sudoku, "puzzles/sudoku/solver/Solvable");
+        assertCompleteProof(sudoku, solution);
+        Assert.assertEquals(0, solution.getDepth());
+    }
+
+    /**
+     * Tests that boards without a solution are not solved, even though every branch of them can
+     * be closed with a contradiction
+     */
+    @Test
+    public void Solver_UnsolvableHasNoSolution() throws IOException, InvalidFileFormatException {
+        Puzzle[] puzzles = {new LightUp(), new Binary(), new Sudoku()};
+        String[] fileNames = {
+            "puzzles/lightup/solver/Unsolvable",
+            "puzzles/binary/solver/Unsolvable",
+            "puzzles/sudoku/solver/Unsolvable"
+        };
+        for (int i = 0; i < puzzles.length; i++) {
+            Solution solution = solve(puzzles[i], fileNames[i]);
+            Assert.assertFalse(fileNames[i], solution.isSolved());
+            Assert.assertFalse(fileNames[i], solution.isTimedOut());
+            Assert.assertNull(solution.getTree());
+            Assert.assertEquals(-1, solution.getDepth());
+        }
+    }
+
+    private static Solution solve(Puzzle puzzle, String fileName)
+            throws IOException, InvalidFileFormatException {
+        try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(fileName)) {
+            puzzle.importPuzzle(inputStream);
+        }
+        Solver solver = new Solver(puzzle);
+        solver.setParallelism(2);
+        return solver.solve();
+    }
+
+    /**
+     * Asserts that the proof is valid, that every leaf of it is either closed by a contradiction
+     * or a complete board, and that at least one leaf is a complete board
+     */
+    private static void assertCompleteProof(Puzzle puzzle, Solution solution) {
+        Assert.assertTrue(solution.isSolved());
+        Assert.assertFalse(solution.isTimedOut());
+        Tree tree = solution.getTree();
+        Assert.assertTrue(tree.isValid());
+
+        boolean isSolutionFound = false;
+        for (TreeElement leaf : tree.getLeafTreeElements()) {
+            Assert.assertEquals(TreeElementType.NODE, leaf.getType());
+            TreeNode node = (TreeNode) leaf;
+            if (!node.isRoot() && node.getParent().isContradictoryBranch()) {
+                continue;
+            }
+            Assert.assertTrue(puzzle.isBoardComplete(node.getBoard()));
+            isSolutionFound = true;
+        }
+        Assert.assertTrue(isSolutionFound);
+    }
+}
@@ -0,0 +1,110 @@
+package legup.history;
+
+import edu.rpi.legup.history.AutoCaseRuleCommand;
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.CaseBoard;
+import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.GridCell;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.ui.boardview.GridElementView;
+import edu.rpi.legup.ui.proofeditorui.treeview.TreeNodeView;
+import edu.rpi.legup.ui.proofeditorui.treeview.TreeViewSelection;
+import java.util.ArrayList;
+import java.util.List;
+import legup.MockGameBoardFacade;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class AutoCaseRuleCommandTest {
+
+    @BeforeClass
+    public static void setUp() {
+        MockGameBoardFacade.getInstance();
+    }
+
+    /** Tests that checking the selection repeatedly generates the cases only once */
+    @Test
+    public void AutoCaseRuleCommand_GeneratesCasesOnce() {
+        CountingCaseRule caseRule = new CountingCaseRule(2);
+        AutoCaseRuleCommand command = createCommand(caseRule);
+
+        Assert.assertNull(command.getErrorString());
+        Assert.assertNull(command.getErrorString());
+        Assert.assertTrue(command.canExecute());
+        Assert.assertEquals(1, caseRule.caseCount);
+    }
+
+    /** Tests that a selection without cases is rejected after generating the cases only once */
+    @Test
+    public void AutoCaseRuleCommand_GeneratesNoCasesOnce() {
+        CountingCaseRule caseRule = new CountingCaseRule(0);
+        AutoCaseRuleCommand command = createCommand(caseRule);
+
+        Assert.assertEquals(
+                "The selection must produce at least one case", command.getErrorString());
+        Assert.assertFalse(command.canExecute());
+        Assert.assertEquals(1, caseRule.caseCount);
+    }
+
+    /** Creates a command that applies the case rule to the cell of a single cell root node */
+    private static AutoCaseRuleCommand createCommand(CaseRule caseRule) {
+        GridBoard board = new GridBoard(1, 1);
+        GridCell<Integer> cell = new GridCell<>(0, 0, 0);
+        cell.setIndex(0);
+        board.setCell(0, 0, cell);
+
+        TreeNode root = new TreeNode(board);
+        TreeViewSelection selection = new TreeViewSelection(new TreeNodeView(root));
+        CaseBoard caseBoard = caseRule.getCaseBoard(board);
+        return new AutoCaseRuleCommand(
+                new GridElementView(cell), selection, caseRule, caseBoard, null);
+    }
+
+    /** Case rule that sets the selected cell to each of a number of values and counts its calls */
+    private static final class CountingCaseRule extends CaseRule {
+        private final int valueCount;
+        private int caseCount;
+
+        private CountingCaseRule(int valueCount) {
+            super("TEST-CASE-0001", "Counting", "Sets the cell to each value", null);
+            this.valueCount = valueCount;
+        }
+
+        @Override
+        public CaseBoard getCaseBoard(Board board) {
+            CaseBoard caseBoard = new CaseBoard(board, this);
+            for (PuzzleElement puzzleElement : board.getPuzzleElements()) {
+                caseBoard.addPickableElement(puzzleElement);
+            }
+            return caseBoard;
+        }
+
+        @Override
+        public List<Board> getCases(Board board, PuzzleElement puzzleElement) {
+            caseCount++;
+            List<Board> cases = new ArrayList<>();
+            for (int i = 1; i <= valueCount; i++) {
+                Board newCase = board.copy();
+                PuzzleElement element = newCase.getPuzzleElement(puzzleElement);
+                element.setData(i);
+                newCase.addModifiedData(element);
+                cases.add(newCase);
+            }
+            return cases;
+        }
+
+        @Override
+        public String checkRuleRaw(TreeTransition transition) {
+            return null;
+        }
+
+        @Override
+        public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
+            return null;
+        }
+    }
+}
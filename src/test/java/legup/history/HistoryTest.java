@@ -0,0 +1,123 @@
+package legup.history;
+
+import edu.rpi.legup.history.History;
+import edu.rpi.legup.history.ICommand;
+import java.util.ArrayList;
+import java.util.List;
+import legup.MockGameBoardFacade;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class HistoryTest {
+
+    @BeforeClass
+    public static void setUp() {
+        MockGameBoardFacade.getInstance();
+    }
+
+    /** Tests that the oldest commands are dropped once they hold more than the memory budget */
+    @Test
+    public void History_DropsOldestCommands() {
+        History history = new History(2 * NamedCommand.SIZE);
+        List<String> undone = new ArrayList<>();
+        history.pushChange(new NamedCommand("a", undone));
+        history.pushChange(new NamedCommand("b", undone));
+        history.pushChange(new NamedCommand("c", undone));
+        Assert.assertEquals(2, history.size());
+        Assert.assertEquals(1, history.getIndex());
+        Assert.assertEquals(2 * NamedCommand.SIZE, history.getRetainedSize());
+
+        history.undo();
+        history.undo();
+        history.undo();
+        Assert.assertEquals(List.of("c", "b"), undone);
+        Assert.assertEquals(-1, history.getIndex());
+    }
+
+    /** Tests that a history without a memory budget keeps every command */
+    @Test
+    public void History_KeepsCommandsWithoutBudget() {
+        History history = new History(0);
+        List<String> undone = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            history.pushChange(new NamedCommand(Integer.toString(i), undone));
+        }
+        Assert.assertEquals(1000, history.size());
+        Assert.assertEquals(1000 * NamedCommand.SIZE, history.getRetainedSize());
+
+        // the undone commands are dropped by the next change
+        history.undo();
+        history.undo();
+        history.pushChange(new NamedCommand("a", undone));
+        Assert.assertEquals(999, history.size());
+        Assert.assertEquals(999 * NamedCommand.SIZE, history.getRetainedSize());
+    }
+
+    /** Tests that a command that coalesces with the top of the stack is not pushed */
+    @Test
+    public void History_CoalescesCommands() {
+        History history = new History(10 * NamedCommand.SIZE);
+        List<String> undone = new ArrayList<>();
+        history.pushChange(new NamedCommand("a", undone));
+        history.pushChange(new NamedCommand("a", undone));
+        history.pushChange(new NamedCommand("b", undone));
+        Assert.assertEquals(2, history.size());
+
+        // the undone command is dropped, so the new command is merged into the one below it
+        history.undo();
+        history.pushChange(new NamedCommand("a", undone));
+        Assert.assertEquals(1, history.size());
+        Assert.assertEquals(0, history.getIndex());
+
+        // a command is never merged into one that was undone
+        history.undo();
+        history.pushChange(new NamedCommand("a", undone));
+        Assert.assertEquals(1, history.size());
+        Assert.assertEquals(0, history.getIndex());
+    }
+
+    /** Command that records when it is undone and coalesces with commands of the same name */
+    private static class NamedCommand implements ICommand {
+        private static final long SIZE = 100;
+
+        private final String name;
+        private final List<String> undone;
+
+        NamedCommand(String name, List<String> undone) {
+            this.name = name;
+            this.undone = undone;
+        }
+
+        @Override
+        public void execute() {}
+
+        @Override
+        public boolean canExecute() {
+            return true;
+        }
+
+        @Override
+        public String getError() {
+            return null;
+        }
+
+        @Override
+        public void undo() {
+            undone.add(name);
+        }
+
+        @Override
+        public void redo() {}
+
+        @Override
+        public boolean coalesce(ICommand command) {
+            return command instanceof NamedCommand && ((NamedCommand) command).name.equals(name);
+        }
+
+        @Override
+        public long getRetainedSize() {
+            return SIZE;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package legup.model;
+
+import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.GridNeighbors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GridNeighborsTest {
+
+    /** Tests the neighbors of a corner, an edge and an inner cell of a 4x3 grid */
+    @Test
+    public void GridNeighbors_LeavesOutCellsOffTheGrid() {
+        GridBoard board = new GridBoard(4, 3);
+
+        Assert.assertArrayEquals(new int[] {1, 4}, board.getOrthogonalNeighbors(0));
+        Assert.assertArrayEquals(new int[] {5}, board.getDiagonalNeighbors(0));
+        Assert.assertArrayEquals(new int[] {4, 1, 5}, board.getSurroundingNeighbors(0));
+
+        Assert.assertArrayEquals(new int[] {2, 7, 10, 5}, board.getOrthogonalNeighbors(6));
+        Assert.assertArrayEquals(new int[] {3, 11, 9, 1}, board.getDiagonalNeighbors(6));
+        Assert.assertArrayEquals(
+                new int[] {1, 5, 9, 2, 10, 3, 7, 11}, board.getSurroundingNeighbors(6));
+
+        Assert.assertArrayEquals(new int[] {7, 10}, board.getOrthogonalNeighbors(11));
+        Assert.assertArrayEquals(new int[] {6}, board.getDiagonalNeighbors(11));
+    }
+
+    /** Tests that boards of the same size share their neighbors */
+    @Test
+    public void GridNeighbors_SharedBySize() {
+        Assert.assertSame(GridNeighbors.of(5, 5), new GridBoard(5).getNeighbors());
+        Assert.assertNotSame(GridNeighbors.of(5, 5), GridNeighbors.of(5, 6));
+    }
+
+    /** Tests that getCellOrNull returns null for locations off the board */
+    @Test
+    public void GridBoard_GetCellOrNullOutOfBounds() {
+        GridBoard board = new GridBoard(2, 2);
+        Assert.assertNull(board.getCellOrNull(-1, 0));
+        Assert.assertNull(board.getCellOrNull(0, 2));
+        Assert.assertNull(board.getCellOrNull(2, 1));
+    }
+}
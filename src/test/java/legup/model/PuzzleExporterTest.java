@@ -0,0 +1,87 @@
+package legup.model;
+
+import edu.rpi.legup.model.PuzzleExporter;
+import edu.rpi.legup.puzzle.lightup.LightUp;
+import edu.rpi.legup.puzzle.lightup.LightUpExporter;
+import edu.rpi.legup.save.ExportFileException;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import edu.rpi.legup.save.PuzzleFileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+import legup.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+public class PuzzleExporterTest {
+
+    /** Tests that an export that fails partway leaves the existing file as it was */
+    @Test
+    public void PuzzleExporter_FailedExportKeepsFile()
+            throws IOException, InvalidFileFormatException, ExportFileException {
+        LightUp lightUp = new LightUp();
+        TestUtilities.importTestBoard(
+                "puzzles/lightup/rules/EmptyCornersDirectRule/EmptyCorners", lightUp);
+        Path directory = Files.createTempDirectory("legup-export");
+        Path file = directory.resolve("proof.xml");
+
+        new LightUpExporter(lightUp).exportPuzzle(file.toString());
+        String saved = Files.readString(file);
+        Assert.assertTrue(saved.contains("<proof>"));
+
+        PuzzleExporter failingExporter =
+                new LightUpExporter(lightUp) {
+                    @Override
+                    protected void writeProof(PuzzleFileWriter writer, Document newDocument) {
+                        throw new IllegalStateException("failed partway");
+                    }
+                };
+        boolean isFailed = false;
+        try {
+            failingExporter.exportPuzzle(file.toString());
+        } catch (IllegalStateException e) {
+            isFailed = true;
+        }
+        Assert.assertTrue(isFailed);
+
+        Assert.assertEquals(saved, Files.readString(file));
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(1, files.count());
+        }
+        Files.delete(file);
+        Files.delete(directory);
+    }
+
+    /** Tests that saving over an existing file keeps its permissions */
+    @Test
+    public void PuzzleExporter_KeepsPermissions()
+            throws IOException, InvalidFileFormatException, ExportFileException {
+        LightUp lightUp = new LightUp();
+        TestUtilities.importTestBoard(
+                "puzzles/lightup/rules/EmptyCornersDirectRule/EmptyCorners", lightUp);
+        Path directory = Files.createTempDirectory("legup-export");
+        Path file = directory.resolve("proof.xml");
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.delete(directory);
+            return;
+        }
+
+        Files.writeString(file, "");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file, permissions);
+        new LightUpExporter(lightUp).exportPuzzle(file.toString());
+
+        Assert.assertTrue(Files.readString(file).contains("<Legup"));
+        Assert.assertEquals(permissions, Files.getPosixFilePermissions(file));
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(1, files.count());
+        }
+        Files.delete(file);
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,280 @@
+package legup.model;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.MergeRule;
+import edu.rpi.legup.model.tree.Tree;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.puzzle.lightup.LightUp;
+import edu.rpi.legup.puzzle.lightup.LightUpBoard;
+import edu.rpi.legup.puzzle.lightup.LightUpCell;
+import edu.rpi.legup.puzzle.lightup.LightUpCellType;
+import edu.rpi.legup.puzzle.lightup.LightUpExporter;
+import edu.rpi.legup.save.ExportFileException;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+public class PuzzleImporterTest {
+
+    /**
+     * Tests that a saved proof several levels deep is loaded with the changes of every transition
+     * replayed onto the nodes below it, including a change that is reverted further down
+     */
+    @Test
+    public void PuzzleImporter_ReplaysMultiLevelProof()
+            throws IOException, InvalidFileFormatException, ExportFileException {
+        LightUp saved = new LightUp();
+        try (InputStream inputStream =
+                ClassLoader.getSystemResourceAsStream(
+                        "puzzles/lightup/rules/MustLightDirectRule/MustLight")) {
+            saved.importPuzzle(inputStream);
+        }
+        Tree tree = saved.getTree();
+        TreeNode node = tree.getRootNode();
+        node = addStep(tree, node, 0, 1, LightUpCellType.EMPTY);
+        node = addStep(tree, node, 1, 0, LightUpCellType.EMPTY);
+        node = addStep(tree, node, 0, 1, LightUpCellType.UNKNOWN);
+        addStep(tree, node, 2, 2, LightUpCellType.BULB);
+
+        Path file = Files.createTempFile("legup-import", ".xml");
+        LightUp loaded = new LightUp();
+        try {
+            new LightUpExporter(saved).exportPuzzle(file.toString());
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                loaded.importPuzzle(inputStream);
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        TreeNode savedNode = saved.getTree().getRootNode();
+        TreeNode loadedNode = loaded.getTree().getRootNode();
+        for (int level = 0; level < 4; level++) {
+            Assert.assertEquals(1, loadedNode.getChildren().size());
+            TreeTransition savedTransition = savedNode.getChildren().get(0);
+            TreeTransition loadedTransition = loadedNode.getChildren().get(0);
+            Assert.assertEquals(
+                    savedTransition.getBoard().getModifiedData().size(),
+                    loadedTransition.getBoard().getModifiedData().size());
+
+            savedNode = savedTransition.getChildNode();
+            loadedNode = loadedTransition.getChildNode();
+            assertSameCells(
+                    (LightUpBoard) savedNode.getBoard(), (LightUpBoard) loadedNode.getBoard());
+        }
+
+        // the reverted cell can be changed again below the transition that reverted it
+        LightUpBoard leafBoard = (LightUpBoard) loadedNode.getBoard();
+        Assert.assertEquals(LightUpCellType.UNKNOWN, leafBoard.getCell(0, 1).getType());
+        Assert.assertTrue(leafBoard.getCell(0, 1).isModifiable());
+        Assert.assertEquals(LightUpCellType.EMPTY, leafBoard.getCell(1, 0).getType());
+        Assert.assertFalse(leafBoard.getCell(1, 0).isModifiable());
+        Assert.assertEquals(LightUpCellType.BULB, leafBoard.getCell(2, 2).getType());
+    }
+
+    /**
+     * Tests that a saved proof with two branches merged back together is loaded with the changes
+     * the branches have in common on the merged node and the nodes below it
+     */
+    @Test
+    public void PuzzleImporter_ReplaysMergedProof()
+            throws IOException, InvalidFileFormatException, ExportFileException {
+        LightUp saved = createMergedProof();
+        LightUp loaded = new LightUp();
+        Path file = Files.createTempFile("legup-import", ".xml");
+        try {
+            new LightUpExporter(saved).exportPuzzle(file.toString());
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                loaded.importPuzzle(inputStream);
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        assertMergedProof(saved, loaded);
+    }
+
+    /**
+     * Tests that a saved proof whose nodes are listed below the nodes they descend from, so that
+     * transitions come before the transitions leading to their parent nodes, is loaded the same
+     * way as the proof in order
+     */
+    @Test
+    public void PuzzleImporter_ReplaysProofOutOfOrder()
+            throws IOException,
+                    InvalidFileFormatException,
+                    ExportFileException,
+                    ParserConfigurationException,
+                    SAXException,
+                    TransformerException {
+        LightUp saved = createMergedProof();
+        LightUp loaded = new LightUp();
+        Path file = Files.createTempFile("legup-import", ".xml");
+        try {
+            new LightUpExporter(saved).exportPuzzle(file.toString());
+            reverseTreeNodes(file);
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                loaded.importPuzzle(inputStream);
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        assertMergedProof(saved, loaded);
+    }
+
+    /**
+     * Creates a proof with two branches from the root that both change the cell at (0, 1), a merge
+     * of the branches, and a step below the merged node
+     *
+     * @return the puzzle with the proof
+     */
+    private static LightUp createMergedProof() throws IOException, InvalidFileFormatException {
+        LightUp puzzle = new LightUp();
+        try (InputStream inputStream =
+                ClassLoader.getSystemResourceAsStream(
+                        "puzzles/lightup/rules/MustLightDirectRule/MustLight")) {
+            puzzle.importPuzzle(inputStream);
+        }
+        Tree tree = puzzle.getTree();
+        TreeNode root = tree.getRootNode();
+        TreeNode left = addStep(tree, root, 0, 1, LightUpCellType.EMPTY);
+        left = addStep(tree, left, 2, 2, LightUpCellType.BULB);
+        TreeNode right = addStep(tree, root, 0, 1, LightUpCellType.EMPTY);
+        right = addStep(tree, right, 1, 0, LightUpCellType.EMPTY);
+
+        // merge the branches the same way as MergeCommand
+        List<TreeNode> mergingNodes = List.of(left, right);
+        Board lcaBoard = Tree.getLowestCommonAncestor(mergingNodes).getBoard();
+        Board mergedBoard =
+                lcaBoard.mergedBoard(lcaBoard, List.of(left.getBoard(), right.getBoard()));
+        TreeNode mergedNode = new TreeNode(mergedBoard.copy());
+        TreeTransition merge = new TreeTransition(mergedBoard);
+        merge.setRule(puzzle.getRule(MergeRule.class));
+        merge.setChildNode(mergedNode);
+        mergedNode.setParent(merge);
+        for (TreeNode node : mergingNodes) {
+            node.addChild(merge);
+            merge.addParent(node);
+        }
+
+        addStep(tree, mergedNode, 2, 2, LightUpCellType.EMPTY);
+        return puzzle;
+    }
+
+    /**
+     * Checks that a loaded proof created by {@link #createMergedProof()} matches the saved one
+     *
+     * @param saved puzzle the proof was saved from
+     * @param loaded puzzle the proof was loaded into
+     */
+    private static void assertMergedProof(LightUp saved, LightUp loaded) {
+        TreeNode loadedRoot = loaded.getTree().getRootNode();
+        Assert.assertEquals(2, loadedRoot.getChildren().size());
+        TreeNode savedLeft = saved.getTree().getRootNode().getChildren().get(0).getChildNode();
+        TreeNode loadedLeft = loadedRoot.getChildren().get(0).getChildNode();
+        Assert.assertEquals(1, loadedLeft.getChildren().size());
+        TreeNode loadedLeaf = loadedLeft.getChildren().get(0).getChildNode();
+
+        TreeTransition loadedMerge = loadedLeaf.getChildren().get(0);
+        Assert.assertTrue(loadedMerge.getRule() instanceof MergeRule);
+        Assert.assertEquals(2, loadedMerge.getParents().size());
+        TreeNode savedMerged =
+                savedLeft.getChildren().get(0).getChildNode().getChildren().get(0).getChildNode();
+        TreeNode loadedMerged = loadedMerge.getChildNode();
+        assertSameCells(
+                (LightUpBoard) savedMerged.getBoard(), (LightUpBoard) loadedMerged.getBoard());
+
+        // only the change made by both branches is merged
+        LightUpBoard mergedBoard = (LightUpBoard) loadedMerged.getBoard();
+        Assert.assertEquals(LightUpCellType.EMPTY, mergedBoard.getCell(0, 1).getType());
+        Assert.assertEquals(LightUpCellType.UNKNOWN, mergedBoard.getCell(1, 0).getType());
+        Assert.assertEquals(LightUpCellType.UNKNOWN, mergedBoard.getCell(2, 2).getType());
+
+        Assert.assertEquals(1, loadedMerged.getChildren().size());
+        TreeNode savedEnd = savedMerged.getChildren().get(0).getChildNode();
+        TreeNode loadedEnd = loadedMerged.getChildren().get(0).getChildNode();
+        assertSameCells((LightUpBoard) savedEnd.getBoard(), (LightUpBoard) loadedEnd.getBoard());
+        LightUpBoard endBoard = (LightUpBoard) loadedEnd.getBoard();
+        Assert.assertEquals(LightUpCellType.EMPTY, endBoard.getCell(0, 1).getType());
+        Assert.assertEquals(LightUpCellType.EMPTY, endBoard.getCell(2, 2).getType());
+    }
+
+    /**
+     * Reverses the order of the nodes of the proof tree in a saved puzzle file
+     *
+     * @param file saved puzzle file
+     */
+    private static void reverseTreeNodes(Path file)
+            throws IOException, ParserConfigurationException, SAXException, TransformerException {
+        Document document;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            document =
+                    DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream);
+        }
+        org.w3c.dom.Node tree = document.getElementsByTagName("tree").item(0);
+        NodeList nodes = ((Element) tree).getElementsByTagName("node");
+        List<org.w3c.dom.Node> ordered = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            ordered.add(nodes.item(i));
+        }
+        Assert.assertTrue(ordered.size() > 2);
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            tree.appendChild(ordered.get(i));
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            TransformerFactory.newInstance()
+                    .newTransformer()
+                    .transform(new DOMSource(document), new StreamResult(outputStream));
+        }
+    }
+
+    /**
+     * Adds a transition and child node below a node that changes one cell
+     *
+     * @param tree tree to add to
+     * @param node node to add below
+     * @param x x location of the changed cell
+     * @param y y location of the changed cell
+     * @param type type the cell is changed to
+     * @return the new child node
+     */
+    private static TreeNode addStep(
+            Tree tree, TreeNode node, int x, int y, LightUpCellType type) {
+        TreeTransition transition = tree.addNewTransition(node);
+        TreeNode child = (TreeNode) tree.addTreeElement(transition);
+        LightUpCell cell = ((LightUpBoard) transition.getBoard()).getCell(x, y);
+        cell.setData(type.value);
+        transition.propagateChange(cell);
+        return child;
+    }
+
+    private static void assertSameCells(LightUpBoard expected, LightUpBoard actual) {
+        for (PuzzleElement element : expected.getPuzzleElements()) {
+            LightUpCell cell = (LightUpCell) element;
+            LightUpCell other = actual.getCell(cell.getLocation().x, cell.getLocation().y);
+            Assert.assertEquals(cell.getType(), other.getType());
+            Assert.assertEquals(cell.isModifiable(), other.isModifiable());
+        }
+    }
+}
@@ -2,7 +2,14 @@ package legup.model;
 
 import edu.rpi.legup.model.gameboard.Board;
 import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.GridCell;
 import edu.rpi.legup.model.tree.Tree;
+import edu.rpi.legup.model.tree.TreeElement;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.utility.DisjointSets;
+import java.util.List;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -17,4 +24,116 @@ public class TreeTest {
 
     @Test
     public void testTree() {}
+
+    /** Tests ancestor and lowest common ancestor queries on a tree with a merge */
+    @Test
+    public void testAncestorsWithMerge() {
+        TreeNode root = new Tree(new GridBoard(5, 5)).getRootNode();
+        TreeTransition left = addTransition(root);
+        TreeTransition right = addTransition(root);
+        TreeNode leftChild = left.getChildNode();
+        TreeNode rightChild = right.getChildNode();
+        TreeNode leftGrandchild = addTransition(leftChild).getChildNode();
+
+        TreeTransition merge = new TreeTransition(root.getBoard());
+        merge.addParent(leftGrandchild);
+        merge.addParent(rightChild);
+        leftGrandchild.addChild(merge);
+        rightChild.addChild(merge);
+        TreeNode merged = new TreeNode(root.getBoard());
+        merge.setChildNode(merged);
+        merged.setParent(merge);
+
+        Assert.assertEquals(
+                List.of(merged, leftGrandchild, rightChild, leftChild, root),
+                merged.getAncestors());
+        Assert.assertSame(root, Tree.getLowestCommonAncestor(List.of(leftGrandchild, rightChild)));
+        Assert.assertSame(
+                leftChild, Tree.getLowestCommonAncestor(List.of(leftGrandchild, leftChild)));
+        Assert.assertSame(merged, Tree.getLowestCommonAncestor(List.of(merged)));
+        Assert.assertNull(Tree.getLowestCommonAncestor(List.of()));
+
+        List<TreeElement> descendants = root.getDescendants();
+        Assert.assertEquals(1, descendants.stream().filter(e -> e == merged).count());
+        Assert.assertEquals(8, descendants.size());
+
+        DisjointSets<TreeTransition> branches = root.findMergingBranches();
+        Assert.assertEquals(1, branches.setCount());
+        Assert.assertSame(merge, TreeNode.findMergingPoint(branches.getAllSets().get(0)));
+    }
+
+    /** Tests that changes to several elements are all propagated to the transitions below */
+    @Test
+    public void testPropagateChanges() {
+        GridBoard rootBoard = new GridBoard(2, 1);
+        for (int x = 0; x < 2; x++) {
+            GridCell<Integer> cell = new GridCell<>(0, x, 0);
+            cell.setIndex(x);
+            rootBoard.setCell(x, 0, cell);
+        }
+        TreeNode root = new TreeNode(rootBoard);
+        TreeTransition transition = addCopyTransition(root);
+        TreeNode child = transition.getChildNode();
+        TreeTransition next = addCopyTransition(child);
+        TreeNode last = next.getChildNode();
+
+        GridBoard board = (GridBoard) transition.getBoard();
+        GridCell<Integer> first = board.getCell(0, 0);
+        GridCell<Integer> second = board.getCell(1, 0);
+        first.setData(1);
+        second.setData(2);
+        transition.propagateChanges(List.of(first, second));
+        Assert.assertEquals(2, board.getModifiedData().size());
+        for (Board below : List.of(child.getBoard(), next.getBoard(), last.getBoard())) {
+            GridBoard gridBoard = (GridBoard) below;
+            Assert.assertEquals(1, gridBoard.getCell(0, 0).getData());
+            Assert.assertEquals(2, gridBoard.getCell(1, 0).getData());
+            Assert.assertFalse(gridBoard.getCell(0, 0).isModifiable());
+        }
+
+        first.setData(0);
+        second.setData(0);
+        transition.propagateChanges(List.of(first, second));
+        Assert.assertTrue(board.getModifiedData().isEmpty());
+        GridBoard lastBoard = (GridBoard) last.getBoard();
+        Assert.assertEquals(0, lastBoard.getCell(0, 0).getData());
+        Assert.assertEquals(0, lastBoard.getCell(1, 0).getData());
+        Assert.assertTrue(lastBoard.getCell(0, 0).isModifiable());
+    }
+
+    /** Tests that setting the data of a cell on a node board forgets whether it is complete */
+    @Test
+    public void testBoardCompleteSeesElementEdits() {
+        GridBoard board = new GridBoard(2, 1);
+        GridCell<Integer> cell = new GridCell<>(0, 0, 0);
+        board.setCell(0, 0, cell);
+        TreeNode node = new TreeNode(board);
+        node.setCachedBoardComplete(true);
+        Assert.assertEquals(Boolean.TRUE, node.getCachedBoardComplete());
+
+        // a copy is not on the board, so changing it does not change the board
+        cell.copy().setData(1);
+        Assert.assertEquals(Boolean.TRUE, node.getCachedBoardComplete());
+
+        cell.setData(1);
+        Assert.assertNull(node.getCachedBoardComplete());
+    }
+
+    private static TreeTransition addCopyTransition(TreeNode parent) {
+        TreeTransition transition = new TreeTransition(parent, parent.getBoard().copy());
+        parent.addChild(transition);
+        TreeNode child = new TreeNode(parent.getBoard().copy());
+        transition.setChildNode(child);
+        child.setParent(transition);
+        return transition;
+    }
+
+    private static TreeTransition addTransition(TreeNode parent) {
+        TreeTransition transition = new TreeTransition(parent, parent.getBoard());
+        parent.addChild(transition);
+        TreeNode child = new TreeNode(parent.getBoard());
+        transition.setChildNode(child);
+        child.setParent(transition);
+        return transition;
+    }
 }
@@ -0,0 +1,63 @@
+package legup.model;
+
+import edu.rpi.legup.model.rules.RuleRegistry;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.model.tree.VerificationCache;
+import edu.rpi.legup.puzzle.lightup.LightUp;
+import edu.rpi.legup.puzzle.lightup.LightUpBoard;
+import edu.rpi.legup.puzzle.lightup.LightUpCell;
+import edu.rpi.legup.puzzle.lightup.LightUpCellType;
+import edu.rpi.legup.puzzle.lightup.rules.EmptyCornersDirectRule;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import legup.TestUtilities;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class VerificationCacheTest {
+    private static final EmptyCornersDirectRule RULE =
+            RuleRegistry.getRule(EmptyCornersDirectRule.class);
+    private static LightUp lightUp;
+
+    @BeforeClass
+    public static void setUp() {
+        lightUp = new LightUp();
+    }
+
+    @Test
+    public void VerificationCache_ReusesUnchangedTransition() throws InvalidFileFormatException {
+        TestUtilities.importTestBoard(
+                "puzzles/lightup/rules/EmptyCornersDirectRule/EmptyCorners", lightUp);
+        TreeNode rootNode = lightUp.getTree().getRootNode();
+        TreeTransition transition = rootNode.getChildren().get(0);
+        transition.setRule(RULE);
+
+        LightUpBoard board = (LightUpBoard) transition.getBoard();
+        LightUpCell cell = board.getCell(2, 2);
+        cell.setData(LightUpCellType.EMPTY.value);
+        board.addModifiedData(cell);
+
+        long hits = VerificationCache.getHitCount();
+        long misses = VerificationCache.getMissCount();
+
+        // the first check has to run the rule, reverifying afterwards must not
+        Assert.assertTrue(transition.isCorrect());
+        Assert.assertTrue(transition.reverify());
+        Assert.assertEquals(misses + 1, VerificationCache.getMissCount());
+        Assert.assertEquals(hits + 1, VerificationCache.getHitCount());
+
+        // changing the board of the transition must run the rule again
+        LightUpCell wrongCell = board.getCell(4, 5);
+        wrongCell.setData(LightUpCellType.EMPTY.value);
+        board.addModifiedData(wrongCell);
+        Assert.assertFalse(transition.reverify());
+        Assert.assertEquals(misses + 2, VerificationCache.getMissCount());
+        Assert.assertEquals(hits + 1, VerificationCache.getHitCount());
+
+        // changing the parent board must also run the rule again
+        rootNode.getBoard().notifyChange(rootNode.getBoard().getPuzzleElement(wrongCell));
+        Assert.assertFalse(transition.reverify());
+        Assert.assertEquals(misses + 3, VerificationCache.getMissCount());
+    }
+}
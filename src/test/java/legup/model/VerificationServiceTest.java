@@ -0,0 +1,182 @@
+package legup.model;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.GridBoard;
+import edu.rpi.legup.model.gameboard.GridCell;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.DirectRule;
+import edu.rpi.legup.model.tree.TreeNode;
+import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.model.tree.VerificationService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VerificationServiceTest {
+    private final LinkedBlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+    private GatedRule rule;
+    private VerificationService service;
+
+    @Before
+    public void setUp() {
+        rule = new GatedRule();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        service = new VerificationService(executor, published::add);
+    }
+
+    @After
+    public void tearDown() {
+        rule.gate.countDown();
+        service.shutdown();
+    }
+
+    /**
+     * Tests that the rule is checked on a worker thread and that the result is only stored in the
+     * transition when the publisher runs it
+     */
+    @Test
+    public void VerificationService_PublishesOnPublisher() throws Exception {
+        TreeTransition transition = createTransition(1);
+        rule.gate.countDown();
+
+        Assert.assertFalse(service.verify(null, transition));
+        Assert.assertTrue(service.isPending(transition));
+
+        Runnable publish = published.poll(10, TimeUnit.SECONDS);
+        Assert.assertNotNull(publish);
+        Assert.assertNotSame(Thread.currentThread(), rule.checkThread);
+        Assert.assertFalse(transition.isVerified());
+        Assert.assertTrue(service.isPending(transition));
+
+        publish.run();
+        Assert.assertFalse(service.isPending(transition));
+        Assert.assertTrue(transition.isVerified());
+        Assert.assertTrue(transition.isCorrect());
+        Assert.assertTrue(service.verify(null, transition));
+        Assert.assertEquals(1, rule.checkCount.get());
+    }
+
+    /** Tests that requesting a check of an unchanged transition reuses the pending check */
+    @Test
+    public void VerificationService_ReusesPendingCheck() throws Exception {
+        TreeTransition transition = createTransition(1);
+
+        Assert.assertFalse(service.verify(null, transition));
+        Assert.assertFalse(service.verify(null, transition));
+        Assert.assertFalse(service.reverify(null, transition));
+        rule.gate.countDown();
+
+        publishNext();
+        Assert.assertTrue(transition.isVerified());
+        Assert.assertNull(published.poll(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, rule.checkCount.get());
+    }
+
+    /**
+     * Tests that changing a transition while its check runs interrupts that check, drops its
+     * result and publishes only the result of the check of the changed transition
+     */
+    @Test
+    public void VerificationService_CancelsSupersededCheck() throws Exception {
+        TreeTransition transition = createTransition(1);
+        Assert.assertFalse(service.verify(null, transition));
+        Assert.assertTrue(rule.started.await(10, TimeUnit.SECONDS));
+
+        setValue(transition, 2);
+        Assert.assertFalse(service.verify(null, transition));
+        Assert.assertTrue(rule.interrupted.await(10, TimeUnit.SECONDS));
+
+        // the interrupted check still hands its result over, which must be dropped
+        publishNext();
+        Assert.assertFalse(transition.isVerified());
+        Assert.assertTrue(service.isPending(transition));
+
+        rule.gate.countDown();
+        publishNext();
+        Assert.assertFalse(service.isPending(transition));
+        Assert.assertTrue(transition.isVerified());
+        Assert.assertFalse(transition.isCorrect());
+        Assert.assertNull(published.poll(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(2, rule.checkCount.get());
+    }
+
+    /**
+     * Creates a transition below a root node of a single cell board that sets the cell to a value,
+     * justified by the gated rule
+     */
+    private TreeTransition createTransition(int value) {
+        GridBoard board = new GridBoard(1, 1);
+        GridCell<Integer> cell = new GridCell<>(0, 0, 0);
+        cell.setIndex(0);
+        board.setCell(0, 0, cell);
+
+        TreeNode root = new TreeNode(board);
+        TreeTransition transition = new TreeTransition(root, board.copy());
+        root.addChild(transition);
+        transition.setRule(rule);
+        setValue(transition, value);
+        return transition;
+    }
+
+    private static void setValue(TreeTransition transition, int value) {
+        GridBoard board = (GridBoard) transition.getBoard();
+        GridCell<Integer> cell = board.getCell(0, 0);
+        cell.setData(value);
+        board.addModifiedData(cell);
+    }
+
+    private void publishNext() throws InterruptedException {
+        Runnable publish = published.poll(10, TimeUnit.SECONDS);
+        Assert.assertNotNull(publish);
+        publish.run();
+    }
+
+    /**
+     * Rule that waits for its gate to open before accepting a cell value of 1, and records how it
+     * was run
+     */
+    private static final class GatedRule extends DirectRule {
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final AtomicInteger checkCount = new AtomicInteger();
+        private volatile Thread checkThread;
+
+        private GatedRule() {
+            super("TEST-BASC-0001", "Gated", "Accepts a cell value of 1", null);
+        }
+
+        @Override
+        public String checkRuleRaw(TreeTransition transition) {
+            checkCount.incrementAndGet();
+            checkThread = Thread.currentThread();
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                return "Interrupted";
+            }
+            GridBoard board = (GridBoard) transition.getBoard();
+            return Integer.valueOf(1).equals(board.getCell(0, 0).getData()) ? null : "Not 1";
+        }
+
+        @Override
+        public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
+            return null;
+        }
+
+        @Override
+        public Board getDefaultBoard(TreeNode node) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package legup.utility;
+
+import edu.rpi.legup.utility.Combinations;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CombinationsTest {
+
+    /** Tests that every combination is visited once, with the first item chosen first */
+    @Test
+    public void Combinations_VisitsInOrder() {
+        List<Long> masks = new ArrayList<>();
+        Assert.assertTrue(Combinations.forEach(2, 4, masks::add));
+        Assert.assertEquals(List.of(0b0011L, 0b0101L, 0b1001L, 0b0110L, 0b1010L, 0b1100L), masks);
+
+        masks.clear();
+        Combinations.forEach(0, 3, masks::add);
+        Assert.assertEquals(List.of(0L), masks);
+
+        masks.clear();
+        Combinations.forEach(4, 3, masks::add);
+        Assert.assertTrue(masks.isEmpty());
+    }
+
+    /** Tests that combinations that break a constraint are skipped */
+    @Test
+    public void Combinations_PrunesConstraints() {
+        // at most one of the first two items and at least one of the last two
+        List<Combinations.Constraint> constraints =
+                List.of(
+                        new Combinations.Constraint(0b0011L, 0, 1),
+                        new Combinations.Constraint(0b1100L, 1, 2));
+        List<Long> masks = new ArrayList<>();
+        Combinations.forEach(2, 4, constraints, masks::add);
+        Assert.assertEquals(List.of(0b0101L, 0b1001L, 0b0110L, 0b1010L, 0b1100L), masks);
+
+        long[] cases = {0b1100L, 0b0101L, 0b1010L, 0b0110L, 0b1001L};
+        Assert.assertTrue(Combinations.matches(2, 4, constraints, cases));
+        Assert.assertFalse(
+                Combinations.matches(2, 4, constraints, new long[] {0b1100L, 0b0101L, 0b1010L}));
+        Assert.assertFalse(Combinations.anyMatch(2, 4, constraints, mask -> mask == 0b0011L));
+    }
+
+    /** Tests that the visitor can stop the enumeration */
+    @Test
+    public void Combinations_StopsEarly() {
+        int[] visited = {0};
+        Assert.assertFalse(
+                Combinations.forEach(
+                        4,
+                        8,
+                        mask -> {
+                            visited[0]++;
+                            return visited[0] < 3;
+                        }));
+        Assert.assertEquals(3, visited[0]);
+    }
+}
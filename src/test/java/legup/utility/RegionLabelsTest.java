@@ -0,0 +1,64 @@
+package legup.utility;
+
+import edu.rpi.legup.utility.FloodFill;
+import edu.rpi.legup.utility.RegionLabels;
+import edu.rpi.legup.utility.UnionFind;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RegionLabelsTest {
+
+    // 4x3 grid with two regions of class 0 split by class 1 and a cell in no region
+    private static final int[] CLASSES = {
+        0, 1, 0, 0,
+        0, 1, -1, 0,
+        0, 1, 1, 0
+    };
+
+    /** Tests that flood fill labels regions in the order of their first cell */
+    @Test
+    public void FloodFill_LabelsRegionsInOrder() {
+        RegionLabels labels = FloodFill.label(CLASSES, 4, 3);
+
+        Assert.assertEquals(3, labels.getRegionCount());
+        Assert.assertEquals(0, labels.getLabel(0));
+        Assert.assertEquals(1, labels.getLabel(1));
+        Assert.assertEquals(2, labels.getLabel(2));
+        Assert.assertEquals(RegionLabels.NO_REGION, labels.getLabel(6));
+        Assert.assertArrayEquals(new int[] {0, 4, 8}, labels.getElements(0));
+        Assert.assertArrayEquals(new int[] {1, 5, 9, 10}, labels.getElements(1));
+        Assert.assertEquals(4, labels.getSize(2));
+    }
+
+    /** Tests that filling from a cell finds its region and nothing from a cell in no region */
+    @Test
+    public void FloodFill_FillsRegionOfCell() {
+        Assert.assertEquals(4, FloodFill.fill(CLASSES, 4, 3, 11).length);
+        Assert.assertEquals(0, FloodFill.fill(CLASSES, 4, 3, 6).length);
+    }
+
+    /** Tests that union find counts its sets and only labels members */
+    @Test
+    public void UnionFind_LabelsMembers() {
+        UnionFind sets = new UnionFind(6);
+        Assert.assertTrue(sets.union(0, 3));
+        Assert.assertTrue(sets.union(3, 5));
+        Assert.assertFalse(sets.union(5, 0));
+        Assert.assertTrue(sets.isConnected(0, 5));
+        Assert.assertEquals(4, sets.getSetCount());
+
+        RegionLabels labels = sets.getLabels(element -> element != 1);
+        Assert.assertEquals(3, labels.getRegionCount());
+        Assert.assertEquals(RegionLabels.NO_REGION, labels.getLabel(1));
+        Assert.assertArrayEquals(new int[] {0, 3, 5}, labels.getElements(0));
+    }
+
+    /** Tests that a large single region is filled without running out of stack */
+    @Test
+    public void FloodFill_LargeRegion() {
+        int size = 1000;
+        RegionLabels labels = FloodFill.label(new int[size * size], size, size);
+        Assert.assertEquals(1, labels.getRegionCount());
+        Assert.assertEquals(size * size, labels.getSize(0));
+    }
+}
@@ -0,0 +1,73 @@
+package puzzles.binary;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.puzzle.binary.Binary;
+import edu.rpi.legup.puzzle.binary.BinaryBoard;
+import edu.rpi.legup.puzzle.binary.BinaryCell;
+import edu.rpi.legup.puzzle.binary.BinaryGenerator;
+import edu.rpi.legup.puzzle.binary.BinaryType;
+import edu.rpi.legup.puzzle.binary.rules.RepeatedRowColumnContradictionRule;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BinaryGeneratorTest {
+    private static Binary binary;
+    private static BinaryGenerator generator;
+
+    @BeforeClass
+    public static void setUp() {
+        binary = new Binary();
+        generator = new BinaryGenerator(8, 8);
+    }
+
+    /** Tests that the generated boards have consistent clues that are given and not modifiable */
+    @Test
+    public void BinaryGenerator_ValidClues() {
+        for (int difficulty = 1; difficulty <= 10; difficulty += 3) {
+            BinaryBoard board = (BinaryBoard) generator.generate(difficulty, difficulty);
+            Assert.assertNotNull(board);
+            Assert.assertEquals(8, board.getWidth());
+            Assert.assertEquals(8, board.getHeight());
+
+            for (ContradictionRule rule : binary.getContradictionRules()) {
+                for (PuzzleElement element : board.getPuzzleElements()) {
+                    // repeated lines are only a contradiction once the lines are filled in
+                    if (rule instanceof RepeatedRowColumnContradictionRule
+                            && !isLineComplete(board, (BinaryCell) element)) {
+                        continue;
+                    }
+                    Assert.assertNotNull(rule.checkContradictionAt(board, element));
+                }
+            }
+            for (PuzzleElement element : board.getPuzzleElements()) {
+                boolean isClue = ((BinaryCell) element).getType() != BinaryType.UNKNOWN;
+                Assert.assertEquals(isClue, element.isGiven());
+                Assert.assertEquals(!isClue, element.isModifiable());
+            }
+        }
+    }
+
+    private static boolean isLineComplete(BinaryBoard board, BinaryCell cell) {
+        return !board.getRowTypes(cell.getLocation().y).contains(BinaryType.UNKNOWN)
+                && !board.getColTypes(cell.getLocation().x).contains(BinaryType.UNKNOWN);
+    }
+
+    /** Tests that a batch gives the same boards no matter how many threads generate it */
+    @Test
+    public void BinaryGenerator_DeterministicBatch() {
+        List<Board> sequential = generator.generate(5, 1234L, 4, 1);
+        List<Board> parallel = generator.generate(5, 1234L, 4, 4);
+        Assert.assertEquals(4, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            List<PuzzleElement> expected = sequential.get(i).getPuzzleElements();
+            List<PuzzleElement> actual = parallel.get(i).getPuzzleElements();
+            for (int j = 0; j < expected.size(); j++) {
+                Assert.assertEquals(expected.get(j).getData(), actual.get(j).getData());
+            }
+        }
+    }
+}
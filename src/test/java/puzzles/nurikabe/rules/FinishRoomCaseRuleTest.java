@@ -6,7 +6,6 @@ import edu.rpi.legup.model.tree.TreeTransition;
 import edu.rpi.legup.puzzle.nurikabe.*;
 import edu.rpi.legup.puzzle.nurikabe.rules.FinishRoomCaseRule;
 import edu.rpi.legup.save.InvalidFileFormatException;
-import edu.rpi.legup.utility.DisjointSets;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.Set;
@@ -53,12 +52,12 @@ public class FinishRoomCaseRuleTest {
         Assert.assertEquals(caseBoard.getHeight(), caseBoard2.getHeight(), board.getHeight());
         Assert.assertEquals(caseBoard.getWidth(), caseBoard2.getWidth(), board.getWidth());
 
-        DisjointSets<NurikabeCell> regions =
+        NurikabeRegions regions =
                 NurikabeUtilities.getNurikabeRegions(caseBoard); // gathers regions
         Set<NurikabeCell> disRow = regions.getSet(caseBoard.getCell(5, 5));
         Assert.assertEquals(disRow.size(), 3);
 
-        DisjointSets<NurikabeCell> regions2 =
+        NurikabeRegions regions2 =
                 NurikabeUtilities.getNurikabeRegions(caseBoard2); // gathers regions
         Set<NurikabeCell> disRow2 = regions2.getSet(caseBoard2.getCell(6, 6));
         Assert.assertEquals(disRow2.size(), 3);
@@ -0,0 +1,72 @@
+package puzzles.shorttruthtable;
+
+import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableCellType;
+import edu.rpi.legup.puzzle.shorttruthtable.ShortTruthTableOperation;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ShortTruthTableOperationTest {
+    private static final ShortTruthTableCellType T = ShortTruthTableCellType.TRUE;
+    private static final ShortTruthTableCellType F = ShortTruthTableCellType.FALSE;
+    private static final ShortTruthTableCellType U = ShortTruthTableCellType.UNKNOWN;
+
+    /** Tests every binary operation on every assignment of its operands */
+    @Test
+    public void ShortTruthTableOperation_TruthTable() {
+        char[] operations = {
+            ShortTruthTableOperation.AND,
+            ShortTruthTableOperation.OR,
+            ShortTruthTableOperation.CONDITIONAL,
+            ShortTruthTableOperation.BICONDITIONAL
+        };
+        for (char operation : operations) {
+            for (int i = 0; i < 4; i++) {
+                boolean a = (i & 1) != 0;
+                boolean b = (i & 2) != 0;
+                boolean expected;
+                switch (operation) {
+                    case ShortTruthTableOperation.AND:
+                        expected = a && b;
+                        break;
+                    case ShortTruthTableOperation.OR:
+                        expected = a || b;
+                        break;
+                    case ShortTruthTableOperation.CONDITIONAL:
+                        expected = !a || b;
+                        break;
+                    default:
+                        expected = a == b;
+                        break;
+                }
+                String message = a + " " + operation + " " + b;
+                Assert.assertEquals(
+                        message, expected, ShortTruthTableOperation.evaluate(operation, a, b));
+                Assert.assertTrue(
+                        message,
+                        ShortTruthTableOperation.canEvaluateTo(
+                                operation, expected, a ? T : F, b ? T : F));
+                Assert.assertFalse(
+                        message,
+                        ShortTruthTableOperation.canEvaluateTo(
+                                operation, !expected, a ? T : F, b ? T : F));
+            }
+        }
+    }
+
+    /** Tests operations whose operands are not all known */
+    @Test
+    public void ShortTruthTableOperation_UnknownOperands() {
+        char and = ShortTruthTableOperation.AND;
+        Assert.assertFalse(ShortTruthTableOperation.canEvaluateTo(and, true, U, F));
+        Assert.assertTrue(ShortTruthTableOperation.canEvaluateTo(and, false, T, U));
+        Assert.assertTrue(ShortTruthTableOperation.canEvaluateTo(and, true, U, U));
+        Assert.assertTrue(ShortTruthTableOperation.canEvaluateTo(and, false, U, U));
+
+        // the left operand of a negation is ignored
+        char not = ShortTruthTableOperation.NOT;
+        Assert.assertFalse(ShortTruthTableOperation.canEvaluateTo(not, true, U, T));
+        Assert.assertFalse(ShortTruthTableOperation.canEvaluateTo(not, true, F, T));
+        Assert.assertTrue(ShortTruthTableOperation.canEvaluateTo(not, true, U, U));
+        Assert.assertTrue(ShortTruthTableOperation.canEvaluateTo(not, false, U, T));
+    }
+}
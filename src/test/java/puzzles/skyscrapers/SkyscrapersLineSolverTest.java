@@ -0,0 +1,42 @@
+package puzzles.skyscrapers;
+
+import edu.rpi.legup.puzzle.skyscrapers.SkyscrapersLineSolver;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SkyscrapersLineSolverTest {
+
+    /** Tests that an empty line has every permutation that meets its clues */
+    @Test
+    public void SkyscrapersLineSolver_EmptyLine() {
+        List<int[]> permutations = SkyscrapersLineSolver.getPermutations(4, 4, 1, new int[4]);
+        Assert.assertEquals(1, permutations.size());
+        Assert.assertArrayEquals(new int[] {1, 2, 3, 4}, permutations.get(0));
+
+        // 2 visible from the west and 2 from the east
+        permutations = SkyscrapersLineSolver.getPermutations(4, 2, 2, new int[4]);
+        Assert.assertEquals(6, permutations.size());
+        for (int[] permutation : permutations) {
+            Assert.assertEquals(2, SkyscrapersLineSolver.countVisible(permutation, true));
+            Assert.assertEquals(2, SkyscrapersLineSolver.countVisible(permutation, false));
+        }
+    }
+
+    /** Tests that filled cells are kept and that impossible lines have no permutations */
+    @Test
+    public void SkyscrapersLineSolver_FilledCells() {
+        List<int[]> permutations =
+                SkyscrapersLineSolver.getPermutations(4, 2, 2, new int[] {0, 4, 0, 0});
+        Assert.assertEquals(3, permutations.size());
+        for (int[] permutation : permutations) {
+            Assert.assertEquals(4, permutation[1]);
+        }
+
+        Assert.assertTrue(
+                SkyscrapersLineSolver.getPermutations(4, 1, 2, new int[] {0, 4, 0, 0}).isEmpty());
+        Assert.assertTrue(
+                SkyscrapersLineSolver.getPermutations(4, 2, 2, new int[] {1, 1, 0, 0}).isEmpty());
+        Assert.assertTrue(SkyscrapersLineSolver.getPermutations(4, 0, 2, new int[4]).isEmpty());
+    }
+}
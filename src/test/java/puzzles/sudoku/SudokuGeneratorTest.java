@@ -0,0 +1,59 @@
+package puzzles.sudoku;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.ContradictionRule;
+import edu.rpi.legup.puzzle.sudoku.Sudoku;
+import edu.rpi.legup.puzzle.sudoku.SudokuBoard;
+import edu.rpi.legup.puzzle.sudoku.SudokuGenerator;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SudokuGeneratorTest {
+    private static Sudoku sudoku;
+    private static SudokuGenerator generator;
+
+    @BeforeClass
+    public static void setUp() {
+        sudoku = new Sudoku();
+        generator = new SudokuGenerator(9);
+    }
+
+    /** Tests that the generated boards have consistent clues that are given and not modifiable */
+    @Test
+    public void SudokuGenerator_ValidClues() {
+        for (int difficulty = 1; difficulty <= 10; difficulty += 3) {
+            SudokuBoard board = (SudokuBoard) generator.generate(difficulty, difficulty);
+            Assert.assertNotNull(board);
+            Assert.assertEquals(9, board.getSize());
+
+            for (ContradictionRule rule : sudoku.getContradictionRules()) {
+                for (PuzzleElement element : board.getPuzzleElements()) {
+                    Assert.assertNotNull(rule.checkContradictionAt(board, element));
+                }
+            }
+            for (PuzzleElement element : board.getPuzzleElements()) {
+                boolean isClue = (Integer) element.getData() != 0;
+                Assert.assertEquals(isClue, element.isGiven());
+                Assert.assertEquals(!isClue, element.isModifiable());
+            }
+        }
+    }
+
+    /** Tests that a batch gives the same boards no matter how many threads generate it */
+    @Test
+    public void SudokuGenerator_DeterministicBatch() {
+        List<Board> sequential = generator.generate(5, 1234L, 4, 1);
+        List<Board> parallel = generator.generate(5, 1234L, 4, 4);
+        Assert.assertEquals(4, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            List<PuzzleElement> expected = sequential.get(i).getPuzzleElements();
+            List<PuzzleElement> actual = parallel.get(i).getPuzzleElements();
+            for (int j = 0; j < expected.size(); j++) {
+                Assert.assertEquals(expected.get(j).getData(), actual.get(j).getData());
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package puzzles.sudoku.rules;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.CaseBoard;
+import edu.rpi.legup.puzzle.sudoku.Sudoku;
+import edu.rpi.legup.puzzle.sudoku.SudokuBoard;
+import edu.rpi.legup.puzzle.sudoku.SudokuCell;
+import edu.rpi.legup.puzzle.sudoku.rules.PossibleCellsForNumberRowCaseRule;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import java.util.List;
+import legup.MockGameBoardFacade;
+import legup.TestUtilities;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PossibleCellsForNumberRowCaseRuleTest {
+    private static final PossibleCellsForNumberRowCaseRule RULE =
+            new PossibleCellsForNumberRowCaseRule();
+
+    @BeforeClass
+    public static void setUp() {
+        MockGameBoardFacade.getInstance();
+    }
+
+    /**
+     * Tests that the cases of a case board are generated from the board it was made from, even
+     * after a case board of another board has been made
+     */
+    @Test
+    public void PossibleCellsForNumberRowCaseRule_CaseBoardKeepsBoardTest()
+            throws InvalidFileFormatException {
+        SudokuBoard mixed =
+                importBoard("puzzles/sudoku/rules/LastNumberForCellDirectRule/FullMixed");
+        SudokuBoard blank =
+                importBoard("puzzles/sudoku/rules/RepeatedNumberContradictionRule/BlankBoard4");
+        CaseBoard mixedCaseBoard = RULE.getCaseBoard(mixed);
+        CaseBoard blankCaseBoard = RULE.getCaseBoard(blank);
+
+        // the cell at (2, 3) places a 3 in the fourth row, which holds a 4 and a 5 when mixed
+        SudokuCell cell = ((SudokuBoard) mixedCaseBoard.getBaseBoard()).getCell(2, 3);
+        List<Board> cases = RULE.getPickedCases(mixedCaseBoard, cell);
+        Assert.assertEquals(7, cases.size());
+        for (Board board : cases) {
+            SudokuCell modified = (SudokuCell) board.getModifiedData().iterator().next();
+            Assert.assertEquals(3, (int) modified.getData());
+            Assert.assertEquals(3, modified.getLocation().y);
+            Assert.assertEquals(4, (int) ((SudokuBoard) board).getCell(0, 3).getData());
+        }
+        Assert.assertEquals(9, RULE.getPickedCases(blankCaseBoard, cell).size());
+    }
+
+    /** Tests that a number that is already placed in the row has no cases */
+    @Test
+    public void PossibleCellsForNumberRowCaseRule_PlacedNumberTest()
+            throws InvalidFileFormatException {
+        SudokuBoard board =
+                importBoard("puzzles/sudoku/rules/LastNumberForCellDirectRule/FullMixed");
+        CaseBoard caseBoard = RULE.getCaseBoard(board);
+
+        // the cell at (3, 3) places a 4, which is already at (0, 3)
+        SudokuCell cell = ((SudokuBoard) caseBoard.getBaseBoard()).getCell(3, 3);
+        Assert.assertTrue(RULE.getPickedCases(caseBoard, cell).isEmpty());
+        Assert.assertTrue(RULE.getCases(board, board.getCell(3, 3)).isEmpty());
+    }
+
+    private static SudokuBoard importBoard(String fileName) throws InvalidFileFormatException {
+        Sudoku sudoku = new Sudoku();
+        TestUtilities.importTestBoard(fileName, sudoku);
+        return (SudokuBoard) sudoku.getTree().getRootNode().getBoard();
+    }
+}
@@ -0,0 +1,80 @@
+package puzzles.sudoku.rules;
+
+import edu.rpi.legup.model.gameboard.Board;
+import edu.rpi.legup.model.gameboard.CaseBoard;
+import edu.rpi.legup.model.gameboard.PuzzleElement;
+import edu.rpi.legup.model.rules.CaseRule;
+import edu.rpi.legup.model.tree.TreeTransition;
+import edu.rpi.legup.puzzle.sudoku.Sudoku;
+import edu.rpi.legup.puzzle.sudoku.SudokuBoard;
+import edu.rpi.legup.puzzle.sudoku.rules.PossibleNumbersForCellCaseRule;
+import edu.rpi.legup.save.InvalidFileFormatException;
+import java.util.List;
+import legup.MockGameBoardFacade;
+import legup.TestUtilities;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PossibleNumbersForCellCaseRuleTest {
+    private static final PossibleNumbersForCellCaseRule RULE =
+            new PossibleNumbersForCellCaseRule();
+    private static Sudoku sudoku;
+
+    @BeforeClass
+    public static void setUp() {
+        MockGameBoardFacade.getInstance();
+        sudoku = new Sudoku();
+    }
+
+    /**
+     * Tests that the dependent elements of every cell are the ones found by generating the cases,
+     * as {@link CaseRule#dependentElements} does by default
+     */
+    @Test
+    public void PossibleNumbersForCellCaseRule_DependentElementsTest()
+            throws InvalidFileFormatException {
+        TestUtilities.importTestBoard(
+                "puzzles/sudoku/rules/LastNumberForCellDirectRule/FullMixed", sudoku);
+        SudokuBoard board = (SudokuBoard) sudoku.getTree().getRootNode().getBoard();
+        GeneratedDependentElements generic = new GeneratedDependentElements();
+
+        for (PuzzleElement puzzleElement : board.getPuzzleElements()) {
+            List<PuzzleElement> expected = generic.dependentElements(board, puzzleElement);
+            Assert.assertEquals(1, expected.size());
+            Assert.assertEquals(expected, RULE.dependentElements(board, puzzleElement));
+        }
+        Assert.assertEquals(
+                generic.dependentElements(board, null), RULE.dependentElements(board, null));
+    }
+
+    /**
+     * Case rule with the cases of {@link PossibleNumbersForCellCaseRule} that keeps the default
+     * dependent elements of {@link CaseRule}
+     */
+    private static final class GeneratedDependentElements extends CaseRule {
+        private GeneratedDependentElements() {
+            super("TEST-CASE-0001", "Generated", "Possible numbers for cell", null);
+        }
+
+        @Override
+        public CaseBoard getCaseBoard(Board board) {
+            return RULE.getCaseBoard(board);
+        }
+
+        @Override
+        public List<Board> getCases(Board board, PuzzleElement puzzleElement) {
+            return RULE.getCases(board, puzzleElement);
+        }
+
+        @Override
+        public String checkRuleRaw(TreeTransition transition) {
+            return RULE.checkRuleRaw(transition);
+        }
+
+        @Override
+        public String checkRuleRawAt(TreeTransition transition, PuzzleElement puzzleElement) {
+            return RULE.checkRuleRawAt(transition, puzzleElement);
+        }
+    }
+}